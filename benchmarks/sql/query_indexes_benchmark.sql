@@ -0,0 +1,179 @@
+-- ========================================================================
+-- QUERY INDEX BENCHMARK (V6__Create_Query_Indexes)
+-- ========================================================================
+-- Seeds a multi-million-row dataset into a scratch database migrated to the
+-- latest version, then prints EXPLAIN (ANALYZE, BUFFERS) for every hot
+-- repository query twice: once with the V6 indexes and once, inside a
+-- rolled-back transaction, with the V2 single-column indexes they replaced.
+--
+-- Usage (never against a shared database):
+--   psql -d loan_servicing_bench -v cases=1000000 -f query_indexes_benchmark.sql
+--
+-- With the default of 1,000,000 cases the seed produces roughly
+-- 12M installment plans, 12M repayment schedule rows, 4M balances,
+-- 3M notifications, 1M escrows and 0.5M rebates.
+-- ========================================================================
+
+\set ON_ERROR_STOP on
+\timing on
+
+\if :{?cases}
+\else
+\set cases 1000000
+\endif
+
+-- ========================================================================
+-- SEED
+-- ========================================================================
+BEGIN;
+
+CREATE TEMP TABLE bench_case AS
+SELECT n, uuid_generate_v4() AS id, uuid_generate_v4() AS party_id
+FROM generate_series(1, :cases) AS n;
+
+INSERT INTO loan_servicing_case (
+    loan_servicing_case_id, contract_id, product_id, application_id, servicing_status,
+    principal_amount, interest_rate, loan_term, interest_calculation_method, amortization_method,
+    payment_frequency, compounding_frequency, day_count_convention, origination_date, maturity_date)
+SELECT id, uuid_generate_v4(), uuid_generate_v4(), uuid_generate_v4(),
+       (CASE WHEN n % 20 = 0 THEN 'DELINQUENT' WHEN n % 10 = 0 THEN 'PAID_OFF' ELSE 'ACTIVE' END)::servicing_status,
+       10000 + (n % 90) * 1000, 3 + (n % 9), 12, 'REDUCING_BALANCE', 'EQUAL_INSTALLMENT',
+       'MONTHLY', 'MONTHLY', 'ACTUAL_365',
+       DATE '2024-01-01' + (n % 365), DATE '2025-01-01' + (n % 365)
+FROM bench_case;
+
+INSERT INTO loan_installment_plan (
+    loan_servicing_case_id, installment_number, due_date, principal_due, interest_due, total_due, is_paid)
+SELECT c.id, i, DATE '2024-01-01' + (c.n % 365) + make_interval(months => i),
+       800, 50, 850, i <= 1 + (c.n % 11)
+FROM bench_case c, generate_series(1, 12) AS i;
+
+INSERT INTO loan_repayment_schedule (
+    loan_servicing_case_id, installment_number, due_date, principal_due, interest_due, total_due, is_paid)
+SELECT c.id, i, DATE '2024-01-01' + (c.n % 365) + make_interval(months => i),
+       800, 50, 850, i <= 1 + (c.n % 11)
+FROM bench_case c, generate_series(1, 12) AS i;
+
+INSERT INTO loan_balance (
+    loan_servicing_case_id, principal_outstanding, interest_outstanding, total_outstanding, balance_date, is_current)
+SELECT c.id, 10000 - i * 800, 40, 10040 - i * 800, DATE '2024-01-01' + (c.n % 365) + i * 30, FALSE
+FROM bench_case c, generate_series(1, 4) AS i;
+
+INSERT INTO loan_notification (
+    loan_servicing_case_id, notification_type, notification_channel, notification_status,
+    recipient_party_id, recipient_name, recipient_contact, message_body, scheduled_send_time, created_at)
+SELECT c.id, 'PAYMENT_DUE_REMINDER', 'EMAIL',
+       (CASE WHEN (c.n + i) % 50 = 0 THEN 'PENDING' ELSE 'DELIVERED' END)::notification_status,
+       c.party_id, 'Bench Borrower', 'borrower@example.com', 'Your installment is due',
+       TIMESTAMP '2024-01-01' + make_interval(days => c.n % 365 + i * 30),
+       TIMESTAMP '2024-01-01' + make_interval(days => c.n % 365 + i * 30)
+FROM bench_case c, generate_series(1, 3) AS i;
+
+INSERT INTO loan_escrow (loan_servicing_case_id, escrow_type, is_active)
+SELECT id, 'PROPERTY_TAX', n % 4 <> 0
+FROM bench_case;
+
+INSERT INTO loan_rebate (loan_servicing_case_id, rebate_type, rebate_amount, rebate_date, distributor_id, is_processed)
+SELECT id, 'BORROWER_REBATE', 25, DATE '2024-01-01' + (n % 365),
+       CASE WHEN n % 3 = 0 THEN (SELECT party_id FROM bench_case WHERE n = 1) END,
+       n % 5 <> 0
+FROM bench_case
+WHERE n % 2 = 0;
+
+COMMIT;
+
+ANALYZE;
+
+SELECT id AS case_id, party_id FROM bench_case WHERE n = :cases / 2 \gset
+SELECT party_id AS distributor_id FROM bench_case WHERE n = 1 \gset
+
+-- ========================================================================
+-- HOT QUERIES
+-- ========================================================================
+-- Each statement mirrors the SQL Spring Data R2DBC derives for the
+-- repository method named in the comment.
+SET plan_cache_mode = force_custom_plan;
+
+-- LoanInstallmentPlan: unpaid installments of a case, oldest first
+PREPARE q_installment_unpaid(uuid) AS
+    SELECT * FROM loan_installment_plan
+    WHERE loan_servicing_case_id = $1 AND is_paid = FALSE ORDER BY due_date;
+-- LoanInstallmentPlan: portfolio-wide overdue installments
+PREPARE q_installment_overdue(date) AS
+    SELECT loan_servicing_case_id, MIN(due_date) FROM loan_installment_plan
+    WHERE is_paid = FALSE AND due_date < $1 GROUP BY loan_servicing_case_id;
+-- LoanRepaymentScheduleRepository.existsByLoanServicingCaseId
+PREPARE q_schedule_exists(uuid) AS
+    SELECT loan_repayment_schedule_id FROM loan_repayment_schedule WHERE loan_servicing_case_id = $1 LIMIT 1;
+-- LoanBalanceRepository.findFirstByLoanServicingCaseIdOrderByBalanceDateDescCreatedAtDesc
+PREPARE q_balance_latest(uuid) AS
+    SELECT * FROM loan_balance WHERE loan_servicing_case_id = $1
+    ORDER BY balance_date DESC, created_at DESC LIMIT 1;
+-- LoanNotificationRepository.findByLoanServicingCaseIdAndRecipientPartyIdOrderByCreatedAtDesc
+PREPARE q_notification_case_recipient(uuid, uuid) AS
+    SELECT * FROM loan_notification WHERE loan_servicing_case_id = $1 AND recipient_party_id = $2
+    ORDER BY created_at DESC;
+-- LoanNotificationRepository.findByNotificationStatusOrderByScheduledSendTimeAsc
+PREPARE q_notification_pending AS
+    SELECT * FROM loan_notification WHERE notification_status = 'PENDING'
+    ORDER BY scheduled_send_time LIMIT 500;
+-- LoanEscrowRepository.findByLoanServicingCaseIdAndIsActiveTrue
+PREPARE q_escrow_active(uuid) AS
+    SELECT * FROM loan_escrow WHERE loan_servicing_case_id = $1 AND is_active = TRUE;
+-- LoanRebateRepository.findByLoanServicingCaseIdAndIsProcessedFalse
+PREPARE q_rebate_unprocessed(uuid) AS
+    SELECT * FROM loan_rebate WHERE loan_servicing_case_id = $1 AND is_processed = FALSE;
+-- LoanRebateRepository.findByDistributorIdOrderByRebateDateDesc
+PREPARE q_rebate_distributor(uuid) AS
+    SELECT * FROM loan_rebate WHERE distributor_id = $1 ORDER BY rebate_date DESC LIMIT 100;
+
+\echo '==================== WITH V6 INDEXES ===================='
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_installment_unpaid(:'case_id');
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_installment_overdue(DATE '2024-03-01');
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_schedule_exists(:'case_id');
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_balance_latest(:'case_id');
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_notification_case_recipient(:'case_id', :'party_id');
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_notification_pending;
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_escrow_active(:'case_id');
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_rebate_unprocessed(:'case_id');
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_rebate_distributor(:'distributor_id');
+
+-- ========================================================================
+-- BASELINE: V2 SINGLE-COLUMN INDEXES (ROLLED BACK)
+-- ========================================================================
+BEGIN;
+
+DROP INDEX idx_loan_installment_plan_case_number, idx_loan_installment_plan_case_unpaid,
+    idx_loan_installment_plan_unpaid_due_date, idx_loan_repayment_schedule_case_number,
+    idx_loan_repayment_schedule_case_unpaid, idx_loan_balance_case_date,
+    idx_loan_notification_case_created, idx_loan_notification_recipient_created,
+    idx_loan_notification_case_recipient_created, idx_loan_notification_status_scheduled,
+    idx_loan_escrow_case_created, idx_loan_escrow_case_active,
+    idx_loan_rebate_case_date, idx_loan_rebate_case_unprocessed, idx_loan_rebate_distributor_date;
+
+CREATE INDEX idx_loan_installment_plan_case_id ON loan_installment_plan (loan_servicing_case_id);
+CREATE INDEX idx_loan_installment_plan_due_date ON loan_installment_plan (due_date);
+CREATE INDEX idx_loan_installment_plan_is_paid ON loan_installment_plan (is_paid);
+CREATE INDEX idx_loan_balance_case_id ON loan_balance (loan_servicing_case_id);
+CREATE INDEX idx_loan_notification_case_id ON loan_notification (loan_servicing_case_id);
+CREATE INDEX idx_loan_notification_status ON loan_notification (notification_status);
+CREATE INDEX idx_loan_notification_recipient ON loan_notification (recipient_party_id);
+CREATE INDEX idx_loan_escrow_case_id ON loan_escrow (loan_servicing_case_id);
+CREATE INDEX idx_loan_escrow_is_active ON loan_escrow (is_active);
+CREATE INDEX idx_loan_rebate_case_id ON loan_rebate (loan_servicing_case_id);
+CREATE INDEX idx_loan_rebate_is_processed ON loan_rebate (is_processed);
+
+\echo '==================== WITH V2 INDEXES ===================='
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_installment_unpaid(:'case_id');
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_installment_overdue(DATE '2024-03-01');
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_schedule_exists(:'case_id');
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_balance_latest(:'case_id');
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_notification_case_recipient(:'case_id', :'party_id');
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_notification_pending;
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_escrow_active(:'case_id');
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_rebate_unprocessed(:'case_id');
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE q_rebate_distributor(:'distributor_id');
+
+ROLLBACK;
+
+DEALLOCATE ALL;
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.benchmarks;
+
+import com.firefly.core.lending.servicing.core.calculators.AmortizationScheduleCalculator;
+import com.firefly.core.lending.servicing.core.calculators.ScheduleTerms;
+import com.firefly.core.lending.servicing.core.calculators.ScheduledInstallment;
+import com.firefly.core.lending.servicing.interfaces.enums.AmortizationMethodEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.DayCountConventionEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.InterestCalculationMethodEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentFrequencyEnum;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedule generation for a monthly loan, per amortization method and term, and re-amortization of the unpaid
+ * remainder after a rate change.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AmortizationScheduleBenchmark {
+
+    @Param({"EQUAL_INSTALLMENT", "EQUAL_PRINCIPAL", "BALLOON_PAYMENT"})
+    public AmortizationMethodEnum amortizationMethod;
+
+    @Param({"60", "360"})
+    public int installments;
+
+    @Param({"THIRTY_360", "ACTUAL_ACTUAL"})
+    public DayCountConventionEnum dayCountConvention;
+
+    private final AmortizationScheduleCalculator calculator = new AmortizationScheduleCalculator();
+
+    private ScheduleTerms terms;
+    private ScheduleTerms remainingTerms;
+    private List<LocalDate> remainingDueDates;
+    private LocalDate rateChangeDate;
+
+    @Setup
+    public void setUp() {
+        terms = new ScheduleTerms(new BigDecimal("250000.00"), new BigDecimal("5.25"), installments,
+                amortizationMethod, PaymentFrequencyEnum.MONTHLY, dayCountConvention,
+                InterestCalculationMethodEnum.REDUCING_BALANCE, BenchmarkFixtures.ORIGINATION, 1);
+
+        List<ScheduledInstallment> schedule = calculator.calculate(terms);
+        int paid = installments / 4;
+        ScheduledInstallment lastPaid = schedule.get(paid - 1);
+        remainingDueDates = schedule.subList(paid, installments).stream().map(ScheduledInstallment::dueDate).toList();
+        remainingTerms = new ScheduleTerms(lastPaid.remainingPrincipal(), new BigDecimal("6.75"),
+                remainingDueDates.size(), amortizationMethod, PaymentFrequencyEnum.MONTHLY, dayCountConvention,
+                InterestCalculationMethodEnum.REDUCING_BALANCE, lastPaid.dueDate(), paid + 1);
+        rateChangeDate = lastPaid.dueDate().plusDays(10);
+    }
+
+    @Benchmark
+    public List<ScheduledInstallment> calculate() {
+        return calculator.calculate(terms);
+    }
+
+    @Benchmark
+    public List<ScheduledInstallment> reamortize() {
+        return calculator.reamortize(remainingTerms, remainingDueDates, new BigDecimal("5.25"), rateChangeDate);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.benchmarks;
+
+import com.firefly.core.lending.servicing.interfaces.enums.*;
+import com.firefly.core.lending.servicing.models.entities.LoanAccrual;
+import com.firefly.core.lending.servicing.models.entities.LoanInstallmentPlan;
+import com.firefly.core.lending.servicing.models.entities.LoanRestructuring;
+import com.firefly.core.lending.servicing.models.entities.LoanServicingCase;
+import com.firefly.core.lending.servicing.models.projections.PayoffQuoteBasis;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deterministic, fully populated fixtures shared by the benchmarks, so every run measures the same work.
+ */
+final class BenchmarkFixtures {
+
+    static final LocalDate ORIGINATION = LocalDate.of(2025, 1, 15);
+    static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 15, 9, 30);
+
+    private static final UUID CASE_ID = new UUID(0x0123456789abcdefL, 0x0fedcba987654321L);
+
+    private BenchmarkFixtures() {
+    }
+
+    static LoanServicingCase servicingCase() {
+        return LoanServicingCase.builder()
+                .loanServicingCaseId(CASE_ID)
+                .contractId(new UUID(1L, 1L))
+                .productId(new UUID(1L, 2L))
+                .applicationId(new UUID(1L, 3L))
+                .proposedOfferId(new UUID(1L, 4L))
+                .productCatalogId(new UUID(1L, 5L))
+                .servicingStatus(ServicingStatusEnum.ACTIVE)
+                .principalAmount(new BigDecimal("250000.00"))
+                .interestRate(new BigDecimal("5.250"))
+                .loanTerm(360)
+                .interestCalculationMethod(InterestCalculationMethodEnum.REDUCING_BALANCE)
+                .amortizationMethod(AmortizationMethodEnum.EQUAL_INSTALLMENT)
+                .paymentFrequency(PaymentFrequencyEnum.MONTHLY)
+                .compoundingFrequency(CompoundingFrequencyEnum.MONTHLY)
+                .dayCountConvention(DayCountConventionEnum.THIRTY_360)
+                .originationDate(ORIGINATION)
+                .maturityDate(ORIGINATION.plusYears(30))
+                .remarks("Thirty-year fixed rate mortgage")
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .build();
+    }
+
+    static LoanRestructuring restructuring() {
+        return LoanRestructuring.builder()
+                .loanRestructuringId(new UUID(2L, 1L))
+                .loanServicingCaseId(CASE_ID)
+                .restructuringDate(ORIGINATION.plusYears(3))
+                .reason("Financial hardship")
+                .oldPrincipalAmount(new BigDecimal("238412.57"))
+                .oldInterestRate(new BigDecimal("5.250"))
+                .oldLoanTerm(324)
+                .oldInterestCalculationMethod(InterestCalculationMethodEnum.REDUCING_BALANCE)
+                .oldAmortizationMethod(AmortizationMethodEnum.EQUAL_INSTALLMENT)
+                .oldPaymentFrequency(PaymentFrequencyEnum.MONTHLY)
+                .oldCompoundingFrequency(CompoundingFrequencyEnum.MONTHLY)
+                .oldDayCountConvention(DayCountConventionEnum.THIRTY_360)
+                .oldMaturityDate(ORIGINATION.plusYears(30))
+                .newPrincipalAmount(new BigDecimal("238412.57"))
+                .newInterestRate(new BigDecimal("4.125"))
+                .newLoanTerm(384)
+                .newInterestCalculationMethod(InterestCalculationMethodEnum.REDUCING_BALANCE)
+                .newAmortizationMethod(AmortizationMethodEnum.EQUAL_INSTALLMENT)
+                .newPaymentFrequency(PaymentFrequencyEnum.MONTHLY)
+                .newCompoundingFrequency(CompoundingFrequencyEnum.MONTHLY)
+                .newDayCountConvention(DayCountConventionEnum.ACTUAL_365)
+                .newMaturityDate(ORIGINATION.plusYears(35))
+                .approvedBy(new UUID(2L, 2L))
+                .remarks("Term extended by five years at a reduced rate")
+                .committedAt(CREATED_AT.plusYears(3))
+                .createdAt(CREATED_AT.plusYears(3))
+                .updatedAt(CREATED_AT.plusYears(3))
+                .build();
+    }
+
+    /**
+     * One year of daily interest accruals, the shape of a typical accrual export page.
+     */
+    static List<LoanAccrual> dailyAccruals(int days) {
+        List<LoanAccrual> accruals = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            accruals.add(LoanAccrual.builder()
+                    .loanAccrualId(new UUID(3L, day))
+                    .loanServicingCaseId(CASE_ID)
+                    .accrualAmount(new BigDecimal("35.96"))
+                    .accrualType(AccrualTypeEnum.INTEREST)
+                    .accrualDate(ORIGINATION.plusDays(day))
+                    .note("Daily interest accrual")
+                    .createdAt(CREATED_AT.plusDays(day))
+                    .updatedAt(CREATED_AT.plusDays(day))
+                    .build());
+        }
+        return accruals;
+    }
+
+    /**
+     * Unpaid monthly installments, oldest first, with the first one partially paid.
+     */
+    static List<LoanInstallmentPlan> unpaidInstallments(int count) {
+        List<LoanInstallmentPlan> installments = new ArrayList<>(count);
+        for (int number = 1; number <= count; number++) {
+            installments.add(LoanInstallmentPlan.builder()
+                    .loanInstallmentPlanId(new UUID(4L, number))
+                    .loanServicingCaseId(CASE_ID)
+                    .installmentNumber(number)
+                    .dueDate(ORIGINATION.plusMonths(number))
+                    .principalDue(new BigDecimal("286.03"))
+                    .interestDue(new BigDecimal("1093.75"))
+                    .feeDue(new BigDecimal("25.00"))
+                    .totalDue(new BigDecimal("1404.78"))
+                    .isPaid(false)
+                    .paidAmount(number == 1 ? new BigDecimal("400.00") : BigDecimal.ZERO)
+                    .build());
+        }
+        return installments;
+    }
+
+    static PayoffQuoteBasis payoffQuoteBasis() {
+        return new PayoffQuoteBasis(
+                CASE_ID,
+                new BigDecimal("250000.00"),
+                ORIGINATION,
+                ORIGINATION.plusYears(30),
+                new BigDecimal("241873.12"),
+                new BigDecimal("512.40"),
+                new BigDecimal("75.00"),
+                ORIGINATION.plusYears(2),
+                new BigDecimal("5.250"),
+                InterestCalculationMethodEnum.REDUCING_BALANCE,
+                CompoundingFrequencyEnum.DAILY,
+                DayCountConventionEnum.ACTUAL_ACTUAL,
+                new BigDecimal("150.00"));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.firefly.core.lending.servicing.core.mappers.LoanAccrualMapper;
+import com.firefly.core.lending.servicing.core.mappers.LoanRestructuringMapper;
+import com.firefly.core.lending.servicing.core.mappers.LoanServicingCaseMapper;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanAccrualDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanRestructuringDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanServicingCaseDTO;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO JSON serialization with the settings Spring Boot applies to the WebFlux codecs (ISO dates, no timestamps).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private ObjectWriter restructuringWriter;
+    private ObjectReader restructuringReader;
+    private ObjectWriter servicingCaseWriter;
+    private ObjectReader servicingCaseReader;
+    private ObjectWriter accrualWriter;
+
+    private LoanRestructuringDTO restructuring;
+    private byte[] restructuringJson;
+    private LoanServicingCaseDTO servicingCase;
+    private byte[] servicingCaseJson;
+    private List<LoanAccrualDTO> accruals;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        restructuringWriter = objectMapper.writerFor(LoanRestructuringDTO.class);
+        restructuringReader = objectMapper.readerFor(LoanRestructuringDTO.class);
+        servicingCaseWriter = objectMapper.writerFor(LoanServicingCaseDTO.class);
+        servicingCaseReader = objectMapper.readerFor(LoanServicingCaseDTO.class);
+        accrualWriter = objectMapper.writerFor(LoanAccrualDTO.class);
+
+        restructuring = Mappers.getMapper(LoanRestructuringMapper.class).toDTO(BenchmarkFixtures.restructuring());
+        restructuringJson = restructuringWriter.writeValueAsBytes(restructuring);
+        servicingCase = Mappers.getMapper(LoanServicingCaseMapper.class).toDTO(BenchmarkFixtures.servicingCase());
+        servicingCaseJson = servicingCaseWriter.writeValueAsBytes(servicingCase);
+        LoanAccrualMapper accrualMapper = Mappers.getMapper(LoanAccrualMapper.class);
+        accruals = BenchmarkFixtures.dailyAccruals(365).stream().map(accrualMapper::toDTO).toList();
+    }
+
+    @Benchmark
+    public byte[] writeRestructuring() throws JsonProcessingException {
+        return restructuringWriter.writeValueAsBytes(restructuring);
+    }
+
+    @Benchmark
+    public LoanRestructuringDTO readRestructuring() throws IOException {
+        return restructuringReader.readValue(restructuringJson);
+    }
+
+    @Benchmark
+    public byte[] writeServicingCase() throws JsonProcessingException {
+        return servicingCaseWriter.writeValueAsBytes(servicingCase);
+    }
+
+    @Benchmark
+    public LoanServicingCaseDTO readServicingCase() throws IOException {
+        return servicingCaseReader.readValue(servicingCaseJson);
+    }
+
+    /**
+     * One year of daily accruals written as NDJSON, one document per line, as the accrual export streams them.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public byte[] writeAccrualYearAsNdjson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        for (LoanAccrualDTO accrual : accruals) {
+            accrualWriter.writeValue(out, accrual);
+            out.write('\n');
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.benchmarks;
+
+import com.firefly.core.lending.servicing.core.mappers.LoanAccrualMapper;
+import com.firefly.core.lending.servicing.core.mappers.LoanRestructuringMapper;
+import com.firefly.core.lending.servicing.core.mappers.LoanServicingCaseMapper;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanAccrualDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanRestructuringDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanServicingCaseDTO;
+import com.firefly.core.lending.servicing.models.entities.LoanAccrual;
+import com.firefly.core.lending.servicing.models.entities.LoanRestructuring;
+import com.firefly.core.lending.servicing.models.entities.LoanServicingCase;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO conversion through the generated MapStruct mappers, on every read and write path of the API.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final LoanRestructuringMapper restructuringMapper = Mappers.getMapper(LoanRestructuringMapper.class);
+    private final LoanServicingCaseMapper servicingCaseMapper = Mappers.getMapper(LoanServicingCaseMapper.class);
+    private final LoanAccrualMapper accrualMapper = Mappers.getMapper(LoanAccrualMapper.class);
+
+    private LoanRestructuring restructuring;
+    private LoanRestructuringDTO restructuringDTO;
+    private LoanServicingCase servicingCase;
+    private LoanServicingCaseDTO servicingCaseDTO;
+    private List<LoanAccrual> accruals;
+
+    @Setup
+    public void setUp() {
+        restructuring = BenchmarkFixtures.restructuring();
+        restructuringDTO = restructuringMapper.toDTO(restructuring);
+        servicingCase = BenchmarkFixtures.servicingCase();
+        servicingCaseDTO = servicingCaseMapper.toDTO(servicingCase);
+        accruals = BenchmarkFixtures.dailyAccruals(365);
+    }
+
+    @Benchmark
+    public LoanRestructuringDTO restructuringToDTO() {
+        return restructuringMapper.toDTO(restructuring);
+    }
+
+    @Benchmark
+    public LoanRestructuring restructuringToEntity() {
+        return restructuringMapper.toEntity(restructuringDTO);
+    }
+
+    @Benchmark
+    public LoanServicingCaseDTO servicingCaseToDTO() {
+        return servicingCaseMapper.toDTO(servicingCase);
+    }
+
+    @Benchmark
+    public LoanServicingCase servicingCaseToEntity() {
+        return servicingCaseMapper.toEntity(servicingCaseDTO);
+    }
+
+    /**
+     * One year of daily accruals, as mapped by a full accrual export.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<LoanAccrualDTO> accrualYearToDTOs() {
+        return accruals.stream().map(accrualMapper::toDTO).toList();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.benchmarks;
+
+import com.firefly.core.lending.servicing.core.calculators.BalanceReplay;
+import com.firefly.core.lending.servicing.core.calculators.InterestAccrualCalculator;
+import com.firefly.core.lending.servicing.core.calculators.PaymentAllocation;
+import com.firefly.core.lending.servicing.core.calculators.PaymentAllocationCalculator;
+import com.firefly.core.lending.servicing.core.calculators.PayoffQuote;
+import com.firefly.core.lending.servicing.core.calculators.PayoffQuoteCalculator;
+import com.firefly.core.lending.servicing.interfaces.enums.AccrualTypeEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.DayCountConventionEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentAllocationComponentEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanInstallmentPlan;
+import com.firefly.core.lending.servicing.models.projections.PayoffQuoteBasis;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-case computations the portfolio jobs run millions of times: daily interest accrual, payment allocation,
+ * payoff quotes and balance replay.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServicingCalculatorBenchmark {
+
+    private static final List<PaymentAllocationComponentEnum> WATERFALL = List.of(
+            PaymentAllocationComponentEnum.FEE,
+            PaymentAllocationComponentEnum.INTEREST,
+            PaymentAllocationComponentEnum.PRINCIPAL);
+
+    private final InterestAccrualCalculator accrualCalculator = new InterestAccrualCalculator();
+    private final PaymentAllocationCalculator allocationCalculator = new PaymentAllocationCalculator();
+    private final PayoffQuoteCalculator payoffQuoteCalculator = new PayoffQuoteCalculator();
+
+    private final BigDecimal balance = new BigDecimal("241873.12");
+    private final BigDecimal rate = new BigDecimal("5.25");
+    private final BigDecimal payment = new BigDecimal("3000.00");
+
+    private List<LoanInstallmentPlan> unpaidInstallments;
+    private PayoffQuoteBasis payoffQuoteBasis;
+    private List<LocalDate> payoffDates;
+
+    @Setup
+    public void setUp() {
+        unpaidInstallments = BenchmarkFixtures.unpaidInstallments(6);
+        payoffQuoteBasis = BenchmarkFixtures.payoffQuoteBasis();
+        LocalDate balanceDate = payoffQuoteBasis.balanceDate();
+        payoffDates = List.of(balanceDate.plusDays(10), balanceDate.plusDays(30), balanceDate.plusDays(60),
+                balanceDate.plusDays(90));
+    }
+
+    @Benchmark
+    public BigDecimal dailyInterest() {
+        return accrualCalculator.dailyInterest(balance, rate, DayCountConventionEnum.ACTUAL_ACTUAL,
+                BenchmarkFixtures.ORIGINATION);
+    }
+
+    /**
+     * A year of daily accruals for one case.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public BigDecimal accrueOneYear() {
+        BigDecimal accrued = BigDecimal.ZERO;
+        LocalDate day = BenchmarkFixtures.ORIGINATION;
+        for (int i = 0; i < 365; i++) {
+            accrued = accrued.add(accrualCalculator.dailyInterest(balance, rate,
+                    DayCountConventionEnum.ACTUAL_ACTUAL, day));
+            day = day.plusDays(1);
+        }
+        return accrued;
+    }
+
+    @Benchmark
+    public PaymentAllocation allocatePayment() {
+        return allocationCalculator.allocate(payment, unpaidInstallments, WATERFALL);
+    }
+
+    @Benchmark
+    public List<PayoffQuote> quotePayoff() {
+        return payoffQuoteCalculator.quote(payoffQuoteBasis, payoffDates);
+    }
+
+    /**
+     * Running balance over a year of daily interest with a monthly payment, as the case ledger applies it.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public BigDecimal replayOneYear() {
+        BalanceReplay replay = new BalanceReplay(WATERFALL);
+        replay.disburse(new BigDecimal("250000.00"));
+        BigDecimal dailyInterest = new BigDecimal("35.96");
+        BigDecimal monthlyPayment = new BigDecimal("1380.51");
+        for (int day = 1; day <= 365; day++) {
+            replay.accrue(AccrualTypeEnum.INTEREST, dailyInterest);
+            if (day % 30 == 0) {
+                replay.credit(monthlyPayment);
+            }
+        }
+        return replay.principalOutstanding();
+    }
+}
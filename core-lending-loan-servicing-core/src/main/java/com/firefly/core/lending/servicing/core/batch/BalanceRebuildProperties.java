@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.batch;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tuning for the balance rebuild ({@code loan-servicing.balance-rebuild.*}).
+ * The schedule itself is configured with {@code loan-servicing.balance-rebuild.cron}; "-", the default, disables it.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "loan-servicing.balance-rebuild")
+public class BalanceRebuildProperties {
+
+    /**
+     * Time zone the schedule is evaluated in.
+     */
+    private String zone = "UTC";
+
+    /**
+     * Whether scheduled rebuilds repair the drifted snapshots or only report them.
+     */
+    private boolean repair = false;
+
+    /**
+     * Number of cases whose ledgers are streamed by one query.
+     */
+    private int pageSize = 500;
+
+    /**
+     * Maximum number of drifted snapshots repaired by one statement.
+     */
+    private int repairBatchSize = 500;
+
+    /**
+     * Number of case id ranges of this node replayed concurrently, each on its own connection.
+     */
+    private int partitions = 4;
+
+    /**
+     * Number of nodes sharing the rebuild; each replays an equal slice of the case id space.
+     */
+    private int nodeCount = 1;
+
+    /**
+     * 0-based index of this node's slice, below {@code nodeCount}.
+     */
+    private int nodeIndex = 0;
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.batch;
+
+import com.firefly.core.lending.servicing.core.services.BalanceRebuildService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the balance rebuild on the configured schedule and logs every drifted snapshot it finds.
+ */
+@Slf4j
+@Component
+public class BalanceRebuildScheduler {
+
+    @Autowired
+    private BalanceRebuildService balanceRebuildService;
+
+    @Autowired
+    private BalanceRebuildProperties properties;
+
+    @Scheduled(cron = "${loan-servicing.balance-rebuild.cron:-}", zone = "${loan-servicing.balance-rebuild.zone:UTC}")
+    public void rebuild() {
+        balanceRebuildService.rebuild(properties.isRepair())
+                .doOnNext(drift -> log.warn("Balance {} of case {} on {} drifted: recorded {}, replayed {}{}",
+                        drift.getLoanBalanceId(), drift.getLoanServicingCaseId(), drift.getBalanceDate(),
+                        drift.getRecordedTotalOutstanding(), drift.getExpectedTotalOutstanding(),
+                        drift.getRepaired() ? " (repaired)" : ""))
+                .subscribe(null, error -> log.error("Scheduled balance rebuild failed", error));
+    }
+}
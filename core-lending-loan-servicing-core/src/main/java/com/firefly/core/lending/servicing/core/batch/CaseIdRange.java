@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A range of case ids processed by one partition of a portfolio-wide job.
+ *
+ * @param afterCaseId the exclusive lower bound, or null for no lower bound
+ * @param upToCaseId the inclusive upper bound, or null for no upper bound
+ */
+public record CaseIdRange(UUID afterCaseId, UUID upToCaseId) {
+
+    /**
+     * Splits the whole case id space into {@code count} contiguous ranges of equal width.
+     */
+    public static List<CaseIdRange> partition(int count) {
+        return partition(count, 0, 1);
+    }
+
+    /**
+     * Splits the case id space into {@code nodeCount} equal slices, one per node, and returns the slice of node
+     * {@code nodeIndex} split into {@code count} contiguous ranges. Nodes configured with the same node count and
+     * distinct indexes cover the whole space without overlap. PostgreSQL orders UUIDs by their bytes, so the
+     * boundaries only vary the most significant bits.
+     *
+     * @param count the number of ranges of this node
+     * @param nodeIndex the 0-based index of this node
+     * @param nodeCount the number of nodes sharing the work
+     * @return the ranges of this node in ascending order
+     */
+    public static List<CaseIdRange> partition(int count, int nodeIndex, int nodeCount) {
+        if (count < 1 || nodeCount < 1 || nodeIndex < 0 || nodeIndex >= nodeCount) {
+            throw new IllegalArgumentException("Invalid partitioning: " + count + " ranges for node "
+                    + nodeIndex + " of " + nodeCount);
+        }
+        int total = count * nodeCount;
+        long width = Long.divideUnsigned(-1L, total);
+        List<CaseIdRange> ranges = new ArrayList<>(count);
+        for (int i = nodeIndex * count + 1; i <= (nodeIndex + 1) * count; i++) {
+            ranges.add(new CaseIdRange(boundary(i - 1, total, width), boundary(i, total, width)));
+        }
+        return ranges;
+    }
+
+    private static UUID boundary(int index, int total, long width) {
+        return index == 0 || index == total ? null : new UUID(width * index, -1L);
+    }
+}
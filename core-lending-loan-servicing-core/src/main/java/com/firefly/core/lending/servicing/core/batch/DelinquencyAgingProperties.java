@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.batch;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Thresholds and tuning for the daily delinquency aging pass ({@code loan-servicing.delinquency.*}).
+ * The schedule itself is configured with {@code loan-servicing.delinquency.cron}; "-" disables it.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "loan-servicing.delinquency")
+public class DelinquencyAgingProperties {
+
+    /**
+     * Time zone used to determine the business date cases are aged to.
+     */
+    private String zone = "UTC";
+
+    /**
+     * Last day past due on which a case is still in GRACE_PERIOD rather than DELINQUENT.
+     */
+    private int gracePeriodDays = 15;
+
+    /**
+     * Number of days past due at which a case moves to DEFAULT.
+     */
+    private int defaultAfterDays = 90;
+
+    /**
+     * Number of cases aged by one statement.
+     */
+    private int pageSize = 5000;
+
+    /**
+     * Number of case id ranges aged concurrently, each on its own connection.
+     */
+    private int partitions = 4;
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.batch;
+
+import com.firefly.core.lending.servicing.core.services.DelinquencyAgingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Ages the portfolio to the current business date on the configured schedule.
+ */
+@Slf4j
+@Component
+public class DelinquencyAgingScheduler {
+
+    @Autowired
+    private DelinquencyAgingService delinquencyAgingService;
+
+    @Autowired
+    private DelinquencyAgingProperties properties;
+
+    @Scheduled(cron = "${loan-servicing.delinquency.cron:-}", zone = "${loan-servicing.delinquency.zone:UTC}")
+    public void ageToday() {
+        LocalDate asOfDate = LocalDate.now(ZoneId.of(properties.getZone()));
+        delinquencyAgingService.age(asOfDate).subscribe(null,
+                error -> log.error("Delinquency aging to {} failed", asOfDate, error));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.batch;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tuning for the escrow analysis job ({@code loan-servicing.escrow-analysis.*}).
+ * The schedule itself is configured with {@code loan-servicing.escrow-analysis.cron}; "-" disables it.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "loan-servicing.escrow-analysis")
+public class EscrowAnalysisProperties {
+
+    /**
+     * Time zone used to determine the analysis business date.
+     */
+    private String zone = "UTC";
+
+    /**
+     * Number of months until an analyzed escrow is due for its next analysis.
+     */
+    private int analysisIntervalMonths = 12;
+
+    /**
+     * Number of escrows read, analyzed and written per statement.
+     */
+    private int pageSize = 2000;
+
+    /**
+     * Number of case id ranges of this node analyzed concurrently, each on its own connection.
+     */
+    private int partitions = 4;
+
+    /**
+     * Number of nodes sharing the escrow book; each analyzes an equal slice of the case id space.
+     */
+    private int nodeCount = 1;
+
+    /**
+     * 0-based index of this node's slice, below {@code nodeCount}.
+     */
+    private int nodeIndex = 0;
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.batch;
+
+import com.firefly.core.lending.servicing.core.idempotency.IdempotencyStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes expired idempotency keys on the configured schedule.
+ */
+@Slf4j
+@Component
+public class IdempotencyPurgeScheduler {
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Scheduled(cron = "${loan-servicing.idempotency.purge-cron:-}")
+    public void purgeExpired() {
+        idempotencyStore.purgeExpired().subscribe(null,
+                error -> log.error("Purging expired idempotency keys failed", error));
+    }
+}
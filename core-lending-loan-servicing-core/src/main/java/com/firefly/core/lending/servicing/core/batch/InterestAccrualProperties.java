@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.batch;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Tuning for the nightly interest accrual run ({@code loan-servicing.accrual.*}).
+ * The schedule itself is configured with {@code loan-servicing.accrual.cron}; "-" disables it.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "loan-servicing.accrual")
+public class InterestAccrualProperties {
+
+    /**
+     * Time zone used to determine the business date being accrued.
+     */
+    private String zone = "UTC";
+
+    /**
+     * Number of cases read per keyset page; the checkpoint advances once per page.
+     */
+    private int pageSize = 1000;
+
+    /**
+     * Maximum number of accrual rows written by one multi-row INSERT.
+     */
+    private int insertBatchSize = 500;
+
+    /**
+     * Number of INSERT statements of a page executed concurrently.
+     */
+    private int concurrency = 4;
+
+    /**
+     * A RUNNING run without a checkpoint for this long is considered abandoned and can be resumed.
+     */
+    private Duration staleAfter = Duration.ofMinutes(15);
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.batch;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Tuning for the notification dispatch worker ({@code loan-servicing.notifications.*}).
+ * The queue is polled every {@code loan-servicing.notifications.poll-interval}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "loan-servicing.notifications")
+public class NotificationDispatchProperties {
+
+    /**
+     * Whether this node polls the notification queue.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of notifications claimed by one statement.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Number of batches claimed and sent concurrently, each on its own connection.
+     */
+    private int workers = 4;
+
+    /**
+     * Number of notifications of a batch handed to senders concurrently.
+     */
+    private int sendConcurrency = 64;
+
+    /**
+     * A send that has not completed after this long counts as a failed attempt.
+     */
+    private Duration sendTimeout = Duration.ofSeconds(30);
+
+    /**
+     * How long a claimed notification is reserved for the claiming node before another node may retry it.
+     */
+    private Duration claimLease = Duration.ofMinutes(5);
+
+    /**
+     * Number of failed attempts after which a notification becomes FAILED.
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * Wait before the first retry.
+     */
+    private Duration initialBackoff = Duration.ofMinutes(1);
+
+    /**
+     * Upper bound of the wait between retries.
+     */
+    private Duration maxBackoff = Duration.ofHours(6);
+
+    /**
+     * Factor applied to the wait after each further failed attempt.
+     */
+    private double backoffMultiplier = 2.0;
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.batch;
+
+import com.firefly.core.lending.servicing.core.services.NotificationDispatchService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drains the notification queue on a fixed delay. A poll is skipped while the previous drain is still running,
+ * so a large backlog is worked off by one drain rather than by overlapping ones.
+ */
+@Slf4j
+@Component
+public class NotificationDispatchScheduler {
+
+    @Autowired
+    private NotificationDispatchService notificationDispatchService;
+
+    @Autowired
+    private NotificationDispatchProperties properties;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    @Scheduled(fixedDelayString = "${loan-servicing.notifications.poll-interval:PT10S}")
+    public void dispatchDue() {
+        if (!properties.isEnabled() || !draining.compareAndSet(false, true)) {
+            return;
+        }
+        notificationDispatchService.dispatchDue()
+                .doFinally(signal -> draining.set(false))
+                .subscribe(null, error -> log.error("Notification dispatch drain failed", error));
+    }
+}
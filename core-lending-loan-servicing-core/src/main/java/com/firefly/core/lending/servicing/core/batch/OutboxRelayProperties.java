@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.batch;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Tuning for the outbox relay ({@code loan-servicing.outbox.*}).
+ * The outbox is polled every {@code loan-servicing.outbox.poll-interval}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "loan-servicing.outbox")
+public class OutboxRelayProperties {
+
+    /**
+     * Whether this node polls the outbox. Only one node relays at a time whatever this is set to.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The publisher events are relayed to: {@code file} or {@code in-memory} for the local publishers, or any
+     * other value when the publisher is provided as a bean.
+     */
+    private String publisher = "none";
+
+    /**
+     * Number of events read, published and deleted per transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * A batch the publisher has not accepted after this long is rolled back and published again.
+     */
+    private Duration publishTimeout = Duration.ofSeconds(30);
+
+    /**
+     * File the {@code file} publisher appends events to, one JSON document per line.
+     */
+    private String file = "servicing-outbox.ndjson";
+}
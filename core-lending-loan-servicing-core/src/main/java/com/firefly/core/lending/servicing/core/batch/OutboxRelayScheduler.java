@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.batch;
+
+import com.firefly.core.lending.servicing.core.services.OutboxRelayService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drains the outbox on a fixed delay. A poll is skipped while the previous drain is still running.
+ */
+@Slf4j
+@Component
+public class OutboxRelayScheduler {
+
+    @Autowired
+    private OutboxRelayService outboxRelayService;
+
+    @Autowired
+    private OutboxRelayProperties properties;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    @Scheduled(fixedDelayString = "${loan-servicing.outbox.poll-interval:PT1S}")
+    public void relay() {
+        if (!properties.isEnabled() || !draining.compareAndSet(false, true)) {
+            return;
+        }
+        outboxRelayService.relay()
+                .doFinally(signal -> draining.set(false))
+                .subscribe(null, error -> log.error("Outbox relay drain failed", error));
+    }
+}
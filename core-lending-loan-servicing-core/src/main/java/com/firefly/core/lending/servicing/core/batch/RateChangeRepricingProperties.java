@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.batch;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tuning for rate change re-amortization ({@code loan-servicing.rate-change-repricing.*}).
+ * The portfolio schedule itself is configured with {@code loan-servicing.rate-change-repricing.cron}; "-" disables it.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "loan-servicing.rate-change-repricing")
+public class RateChangeRepricingProperties {
+
+    /**
+     * Time zone used to determine the business date rate changes are applied up to.
+     */
+    private String zone = "UTC";
+
+    /**
+     * Number of cases with pending rate changes read per keyset page.
+     */
+    private int pageSize = 500;
+
+    /**
+     * Number of case id ranges repriced concurrently.
+     */
+    private int partitions = 4;
+
+    /**
+     * Number of cases of one range re-amortized concurrently, each in its own transaction on its own connection.
+     */
+    private int concurrency = 8;
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.cache;
+
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+/**
+ * Defers an action until the surrounding reactive transaction completes.
+ */
+final class AfterTransaction {
+
+    private AfterTransaction() {
+    }
+
+    /**
+     * Runs the action once the current transaction commits or rolls back, or right away when there is none.
+     *
+     * @return a Mono completing once the action has run or been registered
+     */
+    static Mono<Void> run(Runnable action) {
+        return register(action, false);
+    }
+
+    /**
+     * Runs the action once the current transaction commits, or right away when there is none. The action is
+     * dropped if the transaction rolls back.
+     *
+     * @return a Mono completing once the action has run or been registered
+     */
+    static Mono<Void> runAfterCommit(Runnable action) {
+        return register(action, true);
+    }
+
+    private static Mono<Void> register(Runnable action, boolean commitOnly) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .doOnNext(synchronizationManager -> synchronizationManager.registerSynchronization(
+                        new TransactionSynchronization() {
+                            @Override
+                            public Mono<Void> afterCompletion(int status) {
+                                return commitOnly && status != STATUS_COMMITTED
+                                        ? Mono.empty()
+                                        : Mono.fromRunnable(action);
+                            }
+                        }))
+                .switchIfEmpty(Mono.fromRunnable(action))
+                .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(action))
+                .then();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.cache;
+
+import java.util.UUID;
+
+/**
+ * Evicts one entry, one whole region, or every region, on every node.
+ *
+ * @param region the region to invalidate, or null for every region
+ * @param key the loan servicing case id to invalidate, or null for the whole region
+ */
+public record CacheInvalidation(CacheRegion region, UUID key) {
+
+    /**
+     * Invalidates every entry of every region, e.g. after invalidations may have been missed.
+     */
+    public static final CacheInvalidation EVERYTHING = new CacheInvalidation(null, null);
+
+    private static final String ANY = "*";
+    private static final char SEPARATOR = ':';
+
+    public CacheInvalidation {
+        if (region == null && key != null) {
+            throw new IllegalArgumentException("A key can only be invalidated within a region");
+        }
+    }
+
+    /**
+     * Returns true if the invalidation evicts entries of the given region.
+     */
+    public boolean appliesTo(CacheRegion cacheRegion) {
+        return region == null || region == cacheRegion;
+    }
+
+    /**
+     * Encodes the invalidation as {@code REGION:key}, with {@code *} standing for every region or key.
+     */
+    public String format() {
+        return (region == null ? ANY : region.name()) + SEPARATOR + (key == null ? ANY : key.toString());
+    }
+
+    /**
+     * Decodes an invalidation encoded by {@link #format()}.
+     *
+     * @throws IllegalArgumentException if the text is not a valid invalidation, e.g. names an unknown region
+     */
+    public static CacheInvalidation parse(String text) {
+        int separator = text == null ? -1 : text.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cache invalidation: " + text);
+        }
+        String region = text.substring(0, separator);
+        String key = text.substring(separator + 1);
+        return new CacheInvalidation(
+                ANY.equals(region) ? null : CacheRegion.valueOf(region),
+                ANY.equals(key) ? null : UUID.fromString(key));
+    }
+}
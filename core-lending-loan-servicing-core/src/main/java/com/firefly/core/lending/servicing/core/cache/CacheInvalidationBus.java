@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.cache;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Broadcasts cache invalidations to every node of a deployment, this one included.
+ *
+ * <p>Implementations are selected with {@code loan-servicing.cache.invalidation.bus}. An invalidation published
+ * inside a transaction is delivered once the transaction commits, and dropped if it rolls back.</p>
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Publishes an invalidation to every node.
+     *
+     * @param invalidation the entries to evict
+     * @return a Mono completing once the invalidation is published, or registered for delivery at commit
+     */
+    Mono<Void> publish(CacheInvalidation invalidation);
+
+    /**
+     * Streams the invalidations published by any node. The stream never completes while the application runs;
+     * when the bus may have missed invalidations, e.g. after a reconnection, it emits
+     * {@link CacheInvalidation#EVERYTHING}.
+     *
+     * @return a shared Flux of invalidations
+     */
+    Flux<CacheInvalidation> invalidations();
+}
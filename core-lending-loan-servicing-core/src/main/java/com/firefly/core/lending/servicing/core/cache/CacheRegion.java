@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.cache;
+
+/**
+ * The read-through caches whose entries are invalidated across nodes. Every region is keyed by loan servicing
+ * case id.
+ */
+public enum CacheRegion {
+
+    LOAN_SERVICING_CASE("loanServicingCase"),
+    LOAN_CURRENT_BALANCE("loanCurrentBalance");
+
+    private final String cacheName;
+
+    CacheRegion(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    /**
+     * Returns the name the region's meters are tagged with.
+     */
+    public String cacheName() {
+        return cacheName;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+
+/**
+ * Delivers invalidations to the caches of this node only. For single-node deployments and for tests, where
+ * several caches can share one instance to stand in for several nodes. Registered when
+ * {@code loan-servicing.cache.invalidation.bus} is {@code in-memory}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "loan-servicing.cache.invalidation", name = "bus", havingValue = "in-memory")
+public class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final Sinks.EmitFailureHandler RETRY_CONCURRENT_EMISSION =
+            Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1));
+
+    private final Sinks.Many<CacheInvalidation> sink = Sinks.many().multicast().directBestEffort();
+
+    @Override
+    public Mono<Void> publish(CacheInvalidation invalidation) {
+        // Like NOTIFY, deliver only once the publishing transaction has committed
+        return AfterTransaction.runAfterCommit(() -> sink.emitNext(invalidation, RETRY_CONCURRENT_EMISSION));
+    }
+
+    @Override
+    public Flux<CacheInvalidation> invalidations() {
+        return sink.asFlux();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.cache;
+
+import com.firefly.core.lending.servicing.models.entities.LoanCurrentBalance;
+import com.firefly.core.lending.servicing.models.repositories.LoanCurrentBalanceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Read-through cache of current balances by loan servicing case id.
+ */
+@Component
+public class LoanCurrentBalanceCache extends ReadThroughCache<LoanCurrentBalance> {
+
+    @Autowired
+    private LoanCurrentBalanceRepository repository;
+
+    public LoanCurrentBalanceCache() {
+        super(CacheRegion.LOAN_CURRENT_BALANCE);
+    }
+
+    @Override
+    protected Mono<LoanCurrentBalance> load(UUID loanServicingCaseId) {
+        return repository.findById(loanServicingCaseId);
+    }
+}
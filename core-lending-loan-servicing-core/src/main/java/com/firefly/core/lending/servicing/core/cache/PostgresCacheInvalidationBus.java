@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.cache;
+
+import com.firefly.core.lending.servicing.core.config.CacheProperties;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.util.regex.Pattern;
+
+/**
+ * Broadcasts invalidations with Postgres {@code LISTEN/NOTIFY} on the service database, so no other
+ * infrastructure is needed.
+ *
+ * <p>Publishing runs {@code pg_notify} on the caller's connection: inside a transaction, Postgres delivers the
+ * notification to every listening node when the transaction commits, and drops it on rollback. Each node
+ * listens on one dedicated connection opened outside the pool. When that connection is lost it is re-opened
+ * with exponential backoff, and every cache of the node is evicted since notifications sent in between are
+ * lost. Registered unless {@code loan-servicing.cache.invalidation.bus} names another bus.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "loan-servicing.cache.invalidation", name = "bus", havingValue = "postgres",
+        matchIfMissing = true)
+public class PostgresCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private CacheProperties properties;
+
+    private String channel;
+
+    private Flux<CacheInvalidation> invalidations;
+
+    @PostConstruct
+    void init() {
+        CacheProperties.Invalidation settings = properties.getInvalidation();
+        channel = settings.getChannel();
+        // LISTEN takes an identifier, which cannot be a bind parameter
+        if (channel == null || !CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalStateException("Invalid cache invalidation channel: " + channel);
+        }
+        PostgresqlConnectionFactory listenerConnectionFactory = unwrap(connectionFactory);
+        invalidations = Flux.usingWhen(listenerConnectionFactory.create(), this::listen, PostgresqlConnection::close)
+                .doOnSubscribe(subscription -> log.info("Listening for cache invalidations on {}", channel))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, settings.getReconnectBackoff())
+                        .maxBackoff(settings.getMaxReconnectBackoff())
+                        .doBeforeRetry(signal -> log.warn("Cache invalidation listener on {} failed, reconnecting: {}",
+                                channel, signal.failure().toString())))
+                .share();
+    }
+
+    @Override
+    public Mono<Void> publish(CacheInvalidation invalidation) {
+        return databaseClient.sql("SELECT pg_notify($1, $2)")
+                .bind(0, channel)
+                .bind(1, invalidation.format())
+                .then();
+    }
+
+    @Override
+    public Flux<CacheInvalidation> invalidations() {
+        return invalidations;
+    }
+
+    /**
+     * Subscribes the connection to the channel and streams its notifications, starting with an eviction of
+     * everything that may have been invalidated while the node was not listening. Errors when the connection
+     * closes, so that it is re-opened.
+     */
+    private Flux<CacheInvalidation> listen(PostgresqlConnection connection) {
+        return connection.createStatement("LISTEN " + channel)
+                .execute()
+                .flatMap(PostgresqlResult::getRowsUpdated)
+                .thenMany(Flux.just(CacheInvalidation.EVERYTHING)
+                        .concatWith(connection.getNotifications().<CacheInvalidation>handle((notification, sink) -> {
+                            CacheInvalidation invalidation = parse(notification);
+                            if (invalidation != null) {
+                                sink.next(invalidation);
+                            }
+                        })))
+                .concatWith(Mono.error(() -> new IllegalStateException("Connection listening on " + channel + " closed")));
+    }
+
+    private CacheInvalidation parse(Notification notification) {
+        try {
+            return CacheInvalidation.parse(notification.getParameter());
+        } catch (IllegalArgumentException e) {
+            // e.g. a region added by a newer version during a rolling deployment
+            log.warn("Ignoring cache invalidation {} on {}", notification.getParameter(), channel);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the PostgreSQL connection factory behind the application's (usually pooled) connection factory,
+     * so that the listening connection is never returned to the pool.
+     */
+    static PostgresqlConnectionFactory unwrap(ConnectionFactory connectionFactory) {
+        Object candidate = connectionFactory;
+        while (!(candidate instanceof PostgresqlConnectionFactory) && candidate instanceof Wrapped<?> wrapped
+                && wrapped.unwrap() != candidate) {
+            candidate = wrapped.unwrap();
+        }
+        if (candidate instanceof PostgresqlConnectionFactory postgresqlConnectionFactory) {
+            return postgresqlConnectionFactory;
+        }
+        throw new IllegalStateException("Cache invalidation over LISTEN/NOTIFY needs a PostgreSQL connection factory, got "
+                + connectionFactory.getClass().getName()
+                + "; set loan-servicing.cache.invalidation.bus to in-memory on single-node deployments");
+    }
+}
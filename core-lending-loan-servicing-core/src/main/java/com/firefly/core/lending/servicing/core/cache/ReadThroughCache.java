@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.cache;
+
+import com.firefly.core.lending.servicing.core.config.CacheProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Bounded in-process cache of one {@link CacheRegion}, keyed by loan servicing case id, evicting by size and
+ * by time since an entry was loaded.
+ *
+ * <p>Concurrent misses on the same key share a single load. Entries are loaded outside any transaction, so
+ * callers that must see their own uncommitted writes, or that lock the row, read the repository instead.
+ * Writers evict through {@link #evictAfterCompletion}: the invalidation is published on the
+ * {@link CacheInvalidationBus} within their transaction, so other nodes evict once it commits, and this node
+ * evicts when it completes. Evicting before the commit would let a concurrent read cache the state being
+ * replaced. Hits, misses and evictions are published as {@code cache.*} meters tagged with the region's cache
+ * name.</p>
+ *
+ * <p>Cached values are shared between callers and must not be modified.</p>
+ *
+ * @param <V> the cached value
+ */
+@Slf4j
+public abstract class ReadThroughCache<V> {
+
+    private final CacheRegion region;
+
+    @Autowired
+    private CacheProperties properties;
+
+    @Autowired
+    private CacheInvalidationBus invalidationBus;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private AsyncCache<UUID, V> cache;
+
+    private Disposable invalidations;
+
+    protected ReadThroughCache(CacheRegion region) {
+        this.region = region;
+    }
+
+    /**
+     * Reads the value of a key from the database.
+     *
+     * @return a Mono emitting the value, or empty if there is none
+     */
+    protected abstract Mono<V> load(UUID key);
+
+    @PostConstruct
+    void init() {
+        CacheProperties.Bounds bounds = properties.bounds(region);
+        cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, bounds.getMaximumSize()))
+                .expireAfterWrite(bounds.getExpireAfterWrite())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, region.cacheName());
+        invalidations = invalidationBus.invalidations()
+                .filter(invalidation -> invalidation.appliesTo(region))
+                .subscribe(this::evictLocally,
+                        e -> log.error("Stopped receiving {} cache invalidations", region.cacheName(), e));
+    }
+
+    @PreDestroy
+    void close() {
+        invalidations.dispose();
+    }
+
+    /**
+     * Returns the value of a key, loading it on a miss. Missing values are not cached.
+     *
+     * @param key the loan servicing case id
+     * @return a Mono emitting the shared cached value, or empty if there is none
+     */
+    public Mono<V> get(UUID key) {
+        // Cancelling one subscriber must not cancel a load other subscribers are waiting on
+        return Mono.fromFuture(() -> cache.get(key, (k, executor) -> load(k).toFuture()), true);
+    }
+
+    /**
+     * Evicts a key on every node once the current transaction completes, or right away when there is none.
+     *
+     * @param key the loan servicing case id
+     * @return a Mono completing once the invalidation is published
+     */
+    public Mono<Void> evictAfterCompletion(UUID key) {
+        return invalidationBus.publish(new CacheInvalidation(region, key))
+                .then(AfterTransaction.run(() -> cache.synchronous().invalidate(key)));
+    }
+
+    /**
+     * Evicts every entry of the region on every node once the current transaction completes, or right away when
+     * there is none; for set-based statements that change rows without naming them.
+     *
+     * @return a Mono completing once the invalidation is published
+     */
+    public Mono<Void> evictAll() {
+        return invalidationBus.publish(new CacheInvalidation(region, null))
+                .then(AfterTransaction.run(() -> cache.synchronous().invalidateAll()));
+    }
+
+    private void evictLocally(CacheInvalidation invalidation) {
+        if (invalidation.key() == null) {
+            cache.synchronous().invalidateAll();
+        } else {
+            cache.synchronous().invalidate(invalidation.key());
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import com.firefly.core.lending.servicing.interfaces.enums.AmortizationMethodEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.DayCountConventionEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.InterestCalculationMethodEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentFrequencyEnum;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Generates repayment schedules for every {@link AmortizationMethodEnum} and {@link PaymentFrequencyEnum}.
+ *
+ * <p>Interest for each installment accrues between consecutive due dates using the terms'
+ * day count convention. Level payments (EQUAL_INSTALLMENT, BALLOON_PAYMENT) are sized with the
+ * nominal periodic rate, and the final installment always absorbs the remaining principal so the
+ * schedule closes at exactly zero.</p>
+ *
+ * <p>The calculator is stateless and allocation-light: one pass over the installments, no
+ * intermediate collections, and a single rounding per amount.</p>
+ */
+@Component
+public class AmortizationScheduleCalculator {
+
+    /**
+     * Balloon loans size their regular payments as if amortizing over this multiple of the term;
+     * the unamortized remainder falls due with the last installment.
+     */
+    static final int BALLOON_AMORTIZATION_FACTOR = 2;
+
+    private static final MathContext MC = DayCountCalculator.MC;
+    private static final int SCALE = 2;
+    private static final RoundingMode ROUNDING = RoundingMode.HALF_EVEN;
+    private static final BigDecimal ZERO = BigDecimal.ZERO.setScale(SCALE);
+
+    /**
+     * Computes the full schedule for the given terms.
+     *
+     * @param terms the loan terms
+     * @return the installments in due date order
+     */
+    public List<ScheduledInstallment> calculate(ScheduleTerms terms) {
+        if (terms.amortizationMethod() == AmortizationMethodEnum.BULLET) {
+            return List.of(bullet(terms));
+        }
+        return amortize(terms, period -> dueDate(terms.startDate(), terms.paymentFrequency(), period), null, null);
+    }
+
+    /**
+     * Re-amortizes the unpaid remainder of a schedule after an interest rate change. The remaining principal is
+     * spread over the existing due dates at the new rate, as {@link #calculate} would for a new schedule. Interest
+     * of the first period accrues at the prior rate up to the effective date and at the new rate after it.
+     *
+     * @param terms the remaining principal, the new rate, the start of the first period and the number of the
+     *              first installment; the number of installments must match the due dates
+     * @param dueDates the due dates of the installments being re-amortized, in ascending order
+     * @param priorAnnualInterestRate the rate in force before the change, as a percentage
+     * @param effectiveDate the date the new rate takes effect
+     * @return the installments in due date order
+     */
+    public List<ScheduledInstallment> reamortize(ScheduleTerms terms, List<LocalDate> dueDates,
+                                                 BigDecimal priorAnnualInterestRate, LocalDate effectiveDate) {
+        if (dueDates.size() != terms.numberOfInstallments()) {
+            throw new IllegalArgumentException("Expected " + terms.numberOfInstallments() + " due dates but got "
+                    + dueDates.size());
+        }
+        return amortize(terms, period -> dueDates.get(period - 1),
+                DayCountCalculator.annualRate(priorAnnualInterestRate), effectiveDate);
+    }
+
+    private List<ScheduledInstallment> amortize(ScheduleTerms terms, IntFunction<LocalDate> dueDates,
+                                                BigDecimal priorAnnualRate, LocalDate effectiveDate) {
+        int installments = terms.numberOfInstallments();
+        BigDecimal principal = terms.principal().setScale(SCALE, ROUNDING);
+        BigDecimal annualRate = DayCountCalculator.annualRate(terms.annualInterestRate());
+        boolean flatInterest = isFlatInterest(terms.interestCalculationMethod());
+
+        BigDecimal levelPayment = switch (terms.amortizationMethod()) {
+            case EQUAL_INSTALLMENT -> flatInterest ? null : levelPayment(principal, annualRate,
+                    terms.paymentFrequency(), installments);
+            case BALLOON_PAYMENT -> levelPayment(principal, annualRate,
+                    terms.paymentFrequency(), installments * BALLOON_AMORTIZATION_FACTOR);
+            default -> null;
+        };
+        BigDecimal equalPrincipal = principal.divide(BigDecimal.valueOf(installments), SCALE, ROUNDING);
+
+        List<ScheduledInstallment> schedule = new ArrayList<>(installments);
+        BigDecimal balance = principal;
+        LocalDate periodStart = terms.startDate();
+        for (int period = 1; period <= installments; period++) {
+            LocalDate dueDate = dueDates.apply(period);
+            BigDecimal interestBase = flatInterest ? principal : balance;
+            BigDecimal interest = interest(interestBase, terms.dayCountConvention(), annualRate,
+                    priorAnnualRate, effectiveDate, periodStart, dueDate)
+                    .setScale(SCALE, ROUNDING);
+
+            BigDecimal principalPart = switch (terms.amortizationMethod()) {
+                case EQUAL_INSTALLMENT -> levelPayment == null ? equalPrincipal : levelPayment.subtract(interest);
+                case BALLOON_PAYMENT -> levelPayment.subtract(interest);
+                case EQUAL_PRINCIPAL -> equalPrincipal;
+                default -> ZERO;
+            };
+            if (principalPart.signum() < 0) {
+                principalPart = ZERO;
+            }
+            if (period == installments || principalPart.compareTo(balance) > 0) {
+                principalPart = balance;
+            }
+            balance = balance.subtract(principalPart);
+
+            schedule.add(new ScheduledInstallment(
+                    terms.firstInstallmentNumber() + period - 1,
+                    dueDate,
+                    principalPart,
+                    interest,
+                    ZERO,
+                    principalPart.add(interest),
+                    balance));
+            periodStart = dueDate;
+        }
+        return schedule;
+    }
+
+    /**
+     * Computes the unrounded interest of one period, split at the effective date when a prior rate applies to
+     * the start of the period.
+     */
+    private static BigDecimal interest(BigDecimal base, DayCountConventionEnum convention, BigDecimal annualRate,
+                                       BigDecimal priorAnnualRate, LocalDate effectiveDate,
+                                       LocalDate periodStart, LocalDate dueDate) {
+        if (priorAnnualRate == null || !effectiveDate.isAfter(periodStart) || !effectiveDate.isBefore(dueDate)) {
+            return base.multiply(annualRate, MC)
+                    .multiply(DayCountCalculator.yearFraction(convention, periodStart, dueDate), MC);
+        }
+        return base.multiply(priorAnnualRate, MC)
+                .multiply(DayCountCalculator.yearFraction(convention, periodStart, effectiveDate), MC)
+                .add(base.multiply(annualRate, MC)
+                        .multiply(DayCountCalculator.yearFraction(convention, effectiveDate, dueDate), MC), MC);
+    }
+
+    /**
+     * Returns the due date of the given period, always computed from the start date so that
+     * month-end anchors do not drift (e.g. Jan 31, Feb 28, Mar 31).
+     *
+     * @param startDate the schedule start date
+     * @param frequency the payment frequency
+     * @param period the 1-based period number
+     * @return the due date of the period
+     */
+    public static LocalDate dueDate(LocalDate startDate, PaymentFrequencyEnum frequency, int period) {
+        return switch (frequency) {
+            case DAILY -> startDate.plusDays(period);
+            case WEEKLY -> startDate.plusWeeks(period);
+            case BIWEEKLY -> startDate.plusWeeks(2L * period);
+            case SEMIMONTHLY -> startDate.plusMonths(period / 2).plusDays(period % 2 == 0 ? 0 : 15);
+            case MONTHLY -> startDate.plusMonths(period);
+            case BIMONTHLY -> startDate.plusMonths(2L * period);
+            case QUARTERLY -> startDate.plusMonths(3L * period);
+            case SEMIANNUALLY -> startDate.plusMonths(6L * period);
+            case ANNUALLY -> startDate.plusYears(period);
+        };
+    }
+
+    /**
+     * Returns the number of payment periods in a year for the given frequency.
+     */
+    public static int periodsPerYear(PaymentFrequencyEnum frequency) {
+        return switch (frequency) {
+            case DAILY -> 365;
+            case WEEKLY -> 52;
+            case BIWEEKLY -> 26;
+            case SEMIMONTHLY -> 24;
+            case MONTHLY -> 12;
+            case BIMONTHLY -> 6;
+            case QUARTERLY -> 4;
+            case SEMIANNUALLY -> 2;
+            case ANNUALLY -> 1;
+        };
+    }
+
+    /**
+     * Computes the level (annuity) payment that amortizes the principal over the given number of periods.
+     */
+    static BigDecimal levelPayment(BigDecimal principal, BigDecimal annualRate,
+                                   PaymentFrequencyEnum frequency, int periods) {
+        if (annualRate.signum() == 0) {
+            return principal.divide(BigDecimal.valueOf(periods), SCALE, ROUNDING);
+        }
+        BigDecimal periodicRate = annualRate.divide(BigDecimal.valueOf(periodsPerYear(frequency)), MC);
+        BigDecimal growth = BigDecimal.ONE.add(periodicRate).pow(periods, MC);
+        return principal.multiply(periodicRate, MC)
+                .multiply(growth, MC)
+                .divide(growth.subtract(BigDecimal.ONE), SCALE, ROUNDING);
+    }
+
+    private ScheduledInstallment bullet(ScheduleTerms terms) {
+        BigDecimal principal = terms.principal().setScale(SCALE, ROUNDING);
+        LocalDate maturity = dueDate(terms.startDate(), terms.paymentFrequency(), terms.numberOfInstallments());
+        BigDecimal interest = DayCountCalculator.interest(principal, terms.annualInterestRate(),
+                        terms.dayCountConvention(), terms.startDate(), maturity)
+                .setScale(SCALE, ROUNDING);
+        return new ScheduledInstallment(
+                terms.firstInstallmentNumber(),
+                maturity,
+                principal,
+                interest,
+                ZERO,
+                principal.add(interest),
+                ZERO);
+    }
+
+    private static boolean isFlatInterest(InterestCalculationMethodEnum method) {
+        return method == InterestCalculationMethodEnum.FLAT_RATE || method == InterestCalculationMethodEnum.SIMPLE;
+    }
+}
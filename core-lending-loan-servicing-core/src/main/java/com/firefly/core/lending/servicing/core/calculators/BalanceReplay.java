@@ -0,0 +1,196 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import com.firefly.core.lending.servicing.interfaces.enums.AccrualTypeEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentAllocationComponentEnum;
+import com.firefly.core.lending.servicing.models.projections.BalanceDrift;
+import com.firefly.core.lending.servicing.models.projections.BalanceLedgerEntry;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Recomputes balances by replaying the merged ledger of servicing cases, one entry at a time.
+ *
+ * <p>Completed disbursements add principal, and a case without any opens with the principal carried by its
+ * CASE entry; INTEREST accruals add interest and every other accrual adds fees.
+ * Completed payments and processed borrower rebates are applied to the outstanding amounts in the order of the
+ * payment allocation waterfall, and any excess is left unapplied, so amounts never go below zero. Each balance
+ * snapshot is compared with the replayed balance once every earlier entry has been applied.</p>
+ *
+ * <p>Entries must arrive grouped by case and in replay order. Only the running balance of the current case is
+ * held, so memory stays constant however long the ledger is. The movements can also be applied one by one to
+ * follow the running balance of a single case. Instances are not thread-safe; use one per stream.</p>
+ */
+public final class BalanceReplay {
+
+    private final List<PaymentAllocationComponentEnum> waterfall;
+
+    private UUID loanServicingCaseId;
+    private BigDecimal principal = BigDecimal.ZERO;
+    private BigDecimal interest = BigDecimal.ZERO;
+    private BigDecimal fees = BigDecimal.ZERO;
+    private long cases;
+    private long snapshots;
+
+    /**
+     * @param waterfall the order in which credits cover the outstanding components
+     */
+    public BalanceReplay(List<PaymentAllocationComponentEnum> waterfall) {
+        this.waterfall = List.copyOf(waterfall);
+    }
+
+    /**
+     * Applies the next ledger entry. An entry of another case than the previous one starts that case from a
+     * zero balance.
+     *
+     * @param entry the entry to apply
+     * @return the drift found when the entry is a snapshot that differs from the replayed balance, otherwise null
+     */
+    public BalanceDrift apply(BalanceLedgerEntry entry) {
+        if (!entry.loanServicingCaseId().equals(loanServicingCaseId)) {
+            loanServicingCaseId = entry.loanServicingCaseId();
+            principal = BigDecimal.ZERO;
+            interest = BigDecimal.ZERO;
+            fees = BigDecimal.ZERO;
+            cases++;
+        }
+        switch (entry.entryType()) {
+            case CASE, DISBURSEMENT -> disburse(entry.amount());
+            case ACCRUAL -> accrue(entry.accrualType(), entry.amount());
+            case PAYMENT, REBATE -> credit(entry.amount());
+            case SNAPSHOT -> {
+                snapshots++;
+                return compare(entry);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds a completed disbursement to the principal.
+     */
+    public void disburse(BigDecimal amount) {
+        principal = principal.add(nonNull(amount));
+    }
+
+    /**
+     * Adds an accrual to the interest when its type is INTEREST, otherwise to the fees.
+     */
+    public void accrue(AccrualTypeEnum accrualType, BigDecimal amount) {
+        if (accrualType == AccrualTypeEnum.INTEREST) {
+            interest = interest.add(nonNull(amount));
+        } else {
+            fees = fees.add(nonNull(amount));
+        }
+    }
+
+    /**
+     * Applies a payment or rebate to the outstanding amounts in waterfall order; any excess is left unapplied.
+     */
+    public void credit(BigDecimal amount) {
+        BigDecimal remaining = nonNull(amount);
+        for (PaymentAllocationComponentEnum component : waterfall) {
+            if (remaining.signum() <= 0) {
+                return;
+            }
+            switch (component) {
+                case FEE -> {
+                    BigDecimal paid = remaining.min(fees);
+                    fees = fees.subtract(paid);
+                    remaining = remaining.subtract(paid);
+                }
+                case INTEREST -> {
+                    BigDecimal paid = remaining.min(interest);
+                    interest = interest.subtract(paid);
+                    remaining = remaining.subtract(paid);
+                }
+                case PRINCIPAL -> {
+                    BigDecimal paid = remaining.min(principal);
+                    principal = principal.subtract(paid);
+                    remaining = remaining.subtract(paid);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the replayed principal of the current case.
+     */
+    public BigDecimal principalOutstanding() {
+        return principal;
+    }
+
+    /**
+     * Returns the replayed interest of the current case.
+     */
+    public BigDecimal interestOutstanding() {
+        return interest;
+    }
+
+    /**
+     * Returns the replayed fees of the current case.
+     */
+    public BigDecimal feesOutstanding() {
+        return fees;
+    }
+
+    /**
+     * Returns the case of the last applied entry, or null before the first one.
+     */
+    public UUID lastCaseId() {
+        return loanServicingCaseId;
+    }
+
+    /**
+     * Returns the number of cases replayed so far.
+     */
+    public long cases() {
+        return cases;
+    }
+
+    /**
+     * Returns the number of snapshots compared so far.
+     */
+    public long snapshots() {
+        return snapshots;
+    }
+
+    private BalanceDrift compare(BalanceLedgerEntry snapshot) {
+        BigDecimal total = principal.add(interest).add(fees);
+        if (same(snapshot.principalOutstanding(), principal)
+                && same(snapshot.interestOutstanding(), interest)
+                && same(snapshot.feesOutstanding(), fees)
+                && same(snapshot.totalOutstanding(), total)) {
+            return null;
+        }
+        return new BalanceDrift(loanServicingCaseId, snapshot.entryId(), snapshot.entryDate(),
+                snapshot.principalOutstanding(), snapshot.interestOutstanding(), snapshot.feesOutstanding(),
+                snapshot.totalOutstanding(), principal, interest, fees, total);
+    }
+
+    private static boolean same(BigDecimal recorded, BigDecimal replayed) {
+        return recorded != null && recorded.compareTo(replayed) == 0;
+    }
+
+    private static BigDecimal nonNull(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+}
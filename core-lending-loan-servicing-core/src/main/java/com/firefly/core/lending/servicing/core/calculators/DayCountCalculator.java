@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import com.firefly.core.lending.servicing.interfaces.enums.DayCountConventionEnum;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Year fraction and interest calculations for each {@link DayCountConventionEnum}.
+ *
+ * <p>All results are unrounded ({@link MathContext#DECIMAL64}); callers round to currency
+ * scale once, at the point the amount is persisted.</p>
+ */
+public final class DayCountCalculator {
+
+    static final MathContext MC = MathContext.DECIMAL64;
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final BigDecimal DAYS_360 = BigDecimal.valueOf(360);
+    private static final BigDecimal DAYS_365 = BigDecimal.valueOf(365);
+    private static final BigDecimal DAYS_366 = BigDecimal.valueOf(366);
+
+    private DayCountCalculator() {
+    }
+
+    /**
+     * Computes the fraction of a year between two dates under the given convention.
+     *
+     * @param convention the day count convention
+     * @param from the start date (inclusive)
+     * @param to the end date (exclusive)
+     * @return the year fraction, or zero if {@code to} is not after {@code from}
+     */
+    public static BigDecimal yearFraction(DayCountConventionEnum convention, LocalDate from, LocalDate to) {
+        if (!to.isAfter(from)) {
+            return BigDecimal.ZERO;
+        }
+        return switch (convention) {
+            case ACTUAL_360 -> BigDecimal.valueOf(ChronoUnit.DAYS.between(from, to)).divide(DAYS_360, MC);
+            case ACTUAL_365 -> BigDecimal.valueOf(ChronoUnit.DAYS.between(from, to)).divide(DAYS_365, MC);
+            case THIRTY_360 -> BigDecimal.valueOf(thirty360Days(from, to)).divide(DAYS_360, MC);
+            case ACTUAL_ACTUAL -> actualActual(from, to);
+        };
+    }
+
+    /**
+     * Computes simple interest accrued on a balance between two dates.
+     *
+     * @param balance the balance interest accrues on
+     * @param annualInterestRate the annual rate as a percentage (e.g. 5.25 for 5.25%)
+     * @param convention the day count convention
+     * @param from the start date (inclusive)
+     * @param to the end date (exclusive)
+     * @return the unrounded interest amount
+     */
+    public static BigDecimal interest(BigDecimal balance, BigDecimal annualInterestRate,
+                                      DayCountConventionEnum convention, LocalDate from, LocalDate to) {
+        return balance.multiply(annualRate(annualInterestRate), MC)
+                .multiply(yearFraction(convention, from, to), MC);
+    }
+
+    /**
+     * Converts a percentage rate into a decimal rate (5.25 becomes 0.0525).
+     */
+    public static BigDecimal annualRate(BigDecimal annualInterestRate) {
+        return annualInterestRate.divide(HUNDRED, MC);
+    }
+
+    /**
+     * Returns the number of days the convention assigns to the year containing {@code date}.
+     */
+    public static BigDecimal yearBasis(DayCountConventionEnum convention, LocalDate date) {
+        return switch (convention) {
+            case ACTUAL_360, THIRTY_360 -> DAYS_360;
+            case ACTUAL_365 -> DAYS_365;
+            case ACTUAL_ACTUAL -> date.isLeapYear() ? DAYS_366 : DAYS_365;
+        };
+    }
+
+    /**
+     * 30/360 Bond Basis day count.
+     */
+    static long thirty360Days(LocalDate from, LocalDate to) {
+        int d1 = Math.min(from.getDayOfMonth(), 30);
+        int d2 = to.getDayOfMonth();
+        if (d2 == 31 && d1 == 30) {
+            d2 = 30;
+        }
+        return 360L * (to.getYear() - from.getYear())
+                + 30L * (to.getMonthValue() - from.getMonthValue())
+                + (d2 - d1);
+    }
+
+    private static BigDecimal actualActual(LocalDate from, LocalDate to) {
+        BigDecimal fraction = BigDecimal.ZERO;
+        LocalDate cursor = from;
+        while (cursor.isBefore(to)) {
+            LocalDate nextYear = LocalDate.of(cursor.getYear() + 1, 1, 1);
+            LocalDate periodEnd = to.isBefore(nextYear) ? to : nextYear;
+            BigDecimal days = BigDecimal.valueOf(ChronoUnit.DAYS.between(cursor, periodEnd));
+            fraction = fraction.add(days.divide(cursor.isLeapYear() ? DAYS_366 : DAYS_365, MC), MC);
+            cursor = periodEnd;
+        }
+        return fraction;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Projects an escrow account over the twelve months following an analysis date.
+ *
+ * <p>Each month the account receives the base payment, one twelfth of the annual disbursements, and the
+ * annual disbursement is paid out in the month that contains the next disbursement date (rolled forward by
+ * whole years if it has passed, or the last month when it is unknown). The lowest month-end balance is compared
+ * to the target balance, which acts as the required cushion: a shortfall is a shortage that is recovered over
+ * the next twelve payments, an excess is a surplus. Payments are rounded up so that the account never falls
+ * short because of rounding.</p>
+ */
+@Component
+public class EscrowAnalysisCalculator {
+
+    static final int PROJECTION_MONTHS = 12;
+
+    private static final int SCALE = 2;
+    private static final BigDecimal MONTHS = BigDecimal.valueOf(PROJECTION_MONTHS);
+    private static final BigDecimal ZERO = BigDecimal.ZERO.setScale(SCALE);
+
+    /**
+     * Projects the account and computes its new monthly payment.
+     *
+     * @param currentBalance the escrow balance on the analysis date
+     * @param targetBalance the balance the account must not fall below
+     * @param annualDisbursementAmount the amount paid out of the account each year
+     * @param nextDisbursementDate the date of the next disbursement, or null if unknown
+     * @param analysisDate the first day of the projection
+     * @return the projection
+     */
+    public EscrowProjection project(BigDecimal currentBalance, BigDecimal targetBalance,
+                                    BigDecimal annualDisbursementAmount, LocalDate nextDisbursementDate,
+                                    LocalDate analysisDate) {
+        BigDecimal annual = orZero(annualDisbursementAmount);
+        BigDecimal target = orZero(targetBalance);
+        BigDecimal basePayment = annual.divide(MONTHS, SCALE, RoundingMode.UP);
+        LocalDate disbursementDate = disbursementDate(nextDisbursementDate, analysisDate);
+
+        BigDecimal balance = orZero(currentBalance);
+        BigDecimal low = null;
+        for (int month = 0; month < PROJECTION_MONTHS; month++) {
+            LocalDate monthStart = analysisDate.plusMonths(month);
+            LocalDate monthEnd = analysisDate.plusMonths(month + 1L);
+            balance = balance.add(basePayment);
+            if (!disbursementDate.isBefore(monthStart) && disbursementDate.isBefore(monthEnd)) {
+                balance = balance.subtract(annual);
+            }
+            if (low == null || balance.compareTo(low) < 0) {
+                low = balance;
+            }
+        }
+
+        BigDecimal shortage = target.subtract(low).max(ZERO);
+        BigDecimal surplus = low.subtract(target).max(ZERO);
+        return new EscrowProjection(
+                basePayment.add(shortage.divide(MONTHS, SCALE, RoundingMode.UP)),
+                low,
+                balance,
+                shortage,
+                surplus);
+    }
+
+    /**
+     * Returns the disbursement date that falls in the year starting on the analysis date: the next disbursement
+     * date rolled forward by whole years, or the last day of that year when the date is unknown.
+     */
+    static LocalDate disbursementDate(LocalDate nextDisbursementDate, LocalDate analysisDate) {
+        if (nextDisbursementDate == null) {
+            return analysisDate.plusMonths(PROJECTION_MONTHS).minusDays(1);
+        }
+        LocalDate date = nextDisbursementDate;
+        while (date.isBefore(analysisDate)) {
+            date = date.plusYears(1);
+        }
+        return date;
+    }
+
+    private static BigDecimal orZero(BigDecimal amount) {
+        return amount == null ? ZERO : amount.setScale(SCALE, RoundingMode.HALF_EVEN);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import java.math.BigDecimal;
+
+/**
+ * Result of projecting an escrow account over the year following an analysis. All amounts are rounded to
+ * currency scale.
+ *
+ * @param monthlyPaymentAmount the new monthly payment: one twelfth of the annual disbursements plus one twelfth
+ *                             of any shortage
+ * @param projectedLowBalance the lowest month-end balance projected with the base monthly payment
+ * @param projectedEndingBalance the balance projected at the end of the year with the base monthly payment
+ * @param shortage the amount by which the low point falls below the target balance, or zero
+ * @param surplus the amount by which the low point exceeds the target balance, or zero
+ */
+public record EscrowProjection(BigDecimal monthlyPaymentAmount,
+                               BigDecimal projectedLowBalance,
+                               BigDecimal projectedEndingBalance,
+                               BigDecimal shortage,
+                               BigDecimal surplus) {
+}
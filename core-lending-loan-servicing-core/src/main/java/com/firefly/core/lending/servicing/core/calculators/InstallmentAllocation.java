@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * The part of a payment applied to one installment.
+ *
+ * @param installmentPlanId the installment the amounts were applied to
+ * @param feePaid the amount applied to the installment's fees
+ * @param interestPaid the amount applied to the installment's interest
+ * @param principalPaid the amount applied to the installment's principal
+ * @param paidAmount the cumulative amount paid on the installment, including this payment
+ * @param fullyPaid whether the installment has nothing left outstanding after this payment
+ */
+public record InstallmentAllocation(UUID installmentPlanId,
+                                    BigDecimal feePaid,
+                                    BigDecimal interestPaid,
+                                    BigDecimal principalPaid,
+                                    BigDecimal paidAmount,
+                                    boolean fullyPaid) {
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import com.firefly.core.lending.servicing.interfaces.enums.DayCountConventionEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.InterestCalculationMethodEnum;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Computes the interest accrued on a balance for a single day.
+ *
+ * <p>The day's length is the {@link DayCountConventionEnum} year fraction from the accrual date to
+ * the next day, and every loan accrues {@code balance * rate * fraction} at its nominal rate. The daily
+ * accrual run does not add the interest it posts to the balance it accrues on, so a compounded daily rate
+ * would fall short of even simple interest. Compounding loans instead earn interest on interest through
+ * their base: it includes the unpaid interest of the current balance, so interest compounds whenever a
+ * balance snapshot records it.</p>
+ */
+@Component
+public class InterestAccrualCalculator {
+
+    private static final int SCALE = 2;
+    private static final RoundingMode ROUNDING = RoundingMode.HALF_EVEN;
+
+    /**
+     * Computes one day of interest.
+     *
+     * @param balance the balance interest accrues on
+     * @param annualInterestRate the annual rate as a percentage (e.g. 5.25 for 5.25%)
+     * @param convention the day count convention of the loan
+     * @param accrualDate the day being accrued
+     * @return the accrued interest rounded to currency scale, never negative
+     */
+    public BigDecimal dailyInterest(BigDecimal balance, BigDecimal annualInterestRate,
+                                    DayCountConventionEnum convention, LocalDate accrualDate) {
+        if (balance == null || balance.signum() <= 0 || annualInterestRate == null || annualInterestRate.signum() <= 0) {
+            return BigDecimal.ZERO.setScale(SCALE);
+        }
+        return balance.multiply(dailyRate(annualInterestRate, convention, accrualDate),
+                DayCountCalculator.MC).setScale(SCALE, ROUNDING);
+    }
+
+    /**
+     * Returns the unrounded rate a balance earns over the given day. The rate depends only on the length the
+     * convention assigns to the day and, for ACTUAL_ACTUAL, on whether the day falls in a leap year, so callers
+     * accruing many consecutive days can reuse it while those do not change.
+     */
+    static BigDecimal dailyRate(BigDecimal annualInterestRate, DayCountConventionEnum convention,
+                                LocalDate accrualDate) {
+        BigDecimal fraction = DayCountCalculator.yearFraction(convention, accrualDate, accrualDate.plusDays(1));
+        return DayCountCalculator.annualRate(annualInterestRate).multiply(fraction, DayCountCalculator.MC);
+    }
+
+    /**
+     * Returns the balance a case accrues interest on. Flat-rate loans accrue on the original principal. Other
+     * loans accrue on the outstanding principal and, when interest compounds, on the unpaid interest as well.
+     *
+     * @param method the interest calculation method of the loan
+     * @param principalAmount the originally contracted principal
+     * @param principalOutstanding the outstanding principal, or null if no balance has been recorded yet
+     * @param interestOutstanding the unpaid interest, or null if no balance has been recorded yet
+     * @return the interest base
+     */
+    public static BigDecimal interestBase(InterestCalculationMethodEnum method, BigDecimal principalAmount,
+                                          BigDecimal principalOutstanding, BigDecimal interestOutstanding) {
+        if (method == InterestCalculationMethodEnum.FLAT_RATE || principalOutstanding == null) {
+            return principalAmount;
+        }
+        if (isSimple(method) || interestOutstanding == null) {
+            return principalOutstanding;
+        }
+        return principalOutstanding.add(interestOutstanding);
+    }
+
+    /**
+     * Returns true if the method accrues simple interest, i.e. never on previously accrued interest.
+     */
+    public static boolean isSimple(InterestCalculationMethodEnum method) {
+        return method == InterestCalculationMethodEnum.SIMPLE || method == InterestCalculationMethodEnum.FLAT_RATE;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The result of running a payment through the allocation waterfall.
+ *
+ * @param installments the installments that received part of the payment, oldest first
+ * @param feesPaid the total amount applied to fees
+ * @param interestPaid the total amount applied to interest
+ * @param principalPaid the total amount applied to principal
+ * @param unapplied the part of the payment left over once every unpaid installment was settled
+ */
+public record PaymentAllocation(List<InstallmentAllocation> installments,
+                                BigDecimal feesPaid,
+                                BigDecimal interestPaid,
+                                BigDecimal principalPaid,
+                                BigDecimal unapplied) {
+}
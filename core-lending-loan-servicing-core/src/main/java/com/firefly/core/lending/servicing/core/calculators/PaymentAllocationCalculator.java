@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentAllocationComponentEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanInstallmentPlan;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits a payment across the unpaid installments of a case following a configurable waterfall.
+ *
+ * <p>Installments are settled oldest first; within an installment the payment covers each
+ * {@link PaymentAllocationComponentEnum} in waterfall order before moving to the next one. Installment
+ * plans only record a cumulative {@code paid_amount}, so the part of each component already covered by
+ * earlier payments is derived by applying that amount through the same waterfall.</p>
+ *
+ * <p>The calculator is stateless and performs no rounding: installment amounts are already at currency
+ * scale and allocation only ever subtracts them.</p>
+ */
+@Component
+public class PaymentAllocationCalculator {
+
+    /**
+     * Allocates a payment.
+     *
+     * @param amount the payment amount; must be positive
+     * @param unpaidInstallments the unpaid installments of the case, oldest first
+     * @param waterfall the order in which components are paid; must contain every component exactly once
+     * @return the allocation, listing only the installments the payment reached
+     */
+    public PaymentAllocation allocate(BigDecimal amount,
+                                      List<LoanInstallmentPlan> unpaidInstallments,
+                                      List<PaymentAllocationComponentEnum> waterfall) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new IllegalArgumentException("Payment amount must be positive");
+        }
+        validateWaterfall(waterfall);
+
+        List<InstallmentAllocation> installments = new ArrayList<>();
+        Map<PaymentAllocationComponentEnum, BigDecimal> totals = new EnumMap<>(PaymentAllocationComponentEnum.class);
+        waterfall.forEach(component -> totals.put(component, BigDecimal.ZERO));
+        BigDecimal remaining = amount;
+
+        for (LoanInstallmentPlan installment : unpaidInstallments) {
+            if (remaining.signum() == 0) {
+                break;
+            }
+            Map<PaymentAllocationComponentEnum, BigDecimal> outstanding = outstanding(installment, waterfall);
+            Map<PaymentAllocationComponentEnum, BigDecimal> paid = new EnumMap<>(PaymentAllocationComponentEnum.class);
+            BigDecimal applied = BigDecimal.ZERO;
+            BigDecimal stillOwed = BigDecimal.ZERO;
+            for (PaymentAllocationComponentEnum component : waterfall) {
+                BigDecimal share = remaining.min(outstanding.get(component));
+                remaining = remaining.subtract(share);
+                applied = applied.add(share);
+                paid.put(component, share);
+                totals.merge(component, share, BigDecimal::add);
+                stillOwed = stillOwed.add(outstanding.get(component).subtract(share));
+            }
+
+            installments.add(new InstallmentAllocation(
+                    installment.getLoanInstallmentPlanId(),
+                    paid.get(PaymentAllocationComponentEnum.FEE),
+                    paid.get(PaymentAllocationComponentEnum.INTEREST),
+                    paid.get(PaymentAllocationComponentEnum.PRINCIPAL),
+                    nonNull(installment.getPaidAmount()).add(applied),
+                    stillOwed.signum() == 0));
+        }
+
+        return new PaymentAllocation(
+                List.copyOf(installments),
+                totals.get(PaymentAllocationComponentEnum.FEE),
+                totals.get(PaymentAllocationComponentEnum.INTEREST),
+                totals.get(PaymentAllocationComponentEnum.PRINCIPAL),
+                remaining);
+    }
+
+    /**
+     * Returns what is still owed on each component of an installment once its cumulative paid amount has
+     * been applied through the waterfall.
+     */
+    public static Map<PaymentAllocationComponentEnum, BigDecimal> outstanding(LoanInstallmentPlan installment,
+                                                                             List<PaymentAllocationComponentEnum> waterfall) {
+        Map<PaymentAllocationComponentEnum, BigDecimal> outstanding = new EnumMap<>(PaymentAllocationComponentEnum.class);
+        BigDecimal alreadyPaid = nonNull(installment.getPaidAmount());
+        for (PaymentAllocationComponentEnum component : waterfall) {
+            BigDecimal due = nonNull(switch (component) {
+                case FEE -> installment.getFeeDue();
+                case INTEREST -> installment.getInterestDue();
+                case PRINCIPAL -> installment.getPrincipalDue();
+            }).max(BigDecimal.ZERO);
+            BigDecimal covered = alreadyPaid.min(due).max(BigDecimal.ZERO);
+            alreadyPaid = alreadyPaid.subtract(covered);
+            outstanding.put(component, due.subtract(covered));
+        }
+        return outstanding;
+    }
+
+    /**
+     * Checks that the waterfall lists every component exactly once.
+     */
+    static void validateWaterfall(List<PaymentAllocationComponentEnum> waterfall) {
+        if (waterfall == null
+                || waterfall.size() != PaymentAllocationComponentEnum.values().length
+                || !EnumSet.copyOf(waterfall).containsAll(EnumSet.allOf(PaymentAllocationComponentEnum.class))) {
+            throw new IllegalArgumentException("Payment allocation waterfall must list "
+                    + EnumSet.allOf(PaymentAllocationComponentEnum.class) + " exactly once, got " + waterfall);
+        }
+    }
+
+    private static BigDecimal nonNull(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+}
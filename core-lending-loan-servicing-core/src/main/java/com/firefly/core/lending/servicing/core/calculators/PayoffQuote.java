@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * The amount that settles a loan in full on a given date. All amounts are rounded to currency scale.
+ *
+ * @param payoffDate the date the loan is paid off
+ * @param principalOutstanding the principal outstanding
+ * @param interestOutstanding the unpaid interest recorded on the current balance
+ * @param projectedInterest the interest accruing from the balance date up to, but excluding, the payoff date
+ * @param feesOutstanding the unpaid fees
+ * @param rebateCredit the unprocessed rebates credited against the payoff
+ * @param payoffAmount the amount due on the payoff date, never negative
+ * @param perDiem the interest the payoff date itself accrues, owed for each day the payoff is late
+ */
+public record PayoffQuote(LocalDate payoffDate,
+                          BigDecimal principalOutstanding,
+                          BigDecimal interestOutstanding,
+                          BigDecimal projectedInterest,
+                          BigDecimal feesOutstanding,
+                          BigDecimal rebateCredit,
+                          BigDecimal payoffAmount,
+                          BigDecimal perDiem) {
+}
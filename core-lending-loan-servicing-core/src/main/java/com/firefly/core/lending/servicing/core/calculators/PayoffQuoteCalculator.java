@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import com.firefly.core.lending.servicing.interfaces.enums.DayCountConventionEnum;
+import com.firefly.core.lending.servicing.models.projections.PayoffQuoteBasis;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Quotes the amount that pays off a loan on a future date.
+ *
+ * <p>Interest is projected one day at a time from the date of the current balance, exactly as the daily
+ * accrual run would post it: each day accrues {@link InterestAccrualCalculator} interest, rounded to currency
+ * scale, on the base of the current balance. The run does not change that balance, so the base stays the
+ * same until a new snapshot is recorded; compounding loans earn interest on interest through the
+ * snapshot's unpaid interest. The payoff amount is the outstanding principal,
+ * interest and fees plus the projected interest, less the unprocessed rebates.</p>
+ *
+ * <p>A day's interest depends only on the length its {@link DayCountConventionEnum} assigns to it, so the
+ * projection walks runs of days of the same length and adds each run as its day count times the rounded daily
+ * interest: one run for ACTUAL_360 and ACTUAL_365, one per calendar year for ACTUAL_ACTUAL, and at most five
+ * per month for THIRTY_360. The cost no longer grows with the number of days. Several dates of the same case
+ * are quoted in a single walk up to the latest of them.</p>
+ */
+@Component
+public class PayoffQuoteCalculator {
+
+    private static final int SCALE = 2;
+    private static final RoundingMode ROUNDING = RoundingMode.HALF_EVEN;
+    private static final BigDecimal ZERO = BigDecimal.ZERO.setScale(SCALE);
+
+    /**
+     * Quotes the payoff of a case on one date.
+     *
+     * @param basis the case terms, current balance and unprocessed rebates
+     * @param payoffDate the date the loan is paid off, not before the balance date
+     * @return the payoff quote
+     */
+    public PayoffQuote quote(PayoffQuoteBasis basis, LocalDate payoffDate) {
+        return quote(basis, List.of(payoffDate)).get(0);
+    }
+
+    /**
+     * Quotes the payoff of a case on each of the given dates.
+     *
+     * @param basis the case terms, current balance and unprocessed rebates
+     * @param payoffDates the dates the loan could be paid off, in any order, none before the balance date
+     * @return one quote per date, in the order of {@code payoffDates}
+     */
+    public List<PayoffQuote> quote(PayoffQuoteBasis basis, List<LocalDate> payoffDates) {
+        LocalDate from = basis.balanceDate() != null ? basis.balanceDate() : basis.originationDate();
+        LocalDate[] dates = payoffDates.toArray(LocalDate[]::new);
+        Arrays.sort(dates);
+        if (dates.length > 0 && dates[0].isBefore(from)) {
+            throw new IllegalArgumentException("Payoff date " + dates[0] + " is before the balance date " + from
+                    + " of loan servicing case " + basis.loanServicingCaseId());
+        }
+
+        Projection projection = new Projection(basis, from);
+        Map<LocalDate, PayoffQuote> quotes = new HashMap<>();
+        for (LocalDate payoffDate : dates) {
+            if (!quotes.containsKey(payoffDate)) {
+                projection.accrueUntil(payoffDate);
+                quotes.put(payoffDate, toQuote(basis, payoffDate, projection.projected, projection.interest(payoffDate)));
+            }
+        }
+        List<PayoffQuote> ordered = new ArrayList<>(payoffDates.size());
+        for (LocalDate payoffDate : payoffDates) {
+            ordered.add(quotes.get(payoffDate));
+        }
+        return ordered;
+    }
+
+    private static PayoffQuote toQuote(PayoffQuoteBasis basis, LocalDate payoffDate, BigDecimal projectedInterest,
+                                       BigDecimal perDiem) {
+        BigDecimal principal = scaled(basis.principalOutstanding() != null
+                ? basis.principalOutstanding() : basis.principalAmount());
+        BigDecimal interest = scaled(basis.interestOutstanding());
+        BigDecimal fees = scaled(basis.feesOutstanding());
+        BigDecimal rebates = scaled(basis.unprocessedRebates());
+        BigDecimal payoffAmount = principal.add(interest).add(projectedInterest).add(fees).subtract(rebates);
+        return new PayoffQuote(payoffDate, principal, interest, projectedInterest, fees, rebates,
+                payoffAmount.signum() < 0 ? ZERO : payoffAmount, perDiem);
+    }
+
+    private static BigDecimal scaled(BigDecimal amount) {
+        return amount == null ? ZERO : amount.setScale(SCALE, ROUNDING);
+    }
+
+    /**
+     * Returns a key that changes whenever the convention assigns a different length to the day, or a
+     * different basis to its year: the 30/360 day count of the day, the leap year of ACTUAL_ACTUAL days, and a
+     * constant for the fixed-basis conventions.
+     */
+    private static long dayKey(DayCountConventionEnum convention, LocalDate day) {
+        return switch (convention) {
+            case THIRTY_360 -> DayCountCalculator.thirty360Days(day, day.plusDays(1));
+            case ACTUAL_ACTUAL -> day.isLeapYear() ? 1 : 0;
+            case ACTUAL_360, ACTUAL_365 -> 0;
+        };
+    }
+
+    /**
+     * Returns the first day after {@code day} whose key may differ from it. Under 30/360 only the last days of a
+     * month can have another length than one day.
+     */
+    private static LocalDate nextKeyChange(DayCountConventionEnum convention, LocalDate day) {
+        return switch (convention) {
+            case THIRTY_360 -> day.getDayOfMonth() < 28 ? day.withDayOfMonth(28) : day.plusDays(1);
+            case ACTUAL_ACTUAL -> day.withDayOfYear(1).plusYears(1);
+            case ACTUAL_360, ACTUAL_365 -> LocalDate.MAX;
+        };
+    }
+
+    /**
+     * The interest accrued from the balance date up to the current day.
+     */
+    private static final class Projection {
+
+        private final PayoffQuoteBasis basis;
+        private final boolean accruing;
+        private final BigDecimal base;
+        private LocalDate day;
+        private BigDecimal projected = ZERO;
+        private BigDecimal rate;
+        private long rateKey;
+
+        private Projection(PayoffQuoteBasis basis, LocalDate from) {
+            this.basis = basis;
+            this.base = InterestAccrualCalculator.interestBase(basis.interestCalculationMethod(),
+                    basis.principalAmount(), basis.principalOutstanding(), basis.interestOutstanding());
+            this.accruing = base != null && base.signum() > 0
+                    && basis.interestRate() != null && basis.interestRate().signum() > 0;
+            this.day = from;
+        }
+
+        private void accrueUntil(LocalDate payoffDate) {
+            if (!accruing) {
+                day = payoffDate;
+                return;
+            }
+            while (day.isBefore(payoffDate)) {
+                LocalDate runEnd = nextKeyChange(basis.dayCountConvention(), day);
+                if (runEnd.isAfter(payoffDate)) {
+                    runEnd = payoffDate;
+                }
+                projected = projected.add(interest(day).multiply(BigDecimal.valueOf(ChronoUnit.DAYS.between(day, runEnd))));
+                day = runEnd;
+            }
+        }
+
+        private BigDecimal interest(LocalDate accrualDate) {
+            if (!accruing) {
+                return ZERO;
+            }
+            long key = dayKey(basis.dayCountConvention(), accrualDate);
+            if (rate == null || key != rateKey) {
+                rate = InterestAccrualCalculator.dailyRate(basis.interestRate(), basis.dayCountConvention(), accrualDate);
+                rateKey = key;
+            }
+            return base.multiply(rate, DayCountCalculator.MC).setScale(SCALE, ROUNDING);
+        }
+    }
+}
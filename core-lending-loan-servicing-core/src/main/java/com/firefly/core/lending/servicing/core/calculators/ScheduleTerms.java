@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import com.firefly.core.lending.servicing.interfaces.enums.AmortizationMethodEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.DayCountConventionEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.InterestCalculationMethodEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentFrequencyEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanRestructuring;
+import com.firefly.core.lending.servicing.models.entities.LoanServicingCase;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Loan terms needed to generate a repayment schedule.
+ *
+ * @param principal the principal to amortize
+ * @param annualInterestRate the annual interest rate as a percentage (e.g. 5.25 for 5.25%)
+ * @param numberOfInstallments the number of installments to generate
+ * @param amortizationMethod how principal is repaid across installments
+ * @param paymentFrequency the interval between due dates
+ * @param dayCountConvention the convention used to accrue interest between due dates
+ * @param interestCalculationMethod whether interest accrues on the original principal or the outstanding balance
+ * @param startDate the date interest starts accruing; the first installment falls one period later
+ * @param firstInstallmentNumber the installment number assigned to the first generated row
+ */
+public record ScheduleTerms(BigDecimal principal,
+                            BigDecimal annualInterestRate,
+                            int numberOfInstallments,
+                            AmortizationMethodEnum amortizationMethod,
+                            PaymentFrequencyEnum paymentFrequency,
+                            DayCountConventionEnum dayCountConvention,
+                            InterestCalculationMethodEnum interestCalculationMethod,
+                            LocalDate startDate,
+                            int firstInstallmentNumber) {
+
+    public ScheduleTerms {
+        if (principal == null || principal.signum() < 0) {
+            throw new IllegalArgumentException("Principal must be zero or positive");
+        }
+        if (annualInterestRate == null || annualInterestRate.signum() < 0) {
+            throw new IllegalArgumentException("Annual interest rate must be zero or positive");
+        }
+        if (numberOfInstallments < 1) {
+            throw new IllegalArgumentException("Number of installments must be at least 1");
+        }
+        if (amortizationMethod == null || paymentFrequency == null || dayCountConvention == null || startDate == null) {
+            throw new IllegalArgumentException(
+                    "Amortization method, payment frequency, day count convention and start date are required");
+        }
+        if (interestCalculationMethod == null) {
+            interestCalculationMethod = InterestCalculationMethodEnum.REDUCING_BALANCE;
+        }
+        if (firstInstallmentNumber < 1) {
+            throw new IllegalArgumentException("First installment number must be at least 1");
+        }
+    }
+
+    /**
+     * Builds the terms for a full schedule from the configuration of a servicing case.
+     */
+    public static ScheduleTerms of(LoanServicingCase servicingCase) {
+        return new ScheduleTerms(
+                servicingCase.getPrincipalAmount(),
+                servicingCase.getInterestRate(),
+                servicingCase.getLoanTerm() == null ? 0 : servicingCase.getLoanTerm(),
+                servicingCase.getAmortizationMethod(),
+                servicingCase.getPaymentFrequency(),
+                servicingCase.getDayCountConvention(),
+                servicingCase.getInterestCalculationMethod(),
+                servicingCase.getOriginationDate(),
+                1);
+    }
+
+    /**
+     * Builds the terms of the schedule that replaces the unpaid installments of a restructured case: the new
+     * principal amortized over the new term from the restructuring date.
+     *
+     * @param restructuring the restructuring carrying the new terms
+     * @param firstInstallmentNumber the installment number assigned to the first generated row
+     */
+    public static ScheduleTerms of(LoanRestructuring restructuring, int firstInstallmentNumber) {
+        return new ScheduleTerms(
+                restructuring.getNewPrincipalAmount(),
+                restructuring.getNewInterestRate(),
+                restructuring.getNewLoanTerm() == null ? 0 : restructuring.getNewLoanTerm(),
+                restructuring.getNewAmortizationMethod(),
+                restructuring.getNewPaymentFrequency(),
+                restructuring.getNewDayCountConvention(),
+                restructuring.getNewInterestCalculationMethod(),
+                restructuring.getRestructuringDate(),
+                firstInstallmentNumber);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One computed installment of a repayment schedule. All amounts are rounded to currency scale.
+ *
+ * @param installmentNumber the sequence number of the installment
+ * @param dueDate the date the installment is due
+ * @param principalDue the principal portion
+ * @param interestDue the interest portion
+ * @param feeDue the fee portion
+ * @param totalDue the sum of principal, interest and fee
+ * @param remainingPrincipal the principal still outstanding after this installment is paid
+ */
+public record ScheduledInstallment(int installmentNumber,
+                                   LocalDate dueDate,
+                                   BigDecimal principalDue,
+                                   BigDecimal interestDue,
+                                   BigDecimal feeDue,
+                                   BigDecimal totalDue,
+                                   BigDecimal remainingPrincipal) {
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.config;
+
+import com.firefly.core.lending.servicing.core.cache.CacheRegion;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * In-process read-through caches and their invalidation across nodes ({@code loan-servicing.cache.*}).
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "loan-servicing.cache")
+public class CacheProperties {
+
+    /**
+     * Loan servicing cases read by id.
+     */
+    private Bounds servicingCase = new Bounds();
+
+    /**
+     * Current balances read by case id.
+     */
+    private Bounds currentBalance = new Bounds();
+
+    private Invalidation invalidation = new Invalidation();
+
+    /**
+     * Returns the bounds of the cache holding the given region.
+     */
+    public Bounds bounds(CacheRegion region) {
+        return switch (region) {
+            case LOAN_SERVICING_CASE -> servicingCase;
+            case LOAN_CURRENT_BALANCE -> currentBalance;
+        };
+    }
+
+    @Data
+    public static class Bounds {
+
+        /**
+         * Maximum number of entries kept in memory; zero disables the cache.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * How long an entry is served from memory after it was loaded. Bounds staleness when an invalidation
+         * is missed, e.g. while the invalidation bus reconnects.
+         */
+        private Duration expireAfterWrite = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class Invalidation {
+
+        /**
+         * How invalidations reach the other nodes: {@code postgres} (LISTEN/NOTIFY on the service database) or
+         * {@code in-memory} (this node only, for single-node deployments and tests).
+         */
+        private String bus = "postgres";
+
+        /**
+         * The Postgres notification channel; every node of a deployment must use the same one.
+         */
+        private String channel = "loan_servicing_cache";
+
+        /**
+         * Delay before the first attempt to re-establish a lost listening connection; later attempts back off
+         * exponentially.
+         */
+        private Duration reconnectBackoff = Duration.ofSeconds(1);
+
+        /**
+         * Upper bound of the delay between reconnection attempts.
+         */
+        private Duration maxReconnectBackoff = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Idempotency keys of create requests ({@code loan-servicing.idempotency.*}).
+ * The purge schedule is configured with {@code loan-servicing.idempotency.purge-cron}; "-" disables it.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "loan-servicing.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * How long a key replays the original response. Must exceed the longest time clients keep retrying.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Number of expired keys deleted per statement by the purge job.
+     */
+    private int purgeBatchSize = 5000;
+}
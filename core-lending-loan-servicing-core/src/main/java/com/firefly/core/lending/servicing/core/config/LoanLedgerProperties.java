@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits for the streamed case ledger ({@code loan-servicing.ledger.*}).
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "loan-servicing.ledger")
+public class LoanLedgerProperties {
+
+    /**
+     * Ledger streams served at once by this node. Each stream holds one pooled connection until it completes;
+     * further requests are rejected with 429.
+     */
+    private int maxConcurrentStreams = 5;
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Notification templates and the compiled template cache ({@code loan-servicing.notification-templates.*}).
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "loan-servicing.notification-templates")
+public class NotificationTemplateProperties {
+
+    /**
+     * Maximum number of compiled templates kept in memory; the least recently used are evicted first.
+     */
+    private int cacheSize = 256;
+
+    /**
+     * Templates by template id, as referenced by {@code LoanNotification.templateId}.
+     */
+    private Map<String, Definition> definitions = new LinkedHashMap<>();
+
+    @Data
+    public static class Definition {
+
+        /**
+         * Subject template; when absent the notification keeps its own subject.
+         */
+        private String subject;
+
+        /**
+         * Message body template.
+         */
+        private String body;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.config;
+
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentAllocationComponentEnum;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of payment posting ({@code loan-servicing.payment-allocation.*}).
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "loan-servicing.payment-allocation")
+public class PaymentAllocationProperties {
+
+    /**
+     * Order in which a payment covers the components of each installment; must list every component once.
+     */
+    private List<PaymentAllocationComponentEnum> waterfall = new ArrayList<>(List.of(
+            PaymentAllocationComponentEnum.FEE,
+            PaymentAllocationComponentEnum.INTEREST,
+            PaymentAllocationComponentEnum.PRINCIPAL));
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tuning for bulk payment file ingestion ({@code loan-servicing.payment-files.*}).
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "loan-servicing.payment-files")
+public class PaymentFileIngestionProperties {
+
+    /**
+     * Number of lines validated and written per transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum number of rejected lines listed in the ingestion result; further rejections are only counted.
+     */
+    private int maxReportedErrors = 1000;
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits of payoff quotes ({@code loan-servicing.payoff-quote.*}).
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "loan-servicing.payoff-quote")
+public class PayoffQuoteProperties {
+
+    /**
+     * Days after the maturity date of a case that can still be quoted; later payoff dates are rejected with 400.
+     */
+    private int maxDaysAfterMaturity = 365;
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.idempotency;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.firefly.core.lending.servicing.core.config.IdempotencyProperties;
+import com.firefly.core.lending.servicing.models.repositories.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * Runs create requests carrying an {@code Idempotency-Key} header at most once per key, replaying the stored
+ * response of the first request to every retry until the key expires.
+ *
+ * <p>The key is claimed in the caller's transaction, in the same statement that would detect an existing claim,
+ * and the response is stored before the transaction commits. A retry arriving while the first request is still
+ * running blocks on the claim and then replays its response; if the first request rolls back, the retry runs
+ * as if it were the first. A key reused with a different request body is rejected with 422 UNPROCESSABLE_ENTITY,
+ * and a key whose claim holds no response yet with 409 CONFLICT. Expired keys are deleted by
+ * {@link #purgeExpired()}.</p>
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    /**
+     * Longest accepted key; matches the idempotency_key column.
+     */
+    public static final int MAX_KEY_LENGTH = 255;
+
+    @Autowired
+    private IdempotencyRecordRepository repository;
+
+    @Autowired
+    private IdempotencyProperties properties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ObjectMapper responseMapper;
+
+    @PostConstruct
+    void init() {
+        // Stored responses must read back whole, including the ids and timestamps DTOs mark read-only
+        responseMapper = objectMapper.copy().setAnnotationIntrospector(new JacksonAnnotationIntrospector() {
+            @Override
+            public JsonProperty.Access findPropertyAccess(Annotated annotated) {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Runs {@code action} unless the key was already used, in which case the stored response is returned
+     * without running it. Must be called within the transaction the action writes in.
+     *
+     * @param scope the endpoint, so the same key can be used on different endpoints
+     * @param key the client-supplied idempotency key; null runs the action unconditionally
+     * @param request the request body, fingerprinted to detect a key reused for a different request
+     * @param responseType the type the stored response is read back as
+     * @param action the create to run at most once
+     * @return a Mono emitting the response of the action or the stored response of the first request
+     */
+    public <T> Mono<T> execute(String scope, String key, Object request, Class<T> responseType,
+                               Supplier<Mono<T>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Idempotency key must be between 1 and " + MAX_KEY_LENGTH + " characters"));
+        }
+        return Mono.fromCallable(() -> fingerprint(request))
+                .flatMap(requestHash -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    return repository.claim(scope, key, requestHash, now, now.plus(properties.getTtl()))
+                            .flatMap(claimed -> claimed
+                                    ? action.get().flatMap(response -> store(scope, key, response))
+                                    : replay(scope, key, requestHash, responseType));
+                });
+    }
+
+    /**
+     * Deletes every expired key, one batch per statement.
+     *
+     * @return a Mono emitting the number of keys deleted
+     */
+    public Mono<Long> purgeExpired() {
+        int batchSize = Math.max(1, properties.getPurgeBatchSize());
+        LocalDateTime now = LocalDateTime.now();
+        return repository.deleteExpired(now, batchSize)
+                .expand(deleted -> deleted < batchSize ? Mono.empty() : repository.deleteExpired(now, batchSize))
+                .reduce(0L, Long::sum)
+                .doOnNext(deleted -> log.info("Purged {} expired idempotency keys", deleted));
+    }
+
+    private <T> Mono<T> store(String scope, String key, T response) {
+        return Mono.fromCallable(() -> responseMapper.writeValueAsString(response))
+                .flatMap(responseBody -> repository.complete(scope, key, responseBody))
+                .thenReturn(response);
+    }
+
+    private <T> Mono<T> replay(String scope, String key, byte[] requestHash, Class<T> responseType) {
+        return repository.findByIdempotencyScopeAndIdempotencyKey(scope, key)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Idempotency key " + key + " expired while the request was running, retry it")))
+                .flatMap(record -> {
+                    if (!MessageDigest.isEqual(record.getRequestHash(), requestHash)) {
+                        return Mono.error(new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                                "Idempotency key " + key + " was already used for a different request"));
+                    }
+                    if (record.getResponseBody() == null) {
+                        return Mono.error(new ResponseStatusException(HttpStatus.CONFLICT,
+                                "Idempotency key " + key + " has no stored response"));
+                    }
+                    Counter.builder("loan.idempotency.replays")
+                            .tag("scope", scope)
+                            .register(meterRegistry)
+                            .increment();
+                    return Mono.fromCallable(() -> responseMapper.readValue(record.getResponseBody(), responseType));
+                });
+    }
+
+    private byte[] fingerprint(Object request) throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+    }
+}
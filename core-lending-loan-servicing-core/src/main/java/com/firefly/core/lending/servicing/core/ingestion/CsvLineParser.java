@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.ingestion;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits one CSV line into its fields (RFC 4180). Fields may be quoted, and a doubled quote inside a
+ * quoted field stands for a literal quote. Payment files are read line by line, so quoted fields cannot
+ * span several lines.
+ */
+public final class CsvLineParser {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private CsvLineParser() {
+    }
+
+    /**
+     * Parses a line into its fields.
+     *
+     * @param line the line without its line terminator
+     * @return the fields, unquoted, in order
+     * @throws IllegalArgumentException if a quoted field is not terminated or is followed by other characters
+     */
+    public static List<String> parse(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == QUOTE) {
+                i++;
+                while (true) {
+                    if (i >= line.length()) {
+                        throw new IllegalArgumentException("Unterminated quoted field at column " + (fields.size() + 1));
+                    }
+                    char c = line.charAt(i++);
+                    if (c != QUOTE) {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == QUOTE) {
+                        field.append(QUOTE);
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                if (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalArgumentException("Unexpected character after quoted field at column " + (fields.size() + 1));
+                }
+            } else {
+                while (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    field.append(line.charAt(i++));
+                }
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++; // skip the separator
+        }
+    }
+}
@@ -19,11 +19,18 @@ package com.firefly.core.lending.servicing.core.mappers;
 
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanBalanceDTO;
 import com.firefly.core.lending.servicing.models.entities.LoanBalance;
+import com.firefly.core.lending.servicing.models.entities.LoanCurrentBalance;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface LoanBalanceMapper {
     LoanBalanceDTO toDTO(LoanBalance entity);
     LoanBalance toEntity(LoanBalanceDTO dto);
+
+    @Mapping(target = "isCurrent", constant = "true")
+    LoanBalanceDTO toCurrentDTO(LoanCurrentBalance entity);
+
+    LoanCurrentBalance toCurrentBalance(LoanBalance entity);
 }
 
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.notifications;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A template text parsed once into literal text and placeholders, so that rendering is a single pass that only
+ * appends. Placeholders have the form {@code {{name}}} or {@code {{loan.nextDueDate}}}, a dot-separated path into
+ * the notification's JSON metadata; objects and arrays render as JSON.
+ *
+ * <p>Instances are immutable and safe to share between threads.</p>
+ */
+public final class CompiledTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    /**
+     * The text around the placeholders: {@code literals[i]} precedes {@code paths[i]}, and the last literal
+     * follows the last placeholder.
+     */
+    private final String[] literals;
+    private final String[][] paths;
+    private final int literalLength;
+
+    private CompiledTemplate(String[] literals, String[][] paths) {
+        this.literals = literals;
+        this.paths = paths;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parses a template text.
+     *
+     * @param text the template text
+     * @return the compiled template
+     * @throws IllegalArgumentException if a placeholder is not closed or is empty
+     */
+    public static CompiledTemplate compile(String text) {
+        List<String> literals = new ArrayList<>();
+        List<String[]> paths = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = text.indexOf(OPEN, position)) >= 0) {
+            int close = text.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at offset " + open);
+            }
+            String path = text.substring(open + OPEN.length(), close).trim();
+            if (path.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder at offset " + open);
+            }
+            literals.add(text.substring(position, open));
+            paths.add(path.split("\\."));
+            position = close + CLOSE.length();
+        }
+        literals.add(text.substring(position));
+        return new CompiledTemplate(literals.toArray(String[]::new), paths.toArray(String[][]::new));
+    }
+
+    /**
+     * Returns whether the template has any placeholder.
+     */
+    public boolean hasPlaceholders() {
+        return paths.length > 0;
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param metadata the values placeholders are resolved against; may be null if there are no placeholders
+     * @return the rendered text
+     * @throws IllegalArgumentException if a placeholder has no value in the metadata
+     */
+    public String render(JsonNode metadata) {
+        if (paths.length == 0) {
+            return literals[0];
+        }
+        StringBuilder rendered = new StringBuilder(literalLength + 16 * paths.length);
+        for (int i = 0; i < paths.length; i++) {
+            rendered.append(literals[i]).append(resolve(metadata, paths[i]));
+        }
+        return rendered.append(literals[paths.length]).toString();
+    }
+
+    private static String resolve(JsonNode metadata, String[] path) {
+        JsonNode node = metadata;
+        for (String segment : path) {
+            node = node == null ? null : node.get(segment);
+        }
+        if (node == null || node.isNull()) {
+            throw new IllegalArgumentException("No value for placeholder " + String.join(".", path));
+        }
+        return node.isValueNode() ? node.asText() : node.toString();
+    }
+}
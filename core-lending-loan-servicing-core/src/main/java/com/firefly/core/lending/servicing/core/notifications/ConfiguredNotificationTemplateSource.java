@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.notifications;
+
+import com.firefly.core.lending.servicing.core.config.NotificationTemplateProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Serves the templates configured in {@code loan-servicing.notification-templates.definitions}. It is consulted
+ * after every other {@link NotificationTemplateSource}.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class ConfiguredNotificationTemplateSource implements NotificationTemplateSource {
+
+    @Autowired
+    private NotificationTemplateProperties properties;
+
+    @Override
+    public Optional<NotificationTemplate> findTemplate(String templateId) {
+        return Optional.ofNullable(properties.getDefinitions().get(templateId))
+                .map(definition -> new NotificationTemplate(templateId, definition.getSubject(), definition.getBody()));
+    }
+}
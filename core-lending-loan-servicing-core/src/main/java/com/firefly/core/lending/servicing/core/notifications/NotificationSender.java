@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.notifications;
+
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanNotificationDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.NotificationChannelEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.NotificationStatusEnum;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * Delivers notifications over one or more {@link NotificationChannelEnum channels}. Implementations are
+ * picked up as Spring beans by the dispatch worker; at most one sender may serve each channel, and notifications
+ * on channels without a sender stay PENDING.
+ *
+ * <p>Senders are called concurrently and must not block. Delivery is at least once: if a node dies after a
+ * send but before the outcome is recorded, the notification is sent again once its claim lease expires.</p>
+ */
+public interface NotificationSender {
+
+    /**
+     * Returns the channels this sender delivers on.
+     */
+    Set<NotificationChannelEnum> channels();
+
+    /**
+     * Sends one notification.
+     *
+     * @param notification the notification to send
+     * @return a Mono emitting SENT when the channel accepted the notification, or DELIVERED when it also
+     *         confirmed delivery; an error marks the attempt as failed and schedules a retry
+     */
+    Mono<NotificationStatusEnum> send(LoanNotificationDTO notification);
+}
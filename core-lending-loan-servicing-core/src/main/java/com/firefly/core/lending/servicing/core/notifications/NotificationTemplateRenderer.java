@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.notifications;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.lending.servicing.core.config.NotificationTemplateProperties;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanNotificationDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ConcurrentLruCache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Renders the subject and message body of notifications that reference a template, from their JSON metadata.
+ *
+ * <p>Each template is looked up and compiled on first use and kept in a bounded LRU cache, so dispatching a
+ * large batch of notifications built from the same template parses it once. Only the per-notification metadata
+ * is parsed for each message.</p>
+ */
+@Component
+public class NotificationTemplateRenderer {
+
+    @Autowired
+    private NotificationTemplateProperties properties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private List<NotificationTemplateSource> templateSources = Collections.emptyList();
+
+    private ConcurrentLruCache<String, CompiledNotificationTemplate> cache;
+
+    private Counter compilations;
+
+    @PostConstruct
+    void init() {
+        cache = new ConcurrentLruCache<>(Math.max(0, properties.getCacheSize()), this::compile);
+        compilations = Counter.builder("loan.notification.template.compilations")
+                .description("Notification templates compiled after a cache miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Renders the subject and message body of a notification in place. Notifications without a template id are
+     * returned unchanged.
+     *
+     * @param notification the notification to render
+     * @return the same notification
+     * @throws IllegalArgumentException if the template is unknown or invalid, or the metadata lacks a value
+     *                                  the template needs
+     */
+    public LoanNotificationDTO render(LoanNotificationDTO notification) {
+        if (notification.getTemplateId() == null) {
+            return notification;
+        }
+        CompiledNotificationTemplate template = cache.get(notification.getTemplateId());
+        JsonNode metadata = template.needsMetadata() ? readMetadata(notification) : null;
+        if (template.subject() != null) {
+            notification.setSubject(template.subject().render(metadata));
+        }
+        notification.setMessageBody(template.body().render(metadata));
+        return notification;
+    }
+
+    /**
+     * Drops the compiled form of a template so that its next use reads it from the sources again.
+     */
+    public void evict(String templateId) {
+        cache.remove(templateId);
+    }
+
+    /**
+     * Drops every compiled template.
+     */
+    public void evictAll() {
+        cache.clear();
+    }
+
+    private CompiledNotificationTemplate compile(String templateId) {
+        NotificationTemplate template = templateSources.stream()
+                .map(source -> source.findTemplate(templateId))
+                .flatMap(Optional::stream)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown notification template " + templateId));
+        if (template.body() == null) {
+            throw new IllegalArgumentException("Notification template " + templateId + " has no body");
+        }
+        try {
+            CompiledNotificationTemplate compiled = new CompiledNotificationTemplate(
+                    template.subject() == null ? null : CompiledTemplate.compile(template.subject()),
+                    CompiledTemplate.compile(template.body()));
+            compilations.increment();
+            return compiled;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid notification template " + templateId + ": " + e.getMessage(), e);
+        }
+    }
+
+    private JsonNode readMetadata(LoanNotificationDTO notification) {
+        if (notification.getMetadata() == null || notification.getMetadata().isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(notification.getMetadata());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Notification metadata is not valid JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private record CompiledNotificationTemplate(CompiledTemplate subject, CompiledTemplate body) {
+
+        boolean needsMetadata() {
+            return body.hasPlaceholders() || (subject != null && subject.hasPlaceholders());
+        }
+    }
+}
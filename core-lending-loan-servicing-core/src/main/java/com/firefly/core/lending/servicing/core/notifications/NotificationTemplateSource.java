@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.notifications;
+
+import java.util.Optional;
+
+/**
+ * Looks up notification templates by id. Sources are consulted in {@link org.springframework.core.annotation.Order
+ * order} and the first one that knows a template wins, so a source backed by a template store can take precedence
+ * over the templates configured in {@code loan-servicing.notification-templates.definitions}.
+ *
+ * <p>Templates are compiled once and cached by {@link NotificationTemplateRenderer}; a source whose templates
+ * change at runtime must call {@link NotificationTemplateRenderer#evict(String)} for the changed template.</p>
+ */
+public interface NotificationTemplateSource {
+
+    /**
+     * Returns the template with the given id.
+     *
+     * @param templateId the template id
+     * @return the template, or empty if this source does not know it
+     */
+    Optional<NotificationTemplate> findTemplate(String templateId);
+}
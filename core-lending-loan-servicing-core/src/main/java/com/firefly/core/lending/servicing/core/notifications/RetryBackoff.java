@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.notifications;
+
+import java.time.Duration;
+
+/**
+ * Exponential backoff between notification delivery attempts: the first retry waits {@code initialDelay},
+ * every further retry multiplies the wait by {@code multiplier}, and no wait exceeds {@code maxDelay}.
+ *
+ * @param initialDelay the wait after the first failed attempt
+ * @param maxDelay the upper bound of any wait
+ * @param multiplier the factor applied to the wait after each further failure
+ */
+public record RetryBackoff(Duration initialDelay, Duration maxDelay, double multiplier) {
+
+    public RetryBackoff {
+        if (initialDelay == null || initialDelay.isNegative() || initialDelay.isZero()) {
+            throw new IllegalArgumentException("Initial backoff must be positive");
+        }
+        if (maxDelay == null || maxDelay.compareTo(initialDelay) < 0) {
+            throw new IllegalArgumentException("Maximum backoff must not be shorter than the initial backoff");
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("Backoff multiplier must be at least 1");
+        }
+    }
+
+    /**
+     * Returns the wait before the next attempt.
+     *
+     * @param failedAttempts the number of failed attempts so far, at least 1
+     * @return the wait, capped at {@code maxDelay}
+     */
+    public Duration delay(int failedAttempts) {
+        double millis = initialDelay.toMillis() * Math.pow(multiplier, Math.max(0, failedAttempts - 1));
+        return millis >= maxDelay.toMillis() ? maxDelay : Duration.ofMillis((long) millis);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.notifications;
+
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanNotificationDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.NotificationChannelEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.NotificationStatusEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Local sender that logs each notification and reports it as delivered, for development and tests. It serves
+ * every channel that has no real sender and is only registered when {@code loan-servicing.notifications.stub-sender}
+ * is true.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "loan-servicing.notifications", name = "stub-sender", havingValue = "true")
+public class StubNotificationSender implements NotificationSender {
+
+    @Override
+    public Set<NotificationChannelEnum> channels() {
+        return EnumSet.allOf(NotificationChannelEnum.class);
+    }
+
+    @Override
+    public Mono<NotificationStatusEnum> send(LoanNotificationDTO notification) {
+        log.debug("Stub {} notification {} to {}: {}", notification.getNotificationChannel(),
+                notification.getLoanNotificationId(), notification.getRecipientContact(), notification.getSubject());
+        return Mono.just(NotificationStatusEnum.DELIVERED);
+    }
+}
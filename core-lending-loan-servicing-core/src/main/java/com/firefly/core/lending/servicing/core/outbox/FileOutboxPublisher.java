@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.lending.servicing.core.batch.OutboxRelayProperties;
+import com.firefly.core.lending.servicing.interfaces.dtos.OutboxEventDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Local publisher that appends each event as one line of JSON to {@code loan-servicing.outbox.file}, for
+ * development and tests. Registered when {@code loan-servicing.outbox.publisher} is {@code file}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "loan-servicing.outbox", name = "publisher", havingValue = "file")
+public class FileOutboxPublisher implements OutboxPublisher {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OutboxRelayProperties properties;
+
+    @Override
+    public Mono<Void> publish(List<OutboxEventDTO> events) {
+        return Mono.fromCallable(() -> {
+                    ByteArrayOutputStream lines = new ByteArrayOutputStream(events.size() * 512);
+                    for (OutboxEventDTO event : events) {
+                        lines.write(objectMapper.writeValueAsBytes(event));
+                        lines.write('\n');
+                    }
+                    return Files.write(Path.of(properties.getFile()), lines.toByteArray(),
+                            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.outbox;
+
+import com.firefly.core.lending.servicing.interfaces.dtos.OutboxEventDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Local publisher that keeps the most recent events in memory, for tests. Registered when
+ * {@code loan-servicing.outbox.publisher} is {@code in-memory}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "loan-servicing.outbox", name = "publisher", havingValue = "in-memory")
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+
+    /**
+     * Number of most recent events replayed to each new subscriber of {@link #events()}.
+     */
+    static final int RETAINED_EVENTS = 10_000;
+
+    private static final Sinks.EmitFailureHandler RETRY_CONCURRENT_EMISSION =
+            Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1));
+
+    private final Sinks.Many<OutboxEventDTO> sink = Sinks.many().replay().limit(RETAINED_EVENTS);
+
+    @Override
+    public Mono<Void> publish(List<OutboxEventDTO> events) {
+        return Mono.fromRunnable(() -> events.forEach(event -> sink.emitNext(event, RETRY_CONCURRENT_EMISSION)));
+    }
+
+    /**
+     * Returns the retained events followed by every event published from then on.
+     */
+    public Flux<OutboxEventDTO> events() {
+        return sink.asFlux();
+    }
+}
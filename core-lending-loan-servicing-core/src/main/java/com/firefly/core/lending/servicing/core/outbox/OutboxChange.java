@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.outbox;
+
+import com.firefly.core.lending.servicing.interfaces.enums.OutboxEventTypeEnum;
+
+import java.util.UUID;
+
+/**
+ * One change to append to the transactional outbox.
+ *
+ * @param eventType what happened
+ * @param loanServicingCaseId the case the changed aggregate belongs to
+ * @param aggregateId the id of the changed installment record, disbursement or balance, or of the case
+ * @param payload the state of the aggregate, serialized to JSON
+ */
+public record OutboxChange(OutboxEventTypeEnum eventType,
+                           UUID loanServicingCaseId,
+                           UUID aggregateId,
+                           Object payload) {
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.outbox;
+
+import com.firefly.core.lending.servicing.interfaces.dtos.OutboxEventDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Delivers the change feed to downstream systems. The outbox relay picks up the single implementation registered
+ * as a Spring bean; without one, events accumulate in the outbox.
+ *
+ * <p>Batches are handed over one at a time, in feed order. Delivery is at least once: if the relay fails after
+ * a batch was published but before it was removed from the outbox, the batch is published again, so consumers
+ * should skip events whose {@code outboxEventId} they have already processed.</p>
+ */
+public interface OutboxPublisher {
+
+    /**
+     * Publishes one batch of events.
+     *
+     * @param events the events in feed order: by the transaction that wrote them, then by {@code outboxEventId}
+     * @return a Mono completing once every event is accepted downstream; an error leaves the batch in the outbox
+     *         to be published again
+     */
+    Mono<Void> publish(List<OutboxEventDTO> events);
+}
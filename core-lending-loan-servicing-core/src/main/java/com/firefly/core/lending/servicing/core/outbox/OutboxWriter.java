@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.lending.servicing.interfaces.enums.OutboxEventTypeEnum;
+import com.firefly.core.lending.servicing.models.entities.ServicingOutboxEvent;
+import com.firefly.core.lending.servicing.models.repositories.ServicingOutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Appends servicing domain events to the transactional outbox. Must be called within the transaction that makes
+ * the change, so the event is stored if and only if the change commits.
+ */
+@Component
+public class OutboxWriter {
+
+    @Autowired
+    private ServicingOutboxEventRepository repository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Appends one event.
+     *
+     * @param eventType what happened
+     * @param loanServicingCaseId the case the changed aggregate belongs to
+     * @param aggregateId the id of the changed aggregate
+     * @param payload the state of the aggregate
+     * @return a Mono emitting {@code payload} once the event is appended
+     */
+    public <T> Mono<T> append(OutboxEventTypeEnum eventType, UUID loanServicingCaseId, UUID aggregateId, T payload) {
+        return append(List.of(new OutboxChange(eventType, loanServicingCaseId, aggregateId, payload)))
+                .thenReturn(payload);
+    }
+
+    /**
+     * Appends events with a single statement, in list order.
+     *
+     * @param changes the changes to append
+     * @return a Mono emitting the number of events appended
+     */
+    public Mono<Long> append(List<OutboxChange> changes) {
+        if (changes.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return Mono.fromCallable(() -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    List<ServicingOutboxEvent> events = new ArrayList<>(changes.size());
+                    for (OutboxChange change : changes) {
+                        events.add(ServicingOutboxEvent.builder()
+                                .eventType(change.eventType())
+                                .loanServicingCaseId(change.loanServicingCaseId())
+                                .aggregateId(change.aggregateId())
+                                .payload(objectMapper.writeValueAsString(change.payload()))
+                                .createdAt(now)
+                                .build());
+                    }
+                    return events;
+                })
+                .flatMap(repository::insertAll);
+    }
+}
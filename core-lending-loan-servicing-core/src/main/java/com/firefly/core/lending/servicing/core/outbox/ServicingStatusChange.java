@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.outbox;
+
+import com.firefly.core.lending.servicing.interfaces.enums.ServicingStatusEnum;
+
+import java.util.UUID;
+
+/**
+ * Payload of a SERVICING_STATUS_CHANGED outbox event. Delinquency aging writes the same fields directly in SQL.
+ *
+ * @param loanServicingCaseId the case whose status changed
+ * @param previousStatus the status before the change
+ * @param servicingStatus the status after the change
+ * @param daysPastDue the days past due that triggered the change, or null for changes made through the API
+ */
+public record ServicingStatusChange(UUID loanServicingCaseId,
+                                    ServicingStatusEnum previousStatus,
+                                    ServicingStatusEnum servicingStatus,
+                                    Integer daysPastDue) {
+}
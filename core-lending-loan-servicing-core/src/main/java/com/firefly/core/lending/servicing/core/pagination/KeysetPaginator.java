@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.pagination;
+
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Keyset (cursor) pagination over any entity with a {@code createdAt} timestamp and a UUID id.
+ *
+ * <p>Rows are ordered by {@code (created_at, id)}, which is stable under concurrent inserts, and each
+ * page seeks past the previous cursor instead of skipping an offset, so the cost of a page depends
+ * only on its size and not on how deep into the listing it is.</p>
+ */
+@Component
+public class KeysetPaginator {
+
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private static final String CREATED_AT = "createdAt";
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    /**
+     * Reads the page following {@code cursor}.
+     *
+     * @param entityType the entity to list
+     * @param scope restriction applied to every page (e.g. the owning case), or {@link Criteria#empty()}
+     * @param cursor the token returned by the previous page; blank for the first page
+     * @param size the requested page size; defaults to 100 and is capped at 1000
+     * @param toDTO maps each entity to its DTO
+     * @return the page with the cursor of its last row, or a 400 error if the cursor is malformed
+     */
+    public <E, D> Mono<CursorPageDTO<D>> page(Class<E> entityType, Criteria scope, String cursor, Integer size,
+                                              Function<E, D> toDTO) {
+        return Mono.defer(() -> {
+            KeysetCursor after;
+            try {
+                after = KeysetCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", e));
+            }
+            RelationalPersistentEntity<?> persistentEntity = template.getConverter()
+                    .getMappingContext().getRequiredPersistentEntity(entityType);
+            String idProperty = persistentEntity.getRequiredIdProperty().getName();
+            int pageSize = pageSize(size);
+
+            Criteria criteria = after == null ? scope : and(scope, seek(idProperty, after));
+            Query query = Query.query(criteria)
+                    .sort(Sort.by(Sort.Order.asc(CREATED_AT), Sort.Order.asc(idProperty)))
+                    .limit(pageSize + 1);
+
+            return template.select(entityType)
+                    .matching(query)
+                    .all()
+                    .collectList()
+                    .map(rows -> toPage(persistentEntity, rows, pageSize, toDTO));
+        });
+    }
+
+    static int pageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * {@code created_at >= t AND (created_at > t OR (created_at = t AND id > :id))}. The leading
+     * range predicate is redundant but lets the planner start an index scan at the cursor.
+     */
+    private static Criteria seek(String idProperty, KeysetCursor cursor) {
+        return Criteria.where(CREATED_AT).greaterThanOrEquals(cursor.createdAt())
+                .and(Criteria.where(CREATED_AT).greaterThan(cursor.createdAt())
+                        .or(Criteria.where(CREATED_AT).is(cursor.createdAt())
+                                .and(idProperty).greaterThan(cursor.id())));
+    }
+
+    private static Criteria and(Criteria scope, Criteria seek) {
+        return scope.isEmpty() ? seek : scope.and(seek);
+    }
+
+    private static <E, D> CursorPageDTO<D> toPage(RelationalPersistentEntity<?> persistentEntity, List<E> rows,
+                                                  int pageSize, Function<E, D> toDTO) {
+        boolean hasNext = rows.size() > pageSize;
+        List<E> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PersistentPropertyAccessor<E> accessor = persistentEntity.getPropertyAccessor(content.get(pageSize - 1));
+            nextCursor = new KeysetCursor(
+                    (LocalDateTime) accessor.getProperty(persistentEntity.getRequiredPersistentProperty(CREATED_AT)),
+                    (UUID) accessor.getProperty(persistentEntity.getRequiredIdProperty()))
+                    .encode();
+        }
+        return CursorPageDTO.<D>builder()
+                .content(content.stream().map(toDTO).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(content.size())
+                .build();
+    }
+}
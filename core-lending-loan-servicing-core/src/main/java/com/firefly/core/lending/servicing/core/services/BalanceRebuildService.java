@@ -0,0 +1,34 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services;
+
+import com.firefly.core.lending.servicing.interfaces.dtos.BalanceDriftDTO;
+import reactor.core.publisher.Flux;
+
+public interface BalanceRebuildService {
+
+    /**
+     * Replays the disbursement, accrual, payment and rebate ledgers of every case in this node's slice of the
+     * case id space and compares each balance snapshot with the replayed balance at its date.
+     *
+     * @param repair whether drifted snapshots, and the current balances taken from them, are replaced with the
+     *               replayed amounts
+     * @return a Flux of the drifted snapshots, emitted as they are found
+     */
+    Flux<BalanceDriftDTO> rebuild(boolean repair);
+}
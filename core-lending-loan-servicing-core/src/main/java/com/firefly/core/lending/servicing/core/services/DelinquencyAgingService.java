@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services;
+
+import com.firefly.core.lending.servicing.interfaces.dtos.DelinquencyAgingResultDTO;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+public interface DelinquencyAgingService {
+
+    /**
+     * Ages every ACTIVE, GRACE_PERIOD and DELINQUENT case to the given date. Days past due are counted from the
+     * oldest unpaid installment due before that date and drive the transition to ACTIVE, GRACE_PERIOD, DELINQUENT
+     * or DEFAULT; each transition is recorded as a STATUS_CHANGE servicing event. Aging is idempotent, so a pass
+     * can be repeated for the same date.
+     *
+     * @param asOfDate the business date to age cases to
+     * @return a Mono emitting the number of cases aged, transitioned and in each DPD bucket once the pass completes
+     */
+    Mono<DelinquencyAgingResultDTO> age(LocalDate asOfDate);
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services;
+
+import com.firefly.core.lending.servicing.interfaces.dtos.EscrowAnalysisResultDTO;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+public interface EscrowAnalysisService {
+
+    /**
+     * Analyzes every active escrow whose next analysis date is on or before the given date, within this node's
+     * slice of the case id space. Each escrow's balance is projected over the following twelve months; the
+     * shortage or surplus against its target balance determines the new monthly payment, and the escrow's next
+     * analysis moves forward by the configured interval. Every analysis is recorded. Analyzed escrows are no
+     * longer due, so a pass can be repeated for the same date.
+     *
+     * @param asOfDate the analysis date
+     * @return a Mono emitting the number of escrows analyzed and the shortages and surpluses found
+     */
+    Mono<EscrowAnalysisResultDTO> analyze(LocalDate asOfDate);
+}
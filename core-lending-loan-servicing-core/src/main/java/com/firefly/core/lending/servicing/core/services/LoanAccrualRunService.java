@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services;
+
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanAccrualRunDTO;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface LoanAccrualRunService {
+
+    /**
+     * Starts, or resumes from its last checkpoint, the portfolio-wide interest accrual run for the given date.
+     * Every ACTIVE, GRACE_PERIOD and DELINQUENT servicing case receives one INTEREST accrual for the day,
+     * computed with its day count convention and compounding frequency. Processing continues in the
+     * background after the returned Mono completes; progress can be followed with {@link #getById(UUID)}.
+     *
+     * @param accrualDate the business date to accrue interest for
+     * @return a Mono emitting the run as claimed by this call, or its current state if it is already
+     *         completed or being processed by another instance
+     */
+    Mono<LoanAccrualRunDTO> start(LocalDate accrualDate);
+
+    /**
+     * Retrieves the progress of an accrual run.
+     *
+     * @param loanAccrualRunId the unique identifier of the accrual run
+     * @return a Mono emitting the LoanAccrualRunDTO, or completes empty if no such run exists
+     */
+    Mono<LoanAccrualRunDTO> getById(UUID loanAccrualRunId);
+
+    /**
+     * Retrieves the accrual run for a given accrual date.
+     *
+     * @param accrualDate the business date of the run
+     * @return a Mono emitting the LoanAccrualRunDTO, or completes empty if no run exists for that date
+     */
+    Mono<LoanAccrualRunDTO> getByAccrualDate(LocalDate accrualDate);
+}
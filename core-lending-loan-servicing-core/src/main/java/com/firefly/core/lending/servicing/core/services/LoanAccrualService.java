@@ -19,7 +19,9 @@ package com.firefly.core.lending.servicing.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanAccrualDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -36,6 +38,27 @@ public interface LoanAccrualService {
      */
     Mono<PaginationResponse<LoanAccrualDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanAccrualDTO> filterRequest);
 
+    /**
+     * Retrieves a page of LoanAccrualDTO records of a loan servicing case using keyset
+     * pagination, ordered by creation time and id. Unlike {@link #findAll}, the cost of a page does not
+     * grow with its depth in the listing.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @param cursor the continuation token returned by the previous page; blank for the first page
+     * @param size the maximum number of records to return
+     * @return a Mono containing the page and the cursor of the next one
+     */
+    Mono<CursorPageDTO<LoanAccrualDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size);
+
+    /**
+     * Streams all accruals of a loan servicing case in accrual date order for bulk export. Records are read
+     * from the database as the consumer requests them, so memory use does not depend on the number of records.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @return a Flux emitting every LoanAccrualDTO
+     */
+    Flux<LoanAccrualDTO> exportAll(UUID loanServicingCaseId);
+
     /**
      * Creates a new loan accrual record for the specified loan servicing case.
      *
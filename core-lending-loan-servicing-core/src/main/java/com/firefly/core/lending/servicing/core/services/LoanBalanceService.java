@@ -19,9 +19,14 @@ package com.firefly.core.lending.servicing.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanBalanceDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.PayoffQuoteDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.PayoffQuoteRequestDTO;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 public interface LoanBalanceService {
@@ -36,7 +41,20 @@ public interface LoanBalanceService {
     Mono<PaginationResponse<LoanBalanceDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanBalanceDTO> filterRequest);
 
     /**
-     * Retrieves the current balance for a specific loan servicing case.
+     * Retrieves a page of LoanBalanceDTO records of a loan servicing case using keyset
+     * pagination, ordered by creation time and id. Unlike {@link #findAll}, the cost of a page does not
+     * grow with its depth in the listing.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @param cursor the continuation token returned by the previous page; blank for the first page
+     * @param size the maximum number of records to return
+     * @return a Mono containing the page and the cursor of the next one
+     */
+    Mono<CursorPageDTO<LoanBalanceDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size);
+
+    /**
+     * Retrieves the current balance for a specific loan servicing case with a primary-key lookup
+     * on the current balance projection.
      *
      * @param loanServicingCaseId the unique identifier of the loan servicing case
      * @return a Mono emitting the current LoanBalanceDTO, or empty if no balance exists
@@ -44,17 +62,41 @@ public interface LoanBalanceService {
     Mono<LoanBalanceDTO> getCurrentBalance(UUID loanServicingCaseId);
 
     /**
-     * Creates a new balance snapshot for the specified loan servicing case.
-     * This will mark the previous current balance as historical.
+     * Quotes the amount that pays off a loan servicing case on the given date: the current balance plus the
+     * interest the case accrues from the balance date up to the payoff date under its day count convention,
+     * less its unprocessed rebates. The case, its balance and its rebates are read with a single query.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @param payoffDate the date the loan is paid off, not before the current balance date
+     * @return a Mono emitting the PayoffQuoteDTO, or empty if the case does not exist; fails with 400 BAD_REQUEST
+     *         if the payoff date is before the current balance date
+     */
+    Mono<PayoffQuoteDTO> getPayoffQuote(UUID loanServicingCaseId, LocalDate payoffDate);
+
+    /**
+     * Quotes the payoff of many loan servicing cases on many dates with a single query. The dates of each
+     * case are projected in one pass, so quoting a case on several dates costs little more than quoting the
+     * latest of them.
+     *
+     * @param requests the cases and the dates to quote each of them for
+     * @return a Mono emitting one PayoffQuoteDTO per requested case and date, grouped by case in the order the
+     *         cases are first requested; requests for cases that do not exist yield no quotes. Fails with
+     *         400 BAD_REQUEST if any payoff date is before the current balance date of its case
+     */
+    Mono<List<PayoffQuoteDTO>> getPayoffQuotes(List<PayoffQuoteRequestDTO> requests);
+
+    /**
+     * Appends a new balance snapshot to the history of the specified loan servicing case and
+     * atomically makes it the current balance, unless a snapshot with a later balance date is already current.
      *
      * @param loanServicingCaseId the unique identifier of the loan servicing case
      * @param dto the data transfer object containing balance details
-     * @return a Mono emitting the created LoanBalanceDTO instance
+     * @return a Mono emitting the created LoanBalanceDTO instance, flagged as current if it became the current balance
      */
     Mono<LoanBalanceDTO> create(UUID loanServicingCaseId, LoanBalanceDTO dto);
 
     /**
-     * Retrieves a specific balance snapshot by ID.
+     * Retrieves a specific balance snapshot by ID. Its isCurrent flag tells whether it backs the current balance.
      *
      * @param loanServicingCaseId the unique identifier of the loan servicing case
      * @param loanBalanceId the unique identifier of the balance snapshot
@@ -63,7 +105,8 @@ public interface LoanBalanceService {
     Mono<LoanBalanceDTO> getById(UUID loanServicingCaseId, UUID loanBalanceId);
 
     /**
-     * Updates an existing balance snapshot.
+     * Updates an existing balance snapshot. The current balance is then recomputed from the latest
+     * snapshot in the history, since the update can change which snapshot is latest.
      *
      * @param loanServicingCaseId the unique identifier of the loan servicing case
      * @param loanBalanceId the unique identifier of the balance snapshot to update
@@ -73,7 +116,8 @@ public interface LoanBalanceService {
     Mono<LoanBalanceDTO> update(UUID loanServicingCaseId, UUID loanBalanceId, LoanBalanceDTO dto);
 
     /**
-     * Deletes a balance snapshot.
+     * Deletes a balance snapshot. The current balance is then recomputed from the latest
+     * remaining snapshot.
      *
      * @param loanServicingCaseId the unique identifier of the loan servicing case
      * @param loanBalanceId the unique identifier of the balance snapshot to delete
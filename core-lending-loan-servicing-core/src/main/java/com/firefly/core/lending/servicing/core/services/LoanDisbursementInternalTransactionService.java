@@ -19,6 +19,7 @@ package com.firefly.core.lending.servicing.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanDisbursementInternalTransactionDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -38,6 +39,18 @@ public interface LoanDisbursementInternalTransactionService {
             UUID loanDisbursementId,
             FilterRequest<LoanDisbursementInternalTransactionDTO> filterRequest);
 
+    /**
+     * Retrieves a page of LoanDisbursementInternalTransactionDTO records of a loan disbursement using keyset
+     * pagination, ordered by creation time and id. Unlike {@link #findAll}, the cost of a page does not
+     * grow with its depth in the listing.
+     *
+     * @param loanDisbursementId the unique identifier of the loan disbursement
+     * @param cursor the continuation token returned by the previous page; blank for the first page
+     * @param size the maximum number of records to return
+     * @return a Mono containing the page and the cursor of the next one
+     */
+    Mono<CursorPageDTO<LoanDisbursementInternalTransactionDTO>> findAllByCursor(UUID loanDisbursementId, String cursor, Integer size);
+
     /**
      * Creates a new internal transaction for a disbursement.
      *
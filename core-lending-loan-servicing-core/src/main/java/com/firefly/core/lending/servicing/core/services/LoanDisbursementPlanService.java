@@ -19,6 +19,7 @@ package com.firefly.core.lending.servicing.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanDisbursementPlanDTO;
 import reactor.core.publisher.Mono;
 
@@ -52,6 +53,18 @@ public interface LoanDisbursementPlanService {
      */
     Mono<PaginationResponse<LoanDisbursementPlanDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanDisbursementPlanDTO> filterRequest);
 
+    /**
+     * Retrieves a page of LoanDisbursementPlanDTO records of a loan servicing case using keyset
+     * pagination, ordered by creation time and id. Unlike {@link #findAll}, the cost of a page does not
+     * grow with its depth in the listing.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @param cursor the continuation token returned by the previous page; blank for the first page
+     * @param size the maximum number of records to return
+     * @return a Mono containing the page and the cursor of the next one
+     */
+    Mono<CursorPageDTO<LoanDisbursementPlanDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size);
+
     /**
      * Creates a new disbursement plan for a loan servicing case.
      *
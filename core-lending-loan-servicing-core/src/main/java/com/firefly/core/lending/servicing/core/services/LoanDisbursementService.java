@@ -19,6 +19,7 @@ package com.firefly.core.lending.servicing.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanDisbursementDTO;
 import reactor.core.publisher.Mono;
 
@@ -37,6 +38,18 @@ public interface LoanDisbursementService {
     Mono<PaginationResponse<LoanDisbursementDTO>> findAll(UUID loanServicingCaseId,
                                                           FilterRequest<LoanDisbursementDTO> filterRequest);
 
+    /**
+     * Retrieves a page of LoanDisbursementDTO records of a loan servicing case using keyset
+     * pagination, ordered by creation time and id. Unlike {@link #findAll}, the cost of a page does not
+     * grow with its depth in the listing.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @param cursor the continuation token returned by the previous page; blank for the first page
+     * @param size the maximum number of records to return
+     * @return a Mono containing the page and the cursor of the next one
+     */
+    Mono<CursorPageDTO<LoanDisbursementDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size);
+
     /**
      * Creates a new loan disbursement for a specific loan servicing case.
      *
@@ -46,6 +59,17 @@ public interface LoanDisbursementService {
      */
     Mono<LoanDisbursementDTO> create(UUID loanServicingCaseId, LoanDisbursementDTO dto);
 
+    /**
+     * Creates a new loan disbursement at most once per idempotency key. A retry with the same key and request
+     * returns the disbursement created by the first request without creating another one.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case to which the disbursement belongs
+     * @param dto the data transfer object containing details of the loan disbursement to be created
+     * @param idempotencyKey the client-supplied key identifying the request, or null to always create
+     * @return a Mono emitting the created, or previously created, LoanDisbursementDTO instance
+     */
+    Mono<LoanDisbursementDTO> create(UUID loanServicingCaseId, LoanDisbursementDTO dto, String idempotencyKey);
+
     /**
      * Retrieves the details of a specific loan disbursement for a given loan servicing case.
      *
@@ -19,7 +19,10 @@ package com.firefly.core.lending.servicing.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanEscrowAnalysisDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanEscrowDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -85,6 +88,18 @@ public interface LoanEscrowService {
      */
     Mono<PaginationResponse<LoanEscrowDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanEscrowDTO> filterRequest);
 
+    /**
+     * Retrieves a page of LoanEscrowDTO records of a loan servicing case using keyset
+     * pagination, ordered by creation time and id. Unlike {@link #findAll}, the cost of a page does not
+     * grow with its depth in the listing.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @param cursor the continuation token returned by the previous page; blank for the first page
+     * @param size the maximum number of records to return
+     * @return a Mono containing the page and the cursor of the next one
+     */
+    Mono<CursorPageDTO<LoanEscrowDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size);
+
     /**
      * Creates a new escrow account for a loan servicing case.
      *
@@ -121,5 +136,14 @@ public interface LoanEscrowService {
      * @return a Mono that completes when the deletion is successful
      */
     Mono<Void> delete(UUID loanServicingCaseId, UUID loanEscrowId);
+
+    /**
+     * Lists the analyses recorded for an escrow account, most recent first.
+     *
+     * @param loanServicingCaseId the UUID of the loan servicing case
+     * @param loanEscrowId the UUID of the escrow account
+     * @return a Flux of analyses, empty if the escrow does not belong to the case
+     */
+    Flux<LoanEscrowAnalysisDTO> findAnalyses(UUID loanServicingCaseId, UUID loanEscrowId);
 }
 
@@ -19,9 +19,11 @@ package com.firefly.core.lending.servicing.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanInstallmentPlanDTO;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface LoanInstallmentPlanService {
@@ -37,6 +39,18 @@ public interface LoanInstallmentPlanService {
     Mono<PaginationResponse<LoanInstallmentPlanDTO>> findAll(UUID loanServicingCaseId,
                                                               FilterRequest<LoanInstallmentPlanDTO> filterRequest);
 
+    /**
+     * Retrieves a page of LoanInstallmentPlanDTO records of a loan servicing case using keyset
+     * pagination, ordered by creation time and id. Unlike {@link #findAll}, the cost of a page does not
+     * grow with its depth in the listing.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @param cursor the continuation token returned by the previous page; blank for the first page
+     * @param size the maximum number of records to return
+     * @return a Mono containing the page and the cursor of the next one
+     */
+    Mono<CursorPageDTO<LoanInstallmentPlanDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size);
+
     /**
      * Creates a new loan installment plan for a specific loan servicing case.
      *
@@ -46,6 +60,17 @@ public interface LoanInstallmentPlanService {
      */
     Mono<LoanInstallmentPlanDTO> create(UUID loanServicingCaseId, LoanInstallmentPlanDTO dto);
 
+    /**
+     * Creates all given installment plan entries for a specific loan servicing case in a single batched insert,
+     * so that a complete schedule costs one database round-trip instead of one per installment.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case to which the entries belong
+     * @param dtos the data transfer objects containing the installment plan entries to be created
+     * @return a Mono emitting the created LoanInstallmentPlanDTO instances in the order they were given, or a 404 NOT_FOUND
+     *         error if the case does not exist
+     */
+    Mono<List<LoanInstallmentPlanDTO>> createAll(UUID loanServicingCaseId, List<LoanInstallmentPlanDTO> dtos);
+
     /**
      * Retrieves the details of a specific loan installment plan for a given loan servicing case.
      *
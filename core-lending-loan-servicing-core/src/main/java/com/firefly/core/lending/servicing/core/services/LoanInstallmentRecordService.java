@@ -19,7 +19,9 @@ package com.firefly.core.lending.servicing.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanInstallmentRecordDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -37,6 +39,28 @@ public interface LoanInstallmentRecordService {
     Mono<PaginationResponse<LoanInstallmentRecordDTO>> findAll(UUID loanServicingCaseId,
                                                                 FilterRequest<LoanInstallmentRecordDTO> filterRequest);
 
+    /**
+     * Retrieves a page of LoanInstallmentRecordDTO records of a loan servicing case using keyset
+     * pagination, ordered by creation time and id. Unlike {@link #findAll}, the cost of a page does not
+     * grow with its depth in the listing.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @param cursor the continuation token returned by the previous page; blank for the first page
+     * @param size the maximum number of records to return
+     * @return a Mono containing the page and the cursor of the next one
+     */
+    Mono<CursorPageDTO<LoanInstallmentRecordDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size);
+
+    /**
+     * Streams all installment records of a loan servicing case in payment date order for bulk export. Records
+     * are read from the database as the consumer requests them, so memory use does not depend on the number of
+     * records.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @return a Flux emitting every LoanInstallmentRecordDTO
+     */
+    Flux<LoanInstallmentRecordDTO> exportAll(UUID loanServicingCaseId);
+
     /**
      * Creates a new loan installment record for a specific loan servicing case.
      *
@@ -46,6 +70,17 @@ public interface LoanInstallmentRecordService {
      */
     Mono<LoanInstallmentRecordDTO> create(UUID loanServicingCaseId, LoanInstallmentRecordDTO dto);
 
+    /**
+     * Creates a new loan installment record at most once per idempotency key. A retry with the same key and
+     * request returns the record created by the first request without creating another one.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case to which the installment record belongs
+     * @param dto the data transfer object containing details of the loan installment record to be created
+     * @param idempotencyKey the client-supplied key identifying the request, or null to always create
+     * @return a Mono emitting the created, or previously created, LoanInstallmentRecordDTO instance
+     */
+    Mono<LoanInstallmentRecordDTO> create(UUID loanServicingCaseId, LoanInstallmentRecordDTO dto, String idempotencyKey);
+
     /**
      * Retrieves the details of a specific loan installment record for a given loan servicing case.
      *
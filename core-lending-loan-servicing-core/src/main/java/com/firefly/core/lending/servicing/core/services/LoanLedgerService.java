@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services;
+
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanLedgerEntryDTO;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+public interface LoanLedgerService {
+
+    /**
+     * Streams the chronological ledger of a servicing case: completed disbursements, rate changes, accruals,
+     * completed payments and processed borrower rebates, ordered by date and, within a date, by entry type.
+     * Each entry carries the balance after it, computed with the same rules as the balance rebuild.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @return a Flux of ledger entries, emitted as the subscriber requests them
+     */
+    Flux<LoanLedgerEntryDTO> streamLedger(UUID loanServicingCaseId);
+}
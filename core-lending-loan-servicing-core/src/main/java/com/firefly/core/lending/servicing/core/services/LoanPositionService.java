@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services;
+
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanPositionDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface LoanPositionService {
+
+    /**
+     * Assembles the aggregated position of a loan servicing case: the case, its current balance, next unpaid
+     * installment, active escrows, pending disbursement plans, unprocessed rebates, latest rate change and
+     * recent events. All parts are fetched concurrently, so latency is bounded by the slowest query.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @return a Mono emitting the LoanPositionDTO, or completes empty if the case does not exist
+     */
+    Mono<LoanPositionDTO> getPosition(UUID loanServicingCaseId);
+}
@@ -19,6 +19,7 @@ package com.firefly.core.lending.servicing.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanRateChangeDTO;
 import reactor.core.publisher.Mono;
 
@@ -37,7 +38,21 @@ public interface LoanRateChangeService {
     Mono<PaginationResponse<LoanRateChangeDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanRateChangeDTO> filterRequest);
 
     /**
-     * Creates a new loan rate change record for the specified loan servicing case.
+     * Retrieves a page of LoanRateChangeDTO records of a loan servicing case using keyset
+     * pagination, ordered by creation time and id. Unlike {@link #findAll}, the cost of a page does not
+     * grow with its depth in the listing.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @param cursor the continuation token returned by the previous page; blank for the first page
+     * @param size the maximum number of records to return
+     * @return a Mono containing the page and the cursor of the next one
+     */
+    Mono<CursorPageDTO<LoanRateChangeDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size);
+
+    /**
+     * Creates a new loan rate change record for the specified loan servicing case. A change effective on or
+     * before the current business date is applied immediately: the unpaid installments due after its effective
+     * date are re-amortized at the new rate in the same transaction.
      *
      * @param loanServicingCaseId the unique identifier of the loan servicing case to which the rate change belongs
      * @param dto the data transfer object containing details of the loan rate change to be created
@@ -57,6 +72,8 @@ public interface LoanRateChangeService {
 
     /**
      * Updates an existing loan rate change record associated with the specified loan servicing case.
+     * Only changes still pending can be updated; a change that has already re-amortized the case
+     * is rejected with 409 CONFLICT.
      *
      * @param loanServicingCaseId the unique identifier of the loan servicing case associated with the loan rate change
      * @param loanRateChangeId the unique identifier of the loan rate change record to be updated
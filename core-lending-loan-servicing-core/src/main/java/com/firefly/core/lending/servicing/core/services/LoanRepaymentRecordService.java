@@ -19,6 +19,7 @@ package com.firefly.core.lending.servicing.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanRepaymentRecordDTO;
 import reactor.core.publisher.Mono;
 
@@ -37,6 +38,18 @@ public interface LoanRepaymentRecordService {
     Mono<PaginationResponse<LoanRepaymentRecordDTO>> findAll(UUID loanServicingCaseId,
                                                              FilterRequest<LoanRepaymentRecordDTO> filterRequest);
 
+    /**
+     * Retrieves a page of LoanRepaymentRecordDTO records of a loan servicing case using keyset
+     * pagination, ordered by creation time and id. Unlike {@link #findAll}, the cost of a page does not
+     * grow with its depth in the listing.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @param cursor the continuation token returned by the previous page; blank for the first page
+     * @param size the maximum number of records to return
+     * @return a Mono containing the page and the cursor of the next one
+     */
+    Mono<CursorPageDTO<LoanRepaymentRecordDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size);
+
     /**
      * Creates a new loan repayment record for the specified loan servicing case.
      *
@@ -19,9 +19,11 @@ package com.firefly.core.lending.servicing.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanRepaymentScheduleDTO;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface LoanRepaymentScheduleService {
@@ -37,6 +39,18 @@ public interface LoanRepaymentScheduleService {
     Mono<PaginationResponse<LoanRepaymentScheduleDTO>> findAll(UUID loanServicingCaseId,
                                                                FilterRequest<LoanRepaymentScheduleDTO> filterRequest);
 
+    /**
+     * Retrieves a page of LoanRepaymentScheduleDTO records of a loan servicing case using keyset
+     * pagination, ordered by creation time and id. Unlike {@link #findAll}, the cost of a page does not
+     * grow with its depth in the listing.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @param cursor the continuation token returned by the previous page; blank for the first page
+     * @param size the maximum number of records to return
+     * @return a Mono containing the page and the cursor of the next one
+     */
+    Mono<CursorPageDTO<LoanRepaymentScheduleDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size);
+
     /**
      * Creates a new loan repayment schedule for a specific loan servicing case.
      *
@@ -46,6 +60,29 @@ public interface LoanRepaymentScheduleService {
      */
     Mono<LoanRepaymentScheduleDTO> create(UUID loanServicingCaseId, LoanRepaymentScheduleDTO dto);
 
+    /**
+     * Creates all given repayment schedule entries for a specific loan servicing case in a single batched insert,
+     * so that a complete schedule costs one database round-trip instead of one per installment.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case to which the entries belong
+     * @param dtos the data transfer objects containing the repayment schedule entries to be created
+     * @return a Mono emitting the created LoanRepaymentScheduleDTO instances in the order they were given, or a 404 NOT_FOUND
+     *         error if the case does not exist
+     */
+    Mono<List<LoanRepaymentScheduleDTO>> createAll(UUID loanServicingCaseId, List<LoanRepaymentScheduleDTO> dtos);
+
+    /**
+     * Generates the full repayment schedule for a loan servicing case from its configured terms
+     * (principal, interest rate, loan term, amortization method, payment frequency and day count convention)
+     * and persists all rows with a single batched insert. The case row is locked for the duration of the
+     * transaction so that concurrent calls cannot both generate a schedule.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @return a Mono emitting the generated schedule in installment order, or a 409 CONFLICT error if the case
+     *         already has a repayment schedule; completes empty if the case does not exist
+     */
+    Mono<List<LoanRepaymentScheduleDTO>> generate(UUID loanServicingCaseId);
+
     /**
      * Retrieves the details of a specific loan repayment schedule for a given loan servicing case.
      *
@@ -19,7 +19,9 @@ package com.firefly.core.lending.servicing.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanRestructuringDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.RestructuringSimulationDTO;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -35,6 +37,18 @@ public interface LoanRestructuringService {
      */
     Mono<PaginationResponse<LoanRestructuringDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanRestructuringDTO> filterRequest);
 
+    /**
+     * Retrieves a page of LoanRestructuringDTO records of a loan servicing case using keyset
+     * pagination, ordered by creation time and id. Unlike {@link #findAll}, the cost of a page does not
+     * grow with its depth in the listing.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @param cursor the continuation token returned by the previous page; blank for the first page
+     * @param size the maximum number of records to return
+     * @return a Mono containing the page and the cursor of the next one
+     */
+    Mono<CursorPageDTO<LoanRestructuringDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size);
+
     /**
      * Creates a new loan restructuring record for the specified loan servicing case.
      *
@@ -71,5 +85,31 @@ public interface LoanRestructuringService {
      * @return a Mono signaling completion of the delete operation
      */
     Mono<Void> delete(UUID loanServicingCaseId, UUID loanRestructuringId);
+
+    /**
+     * Computes the schedule that the new terms of a proposed restructuring would produce: the new principal
+     * amortized over the new term from the restructuring date (today when absent). Nothing is read from or
+     * written to the database, and only the new terms of the proposal are used. Callers validate them with the
+     * {@link LoanRestructuringDTO.Simulation} group.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @param dto the proposed restructuring
+     * @param includeInstallments whether to return the installments or only the schedule totals
+     * @return a Mono emitting the simulated schedule
+     */
+    Mono<RestructuringSimulationDTO> simulate(UUID loanServicingCaseId, LoanRestructuringDTO dto, boolean includeInstallments);
+
+    /**
+     * Commits a restructuring in one transaction. The unpaid installment plan and repayment schedule rows of the
+     * case are replaced by the schedule generated from the new terms, numbered after the installments that
+     * remain; unpaid rows that already have payments recorded against them are closed at the amount paid. The
+     * case takes the new terms and the maturity date of the new schedule, and a RESTRUCTURE servicing event
+     * is recorded. A restructuring can be committed once; committing it again fails with 409 CONFLICT.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @param loanRestructuringId the unique identifier of the restructuring record to commit
+     * @return a Mono emitting the committed LoanRestructuringDTO, or empty if not found
+     */
+    Mono<LoanRestructuringDTO> commit(UUID loanServicingCaseId, UUID loanRestructuringId);
 }
 
@@ -19,7 +19,9 @@ package com.firefly.core.lending.servicing.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanServicingCaseDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -33,6 +35,25 @@ public interface LoanServicingCaseService {
      */
     Mono<PaginationResponse<LoanServicingCaseDTO>> findAll(FilterRequest<LoanServicingCaseDTO> filterRequest);
 
+    /**
+     * Retrieves a page of LoanServicingCaseDTO records using keyset
+     * pagination, ordered by creation time and id. Unlike {@link #findAll}, the cost of a page does not
+     * grow with its depth in the listing.
+     *
+     * @param cursor the continuation token returned by the previous page; blank for the first page
+     * @param size the maximum number of records to return
+     * @return a Mono containing the page and the cursor of the next one
+     */
+    Mono<CursorPageDTO<LoanServicingCaseDTO>> findAllByCursor(String cursor, Integer size);
+
+    /**
+     * Streams all loan servicing cases for bulk export. Records are read from the database as the consumer
+     * requests them, so memory use does not depend on the number of records.
+     *
+     * @return a Flux emitting every LoanServicingCaseDTO
+     */
+    Flux<LoanServicingCaseDTO> exportAll();
+
     /**
      * Creates a new loan servicing case record.
      *
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services;
+
+import com.firefly.core.lending.servicing.interfaces.dtos.NotificationDispatchResultDTO;
+import reactor.core.publisher.Mono;
+
+public interface NotificationDispatchService {
+
+    /**
+     * Sends every PENDING notification that is due, batch by batch, until no due notification is left.
+     * Successful attempts mark the notification SENT or DELIVERED; failed attempts are retried with
+     * exponential backoff until the configured number of attempts is exhausted, after which the
+     * notification becomes FAILED. Several nodes may drain the queue at the same time.
+     *
+     * @return a Mono emitting the number of notifications claimed, sent, delivered, retried and failed
+     */
+    Mono<NotificationDispatchResultDTO> dispatchDue();
+}
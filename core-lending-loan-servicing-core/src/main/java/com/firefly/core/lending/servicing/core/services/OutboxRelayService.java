@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services;
+
+import reactor.core.publisher.Mono;
+
+public interface OutboxRelayService {
+
+    /**
+     * Publishes every event in the outbox to the configured publisher, in batches and in feed order, deleting each
+     * batch in the transaction that published it. Does nothing while another node is relaying, or when no
+     * publisher is configured.
+     *
+     * @return a Mono emitting the number of events published
+     */
+    Mono<Long> relay();
+}
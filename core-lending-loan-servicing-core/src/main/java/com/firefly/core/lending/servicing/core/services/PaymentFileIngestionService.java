@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services;
+
+import com.firefly.core.lending.servicing.interfaces.dtos.PaymentFileIngestionDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentFileFormatEnum;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface PaymentFileIngestionService {
+
+    /**
+     * Ingests a payment file as it is received. Each line is validated against the installment record
+     * constraints; valid lines are stored as installment records, together with an external transaction for
+     * EXTERNAL payments, in one transaction per batch. Invalid lines are reported and skipped without affecting
+     * the rest of the file. Memory use depends on the batch size, not on the size of the file.
+     *
+     * @param content the raw file content
+     * @param format the format of the file
+     * @return a Mono emitting the line counts and the rejected lines once the whole file has been processed
+     */
+    Mono<PaymentFileIngestionDTO> ingest(Flux<DataBuffer> content, PaymentFileFormatEnum format);
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services;
+
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanInstallmentRecordDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.PaymentAllocationDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface PaymentPostingService {
+
+    /**
+     * Posts a completed payment to a loan servicing case. The payment is allocated to the oldest unpaid
+     * installments following the configured waterfall; settled installments are marked paid, the installment
+     * record is stored and a new balance snapshot becomes the current balance, all in one transaction.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @param dto the payment; its status must be empty or COMPLETED
+     * @return a Mono emitting the stored record together with the allocation and the resulting balance
+     */
+    Mono<PaymentAllocationDTO> post(UUID loanServicingCaseId, LoanInstallmentRecordDTO dto);
+
+    /**
+     * Posts a completed payment at most once per idempotency key. A retry with the same key and request returns
+     * the allocation of the first request without posting the payment again.
+     *
+     * @param loanServicingCaseId the unique identifier of the loan servicing case
+     * @param dto the payment; its status must be empty or COMPLETED
+     * @param idempotencyKey the client-supplied key identifying the request, or null to always post
+     * @return a Mono emitting the allocation of the first request with this key
+     */
+    Mono<PaymentAllocationDTO> post(UUID loanServicingCaseId, LoanInstallmentRecordDTO dto, String idempotencyKey);
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services;
+
+import com.firefly.core.lending.servicing.interfaces.dtos.RateChangeRepricingResultDTO;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface RateChangeReamortizationService {
+
+    /**
+     * Applies the pending rate changes of a case that take effect on or before the given date, in effective date
+     * order and in one transaction. For each change, the unpaid installment plan and repayment schedule rows due
+     * after its effective date are re-amortized at the new rate over their existing due dates; interest of the
+     * first of them accrues at the old rate up to the effective date. Paid rows are not revisited. The case takes
+     * the rate of the last change, and the changes are marked applied.
+     *
+     * @param loanServicingCaseId the case to re-amortize
+     * @param asOfDate the latest effective date to apply
+     * @return a Mono emitting the number of rate changes applied
+     */
+    Mono<Long> reamortize(UUID loanServicingCaseId, LocalDate asOfDate);
+
+    /**
+     * Re-amortizes every case with pending rate changes that take effect on or before the given date. Cases are
+     * processed concurrently, each in its own transaction, so a failing case is reported and left pending without
+     * affecting the others.
+     *
+     * @param asOfDate the latest effective date to apply
+     * @return a Mono emitting the number of cases repriced, rate changes applied, rows re-amortized and failures
+     */
+    Mono<RateChangeRepricingResultDTO> reprice(LocalDate asOfDate);
+}
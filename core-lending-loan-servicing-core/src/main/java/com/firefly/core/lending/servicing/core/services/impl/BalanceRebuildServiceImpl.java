@@ -0,0 +1,228 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services.impl;
+
+import com.firefly.core.lending.servicing.core.batch.BalanceRebuildProperties;
+import com.firefly.core.lending.servicing.core.batch.CaseIdRange;
+import com.firefly.core.lending.servicing.core.cache.LoanCurrentBalanceCache;
+import com.firefly.core.lending.servicing.core.calculators.BalanceReplay;
+import com.firefly.core.lending.servicing.core.config.PaymentAllocationProperties;
+import com.firefly.core.lending.servicing.core.mappers.LoanBalanceMapper;
+import com.firefly.core.lending.servicing.core.outbox.OutboxChange;
+import com.firefly.core.lending.servicing.core.outbox.OutboxWriter;
+import com.firefly.core.lending.servicing.core.services.BalanceRebuildService;
+import com.firefly.core.lending.servicing.interfaces.dtos.BalanceDriftDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.OutboxEventTypeEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanBalance;
+import com.firefly.core.lending.servicing.models.projections.BalanceDrift;
+import com.firefly.core.lending.servicing.models.repositories.LoanBalanceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Portfolio-wide balance rebuild.
+ *
+ * <p>This node's slice of the case id space is split into {@code partitions} ranges that are replayed
+ * concurrently; other nodes configured with the same {@code node-count} take the other slices. Each range is
+ * walked in keyset pages of cases. The merged ledger of a page is streamed by one query, in case and replay
+ * order, through a {@link BalanceReplay} that only holds the running balance of the current case, so memory
+ * does not grow with the number of cases or entries. Drifted snapshots are emitted as they are found.</p>
+ *
+ * <p>When repairing, drifts are buffered up to {@code repair-batch-size} and each buffer is written in one
+ * transaction: one statement fixes the snapshots and the current balances taken from them, one appends a
+ * BALANCE_UPDATED event per repaired snapshot, and the repaired cases are evicted from the balance cache. Like
+ * the other portfolio jobs, pages are not transactional, so a rebuild can be interrupted and run again.</p>
+ */
+@Slf4j
+@Service
+public class BalanceRebuildServiceImpl implements BalanceRebuildService {
+
+    @Autowired
+    private LoanBalanceRepository balanceRepository;
+
+    @Autowired
+    private LoanBalanceMapper balanceMapper;
+
+    @Autowired
+    private LoanCurrentBalanceCache currentBalanceCache;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @Autowired
+    private PaymentAllocationProperties paymentAllocationProperties;
+
+    @Autowired
+    private BalanceRebuildProperties properties;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter casesReplayed;
+    private Counter snapshotsChecked;
+    private Counter driftsFound;
+    private Counter snapshotsRepaired;
+    private Timer pageTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        casesReplayed = Counter.builder("loan.balance.rebuild.cases.replayed")
+                .description("Servicing cases whose ledgers were replayed by balance rebuilds")
+                .register(meterRegistry);
+        snapshotsChecked = Counter.builder("loan.balance.rebuild.snapshots.checked")
+                .description("Balance snapshots compared with their replayed balance")
+                .register(meterRegistry);
+        driftsFound = Counter.builder("loan.balance.rebuild.drifts")
+                .description("Balance snapshots that differ from their replayed balance")
+                .register(meterRegistry);
+        snapshotsRepaired = Counter.builder("loan.balance.rebuild.repairs")
+                .description("Drifted balance snapshots replaced with their replayed balance")
+                .register(meterRegistry);
+        pageTimer = Timer.builder("loan.balance.rebuild.page")
+                .description("Time to stream, replay and repair the ledgers of one page of cases")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Flux<BalanceDriftDTO> rebuild(boolean repair) {
+        return Flux.defer(() -> {
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<CaseIdRange> ranges = CaseIdRange.partition(Math.max(1, properties.getPartitions()),
+                    properties.getNodeIndex(), properties.getNodeCount());
+            AtomicLong cases = new AtomicLong();
+            AtomicLong snapshots = new AtomicLong();
+            AtomicLong drifts = new AtomicLong();
+            return Flux.fromIterable(ranges)
+                    .flatMap(range -> rebuildPartition(range, repair), ranges.size())
+                    .doOnNext(replayed -> {
+                        cases.addAndGet(replayed.cases());
+                        snapshots.addAndGet(replayed.snapshots());
+                    })
+                    .filter(replayed -> replayed.drift() != null)
+                    .map(Replayed::drift)
+                    .doOnNext(drift -> drifts.incrementAndGet())
+                    .doOnComplete(() -> log.info("Balance rebuild started at {} replayed {} cases: {} of {} snapshots drifted{}",
+                            startedAt, cases.get(), drifts.get(), snapshots.get(), repair ? " and were repaired" : ""))
+                    .doOnError(error -> log.error("Balance rebuild started at {} failed after {} cases",
+                            startedAt, cases.get(), error));
+        });
+    }
+
+    private Flux<Replayed> rebuildPartition(CaseIdRange range, boolean repair) {
+        int pageSize = Math.max(1, properties.getPageSize());
+        return replayPage(range.afterCaseId(), range.upToCaseId(), pageSize, repair)
+                .expand(replayed -> replayed.drift() == null && replayed.cases() == pageSize
+                        ? replayPage(replayed.lastCaseId(), range.upToCaseId(), pageSize, repair)
+                        : Flux.empty());
+    }
+
+    /**
+     * Replays one page of cases. The drifts of the page are followed by one element without a drift that
+     * carries the page's case count and keyset cursor.
+     */
+    private Flux<Replayed> replayPage(UUID afterCaseId, UUID upToCaseId, int pageSize, boolean repair) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            BalanceReplay replay = new BalanceReplay(paymentAllocationProperties.getWaterfall());
+            Flux<BalanceDrift> drifts = balanceRepository.streamLedger(afterCaseId, upToCaseId, pageSize)
+                    .handle((entry, sink) -> {
+                        BalanceDrift drift = replay.apply(entry);
+                        if (drift != null) {
+                            sink.next(drift);
+                        }
+                    });
+            Flux<BalanceDriftDTO> reported = repair
+                    ? drifts.buffer(Math.max(1, properties.getRepairBatchSize())).concatMap(this::repair)
+                    : drifts.map(drift -> toDTO(drift, false));
+            return reported
+                    .doOnNext(drift -> driftsFound.increment())
+                    .map(drift -> new Replayed(drift, null, 0, 0))
+                    .concatWith(Mono.fromCallable(() -> {
+                        sample.stop(pageTimer);
+                        casesReplayed.increment(replay.cases());
+                        snapshotsChecked.increment(replay.snapshots());
+                        return new Replayed(null, replay.lastCaseId(), replay.cases(), replay.snapshots());
+                    }));
+        });
+    }
+
+    private Flux<BalanceDriftDTO> repair(List<BalanceDrift> drifts) {
+        return balanceRepository.repairAll(drifts, LocalDateTime.now())
+                .collectList()
+                .flatMap(repaired -> outboxWriter.append(repaired.stream()
+                                .map(balance -> new OutboxChange(OutboxEventTypeEnum.BALANCE_UPDATED,
+                                        balance.getLoanServicingCaseId(), balance.getLoanBalanceId(),
+                                        balanceMapper.toDTO(balance)))
+                                .toList())
+                        .thenMany(Flux.fromIterable(repaired)
+                                .map(LoanBalance::getLoanServicingCaseId)
+                                .distinct()
+                                .concatMap(currentBalanceCache::evictAfterCompletion))
+                        .then()
+                        .thenReturn(repaired.stream()
+                                .map(LoanBalance::getLoanBalanceId)
+                                .collect(Collectors.toSet())))
+                .as(transactionalOperator::transactional)
+                .flatMapMany(repairedIds -> {
+                    snapshotsRepaired.increment(repairedIds.size());
+                    return Flux.fromIterable(drifts)
+                            .map(drift -> toDTO(drift, repairedIds.contains(drift.loanBalanceId())));
+                });
+    }
+
+    private static BalanceDriftDTO toDTO(BalanceDrift drift, boolean repaired) {
+        return BalanceDriftDTO.builder()
+                .loanServicingCaseId(drift.loanServicingCaseId())
+                .loanBalanceId(drift.loanBalanceId())
+                .balanceDate(drift.balanceDate())
+                .recordedPrincipalOutstanding(drift.recordedPrincipalOutstanding())
+                .recordedInterestOutstanding(drift.recordedInterestOutstanding())
+                .recordedFeesOutstanding(drift.recordedFeesOutstanding())
+                .recordedTotalOutstanding(drift.recordedTotalOutstanding())
+                .expectedPrincipalOutstanding(drift.expectedPrincipalOutstanding())
+                .expectedInterestOutstanding(drift.expectedInterestOutstanding())
+                .expectedFeesOutstanding(drift.expectedFeesOutstanding())
+                .expectedTotalOutstanding(drift.expectedTotalOutstanding())
+                .repaired(repaired)
+                .build();
+    }
+
+    /**
+     * One element of a partition's output: either a drifted snapshot, or the end of a page with its case count,
+     * snapshot count and keyset cursor.
+     */
+    record Replayed(BalanceDriftDTO drift, UUID lastCaseId, long cases, long snapshots) {
+    }
+}
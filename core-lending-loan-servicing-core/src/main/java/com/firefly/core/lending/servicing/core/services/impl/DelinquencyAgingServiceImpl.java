@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services.impl;
+
+import com.firefly.core.lending.servicing.core.batch.CaseIdRange;
+import com.firefly.core.lending.servicing.core.batch.DelinquencyAgingProperties;
+import com.firefly.core.lending.servicing.core.cache.LoanServicingCaseCache;
+import com.firefly.core.lending.servicing.core.services.DelinquencyAgingService;
+import com.firefly.core.lending.servicing.interfaces.dtos.DelinquencyAgingResultDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.ServicingStatusEnum;
+import com.firefly.core.lending.servicing.models.projections.DelinquencyAgingPage;
+import com.firefly.core.lending.servicing.models.repositories.LoanServicingCaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Portfolio-wide delinquency aging.
+ *
+ * <p>The case id space is split into {@code partitions} ranges that are aged concurrently. Each range is
+ * walked in keyset pages, and each page is one set-based statement that computes days past due, updates the
+ * cases whose status changes and inserts their servicing events. Like the accrual run, the service is
+ * deliberately not transactional: every page commits on its own, keeping row locks short and letting the
+ * partitions use separate pooled connections. A pass interrupted halfway can simply be repeated. Cached cases
+ * are evicted when a pass ends.</p>
+ */
+@Slf4j
+@Service
+public class DelinquencyAgingServiceImpl implements DelinquencyAgingService {
+
+    static final Set<ServicingStatusEnum> AGING_STATUSES =
+            EnumSet.of(ServicingStatusEnum.ACTIVE, ServicingStatusEnum.GRACE_PERIOD, ServicingStatusEnum.DELINQUENT);
+
+    private static final DelinquencyAgingPage EMPTY = new DelinquencyAgingPage(null, 0, 0, 0, 0, 0, 0, 0);
+
+    @Autowired
+    private LoanServicingCaseRepository loanServicingCaseRepository;
+
+    @Autowired
+    private LoanServicingCaseCache caseCache;
+
+    @Autowired
+    private DelinquencyAgingProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter casesAged;
+    private Counter statusTransitions;
+    private Timer pageTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        casesAged = Counter.builder("loan.delinquency.aging.cases.aged")
+                .description("Servicing cases evaluated by delinquency aging")
+                .register(meterRegistry);
+        statusTransitions = Counter.builder("loan.delinquency.aging.transitions")
+                .description("Servicing status changes applied by delinquency aging")
+                .register(meterRegistry);
+        pageTimer = Timer.builder("loan.delinquency.aging.page")
+                .description("Time to age one page of cases")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<DelinquencyAgingResultDTO> age(LocalDate asOfDate) {
+        if (properties.getGracePeriodDays() < 0 || properties.getDefaultAfterDays() <= properties.getGracePeriodDays()) {
+            return Mono.error(new IllegalStateException(
+                    "Delinquency thresholds must satisfy 0 <= grace-period-days < default-after-days"));
+        }
+        return Mono.defer(() -> {
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<CaseIdRange> ranges = CaseIdRange.partition(Math.max(1, properties.getPartitions()));
+            return Flux.fromIterable(ranges)
+                    .flatMap(range -> agePartition(asOfDate, range), ranges.size())
+                    .reduce(EMPTY, DelinquencyAgingServiceImpl::add)
+                    .map(total -> {
+                        log.info("Delinquency aging to {} evaluated {} cases and changed {} statuses",
+                                asOfDate, total.casesAged(), total.statusTransitions());
+                        return DelinquencyAgingResultDTO.builder()
+                                .asOfDate(asOfDate)
+                                .casesAged(total.casesAged())
+                                .statusTransitions(total.statusTransitions())
+                                .casesCurrent(total.current())
+                                .casesDpd1To30(total.dpd1To30())
+                                .casesDpd31To60(total.dpd31To60())
+                                .casesDpd61To90(total.dpd61To90())
+                                .casesDpdOver90(total.dpdOver90())
+                                .startedAt(startedAt)
+                                .completedAt(LocalDateTime.now())
+                                .build();
+                    })
+                    // Statuses change in set-based statements, and pages commit even if the pass fails
+                    .flatMap(result -> caseCache.evictAll().thenReturn(result))
+                    .onErrorResume(e -> caseCache.evictAll().then(Mono.error(e)));
+        });
+    }
+
+    private Mono<DelinquencyAgingPage> agePartition(LocalDate asOfDate, CaseIdRange range) {
+        int pageSize = Math.max(1, properties.getPageSize());
+        return agePage(asOfDate, range.afterCaseId(), range.upToCaseId(), pageSize)
+                .expand(page -> page.casesAged() < pageSize
+                        ? Mono.empty()
+                        : agePage(asOfDate, page.lastCaseId(), range.upToCaseId(), pageSize))
+                .reduce(EMPTY, DelinquencyAgingServiceImpl::add);
+    }
+
+    private Mono<DelinquencyAgingPage> agePage(LocalDate asOfDate, UUID afterCaseId, UUID upToCaseId, int pageSize) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return loanServicingCaseRepository.ageDelinquencyPage(AGING_STATUSES, asOfDate,
+                        properties.getGracePeriodDays(), properties.getDefaultAfterDays(),
+                        afterCaseId, upToCaseId, pageSize, LocalDateTime.now())
+                .doOnNext(page -> {
+                    sample.stop(pageTimer);
+                    casesAged.increment(page.casesAged());
+                    statusTransitions.increment(page.statusTransitions());
+                });
+    }
+
+    private static DelinquencyAgingPage add(DelinquencyAgingPage total, DelinquencyAgingPage page) {
+        return new DelinquencyAgingPage(
+                page.lastCaseId(),
+                total.casesAged() + page.casesAged(),
+                total.statusTransitions() + page.statusTransitions(),
+                total.current() + page.current(),
+                total.dpd1To30() + page.dpd1To30(),
+                total.dpd31To60() + page.dpd31To60(),
+                total.dpd61To90() + page.dpd61To90(),
+                total.dpdOver90() + page.dpdOver90());
+    }
+}
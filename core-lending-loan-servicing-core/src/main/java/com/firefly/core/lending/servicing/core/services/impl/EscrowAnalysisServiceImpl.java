@@ -0,0 +1,201 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services.impl;
+
+import com.firefly.core.lending.servicing.core.batch.CaseIdRange;
+import com.firefly.core.lending.servicing.core.batch.EscrowAnalysisProperties;
+import com.firefly.core.lending.servicing.core.calculators.EscrowAnalysisCalculator;
+import com.firefly.core.lending.servicing.core.calculators.EscrowProjection;
+import com.firefly.core.lending.servicing.core.services.EscrowAnalysisService;
+import com.firefly.core.lending.servicing.interfaces.dtos.EscrowAnalysisResultDTO;
+import com.firefly.core.lending.servicing.models.entities.LoanEscrow;
+import com.firefly.core.lending.servicing.models.entities.LoanEscrowAnalysis;
+import com.firefly.core.lending.servicing.models.repositories.LoanEscrowRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Portfolio-wide escrow analysis.
+ *
+ * <p>This node's slice of the case id space is split into {@code partitions} ranges that are analyzed
+ * concurrently; other nodes configured with the same {@code node-count} take the other slices. Each range is
+ * walked in (case id, escrow id) keyset pages. A page is read with one query, projected in memory and written
+ * back with one statement that updates the escrows and records their analyses. Like the other portfolio jobs,
+ * the service is deliberately not transactional: every page commits on its own, and an interrupted pass resumes
+ * naturally because analyzed escrows are no longer due.</p>
+ */
+@Slf4j
+@Service
+public class EscrowAnalysisServiceImpl implements EscrowAnalysisService {
+
+    private static final PageOutcome EMPTY = new PageOutcome(null, null, 0, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO);
+
+    @Autowired
+    private LoanEscrowRepository loanEscrowRepository;
+
+    @Autowired
+    private EscrowAnalysisCalculator calculator;
+
+    @Autowired
+    private EscrowAnalysisProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter escrowsAnalyzed;
+    private Counter shortages;
+    private Timer pageTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        escrowsAnalyzed = Counter.builder("loan.escrow.analysis.escrows.analyzed")
+                .description("Escrows analyzed and given a new monthly payment")
+                .register(meterRegistry);
+        shortages = Counter.builder("loan.escrow.analysis.shortages")
+                .description("Escrow analyses that found a shortage")
+                .register(meterRegistry);
+        pageTimer = Timer.builder("loan.escrow.analysis.page")
+                .description("Time to read, analyze and write one page of escrows")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<EscrowAnalysisResultDTO> analyze(LocalDate asOfDate) {
+        if (properties.getAnalysisIntervalMonths() < 1) {
+            return Mono.error(new IllegalStateException("Escrow analysis interval must be at least one month"));
+        }
+        return Mono.defer(() -> {
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<CaseIdRange> ranges = CaseIdRange.partition(Math.max(1, properties.getPartitions()),
+                    properties.getNodeIndex(), properties.getNodeCount());
+            return Flux.fromIterable(ranges)
+                    .flatMap(range -> analyzePartition(asOfDate, range), ranges.size())
+                    .reduce(EMPTY, PageOutcome::add)
+                    .map(total -> {
+                        log.info("Escrow analysis for {} analyzed {} escrows: {} shortages totalling {}, {} surpluses totalling {}",
+                                asOfDate, total.analyzed(), total.shortages(), total.totalShortage(),
+                                total.surpluses(), total.totalSurplus());
+                        return EscrowAnalysisResultDTO.builder()
+                                .asOfDate(asOfDate)
+                                .escrowsAnalyzed(total.analyzed())
+                                .escrowsWithShortage(total.shortages())
+                                .escrowsWithSurplus(total.surpluses())
+                                .totalShortage(total.totalShortage())
+                                .totalSurplus(total.totalSurplus())
+                                .startedAt(startedAt)
+                                .completedAt(LocalDateTime.now())
+                                .build();
+                    });
+        });
+    }
+
+    private Mono<PageOutcome> analyzePartition(LocalDate asOfDate, CaseIdRange range) {
+        int pageSize = Math.max(1, properties.getPageSize());
+        return analyzePage(asOfDate, range.afterCaseId(), null, range.upToCaseId(), pageSize)
+                .expand(page -> page.read() < pageSize
+                        ? Mono.empty()
+                        : analyzePage(asOfDate, page.lastCaseId(), page.lastEscrowId(), range.upToCaseId(), pageSize))
+                .reduce(EMPTY, PageOutcome::add);
+    }
+
+    private Mono<PageOutcome> analyzePage(LocalDate asOfDate, UUID afterCaseId, UUID afterEscrowId, UUID upToCaseId,
+                                          int pageSize) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return loanEscrowRepository.findDueForAnalysis(asOfDate, afterCaseId, afterEscrowId, upToCaseId, pageSize)
+                    .map(escrow -> analysis(escrow, asOfDate))
+                    .collectList()
+                    .flatMap(analyses -> analyses.isEmpty()
+                            ? Mono.just(EMPTY)
+                            : loanEscrowRepository.applyAnalyses(analyses, asOfDate, LocalDateTime.now())
+                                    .map(recorded -> PageOutcome.of(analyses, recorded)))
+                    .doOnNext(page -> {
+                        sample.stop(pageTimer);
+                        escrowsAnalyzed.increment(page.analyzed());
+                        shortages.increment(page.shortages());
+                    });
+        });
+    }
+
+    private LoanEscrowAnalysis analysis(LoanEscrow escrow, LocalDate asOfDate) {
+        EscrowProjection projection = calculator.project(escrow.getCurrentBalance(), escrow.getTargetBalance(),
+                escrow.getAnnualDisbursementAmount(), escrow.getNextDisbursementDate(), asOfDate);
+        return LoanEscrowAnalysis.builder()
+                .loanEscrowId(escrow.getLoanEscrowId())
+                .loanServicingCaseId(escrow.getLoanServicingCaseId())
+                .analysisDate(asOfDate)
+                .currentBalance(escrow.getCurrentBalance())
+                .targetBalance(escrow.getTargetBalance())
+                .annualDisbursementAmount(escrow.getAnnualDisbursementAmount())
+                .previousMonthlyPaymentAmount(escrow.getMonthlyPaymentAmount())
+                .monthlyPaymentAmount(projection.monthlyPaymentAmount())
+                .projectedLowBalance(projection.projectedLowBalance())
+                .projectedEndingBalance(projection.projectedEndingBalance())
+                .shortageAmount(projection.shortage())
+                .surplusAmount(projection.surplus())
+                .nextAnalysisDate(asOfDate.plusMonths(properties.getAnalysisIntervalMonths()))
+                .build();
+    }
+
+    /**
+     * Outcome of one or more pages: the keyset cursor of the last page, the number of escrows read and
+     * recorded, and the shortages and surpluses found.
+     */
+    record PageOutcome(UUID lastCaseId, UUID lastEscrowId, long read, long analyzed, long shortages, long surpluses,
+                       BigDecimal totalShortage, BigDecimal totalSurplus) {
+
+        static PageOutcome of(List<LoanEscrowAnalysis> analyses, long recorded) {
+            LoanEscrowAnalysis last = analyses.get(analyses.size() - 1);
+            long shortages = 0;
+            long surpluses = 0;
+            BigDecimal totalShortage = BigDecimal.ZERO;
+            BigDecimal totalSurplus = BigDecimal.ZERO;
+            for (LoanEscrowAnalysis analysis : analyses) {
+                if (analysis.getShortageAmount().signum() > 0) {
+                    shortages++;
+                    totalShortage = totalShortage.add(analysis.getShortageAmount());
+                }
+                if (analysis.getSurplusAmount().signum() > 0) {
+                    surpluses++;
+                    totalSurplus = totalSurplus.add(analysis.getSurplusAmount());
+                }
+            }
+            return new PageOutcome(last.getLoanServicingCaseId(), last.getLoanEscrowId(), analyses.size(), recorded,
+                    shortages, surpluses, totalShortage, totalSurplus);
+        }
+
+        PageOutcome add(PageOutcome page) {
+            return new PageOutcome(page.lastCaseId, page.lastEscrowId, read + page.read, analyzed + page.analyzed,
+                    shortages + page.shortages, surpluses + page.surpluses,
+                    totalShortage.add(page.totalShortage), totalSurplus.add(page.totalSurplus));
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services.impl;
+
+import com.firefly.core.lending.servicing.core.batch.InterestAccrualProperties;
+import com.firefly.core.lending.servicing.core.calculators.InterestAccrualCalculator;
+import com.firefly.core.lending.servicing.core.mappers.LoanAccrualRunMapper;
+import com.firefly.core.lending.servicing.core.services.LoanAccrualRunService;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanAccrualRunDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.AccrualRunStatusEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.AccrualTypeEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.ServicingStatusEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanAccrual;
+import com.firefly.core.lending.servicing.models.entities.LoanAccrualRun;
+import com.firefly.core.lending.servicing.models.projections.AccrualCandidate;
+import com.firefly.core.lending.servicing.models.repositories.LoanAccrualRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanAccrualRunRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanServicingCaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Portfolio-wide daily interest accrual.
+ *
+ * <p>Cases are read in keyset pages ordered by case id. Each page is turned into accrual rows in memory
+ * and written with multi-row INSERTs, several statements at a time, after which the run's checkpoint
+ * (the last case id of the page) is saved. The service is deliberately not transactional: every statement
+ * commits on its own so that concurrent inserts use separate pooled connections, and a restarted run
+ * replays at most one page, whose duplicate rows are skipped by the database.</p>
+ */
+@Slf4j
+@Service
+public class LoanAccrualRunServiceImpl implements LoanAccrualRunService {
+
+    static final Set<ServicingStatusEnum> ACCRUING_STATUSES =
+            EnumSet.of(ServicingStatusEnum.ACTIVE, ServicingStatusEnum.GRACE_PERIOD, ServicingStatusEnum.DELINQUENT);
+
+    private static final String ACCRUAL_NOTE = "Daily interest accrual";
+
+    @Autowired
+    private LoanAccrualRunRepository repository;
+
+    @Autowired
+    private LoanAccrualRunMapper mapper;
+
+    @Autowired
+    private LoanAccrualRepository accrualRepository;
+
+    @Autowired
+    private LoanServicingCaseRepository loanServicingCaseRepository;
+
+    @Autowired
+    private InterestAccrualCalculator accrualCalculator;
+
+    @Autowired
+    private InterestAccrualProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final AtomicInteger activeRuns = new AtomicInteger();
+    private Counter casesProcessed;
+    private Counter accrualsWritten;
+    private Counter failedRuns;
+    private Timer pageTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        casesProcessed = Counter.builder("loan.accrual.run.cases.processed")
+                .description("Servicing cases processed by interest accrual runs")
+                .register(meterRegistry);
+        accrualsWritten = Counter.builder("loan.accrual.run.accruals.written")
+                .description("Interest accrual rows inserted by accrual runs")
+                .register(meterRegistry);
+        failedRuns = Counter.builder("loan.accrual.run.failures")
+                .description("Interest accrual runs that stopped on an error")
+                .register(meterRegistry);
+        pageTimer = Timer.builder("loan.accrual.run.page")
+                .description("Time to read, compute, write and checkpoint one page of cases")
+                .register(meterRegistry);
+        meterRegistry.gauge("loan.accrual.run.active", activeRuns);
+    }
+
+    @Override
+    public Mono<LoanAccrualRunDTO> start(LocalDate accrualDate) {
+        return Mono.defer(() -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    // A concurrent start for the same date may create the run first; both then read the same row
+                    return repository.findByAccrualDate(accrualDate)
+                            .switchIfEmpty(Mono.defer(() -> repository.createIfAbsent(accrualDate, now)
+                                    .then(repository.findByAccrualDate(accrualDate))))
+                            .flatMap(run -> repository.claim(run.getLoanAccrualRunId(), now, now.minus(properties.getStaleAfter()))
+                                    .flatMap(claimed -> claimed
+                                            ? repository.findById(run.getLoanAccrualRunId()).doOnNext(this::launch)
+                                            : Mono.just(run)));
+                })
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Mono<LoanAccrualRunDTO> getById(UUID loanAccrualRunId) {
+        return repository.findById(loanAccrualRunId)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Mono<LoanAccrualRunDTO> getByAccrualDate(LocalDate accrualDate) {
+        return repository.findByAccrualDate(accrualDate)
+                .map(mapper::toDTO);
+    }
+
+    private void launch(LoanAccrualRun claimedRun) {
+        // Work on a copy so the entity emitted to the caller keeps the claimed state
+        LoanAccrualRun run = mapper.toEntity(mapper.toDTO(claimedRun));
+        processPage(run)
+                .expand(current -> current.getRunStatus() == AccrualRunStatusEnum.RUNNING
+                        ? processPage(current)
+                        : Mono.empty())
+                .then()
+                .onErrorResume(error -> fail(run, error))
+                .doOnSubscribe(subscription -> activeRuns.incrementAndGet())
+                .doFinally(signal -> activeRuns.decrementAndGet())
+                .subscribe();
+    }
+
+    private Mono<LoanAccrualRun> processPage(LoanAccrualRun run) {
+        int pageSize = properties.getPageSize();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return loanServicingCaseRepository.findAccrualCandidates(ACCRUING_STATUSES, run.getAccrualDate(),
+                        run.getLastProcessedCaseId(), pageSize)
+                .collectList()
+                .flatMap(page -> writeAccruals(run, page)
+                        .flatMap(written -> checkpoint(run, page, written, page.size() < pageSize)))
+                .doOnSuccess(saved -> sample.stop(pageTimer));
+    }
+
+    private Mono<Long> writeAccruals(LoanAccrualRun run, List<AccrualCandidate> page) {
+        List<LoanAccrual> accruals = toAccruals(run, page);
+        if (accruals.isEmpty()) {
+            return Mono.just(0L);
+        }
+        int batchSize = Math.max(1, properties.getInsertBatchSize());
+        List<List<LoanAccrual>> batches = new ArrayList<>((accruals.size() + batchSize - 1) / batchSize);
+        for (int from = 0; from < accruals.size(); from += batchSize) {
+            batches.add(accruals.subList(from, Math.min(accruals.size(), from + batchSize)));
+        }
+        return Flux.fromIterable(batches)
+                .flatMap(accrualRepository::insertAll, Math.max(1, properties.getConcurrency()))
+                .reduce(0L, Long::sum);
+    }
+
+    private List<LoanAccrual> toAccruals(LoanAccrualRun run, List<AccrualCandidate> page) {
+        LocalDate accrualDate = run.getAccrualDate();
+        LocalDateTime now = LocalDateTime.now();
+        List<LoanAccrual> accruals = new ArrayList<>(page.size());
+        for (AccrualCandidate candidate : page) {
+            BigDecimal interest = accrualCalculator.dailyInterest(interestBase(candidate), candidate.interestRate(),
+                    candidate.dayCountConvention(), accrualDate);
+            if (interest.signum() <= 0) {
+                continue;
+            }
+            accruals.add(LoanAccrual.builder()
+                    .loanAccrualId(UUID.randomUUID())
+                    .loanServicingCaseId(candidate.loanServicingCaseId())
+                    .accrualAmount(interest)
+                    .accrualType(AccrualTypeEnum.INTEREST)
+                    .accrualDate(accrualDate)
+                    .note(ACCRUAL_NOTE)
+                    .loanAccrualRunId(run.getLoanAccrualRunId())
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return accruals;
+    }
+
+    private static BigDecimal interestBase(AccrualCandidate candidate) {
+        return InterestAccrualCalculator.interestBase(candidate.interestCalculationMethod(),
+                candidate.principalAmount(), candidate.principalOutstanding(), candidate.interestOutstanding());
+    }
+
+    private Mono<LoanAccrualRun> checkpoint(LoanAccrualRun run, List<AccrualCandidate> page, long written, boolean lastPage) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!page.isEmpty()) {
+            run.setLastProcessedCaseId(page.get(page.size() - 1).loanServicingCaseId());
+        }
+        run.setCasesProcessed(run.getCasesProcessed() + page.size());
+        run.setAccrualsWritten(run.getAccrualsWritten() + written);
+        run.setUpdatedAt(now);
+        if (lastPage) {
+            run.setRunStatus(AccrualRunStatusEnum.COMPLETED);
+            run.setCompletedAt(now);
+        }
+        casesProcessed.increment(page.size());
+        accrualsWritten.increment(written);
+        return repository.save(run);
+    }
+
+    private Mono<Void> fail(LoanAccrualRun run, Throwable error) {
+        log.error("Interest accrual run {} for {} failed after {} cases", run.getLoanAccrualRunId(),
+                run.getAccrualDate(), run.getCasesProcessed(), error);
+        failedRuns.increment();
+        run.setRunStatus(AccrualRunStatusEnum.FAILED);
+        run.setErrorMessage(error.getMessage());
+        run.setUpdatedAt(LocalDateTime.now());
+        return repository.save(run)
+                .onErrorResume(saveError -> Mono.empty())
+                .then();
+    }
+}
@@ -21,13 +21,17 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.servicing.core.mappers.LoanAccrualMapper;
+import com.firefly.core.lending.servicing.core.pagination.KeysetPaginator;
 import com.firefly.core.lending.servicing.core.services.LoanAccrualService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanAccrualDTO;
 import com.firefly.core.lending.servicing.models.entities.LoanAccrual;
 import com.firefly.core.lending.servicing.models.repositories.LoanAccrualRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
@@ -44,6 +48,9 @@ public class LoanAccrualServiceImpl implements LoanAccrualService {
     @Autowired
     private LoanAccrualMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
     @Override
     public Mono<PaginationResponse<LoanAccrualDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanAccrualDTO> filterRequest) {
         filterRequest.getFilters().setLoanServicingCaseId(loanServicingCaseId);
@@ -53,6 +60,24 @@ public class LoanAccrualServiceImpl implements LoanAccrualService {
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<CursorPageDTO<LoanAccrualDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size) {
+        return keysetPaginator.page(
+                LoanAccrual.class,
+                Criteria.where("loanServicingCaseId").is(loanServicingCaseId),
+                cursor,
+                size,
+                mapper::toDTO
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<LoanAccrualDTO> exportAll(UUID loanServicingCaseId) {
+        return repository.findByLoanServicingCaseIdOrderByAccrualDateAscCreatedAtAsc(loanServicingCaseId)
+                .map(mapper::toDTO);
+    }
+
     @Override
     public Mono<LoanAccrualDTO> create(UUID loanServicingCaseId, LoanAccrualDTO dto) {
         return Mono.just(dto)
@@ -20,17 +20,40 @@ package com.firefly.core.lending.servicing.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.core.cache.LoanCurrentBalanceCache;
+import com.firefly.core.lending.servicing.core.calculators.PayoffQuote;
+import com.firefly.core.lending.servicing.core.outbox.OutboxWriter;
+import com.firefly.core.lending.servicing.core.calculators.PayoffQuoteCalculator;
+import com.firefly.core.lending.servicing.core.config.PayoffQuoteProperties;
 import com.firefly.core.lending.servicing.core.mappers.LoanBalanceMapper;
+import com.firefly.core.lending.servicing.core.pagination.KeysetPaginator;
 import com.firefly.core.lending.servicing.core.services.LoanBalanceService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanBalanceDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.PayoffQuoteDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.PayoffQuoteRequestDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.OutboxEventTypeEnum;
 import com.firefly.core.lending.servicing.models.entities.LoanBalance;
+import com.firefly.core.lending.servicing.models.entities.LoanCurrentBalance;
+import com.firefly.core.lending.servicing.models.projections.PayoffQuoteBasis;
 import com.firefly.core.lending.servicing.models.repositories.LoanBalanceRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanCurrentBalanceRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanServicingCaseRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -44,6 +67,27 @@ public class LoanBalanceServiceImpl implements LoanBalanceService {
     @Autowired
     private LoanBalanceMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private LoanCurrentBalanceRepository currentBalanceRepository;
+
+    @Autowired
+    private LoanCurrentBalanceCache currentBalanceCache;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @Autowired
+    private LoanServicingCaseRepository loanServicingCaseRepository;
+
+    @Autowired
+    private PayoffQuoteCalculator payoffQuoteCalculator;
+
+    @Autowired
+    private PayoffQuoteProperties payoffQuoteProperties;
+
     @Override
     public Mono<PaginationResponse<LoanBalanceDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanBalanceDTO> filterRequest) {
         filterRequest.getFilters().setLoanServicingCaseId(loanServicingCaseId);
@@ -54,38 +98,96 @@ public class LoanBalanceServiceImpl implements LoanBalanceService {
     }
 
     @Override
+    public Mono<CursorPageDTO<LoanBalanceDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size) {
+        return keysetPaginator.page(
+                LoanBalance.class,
+                Criteria.where("loanServicingCaseId").is(loanServicingCaseId),
+                cursor,
+                size,
+                mapper::toDTO
+        );
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS) // a cache hit needs no connection
     public Mono<LoanBalanceDTO> getCurrentBalance(UUID loanServicingCaseId) {
-        return repository.findByLoanServicingCaseIdAndIsCurrentTrue(loanServicingCaseId)
-                .map(mapper::toDTO);
+        return currentBalanceCache.get(loanServicingCaseId)
+                .map(mapper::toCurrentDTO);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // one read-only statement needs no transaction
+    public Mono<PayoffQuoteDTO> getPayoffQuote(UUID loanServicingCaseId, LocalDate payoffDate) {
+        return loanServicingCaseRepository.findPayoffQuoteBases(List.of(loanServicingCaseId))
+                .next()
+                .map(basis -> {
+                    checkHorizon(basis, List.of(payoffDate));
+                    return toPayoffQuoteDTO(basis, payoffQuoteCalculator.quote(basis, payoffDate));
+                })
+                .onErrorMap(IllegalArgumentException.class, LoanBalanceServiceImpl::badRequest);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<List<PayoffQuoteDTO>> getPayoffQuotes(List<PayoffQuoteRequestDTO> requests) {
+        // Dates of a case requested more than once are projected together
+        Map<UUID, List<LocalDate>> datesByCase = new LinkedHashMap<>();
+        for (PayoffQuoteRequestDTO request : requests) {
+            datesByCase.computeIfAbsent(request.getLoanServicingCaseId(), caseId -> new ArrayList<>())
+                    .addAll(request.getPayoffDates());
+        }
+        return loanServicingCaseRepository.findPayoffQuoteBases(datesByCase.keySet())
+                .collectMap(PayoffQuoteBasis::loanServicingCaseId)
+                .map(bases -> {
+                    List<PayoffQuoteDTO> quotes = new ArrayList<>();
+                    for (Map.Entry<UUID, List<LocalDate>> entry : datesByCase.entrySet()) {
+                        PayoffQuoteBasis basis = bases.get(entry.getKey());
+                        if (basis == null) {
+                            continue;
+                        }
+                        checkHorizon(basis, entry.getValue());
+                        for (PayoffQuote quote : payoffQuoteCalculator.quote(basis, entry.getValue())) {
+                            quotes.add(toPayoffQuoteDTO(basis, quote));
+                        }
+                    }
+                    return quotes;
+                })
+                .onErrorMap(IllegalArgumentException.class, LoanBalanceServiceImpl::badRequest);
     }
 
     @Override
     public Mono<LoanBalanceDTO> create(UUID loanServicingCaseId, LoanBalanceDTO dto) {
         return Mono.just(dto)
                 .doOnNext(d -> d.setLoanServicingCaseId(loanServicingCaseId))
-                // Mark previous current balance as historical
-                .flatMap(d -> repository.findByLoanServicingCaseIdAndIsCurrentTrue(loanServicingCaseId)
-                        .flatMap(currentBalance -> {
-                            currentBalance.setIsCurrent(false);
-                            currentBalance.setUpdatedAt(LocalDateTime.now());
-                            return repository.save(currentBalance);
-                        })
-                        .then(Mono.just(d)))
                 .map(mapper::toEntity)
                 .flatMap(entity -> {
-                    entity.setIsCurrent(true);
+                    // History is append-only; the projection decides which snapshot is current
+                    entity.setIsCurrent(false);
                     entity.setCreatedAt(LocalDateTime.now());
                     entity.setUpdatedAt(LocalDateTime.now());
                     return repository.save(entity);
                 })
-                .map(mapper::toDTO);
+                .flatMap(saved -> currentBalanceRepository.upsertAll(List.of(mapper.toCurrentBalance(saved)))
+                        .flatMap(upserted -> upserted > 0
+                                ? currentBalanceCache.evictAfterCompletion(loanServicingCaseId).thenReturn(upserted)
+                                : Mono.just(upserted))
+                        .map(upserted -> {
+                            LoanBalanceDTO created = mapper.toDTO(saved);
+                            created.setIsCurrent(upserted > 0);
+                            return created;
+                        }))
+                .flatMap(created -> outboxWriter.append(OutboxEventTypeEnum.BALANCE_CREATED,
+                        loanServicingCaseId, created.getLoanBalanceId(), created));
     }
 
     @Override
     public Mono<LoanBalanceDTO> getById(UUID loanServicingCaseId, UUID loanBalanceId) {
         return Mono.defer(() -> repository.findById(loanBalanceId)
                 .filter(entity -> Objects.equals(entity.getLoanServicingCaseId(), loanServicingCaseId))
-                .map(mapper::toDTO));
+                .map(mapper::toDTO)
+                .flatMap(balance -> currentBalanceCache.get(loanServicingCaseId)
+                        .map(current -> markCurrent(balance, current))
+                        .defaultIfEmpty(balance)));
     }
 
     @Override
@@ -98,18 +200,85 @@ public class LoanBalanceServiceImpl implements LoanBalanceService {
                     existingEntity.setFeesOutstanding(dto.getFeesOutstanding());
                     existingEntity.setTotalOutstanding(dto.getTotalOutstanding());
                     existingEntity.setBalanceDate(dto.getBalanceDate());
-                    existingEntity.setIsCurrent(dto.getIsCurrent());
                     existingEntity.setUpdatedAt(LocalDateTime.now());
                     return repository.save(existingEntity);
                 })
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(updated -> refreshCurrent(loanServicingCaseId)
+                        .then(currentBalanceRepository.findById(loanServicingCaseId))
+                        .map(current -> markCurrent(updated, current))
+                        .defaultIfEmpty(updated))
+                .flatMap(updated -> outboxWriter.append(OutboxEventTypeEnum.BALANCE_UPDATED,
+                        loanServicingCaseId, loanBalanceId, updated));
     }
 
     @Override
     public Mono<Void> delete(UUID loanServicingCaseId, UUID loanBalanceId) {
         return repository.findById(loanBalanceId)
                 .filter(entity -> Objects.equals(entity.getLoanServicingCaseId(), loanServicingCaseId))
-                .flatMap(repository::delete);
+                .flatMap(entity -> repository.delete(entity)
+                        .then(refreshCurrent(loanServicingCaseId))
+                        .then(outboxWriter.append(OutboxEventTypeEnum.BALANCE_DELETED,
+                                loanServicingCaseId, loanBalanceId, mapper.toDTO(entity))))
+                .then();
     }
-}
 
+    /**
+     * Rebuilds the current balance from the latest snapshot in the history. Any change can move which snapshot
+     * is latest, e.g. an older snapshot updated to a later balance date, so the projection is always recomputed.
+     */
+    private Mono<Void> refreshCurrent(UUID loanServicingCaseId) {
+        return currentBalanceRepository.deleteById(loanServicingCaseId)
+                .then(repository.findFirstByLoanServicingCaseIdOrderByBalanceDateDescCreatedAtDesc(loanServicingCaseId))
+                .flatMap(latest -> currentBalanceRepository.upsertAll(List.of(mapper.toCurrentBalance(latest))))
+                .then(currentBalanceCache.evictAfterCompletion(loanServicingCaseId));
+    }
+
+    /**
+     * Flags a snapshot as current when it backs the case's current balance projection.
+     */
+    private static LoanBalanceDTO markCurrent(LoanBalanceDTO balance, LoanCurrentBalance current) {
+        balance.setIsCurrent(Objects.equals(current.getLoanBalanceId(), balance.getLoanBalanceId()));
+        return balance;
+    }
+
+    /**
+     * Rejects payoff dates more than {@code max-days-after-maturity} days after the maturity of the case, which
+     * bounds how far a quote projects.
+     */
+    private void checkHorizon(PayoffQuoteBasis basis, List<LocalDate> payoffDates) {
+        if (basis.maturityDate() == null) {
+            return;
+        }
+        LocalDate latest = basis.maturityDate().plusDays(payoffQuoteProperties.getMaxDaysAfterMaturity());
+        for (LocalDate payoffDate : payoffDates) {
+            if (payoffDate.isAfter(latest)) {
+                throw new IllegalArgumentException("Payoff date " + payoffDate + " is after " + latest
+                        + ", the latest date quoted for loan servicing case " + basis.loanServicingCaseId());
+            }
+        }
+    }
+
+    /**
+     * The calculator rejects a payoff date before the balance date, and {@link #checkHorizon} one too far past
+     * maturity, with an IllegalArgumentException.
+     */
+    private static ResponseStatusException badRequest(IllegalArgumentException error) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, error.getMessage(), error);
+    }
+
+    private static PayoffQuoteDTO toPayoffQuoteDTO(PayoffQuoteBasis basis, PayoffQuote quote) {
+        return PayoffQuoteDTO.builder()
+                .loanServicingCaseId(basis.loanServicingCaseId())
+                .payoffDate(quote.payoffDate())
+                .balanceDate(basis.balanceDate() != null ? basis.balanceDate() : basis.originationDate())
+                .principalOutstanding(quote.principalOutstanding())
+                .interestOutstanding(quote.interestOutstanding())
+                .projectedInterest(quote.projectedInterest())
+                .feesOutstanding(quote.feesOutstanding())
+                .rebateCredit(quote.rebateCredit())
+                .payoffAmount(quote.payoffAmount())
+                .perDiem(quote.perDiem())
+                .build();
+    }
+}
@@ -21,11 +21,14 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.servicing.core.mappers.LoanDisbursementExternalTransactionMapper;
+import com.firefly.core.lending.servicing.core.pagination.KeysetPaginator;
 import com.firefly.core.lending.servicing.core.services.LoanDisbursementExternalTransactionService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanDisbursementExternalTransactionDTO;
 import com.firefly.core.lending.servicing.models.entities.LoanDisbursementExternalTransaction;
 import com.firefly.core.lending.servicing.models.repositories.LoanDisbursementExternalTransactionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
@@ -43,6 +46,9 @@ public class LoanDisbursementExternalTransactionServiceImpl implements LoanDisbu
     @Autowired
     private LoanDisbursementExternalTransactionMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
     @Override
     public Mono<PaginationResponse<LoanDisbursementExternalTransactionDTO>> findAll(
             UUID loanDisbursementId,
@@ -54,6 +60,17 @@ public class LoanDisbursementExternalTransactionServiceImpl implements LoanDisbu
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<CursorPageDTO<LoanDisbursementExternalTransactionDTO>> findAllByCursor(UUID loanDisbursementId, String cursor, Integer size) {
+        return keysetPaginator.page(
+                LoanDisbursementExternalTransaction.class,
+                Criteria.where("loanDisbursementId").is(loanDisbursementId),
+                cursor,
+                size,
+                mapper::toDTO
+        );
+    }
+
     @Override
     public Mono<LoanDisbursementExternalTransactionDTO> create(
             UUID loanDisbursementId,
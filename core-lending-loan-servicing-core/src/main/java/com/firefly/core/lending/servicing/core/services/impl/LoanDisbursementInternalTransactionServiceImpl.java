@@ -21,11 +21,14 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.servicing.core.mappers.LoanDisbursementInternalTransactionMapper;
+import com.firefly.core.lending.servicing.core.pagination.KeysetPaginator;
 import com.firefly.core.lending.servicing.core.services.LoanDisbursementInternalTransactionService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanDisbursementInternalTransactionDTO;
 import com.firefly.core.lending.servicing.models.entities.LoanDisbursementInternalTransaction;
 import com.firefly.core.lending.servicing.models.repositories.LoanDisbursementInternalTransactionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
@@ -43,6 +46,9 @@ public class LoanDisbursementInternalTransactionServiceImpl implements LoanDisbu
     @Autowired
     private LoanDisbursementInternalTransactionMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
     @Override
     public Mono<PaginationResponse<LoanDisbursementInternalTransactionDTO>> findAll(
             UUID loanDisbursementId,
@@ -54,6 +60,17 @@ public class LoanDisbursementInternalTransactionServiceImpl implements LoanDisbu
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<CursorPageDTO<LoanDisbursementInternalTransactionDTO>> findAllByCursor(UUID loanDisbursementId, String cursor, Integer size) {
+        return keysetPaginator.page(
+                LoanDisbursementInternalTransaction.class,
+                Criteria.where("loanDisbursementId").is(loanDisbursementId),
+                cursor,
+                size,
+                mapper::toDTO
+        );
+    }
+
     @Override
     public Mono<LoanDisbursementInternalTransactionDTO> create(
             UUID loanDisbursementId,
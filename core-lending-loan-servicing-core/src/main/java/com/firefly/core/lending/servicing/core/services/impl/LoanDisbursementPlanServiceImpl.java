@@ -21,11 +21,14 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.servicing.core.mappers.LoanDisbursementPlanMapper;
+import com.firefly.core.lending.servicing.core.pagination.KeysetPaginator;
 import com.firefly.core.lending.servicing.core.services.LoanDisbursementPlanService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanDisbursementPlanDTO;
 import com.firefly.core.lending.servicing.models.entities.LoanDisbursementPlan;
 import com.firefly.core.lending.servicing.models.repositories.LoanDisbursementPlanRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -44,6 +47,9 @@ public class LoanDisbursementPlanServiceImpl implements LoanDisbursementPlanServ
     @Autowired
     private LoanDisbursementPlanMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
     @Override
     public Mono<PaginationResponse<LoanDisbursementPlanDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanDisbursementPlanDTO> filterRequest) {
         filterRequest.getFilters().setLoanServicingCaseId(loanServicingCaseId);
@@ -53,6 +59,17 @@ public class LoanDisbursementPlanServiceImpl implements LoanDisbursementPlanServ
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<CursorPageDTO<LoanDisbursementPlanDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size) {
+        return keysetPaginator.page(
+                LoanDisbursementPlan.class,
+                Criteria.where("loanServicingCaseId").is(loanServicingCaseId),
+                cursor,
+                size,
+                mapper::toDTO
+        );
+    }
+
     @Override
     public Mono<LoanDisbursementPlanDTO> create(UUID loanServicingCaseId, LoanDisbursementPlanDTO dto) {
         return Mono.just(dto)
@@ -20,12 +20,18 @@ package com.firefly.core.lending.servicing.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.core.idempotency.IdempotencyStore;
 import com.firefly.core.lending.servicing.core.mappers.LoanDisbursementMapper;
+import com.firefly.core.lending.servicing.core.outbox.OutboxWriter;
+import com.firefly.core.lending.servicing.core.pagination.KeysetPaginator;
 import com.firefly.core.lending.servicing.core.services.LoanDisbursementService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanDisbursementDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.OutboxEventTypeEnum;
 import com.firefly.core.lending.servicing.models.entities.LoanDisbursement;
 import com.firefly.core.lending.servicing.models.repositories.LoanDisbursementRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -36,12 +42,23 @@ import java.util.UUID;
 @Transactional
 public class LoanDisbursementServiceImpl implements LoanDisbursementService {
 
+    private static final String IDEMPOTENCY_SCOPE = "disbursements";
+
     @Autowired
     private LoanDisbursementRepository repository;
 
     @Autowired
     private LoanDisbursementMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
     @Override
     public Mono<PaginationResponse<LoanDisbursementDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanDisbursementDTO> filterRequest) {
         filterRequest.getFilters().setLoanServicingCaseId(loanServicingCaseId);
@@ -51,12 +68,32 @@ public class LoanDisbursementServiceImpl implements LoanDisbursementService {
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<CursorPageDTO<LoanDisbursementDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size) {
+        return keysetPaginator.page(
+                LoanDisbursement.class,
+                Criteria.where("loanServicingCaseId").is(loanServicingCaseId),
+                cursor,
+                size,
+                mapper::toDTO
+        );
+    }
+
     @Override
     public Mono<LoanDisbursementDTO> create(UUID loanServicingCaseId, LoanDisbursementDTO dto) {
         dto.setLoanServicingCaseId(loanServicingCaseId);
         LoanDisbursement entity = mapper.toEntity(dto);
         return repository.save(entity)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(created -> outboxWriter.append(OutboxEventTypeEnum.DISBURSEMENT_CREATED,
+                        loanServicingCaseId, created.getLoanDisbursementId(), created));
+    }
+
+    @Override
+    public Mono<LoanDisbursementDTO> create(UUID loanServicingCaseId, LoanDisbursementDTO dto, String idempotencyKey) {
+        dto.setLoanServicingCaseId(loanServicingCaseId);
+        return idempotencyStore.execute(IDEMPOTENCY_SCOPE, idempotencyKey, dto, LoanDisbursementDTO.class,
+                () -> create(loanServicingCaseId, dto));
     }
 
     @Override
@@ -76,13 +113,18 @@ public class LoanDisbursementServiceImpl implements LoanDisbursementService {
                     LoanDisbursement entity = mapper.toEntity(dto);
                     return repository.save(entity);
                 })
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(updated -> outboxWriter.append(OutboxEventTypeEnum.DISBURSEMENT_UPDATED,
+                        loanServicingCaseId, loanDisbursementId, updated));
     }
 
     @Override
     public Mono<Void> delete(UUID loanServicingCaseId, UUID loanDisbursementId) {
         return repository.findById(loanDisbursementId)
                 .filter(entity -> loanServicingCaseId.equals(entity.getLoanServicingCaseId()))
-                .flatMap(repository::delete);
+                .flatMap(entity -> repository.delete(entity)
+                        .then(outboxWriter.append(OutboxEventTypeEnum.DISBURSEMENT_DELETED,
+                                loanServicingCaseId, loanDisbursementId, mapper.toDTO(entity))))
+                .then();
     }
 }
\ No newline at end of file
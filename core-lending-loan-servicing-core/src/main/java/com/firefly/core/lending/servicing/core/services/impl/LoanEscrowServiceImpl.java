@@ -20,14 +20,21 @@ package com.firefly.core.lending.servicing.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.core.mappers.LoanEscrowAnalysisMapper;
 import com.firefly.core.lending.servicing.core.mappers.LoanEscrowMapper;
+import com.firefly.core.lending.servicing.core.pagination.KeysetPaginator;
 import com.firefly.core.lending.servicing.core.services.LoanEscrowService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanEscrowAnalysisDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanEscrowDTO;
 import com.firefly.core.lending.servicing.models.entities.LoanEscrow;
+import com.firefly.core.lending.servicing.models.repositories.LoanEscrowAnalysisRepository;
 import com.firefly.core.lending.servicing.models.repositories.LoanEscrowRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
@@ -44,6 +51,15 @@ public class LoanEscrowServiceImpl implements LoanEscrowService {
     @Autowired
     private LoanEscrowMapper mapper;
 
+    @Autowired
+    private LoanEscrowAnalysisRepository analysisRepository;
+
+    @Autowired
+    private LoanEscrowAnalysisMapper analysisMapper;
+
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
     @Override
     public Mono<PaginationResponse<LoanEscrowDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanEscrowDTO> filterRequest) {
         filterRequest.getFilters().setLoanServicingCaseId(loanServicingCaseId);
@@ -53,6 +69,17 @@ public class LoanEscrowServiceImpl implements LoanEscrowService {
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<CursorPageDTO<LoanEscrowDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size) {
+        return keysetPaginator.page(
+                LoanEscrow.class,
+                Criteria.where("loanServicingCaseId").is(loanServicingCaseId),
+                cursor,
+                size,
+                mapper::toDTO
+        );
+    }
+
     @Override
     public Mono<LoanEscrowDTO> create(UUID loanServicingCaseId, LoanEscrowDTO dto) {
         return Mono.just(dto)
@@ -102,5 +129,12 @@ public class LoanEscrowServiceImpl implements LoanEscrowService {
                 .filter(entity -> Objects.equals(entity.getLoanServicingCaseId(), loanServicingCaseId))
                 .flatMap(repository::delete);
     }
-}
 
+    @Override
+    public Flux<LoanEscrowAnalysisDTO> findAnalyses(UUID loanServicingCaseId, UUID loanEscrowId) {
+        return repository.findById(loanEscrowId)
+                .filter(entity -> Objects.equals(entity.getLoanServicingCaseId(), loanServicingCaseId))
+                .flatMapMany(entity -> analysisRepository.findByLoanEscrowIdOrderByAnalysisDateDesc(loanEscrowId))
+                .map(analysisMapper::toDTO);
+    }
+}
@@ -21,15 +21,25 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.servicing.core.mappers.LoanInstallmentPlanMapper;
+import com.firefly.core.lending.servicing.core.pagination.KeysetPaginator;
 import com.firefly.core.lending.servicing.core.services.LoanInstallmentPlanService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanInstallmentPlanDTO;
 import com.firefly.core.lending.servicing.models.entities.LoanInstallmentPlan;
 import com.firefly.core.lending.servicing.models.repositories.LoanInstallmentPlanRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanServicingCaseRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -42,6 +52,12 @@ public class LoanInstallmentPlanServiceImpl implements LoanInstallmentPlanServic
     @Autowired
     private LoanInstallmentPlanMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private LoanServicingCaseRepository loanServicingCaseRepository;
+
     @Override
     public Mono<PaginationResponse<LoanInstallmentPlanDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanInstallmentPlanDTO> filterRequest) {
         filterRequest.getFilters().setLoanServicingCaseId(loanServicingCaseId);
@@ -51,6 +67,17 @@ public class LoanInstallmentPlanServiceImpl implements LoanInstallmentPlanServic
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<CursorPageDTO<LoanInstallmentPlanDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size) {
+        return keysetPaginator.page(
+                LoanInstallmentPlan.class,
+                Criteria.where("loanServicingCaseId").is(loanServicingCaseId),
+                cursor,
+                size,
+                mapper::toDTO
+        );
+    }
+
     @Override
     public Mono<LoanInstallmentPlanDTO> create(UUID loanServicingCaseId, LoanInstallmentPlanDTO dto) {
         dto.setLoanServicingCaseId(loanServicingCaseId);
@@ -60,6 +87,35 @@ public class LoanInstallmentPlanServiceImpl implements LoanInstallmentPlanServic
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<List<LoanInstallmentPlanDTO>> createAll(UUID loanServicingCaseId, List<LoanInstallmentPlanDTO> dtos) {
+        LocalDateTime now = LocalDateTime.now();
+        List<LoanInstallmentPlan> installmentPlans = new ArrayList<>(dtos.size());
+        for (LoanInstallmentPlanDTO dto : dtos) {
+            LoanInstallmentPlan entity = mapper.toEntity(dto);
+            entity.setLoanInstallmentPlanId(UUID.randomUUID());
+            entity.setLoanServicingCaseId(loanServicingCaseId);
+            if (entity.getFeeDue() == null) {
+                entity.setFeeDue(BigDecimal.ZERO);
+            }
+            if (entity.getIsPaid() == null) {
+                entity.setIsPaid(false);
+            }
+            if (entity.getIsAutomaticPayment() == null) {
+                entity.setIsAutomaticPayment(false);
+            }
+            entity.setCreatedAt(now);
+            entity.setUpdatedAt(now);
+            installmentPlans.add(entity);
+        }
+        return loanServicingCaseRepository.existsById(loanServicingCaseId)
+                .flatMap(exists -> exists
+                        ? repository.insertAll(installmentPlans).thenReturn(installmentPlans)
+                        : Mono.<List<LoanInstallmentPlan>>error(new ResponseStatusException(HttpStatus.NOT_FOUND,
+                                "Loan servicing case not found: " + loanServicingCaseId)))
+                .map(entities -> entities.stream().map(mapper::toDTO).toList());
+    }
+
     @Override
     public Mono<LoanInstallmentPlanDTO> getById(UUID loanServicingCaseId, UUID loanInstallmentPlanId) {
         return repository.findById(loanInstallmentPlanId)
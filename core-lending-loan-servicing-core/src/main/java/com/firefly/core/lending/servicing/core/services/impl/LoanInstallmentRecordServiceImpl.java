@@ -20,14 +20,21 @@ package com.firefly.core.lending.servicing.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.core.idempotency.IdempotencyStore;
 import com.firefly.core.lending.servicing.core.mappers.LoanInstallmentRecordMapper;
+import com.firefly.core.lending.servicing.core.outbox.OutboxWriter;
+import com.firefly.core.lending.servicing.core.pagination.KeysetPaginator;
 import com.firefly.core.lending.servicing.core.services.LoanInstallmentRecordService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanInstallmentRecordDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.OutboxEventTypeEnum;
 import com.firefly.core.lending.servicing.models.entities.LoanInstallmentRecord;
 import com.firefly.core.lending.servicing.models.repositories.LoanInstallmentRecordRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -36,12 +43,23 @@ import java.util.UUID;
 @Transactional
 public class LoanInstallmentRecordServiceImpl implements LoanInstallmentRecordService {
 
+    private static final String IDEMPOTENCY_SCOPE = "installment-records";
+
     @Autowired
     private LoanInstallmentRecordRepository repository;
 
     @Autowired
     private LoanInstallmentRecordMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
     @Override
     public Mono<PaginationResponse<LoanInstallmentRecordDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanInstallmentRecordDTO> filterRequest) {
         filterRequest.getFilters().setLoanServicingCaseId(loanServicingCaseId);
@@ -51,12 +69,40 @@ public class LoanInstallmentRecordServiceImpl implements LoanInstallmentRecordSe
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<CursorPageDTO<LoanInstallmentRecordDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size) {
+        return keysetPaginator.page(
+                LoanInstallmentRecord.class,
+                Criteria.where("loanServicingCaseId").is(loanServicingCaseId),
+                cursor,
+                size,
+                mapper::toDTO
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<LoanInstallmentRecordDTO> exportAll(UUID loanServicingCaseId) {
+        return repository.findByLoanServicingCaseIdOrderByPaymentDateAscCreatedAtAsc(loanServicingCaseId)
+                .map(mapper::toDTO);
+    }
+
     @Override
     public Mono<LoanInstallmentRecordDTO> create(UUID loanServicingCaseId, LoanInstallmentRecordDTO dto) {
         dto.setLoanServicingCaseId(loanServicingCaseId);
         LoanInstallmentRecord entity = mapper.toEntity(dto);
         return repository.save(entity)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(created -> outboxWriter.append(OutboxEventTypeEnum.INSTALLMENT_RECORD_CREATED,
+                        loanServicingCaseId, created.getLoanInstallmentRecordId(), created));
+    }
+
+    @Override
+    public Mono<LoanInstallmentRecordDTO> create(UUID loanServicingCaseId, LoanInstallmentRecordDTO dto,
+                                                 String idempotencyKey) {
+        dto.setLoanServicingCaseId(loanServicingCaseId);
+        return idempotencyStore.execute(IDEMPOTENCY_SCOPE, idempotencyKey, dto, LoanInstallmentRecordDTO.class,
+                () -> create(loanServicingCaseId, dto));
     }
 
     @Override
@@ -76,14 +122,19 @@ public class LoanInstallmentRecordServiceImpl implements LoanInstallmentRecordSe
                     updatedEntity.setLoanServicingCaseId(loanServicingCaseId);
                     return repository.save(updatedEntity);
                 })
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(updated -> outboxWriter.append(OutboxEventTypeEnum.INSTALLMENT_RECORD_UPDATED,
+                        loanServicingCaseId, loanInstallmentRecordId, updated));
     }
 
     @Override
     public Mono<Void> delete(UUID loanServicingCaseId, UUID loanInstallmentRecordId) {
         return repository.findById(loanInstallmentRecordId)
                 .filter(record -> record.getLoanServicingCaseId().equals(loanServicingCaseId))
-                .flatMap(repository::delete);
+                .flatMap(record -> repository.delete(record)
+                        .then(outboxWriter.append(OutboxEventTypeEnum.INSTALLMENT_RECORD_DELETED,
+                                loanServicingCaseId, loanInstallmentRecordId, mapper.toDTO(record))))
+                .then();
     }
 }
 
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services.impl;
+
+import com.firefly.core.lending.servicing.core.calculators.BalanceReplay;
+import com.firefly.core.lending.servicing.core.config.LoanLedgerProperties;
+import com.firefly.core.lending.servicing.core.config.PaymentAllocationProperties;
+import com.firefly.core.lending.servicing.core.services.LoanLedgerService;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanLedgerEntryDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.LedgerEntryTypeEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanRateChange;
+import com.firefly.core.lending.servicing.models.projections.BalanceLedgerEntry;
+import com.firefly.core.lending.servicing.models.repositories.LoanBalanceRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanRateChangeRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Streams the ledger of a case in chronological order with its running balance.
+ *
+ * <p>The movements come from the same single query as the balance rebuild, already in replay order, and are
+ * applied to a {@link BalanceReplay} as they pass, so the ledger and the rebuild always agree and a case with
+ * tens of thousands of entries is never held in memory. Rate changes do not move the balance; the few of a case
+ * are read first and merged in ahead of the accruals of their date.</p>
+ *
+ * <p>Each stream holds one pooled connection until it completes. The number of streams served at once is capped
+ * by {@code loan-servicing.ledger.max-concurrent-streams} so ledger reads cannot drain the pool; a request over
+ * the cap is rejected with 429 instead of queueing for connections.</p>
+ */
+@Service
+public class LoanLedgerServiceImpl implements LoanLedgerService {
+
+    /**
+     * Orders rate changes against the movements of the same date; movements keep the query's order among
+     * themselves.
+     */
+    private static final Comparator<Movement> LEDGER_ORDER = Comparator
+            .comparing(Movement::entryDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparingInt(Movement::sameDateRank);
+
+    @Autowired
+    private LoanBalanceRepository balanceRepository;
+
+    @Autowired
+    private LoanRateChangeRepository rateChangeRepository;
+
+    @Autowired
+    private PaymentAllocationProperties paymentAllocationProperties;
+
+    @Autowired
+    private LoanLedgerProperties properties;
+
+    private Semaphore streams;
+
+    @PostConstruct
+    void init() {
+        streams = new Semaphore(Math.max(1, properties.getMaxConcurrentStreams()));
+    }
+
+    @Override
+    public Flux<LoanLedgerEntryDTO> streamLedger(UUID loanServicingCaseId) {
+        return Flux.defer(() -> {
+            if (!streams.tryAcquire()) {
+                return Flux.error(new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                        "Too many ledger streams in progress, retry later"));
+            }
+            BalanceReplay balance = new BalanceReplay(paymentAllocationProperties.getWaterfall());
+            // The merge prefetches from both sources, so the balance is only applied once an entry leaves it
+            return rateChangeRepository.findByLoanServicingCaseIdOrderByEffectiveDateAscCreatedAtAsc(loanServicingCaseId)
+                    .map(rateChange -> new Movement(null, rateChange))
+                    .collectList()
+                    .flatMapMany(rateChanges -> Flux.mergeComparing(LEDGER_ORDER,
+                            balanceRepository.streamCaseLedger(loanServicingCaseId)
+                                    .filter(entry -> entry.entryType() != BalanceLedgerEntry.EntryType.SNAPSHOT)
+                                    .map(entry -> new Movement(entry, null)),
+                            Flux.fromIterable(rateChanges)))
+                    .<LoanLedgerEntryDTO>handle((movement, sink) -> {
+                        BalanceLedgerEntry entry = movement.ledgerEntry();
+                        if (entry == null) {
+                            sink.next(withRunningBalance(toEntry(movement.rateChange()), balance));
+                            return;
+                        }
+                        balance.apply(entry);
+                        if (entry.entryType() != BalanceLedgerEntry.EntryType.CASE) {
+                            sink.next(withRunningBalance(toEntry(entry), balance));
+                        }
+                    })
+                    .doFinally(signal -> streams.release());
+        });
+    }
+
+    private static LoanLedgerEntryDTO withRunningBalance(LoanLedgerEntryDTO entry, BalanceReplay balance) {
+        entry.setPrincipalOutstanding(balance.principalOutstanding());
+        entry.setInterestOutstanding(balance.interestOutstanding());
+        entry.setFeesOutstanding(balance.feesOutstanding());
+        entry.setTotalOutstanding(balance.principalOutstanding()
+                .add(balance.interestOutstanding())
+                .add(balance.feesOutstanding()));
+        return entry;
+    }
+
+    private static LoanLedgerEntryDTO toEntry(BalanceLedgerEntry entry) {
+        LedgerEntryTypeEnum entryType = switch (entry.entryType()) {
+            case DISBURSEMENT -> LedgerEntryTypeEnum.DISBURSEMENT;
+            case ACCRUAL -> LedgerEntryTypeEnum.ACCRUAL;
+            case PAYMENT -> LedgerEntryTypeEnum.PAYMENT;
+            case REBATE -> LedgerEntryTypeEnum.REBATE;
+            case CASE, SNAPSHOT -> throw new IllegalArgumentException("Not a ledger movement: " + entry.entryType());
+        };
+        return entry(entry.loanServicingCaseId(), entryType, entry.entryId(), entry.entryDate(), entry.amount(),
+                entry.detail());
+    }
+
+    private static LoanLedgerEntryDTO toEntry(LoanRateChange rateChange) {
+        return entry(rateChange.getLoanServicingCaseId(), LedgerEntryTypeEnum.RATE_CHANGE,
+                rateChange.getLoanRateChangeId(), rateChange.getEffectiveDate(),
+                rateChange.getNewInterestRate(), Objects.toString(rateChange.getReasonCode(), null));
+    }
+
+    private static LoanLedgerEntryDTO entry(UUID loanServicingCaseId, LedgerEntryTypeEnum entryType, UUID entryId,
+                                            LocalDate entryDate, BigDecimal amount, String detail) {
+        return LoanLedgerEntryDTO.builder()
+                .loanServicingCaseId(loanServicingCaseId)
+                .entryType(entryType)
+                .entryId(entryId)
+                .entryDate(entryDate)
+                .amount(amount)
+                .detail(detail)
+                .build();
+    }
+
+    /**
+     * An entry on its way through the merge: a movement of the case ledger, or a rate change.
+     */
+    private record Movement(BalanceLedgerEntry ledgerEntry, LoanRateChange rateChange) {
+
+        private LocalDate entryDate() {
+            return ledgerEntry != null ? ledgerEntry.entryDate() : rateChange.getEffectiveDate();
+        }
+
+        /**
+         * Puts rate changes after the disbursements and before the accruals of their date.
+         */
+        private int sameDateRank() {
+            if (ledgerEntry == null) {
+                return 1;
+            }
+            return switch (ledgerEntry.entryType()) {
+                case CASE, DISBURSEMENT -> 0;
+                case ACCRUAL, PAYMENT, REBATE, SNAPSHOT -> 2;
+            };
+        }
+    }
+}
@@ -21,11 +21,14 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.servicing.core.mappers.LoanNotificationMapper;
+import com.firefly.core.lending.servicing.core.pagination.KeysetPaginator;
 import com.firefly.core.lending.servicing.core.services.LoanNotificationService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanNotificationDTO;
 import com.firefly.core.lending.servicing.models.entities.LoanNotification;
 import com.firefly.core.lending.servicing.models.repositories.LoanNotificationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -44,6 +47,9 @@ public class LoanNotificationServiceImpl implements LoanNotificationService {
     @Autowired
     private LoanNotificationMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
     @Override
     public Mono<PaginationResponse<LoanNotificationDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanNotificationDTO> filterRequest) {
         filterRequest.getFilters().setLoanServicingCaseId(loanServicingCaseId);
@@ -53,6 +59,17 @@ public class LoanNotificationServiceImpl implements LoanNotificationService {
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<CursorPageDTO<LoanNotificationDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size) {
+        return keysetPaginator.page(
+                LoanNotification.class,
+                Criteria.where("loanServicingCaseId").is(loanServicingCaseId),
+                cursor,
+                size,
+                mapper::toDTO
+        );
+    }
+
     @Override
     public Mono<LoanNotificationDTO> create(UUID loanServicingCaseId, LoanNotificationDTO dto) {
         return Mono.just(dto)
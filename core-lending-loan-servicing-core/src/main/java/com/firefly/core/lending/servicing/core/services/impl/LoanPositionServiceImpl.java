@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services.impl;
+
+import com.firefly.core.lending.servicing.core.cache.LoanCurrentBalanceCache;
+import com.firefly.core.lending.servicing.core.cache.LoanServicingCaseCache;
+import com.firefly.core.lending.servicing.core.mappers.LoanBalanceMapper;
+import com.firefly.core.lending.servicing.core.mappers.LoanDisbursementPlanMapper;
+import com.firefly.core.lending.servicing.core.mappers.LoanEscrowMapper;
+import com.firefly.core.lending.servicing.core.mappers.LoanInstallmentPlanMapper;
+import com.firefly.core.lending.servicing.core.mappers.LoanRateChangeMapper;
+import com.firefly.core.lending.servicing.core.mappers.LoanRebateMapper;
+import com.firefly.core.lending.servicing.core.mappers.LoanServicingCaseMapper;
+import com.firefly.core.lending.servicing.core.mappers.LoanServicingEventMapper;
+import com.firefly.core.lending.servicing.core.services.LoanPositionService;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanBalanceDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanInstallmentPlanDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanPositionDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanRateChangeDTO;
+import com.firefly.core.lending.servicing.models.repositories.LoanDisbursementPlanRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanEscrowRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanInstallmentPlanRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanRateChangeRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanRebateRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanServicingEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Not {@code @Transactional} on purpose: inside a transaction every query shares the transaction's single
+ * connection and runs one after another. Without it, each part borrows its own pooled connection and the
+ * eight queries run in parallel.
+ */
+@Service
+public class LoanPositionServiceImpl implements LoanPositionService {
+
+    @Autowired
+    private LoanServicingCaseCache servicingCaseCache;
+
+    @Autowired
+    private LoanCurrentBalanceCache currentBalanceCache;
+
+    @Autowired
+    private LoanInstallmentPlanRepository installmentPlanRepository;
+
+    @Autowired
+    private LoanEscrowRepository escrowRepository;
+
+    @Autowired
+    private LoanDisbursementPlanRepository disbursementPlanRepository;
+
+    @Autowired
+    private LoanRebateRepository rebateRepository;
+
+    @Autowired
+    private LoanRateChangeRepository rateChangeRepository;
+
+    @Autowired
+    private LoanServicingEventRepository servicingEventRepository;
+
+    @Autowired
+    private LoanServicingCaseMapper servicingCaseMapper;
+
+    @Autowired
+    private LoanBalanceMapper balanceMapper;
+
+    @Autowired
+    private LoanInstallmentPlanMapper installmentPlanMapper;
+
+    @Autowired
+    private LoanEscrowMapper escrowMapper;
+
+    @Autowired
+    private LoanDisbursementPlanMapper disbursementPlanMapper;
+
+    @Autowired
+    private LoanRebateMapper rebateMapper;
+
+    @Autowired
+    private LoanRateChangeMapper rateChangeMapper;
+
+    @Autowired
+    private LoanServicingEventMapper servicingEventMapper;
+
+    @Override
+    public Mono<LoanPositionDTO> getPosition(UUID loanServicingCaseId) {
+        // Mono.zip completes empty as soon as one source is empty, so optional parts are wrapped
+        Mono<Optional<LoanBalanceDTO>> currentBalance = optional(currentBalanceCache.get(loanServicingCaseId)
+                .map(balanceMapper::toCurrentDTO));
+        Mono<Optional<LoanInstallmentPlanDTO>> nextUnpaidInstallment = optional(installmentPlanRepository
+                .findFirstByLoanServicingCaseIdAndIsPaidFalseOrderByDueDateAsc(loanServicingCaseId)
+                .map(installmentPlanMapper::toDTO));
+        Mono<Optional<LoanRateChangeDTO>> latestRateChange = optional(rateChangeRepository
+                .findFirstByLoanServicingCaseIdOrderByEffectiveDateDescCreatedAtDesc(loanServicingCaseId)
+                .map(rateChangeMapper::toDTO));
+
+        return Mono.zip(
+                        servicingCaseCache.get(loanServicingCaseId).map(servicingCaseMapper::toDTO),
+                        currentBalance,
+                        nextUnpaidInstallment,
+                        escrowRepository.findByLoanServicingCaseIdAndIsActiveTrue(loanServicingCaseId)
+                                .map(escrowMapper::toDTO)
+                                .collectList(),
+                        disbursementPlanRepository
+                                .findByLoanServicingCaseIdAndIsCompletedFalseOrderByPlannedDisbursementDateAsc(loanServicingCaseId)
+                                .map(disbursementPlanMapper::toDTO)
+                                .collectList(),
+                        rebateRepository.findByLoanServicingCaseIdAndIsProcessedFalse(loanServicingCaseId)
+                                .map(rebateMapper::toDTO)
+                                .collectList(),
+                        latestRateChange,
+                        servicingEventRepository.findTop10ByLoanServicingCaseIdOrderByEventDateDescCreatedAtDesc(loanServicingCaseId)
+                                .map(servicingEventMapper::toDTO)
+                                .collectList())
+                .map(parts -> LoanPositionDTO.builder()
+                        .servicingCase(parts.getT1())
+                        .currentBalance(parts.getT2().orElse(null))
+                        .nextUnpaidInstallment(parts.getT3().orElse(null))
+                        .activeEscrows(parts.getT4())
+                        .pendingDisbursementPlans(parts.getT5())
+                        .unprocessedRebates(parts.getT6())
+                        .latestRateChange(parts.getT7().orElse(null))
+                        .recentEvents(parts.getT8())
+                        .build());
+    }
+
+    private static <T> Mono<Optional<T>> optional(Mono<T> source) {
+        return source.map(Optional::of).defaultIfEmpty(Optional.empty());
+    }
+}
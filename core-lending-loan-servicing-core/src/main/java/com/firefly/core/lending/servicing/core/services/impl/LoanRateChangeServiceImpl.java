@@ -20,16 +20,25 @@ package com.firefly.core.lending.servicing.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.core.batch.RateChangeRepricingProperties;
 import com.firefly.core.lending.servicing.core.mappers.LoanRateChangeMapper;
+import com.firefly.core.lending.servicing.core.pagination.KeysetPaginator;
 import com.firefly.core.lending.servicing.core.services.LoanRateChangeService;
+import com.firefly.core.lending.servicing.core.services.RateChangeReamortizationService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanRateChangeDTO;
 import com.firefly.core.lending.servicing.models.entities.LoanRateChange;
 import com.firefly.core.lending.servicing.models.repositories.LoanRateChangeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.UUID;
 
 @Service
@@ -42,6 +51,15 @@ public class LoanRateChangeServiceImpl implements LoanRateChangeService {
     @Autowired
     private LoanRateChangeMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private RateChangeReamortizationService reamortizationService;
+
+    @Autowired
+    private RateChangeRepricingProperties repricingProperties;
+
     @Override
     public Mono<PaginationResponse<LoanRateChangeDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanRateChangeDTO> filterRequest) {
         filterRequest.getFilters().setLoanServicingCaseId(loanServicingCaseId);
@@ -51,11 +69,26 @@ public class LoanRateChangeServiceImpl implements LoanRateChangeService {
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<CursorPageDTO<LoanRateChangeDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size) {
+        return keysetPaginator.page(
+                LoanRateChange.class,
+                Criteria.where("loanServicingCaseId").is(loanServicingCaseId),
+                cursor,
+                size,
+                mapper::toDTO
+        );
+    }
+
     @Override
     public Mono<LoanRateChangeDTO> create(UUID loanServicingCaseId, LoanRateChangeDTO dto) {
         dto.setLoanServicingCaseId(loanServicingCaseId);
         LoanRateChange entity = mapper.toEntity(dto);
+        // The change is applied in the same transaction, together with any earlier change still pending
         return repository.save(entity)
+                .flatMap(savedEntity -> reamortizationService
+                        .reamortize(loanServicingCaseId, LocalDate.now(ZoneId.of(repricingProperties.getZone())))
+                        .then(repository.findById(savedEntity.getLoanRateChangeId())))
                 .map(savedEntity -> mapper.toDTO(savedEntity));
     }
 
@@ -71,6 +104,11 @@ public class LoanRateChangeServiceImpl implements LoanRateChangeService {
         return repository.findById(loanRateChangeId)
                 .filter(entity -> entity.getLoanServicingCaseId().equals(loanServicingCaseId))
                 .flatMap(existingEntity -> {
+                    // The schedule was re-amortized at the applied rate; editing the record would not change it
+                    if (existingEntity.getAppliedAt() != null) {
+                        return Mono.error(new ResponseStatusException(HttpStatus.CONFLICT,
+                                "Rate change has already been applied: " + loanRateChangeId));
+                    }
                     LoanRateChange updatedEntity = mapper.toEntity(dto);
                     updatedEntity.setLoanRateChangeId(loanRateChangeId);
                     updatedEntity.setLoanServicingCaseId(loanServicingCaseId);
@@ -21,11 +21,14 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.servicing.core.mappers.LoanRepaymentRecordMapper;
+import com.firefly.core.lending.servicing.core.pagination.KeysetPaginator;
 import com.firefly.core.lending.servicing.core.services.LoanRepaymentRecordService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanRepaymentRecordDTO;
 import com.firefly.core.lending.servicing.models.entities.LoanRepaymentRecord;
 import com.firefly.core.lending.servicing.models.repositories.LoanRepaymentRecordRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -42,6 +45,9 @@ public class LoanRepaymentRecordServiceImpl implements LoanRepaymentRecordServic
     @Autowired
     private LoanRepaymentRecordMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
     @Override
     public Mono<PaginationResponse<LoanRepaymentRecordDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanRepaymentRecordDTO> filterRequest) {
         filterRequest.getFilters().setLoanServicingCaseId(loanServicingCaseId);
@@ -51,6 +57,17 @@ public class LoanRepaymentRecordServiceImpl implements LoanRepaymentRecordServic
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<CursorPageDTO<LoanRepaymentRecordDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size) {
+        return keysetPaginator.page(
+                LoanRepaymentRecord.class,
+                Criteria.where("loanServicingCaseId").is(loanServicingCaseId),
+                cursor,
+                size,
+                mapper::toDTO
+        );
+    }
+
     @Override
     public Mono<LoanRepaymentRecordDTO> create(UUID loanServicingCaseId, LoanRepaymentRecordDTO dto) {
         dto.setLoanServicingCaseId(loanServicingCaseId);
@@ -20,16 +20,30 @@ package com.firefly.core.lending.servicing.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.core.calculators.AmortizationScheduleCalculator;
+import com.firefly.core.lending.servicing.core.calculators.ScheduleTerms;
+import com.firefly.core.lending.servicing.core.calculators.ScheduledInstallment;
 import com.firefly.core.lending.servicing.core.mappers.LoanRepaymentScheduleMapper;
+import com.firefly.core.lending.servicing.core.pagination.KeysetPaginator;
 import com.firefly.core.lending.servicing.core.services.LoanRepaymentScheduleService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanRepaymentScheduleDTO;
 import com.firefly.core.lending.servicing.models.entities.LoanRepaymentSchedule;
+import com.firefly.core.lending.servicing.models.entities.LoanServicingCase;
 import com.firefly.core.lending.servicing.models.repositories.LoanRepaymentScheduleRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanServicingCaseRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -42,6 +56,15 @@ public class LoanRepaymentScheduleServiceImpl implements LoanRepaymentScheduleSe
     @Autowired
     private LoanRepaymentScheduleMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private LoanServicingCaseRepository loanServicingCaseRepository;
+
+    @Autowired
+    private AmortizationScheduleCalculator scheduleCalculator;
+
     @Override
     public Mono<PaginationResponse<LoanRepaymentScheduleDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanRepaymentScheduleDTO> filterRequest) {
         filterRequest.getFilters().setLoanServicingCaseId(loanServicingCaseId);
@@ -51,6 +74,17 @@ public class LoanRepaymentScheduleServiceImpl implements LoanRepaymentScheduleSe
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<CursorPageDTO<LoanRepaymentScheduleDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size) {
+        return keysetPaginator.page(
+                LoanRepaymentSchedule.class,
+                Criteria.where("loanServicingCaseId").is(loanServicingCaseId),
+                cursor,
+                size,
+                mapper::toDTO
+        );
+    }
+
     @Override
     public Mono<LoanRepaymentScheduleDTO> create(UUID loanServicingCaseId, LoanRepaymentScheduleDTO dto) {
         dto.setLoanServicingCaseId(loanServicingCaseId);
@@ -60,6 +94,68 @@ public class LoanRepaymentScheduleServiceImpl implements LoanRepaymentScheduleSe
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<List<LoanRepaymentScheduleDTO>> createAll(UUID loanServicingCaseId, List<LoanRepaymentScheduleDTO> dtos) {
+        LocalDateTime now = LocalDateTime.now();
+        List<LoanRepaymentSchedule> schedules = new ArrayList<>(dtos.size());
+        for (LoanRepaymentScheduleDTO dto : dtos) {
+            LoanRepaymentSchedule entity = mapper.toEntity(dto);
+            entity.setLoanRepaymentScheduleId(UUID.randomUUID());
+            entity.setLoanServicingCaseId(loanServicingCaseId);
+            if (entity.getFeeDue() == null) {
+                entity.setFeeDue(BigDecimal.ZERO);
+            }
+            if (entity.getIsPaid() == null) {
+                entity.setIsPaid(false);
+            }
+            entity.setCreatedAt(now);
+            entity.setUpdatedAt(now);
+            schedules.add(entity);
+        }
+        return loanServicingCaseRepository.existsById(loanServicingCaseId)
+                .flatMap(exists -> exists
+                        ? repository.insertAll(schedules).thenReturn(schedules)
+                        : Mono.<List<LoanRepaymentSchedule>>error(new ResponseStatusException(HttpStatus.NOT_FOUND,
+                                "Loan servicing case not found: " + loanServicingCaseId)))
+                .map(entities -> entities.stream().map(mapper::toDTO).toList());
+    }
+
+    @Override
+    public Mono<List<LoanRepaymentScheduleDTO>> generate(UUID loanServicingCaseId) {
+        // Locking the case serializes concurrent generations, so the second one sees the first one's rows
+        return loanServicingCaseRepository.findForUpdateByLoanServicingCaseId(loanServicingCaseId)
+                .flatMap(servicingCase -> repository.existsByLoanServicingCaseId(loanServicingCaseId)
+                        .flatMap(exists -> exists
+                                ? Mono.<LoanServicingCase>error(new ResponseStatusException(HttpStatus.CONFLICT,
+                                        "Repayment schedule already exists for loan servicing case: " + loanServicingCaseId))
+                                : Mono.just(servicingCase)))
+                .map(servicingCase -> toEntities(loanServicingCaseId,
+                        scheduleCalculator.calculate(ScheduleTerms.of(servicingCase))))
+                .flatMap(entities -> repository.insertAll(entities).thenReturn(entities))
+                .map(entities -> entities.stream().map(mapper::toDTO).toList());
+    }
+
+    private List<LoanRepaymentSchedule> toEntities(UUID loanServicingCaseId, List<ScheduledInstallment> installments) {
+        LocalDateTime now = LocalDateTime.now();
+        List<LoanRepaymentSchedule> entities = new ArrayList<>(installments.size());
+        for (ScheduledInstallment installment : installments) {
+            entities.add(LoanRepaymentSchedule.builder()
+                    .loanRepaymentScheduleId(UUID.randomUUID())
+                    .loanServicingCaseId(loanServicingCaseId)
+                    .installmentNumber(installment.installmentNumber())
+                    .dueDate(installment.dueDate())
+                    .principalDue(installment.principalDue())
+                    .interestDue(installment.interestDue())
+                    .feeDue(installment.feeDue())
+                    .totalDue(installment.totalDue())
+                    .isPaid(false)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return entities;
+    }
+
     @Override
     public Mono<LoanRepaymentScheduleDTO> getById(UUID loanServicingCaseId, UUID loanRepaymentScheduleId) {
         return repository.findById(loanRepaymentScheduleId)
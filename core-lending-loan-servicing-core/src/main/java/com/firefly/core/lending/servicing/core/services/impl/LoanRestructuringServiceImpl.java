@@ -20,17 +20,42 @@ package com.firefly.core.lending.servicing.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.core.cache.LoanServicingCaseCache;
+import com.firefly.core.lending.servicing.core.calculators.AmortizationScheduleCalculator;
+import com.firefly.core.lending.servicing.core.calculators.ScheduleTerms;
+import com.firefly.core.lending.servicing.core.calculators.ScheduledInstallment;
 import com.firefly.core.lending.servicing.core.mappers.LoanRestructuringMapper;
+import com.firefly.core.lending.servicing.core.pagination.KeysetPaginator;
 import com.firefly.core.lending.servicing.core.services.LoanRestructuringService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanRestructuringDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.RestructuringSimulationDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.ScheduledInstallmentDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.EventTypeEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanInstallmentPlan;
+import com.firefly.core.lending.servicing.models.entities.LoanRepaymentSchedule;
 import com.firefly.core.lending.servicing.models.entities.LoanRestructuring;
+import com.firefly.core.lending.servicing.models.entities.LoanServicingCase;
+import com.firefly.core.lending.servicing.models.entities.LoanServicingEvent;
+import com.firefly.core.lending.servicing.models.repositories.LoanInstallmentPlanRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanRepaymentScheduleRepository;
 import com.firefly.core.lending.servicing.models.repositories.LoanRestructuringRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanServicingCaseRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanServicingEventRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -44,6 +69,27 @@ public class LoanRestructuringServiceImpl implements LoanRestructuringService {
     @Autowired
     private LoanRestructuringMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private LoanServicingCaseRepository loanServicingCaseRepository;
+
+    @Autowired
+    private LoanServicingCaseCache caseCache;
+
+    @Autowired
+    private LoanInstallmentPlanRepository loanInstallmentPlanRepository;
+
+    @Autowired
+    private LoanRepaymentScheduleRepository loanRepaymentScheduleRepository;
+
+    @Autowired
+    private LoanServicingEventRepository loanServicingEventRepository;
+
+    @Autowired
+    private AmortizationScheduleCalculator scheduleCalculator;
+
     @Override
     public Mono<PaginationResponse<LoanRestructuringDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanRestructuringDTO> filterRequest) {
         filterRequest.getFilters().setLoanServicingCaseId(loanServicingCaseId);
@@ -53,6 +99,17 @@ public class LoanRestructuringServiceImpl implements LoanRestructuringService {
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<CursorPageDTO<LoanRestructuringDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size) {
+        return keysetPaginator.page(
+                LoanRestructuring.class,
+                Criteria.where("loanServicingCaseId").is(loanServicingCaseId),
+                cursor,
+                size,
+                mapper::toDTO
+        );
+    }
+
     @Override
     public Mono<LoanRestructuringDTO> create(UUID loanServicingCaseId, LoanRestructuringDTO dto) {
         return Mono.just(dto)
@@ -118,5 +175,171 @@ public class LoanRestructuringServiceImpl implements LoanRestructuringService {
                 .filter(entity -> Objects.equals(entity.getLoanServicingCaseId(), loanServicingCaseId))
                 .flatMap(repository::delete);
     }
-}
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // a simulation never needs a connection
+    public Mono<RestructuringSimulationDTO> simulate(UUID loanServicingCaseId, LoanRestructuringDTO dto,
+                                                     boolean includeInstallments) {
+        return Mono.fromCallable(() -> {
+            LoanRestructuring proposal = mapper.toEntity(dto);
+            if (proposal.getRestructuringDate() == null) {
+                proposal.setRestructuringDate(LocalDate.now());
+            }
+            return simulation(proposal.getRestructuringDate(),
+                    scheduleCalculator.calculate(ScheduleTerms.of(proposal, 1)), includeInstallments);
+        });
+    }
+
+    @Override
+    public Mono<LoanRestructuringDTO> commit(UUID loanServicingCaseId, UUID loanRestructuringId) {
+        return loanServicingCaseRepository.findForUpdateByLoanServicingCaseId(loanServicingCaseId)
+                .flatMap(servicingCase -> repository.findById(loanRestructuringId)
+                        .filter(entity -> Objects.equals(entity.getLoanServicingCaseId(), loanServicingCaseId))
+                        .flatMap(restructuring -> restructuring.getCommittedAt() != null
+                                ? Mono.<LoanRestructuring>error(new ResponseStatusException(HttpStatus.CONFLICT,
+                                        "Restructuring already committed: " + loanRestructuringId))
+                                : commit(servicingCase, restructuring)))
+                .map(mapper::toDTO);
+    }
+
+    private Mono<LoanRestructuring> commit(LoanServicingCase servicingCase, LoanRestructuring restructuring) {
+        UUID caseId = servicingCase.getLoanServicingCaseId();
+        LocalDate restructuringDate = restructuring.getRestructuringDate();
+        LocalDateTime now = LocalDateTime.now();
+        // Locking the installment plan keeps payments from being posted to rows that are about to be replaced
+        return loanInstallmentPlanRepository.findForUpdateByLoanServicingCaseIdOrderByDueDateAscInstallmentNumberAsc(caseId)
+                .collectList()
+                .flatMap(plans -> loanInstallmentPlanRepository.supersedeUnpaid(caseId, restructuringDate, now)
+                        .flatMap(lastPlanNumber -> loanRepaymentScheduleRepository
+                                .supersedeUnpaid(caseId, restructuringDate, now)
+                                .map(lastScheduleNumber -> Math.max(lastPlanNumber, lastScheduleNumber)))
+                        .flatMap(lastInstallmentNumber -> {
+                            List<ScheduledInstallment> installments = scheduleCalculator.calculate(
+                                    ScheduleTerms.of(restructuring, lastInstallmentNumber + 1));
+                            LocalDate maturityDate = installments.get(installments.size() - 1).dueDate();
+                            LoanInstallmentPlan paymentTemplate = plans.isEmpty() ? null : plans.get(plans.size() - 1);
+
+                            servicingCase.setPrincipalAmount(restructuring.getNewPrincipalAmount());
+                            servicingCase.setInterestRate(restructuring.getNewInterestRate());
+                            servicingCase.setLoanTerm(restructuring.getNewLoanTerm());
+                            servicingCase.setInterestCalculationMethod(restructuring.getNewInterestCalculationMethod());
+                            servicingCase.setAmortizationMethod(restructuring.getNewAmortizationMethod());
+                            servicingCase.setPaymentFrequency(restructuring.getNewPaymentFrequency());
+                            servicingCase.setCompoundingFrequency(restructuring.getNewCompoundingFrequency());
+                            servicingCase.setDayCountConvention(restructuring.getNewDayCountConvention());
+                            servicingCase.setMaturityDate(maturityDate);
+                            servicingCase.setUpdatedAt(now);
+
+                            restructuring.setNewMaturityDate(maturityDate);
+                            restructuring.setCommittedAt(now);
+                            restructuring.setUpdatedAt(now);
+
+                            return loanInstallmentPlanRepository.insertAll(
+                                            toInstallmentPlans(caseId, installments, paymentTemplate, now))
+                                    .then(loanRepaymentScheduleRepository.insertAll(
+                                            toRepaymentSchedules(caseId, installments, now)))
+                                    .then(loanServicingCaseRepository.save(servicingCase))
+                                    .then(caseCache.evictAfterCompletion(caseId))
+                                    .then(loanServicingEventRepository.save(LoanServicingEvent.builder()
+                                            .loanServicingCaseId(caseId)
+                                            .eventType(EventTypeEnum.RESTRUCTURE)
+                                            .eventDate(restructuringDate)
+                                            .description("Restructured to " + installments.size()
+                                                    + " installments at " + restructuring.getNewInterestRate()
+                                                    + "% maturing on " + maturityDate)
+                                            .createdAt(now)
+                                            .updatedAt(now)
+                                            .build()))
+                                    .then(repository.save(restructuring));
+                        }));
+    }
+
+    private static RestructuringSimulationDTO simulation(LocalDate restructuringDate,
+                                                         List<ScheduledInstallment> schedule,
+                                                         boolean includeInstallments) {
+        BigDecimal totalPrincipal = BigDecimal.ZERO;
+        BigDecimal totalInterest = BigDecimal.ZERO;
+        BigDecimal totalDue = BigDecimal.ZERO;
+        List<ScheduledInstallmentDTO> installments = includeInstallments ? new ArrayList<>(schedule.size()) : null;
+        for (ScheduledInstallment installment : schedule) {
+            totalPrincipal = totalPrincipal.add(installment.principalDue());
+            totalInterest = totalInterest.add(installment.interestDue());
+            totalDue = totalDue.add(installment.totalDue());
+            if (installments != null) {
+                installments.add(ScheduledInstallmentDTO.builder()
+                        .installmentNumber(installment.installmentNumber())
+                        .dueDate(installment.dueDate())
+                        .principalDue(installment.principalDue())
+                        .interestDue(installment.interestDue())
+                        .feeDue(installment.feeDue())
+                        .totalDue(installment.totalDue())
+                        .remainingPrincipal(installment.remainingPrincipal())
+                        .build());
+            }
+        }
+        return RestructuringSimulationDTO.builder()
+                .restructuringDate(restructuringDate)
+                .numberOfInstallments(schedule.size())
+                .firstDueDate(schedule.get(0).dueDate())
+                .maturityDate(schedule.get(schedule.size() - 1).dueDate())
+                .firstInstallmentAmount(schedule.get(0).totalDue())
+                .totalPrincipal(totalPrincipal)
+                .totalInterest(totalInterest)
+                .totalDue(totalDue)
+                .installments(installments)
+                .build();
+    }
+
+    private static List<LoanInstallmentPlan> toInstallmentPlans(UUID loanServicingCaseId,
+                                                                List<ScheduledInstallment> installments,
+                                                                LoanInstallmentPlan paymentTemplate,
+                                                                LocalDateTime now) {
+        List<LoanInstallmentPlan> entities = new ArrayList<>(installments.size());
+        for (ScheduledInstallment installment : installments) {
+            LoanInstallmentPlan.LoanInstallmentPlanBuilder builder = LoanInstallmentPlan.builder()
+                    .loanInstallmentPlanId(UUID.randomUUID())
+                    .loanServicingCaseId(loanServicingCaseId)
+                    .installmentNumber(installment.installmentNumber())
+                    .dueDate(installment.dueDate())
+                    .principalDue(installment.principalDue())
+                    .interestDue(installment.interestDue())
+                    .feeDue(installment.feeDue())
+                    .totalDue(installment.totalDue())
+                    .isPaid(false)
+                    .createdAt(now)
+                    .updatedAt(now);
+            // The new installments are collected the way the old ones were
+            if (paymentTemplate != null) {
+                builder.paymentMethod(paymentTemplate.getPaymentMethod())
+                        .paymentAccountId(paymentTemplate.getPaymentAccountId())
+                        .paymentProviderId(paymentTemplate.getPaymentProviderId())
+                        .externalAccountReference(paymentTemplate.getExternalAccountReference())
+                        .isAutomaticPayment(paymentTemplate.getIsAutomaticPayment());
+            }
+            entities.add(builder.build());
+        }
+        return entities;
+    }
+
+    private static List<LoanRepaymentSchedule> toRepaymentSchedules(UUID loanServicingCaseId,
+                                                                    List<ScheduledInstallment> installments,
+                                                                    LocalDateTime now) {
+        List<LoanRepaymentSchedule> entities = new ArrayList<>(installments.size());
+        for (ScheduledInstallment installment : installments) {
+            entities.add(LoanRepaymentSchedule.builder()
+                    .loanRepaymentScheduleId(UUID.randomUUID())
+                    .loanServicingCaseId(loanServicingCaseId)
+                    .installmentNumber(installment.installmentNumber())
+                    .dueDate(installment.dueDate())
+                    .principalDue(installment.principalDue())
+                    .interestDue(installment.interestDue())
+                    .feeDue(installment.feeDue())
+                    .totalDue(installment.totalDue())
+                    .isPaid(false)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return entities;
+    }
+}
@@ -20,16 +20,26 @@ package com.firefly.core.lending.servicing.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.servicing.core.cache.LoanServicingCaseCache;
 import com.firefly.core.lending.servicing.core.mappers.LoanServicingCaseMapper;
+import com.firefly.core.lending.servicing.core.outbox.OutboxWriter;
+import com.firefly.core.lending.servicing.core.outbox.ServicingStatusChange;
+import com.firefly.core.lending.servicing.core.pagination.KeysetPaginator;
 import com.firefly.core.lending.servicing.core.services.LoanServicingCaseService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanServicingCaseDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.OutboxEventTypeEnum;
 import com.firefly.core.lending.servicing.models.entities.LoanServicingCase;
 import com.firefly.core.lending.servicing.models.repositories.LoanServicingCaseRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -42,6 +52,15 @@ public class LoanServicingCaseServiceImpl implements LoanServicingCaseService {
     @Autowired
     private LoanServicingCaseMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private LoanServicingCaseCache caseCache;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
     @Override
     public Mono<PaginationResponse<LoanServicingCaseDTO>> findAll(FilterRequest<LoanServicingCaseDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -50,6 +69,24 @@ public class LoanServicingCaseServiceImpl implements LoanServicingCaseService {
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<CursorPageDTO<LoanServicingCaseDTO>> findAllByCursor(String cursor, Integer size) {
+        return keysetPaginator.page(
+                LoanServicingCase.class,
+                Criteria.empty(),
+                cursor,
+                size,
+                mapper::toDTO
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<LoanServicingCaseDTO> exportAll() {
+        return repository.findAllByOrderByCreatedAtAscLoanServicingCaseIdAsc()
+                .map(mapper::toDTO);
+    }
+
     @Override
     public Mono<LoanServicingCaseDTO> create(LoanServicingCaseDTO dto) {
         LoanServicingCase entity = mapper.toEntity(dto);
@@ -58,8 +95,9 @@ public class LoanServicingCaseServiceImpl implements LoanServicingCaseService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS) // a cache hit needs no connection
     public Mono<LoanServicingCaseDTO> getById(UUID loanServicingCaseId) {
-        return repository.findById(loanServicingCaseId)
+        return caseCache.get(loanServicingCaseId)
                 .map(mapper::toDTO);
     }
 
@@ -69,13 +107,22 @@ public class LoanServicingCaseServiceImpl implements LoanServicingCaseService {
                 .flatMap(existingEntity -> {
                     LoanServicingCase updatedEntity = mapper.toEntity(dto);
                     updatedEntity.setLoanServicingCaseId(existingEntity.getLoanServicingCaseId());
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .flatMap(saved -> Objects.equals(existingEntity.getServicingStatus(), saved.getServicingStatus())
+                                    ? Mono.just(saved)
+                                    : outboxWriter.append(OutboxEventTypeEnum.SERVICING_STATUS_CHANGED,
+                                            loanServicingCaseId, loanServicingCaseId,
+                                            new ServicingStatusChange(loanServicingCaseId,
+                                                    existingEntity.getServicingStatus(), saved.getServicingStatus(), null))
+                                            .thenReturn(saved));
                 })
+                .flatMap(saved -> caseCache.evictAfterCompletion(loanServicingCaseId).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> delete(UUID loanServicingCaseId) {
-        return repository.deleteById(loanServicingCaseId);
+        return repository.deleteById(loanServicingCaseId)
+                .then(caseCache.evictAfterCompletion(loanServicingCaseId));
     }
 }
@@ -21,13 +21,17 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.servicing.core.mappers.LoanServicingEventMapper;
+import com.firefly.core.lending.servicing.core.pagination.KeysetPaginator;
 import com.firefly.core.lending.servicing.core.services.LoanServicingEventService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanServicingEventDTO;
 import com.firefly.core.lending.servicing.models.entities.LoanServicingEvent;
 import com.firefly.core.lending.servicing.models.repositories.LoanServicingEventRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -42,6 +46,9 @@ public class LoanServicingEventServiceImpl implements LoanServicingEventService
     @Autowired
     private LoanServicingEventMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
     @Override
     public Mono<PaginationResponse<LoanServicingEventDTO>> findAll(UUID loanServicingCaseId, FilterRequest<LoanServicingEventDTO> filterRequest) {
         filterRequest.getFilters().setLoanServicingCaseId(loanServicingCaseId);
@@ -51,6 +58,24 @@ public class LoanServicingEventServiceImpl implements LoanServicingEventService
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<CursorPageDTO<LoanServicingEventDTO>> findAllByCursor(UUID loanServicingCaseId, String cursor, Integer size) {
+        return keysetPaginator.page(
+                LoanServicingEvent.class,
+                Criteria.where("loanServicingCaseId").is(loanServicingCaseId),
+                cursor,
+                size,
+                mapper::toDTO
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<LoanServicingEventDTO> exportAll(UUID loanServicingCaseId) {
+        return repository.findByLoanServicingCaseIdOrderByEventDateAscCreatedAtAsc(loanServicingCaseId)
+                .map(mapper::toDTO);
+    }
+
     @Override
     public Mono<LoanServicingEventDTO> create(UUID loanServicingCaseId, LoanServicingEventDTO dto) {
         dto.setLoanServicingCaseId(loanServicingCaseId);
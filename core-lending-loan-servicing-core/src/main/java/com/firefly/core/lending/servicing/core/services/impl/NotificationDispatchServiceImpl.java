@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services.impl;
+
+import com.firefly.core.lending.servicing.core.batch.NotificationDispatchProperties;
+import com.firefly.core.lending.servicing.core.mappers.LoanNotificationMapper;
+import com.firefly.core.lending.servicing.core.notifications.NotificationSender;
+import com.firefly.core.lending.servicing.core.notifications.NotificationTemplateRenderer;
+import com.firefly.core.lending.servicing.core.notifications.RetryBackoff;
+import com.firefly.core.lending.servicing.core.notifications.StubNotificationSender;
+import com.firefly.core.lending.servicing.core.services.NotificationDispatchService;
+import com.firefly.core.lending.servicing.interfaces.dtos.NotificationDispatchResultDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.NotificationChannelEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.NotificationStatusEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanNotification;
+import com.firefly.core.lending.servicing.models.projections.NotificationDeliveryUpdate;
+import com.firefly.core.lending.servicing.models.repositories.LoanNotificationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Notification queue worker.
+ *
+ * <p>{@code workers} loops run concurrently, each claiming a batch of due notifications with one
+ * {@code FOR UPDATE SKIP LOCKED} statement, handing the batch to the channel senders with bounded concurrency and
+ * recording all outcomes with one bulk UPDATE. A loop stops once it claims a short batch. The claim commits
+ * immediately and leases the rows instead of holding their locks while senders run, so no connection is held
+ * during network calls and a batch claimed by a node that dies is retried once the lease expires.</p>
+ *
+ * <p>Notifications with a template id are rendered from their metadata just before they are sent; a
+ * rendering error counts as a failed attempt.</p>
+ */
+@Slf4j
+@Service
+public class NotificationDispatchServiceImpl implements NotificationDispatchService {
+
+    private static final BatchOutcome EMPTY = new BatchOutcome(0, 0, 0, 0, 0);
+
+    @Autowired
+    private LoanNotificationRepository loanNotificationRepository;
+
+    @Autowired
+    private LoanNotificationMapper mapper;
+
+    @Autowired
+    private NotificationTemplateRenderer templateRenderer;
+
+    @Autowired
+    private NotificationDispatchProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private List<NotificationSender> notificationSenders = Collections.emptyList();
+
+    private final Map<NotificationChannelEnum, NotificationSender> senders = new EnumMap<>(NotificationChannelEnum.class);
+
+    private Timer batchTimer;
+
+    @PostConstruct
+    void init() {
+        // Real senders take precedence over the stub; two real senders for one channel are a configuration error
+        for (NotificationSender sender : notificationSenders) {
+            for (NotificationChannelEnum channel : sender.channels()) {
+                NotificationSender existing = senders.get(channel);
+                if (existing == null || existing instanceof StubNotificationSender) {
+                    senders.put(channel, sender);
+                } else if (!(sender instanceof StubNotificationSender)) {
+                    throw new IllegalStateException("More than one notification sender for channel " + channel);
+                }
+            }
+        }
+        if (senders.isEmpty()) {
+            log.warn("No notification senders are configured; notifications will stay PENDING");
+        }
+        batchTimer = Timer.builder("loan.notification.dispatch.batch")
+                .description("Time to claim, send and record one batch of notifications")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<NotificationDispatchResultDTO> dispatchDue() {
+        return Mono.defer(() -> {
+            LocalDateTime startedAt = LocalDateTime.now();
+            RetryBackoff backoff = new RetryBackoff(properties.getInitialBackoff(), properties.getMaxBackoff(),
+                    properties.getBackoffMultiplier());
+            int workers = Math.max(1, properties.getWorkers());
+            return Flux.range(0, workers)
+                    .flatMap(worker -> drain(backoff), workers)
+                    .reduce(EMPTY, BatchOutcome::add)
+                    .map(total -> {
+                        if (total.claimed() > 0) {
+                            log.info("Notification dispatch claimed {}: {} sent, {} delivered, {} retried, {} failed",
+                                    total.claimed(), total.sent(), total.delivered(), total.retried(), total.failed());
+                        }
+                        return NotificationDispatchResultDTO.builder()
+                                .notificationsClaimed(total.claimed())
+                                .notificationsSent(total.sent())
+                                .notificationsDelivered(total.delivered())
+                                .notificationsRetried(total.retried())
+                                .notificationsFailed(total.failed())
+                                .startedAt(startedAt)
+                                .completedAt(LocalDateTime.now())
+                                .build();
+                    });
+        });
+    }
+
+    private Mono<BatchOutcome> drain(RetryBackoff backoff) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        return dispatchBatch(backoff, batchSize)
+                .expand(outcome -> outcome.claimed() < batchSize ? Mono.empty() : dispatchBatch(backoff, batchSize))
+                .reduce(EMPTY, BatchOutcome::add);
+    }
+
+    private Mono<BatchOutcome> dispatchBatch(RetryBackoff backoff, int batchSize) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            LocalDateTime claimedAt = LocalDateTime.now();
+            return loanNotificationRepository.claimDue(senders.keySet(), claimedAt,
+                            claimedAt.plus(properties.getClaimLease()), batchSize)
+                    .flatMap(notification -> send(notification, backoff), Math.max(1, properties.getSendConcurrency()))
+                    .collectList()
+                    .flatMap(updates -> loanNotificationRepository.updateDeliveryState(updates, LocalDateTime.now())
+                            .thenReturn(BatchOutcome.of(updates)))
+                    .doOnNext(outcome -> sample.stop(batchTimer));
+        });
+    }
+
+    private Mono<NotificationDeliveryUpdate> send(LoanNotification notification, RetryBackoff backoff) {
+        NotificationChannelEnum channel = notification.getNotificationChannel();
+        NotificationSender sender = senders.get(channel);
+        return Mono.fromCallable(() -> templateRenderer.render(mapper.toDTO(notification)))
+                .flatMap(sender::send)
+                .timeout(properties.getSendTimeout())
+                .defaultIfEmpty(NotificationStatusEnum.SENT)
+                .map(status -> delivered(notification, status))
+                .onErrorResume(e -> Mono.just(failed(notification, e, backoff)))
+                .doOnNext(update -> meterRegistry.counter("loan.notification.dispatch.attempts",
+                        "channel", channel.name(), "outcome", update.notificationStatus().name()).increment());
+    }
+
+    private static NotificationDeliveryUpdate delivered(LoanNotification notification, NotificationStatusEnum status) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean confirmed = status == NotificationStatusEnum.DELIVERED;
+        return new NotificationDeliveryUpdate(notification.getLoanNotificationId(),
+                confirmed ? NotificationStatusEnum.DELIVERED : NotificationStatusEnum.SENT,
+                now, confirmed ? now : null, null, retryCount(notification), null);
+    }
+
+    private NotificationDeliveryUpdate failed(LoanNotification notification, Throwable error, RetryBackoff backoff) {
+        int attempts = retryCount(notification) + 1;
+        String reason = error.getMessage() == null ? error.getClass().getSimpleName() : error.getMessage();
+        if (attempts >= properties.getMaxAttempts()) {
+            log.warn("Notification {} failed after {} attempts: {}", notification.getLoanNotificationId(), attempts, reason);
+            return new NotificationDeliveryUpdate(notification.getLoanNotificationId(), NotificationStatusEnum.FAILED,
+                    null, null, reason, attempts, null);
+        }
+        return new NotificationDeliveryUpdate(notification.getLoanNotificationId(), NotificationStatusEnum.PENDING,
+                null, null, reason, attempts, LocalDateTime.now().plus(backoff.delay(attempts)));
+    }
+
+    private static int retryCount(LoanNotification notification) {
+        return notification.getRetryCount() == null ? 0 : notification.getRetryCount();
+    }
+
+    /**
+     * Counts of one or more dispatched batches by outcome.
+     */
+    record BatchOutcome(long claimed, long sent, long delivered, long retried, long failed) {
+
+        static BatchOutcome of(List<NotificationDeliveryUpdate> updates) {
+            long sent = 0;
+            long delivered = 0;
+            long retried = 0;
+            long failed = 0;
+            for (NotificationDeliveryUpdate update : updates) {
+                switch (update.notificationStatus()) {
+                    case SENT -> sent++;
+                    case DELIVERED -> delivered++;
+                    case PENDING -> retried++;
+                    default -> failed++;
+                }
+            }
+            return new BatchOutcome(updates.size(), sent, delivered, retried, failed);
+        }
+
+        BatchOutcome add(BatchOutcome other) {
+            return new BatchOutcome(claimed + other.claimed, sent + other.sent, delivered + other.delivered,
+                    retried + other.retried, failed + other.failed);
+        }
+    }
+}
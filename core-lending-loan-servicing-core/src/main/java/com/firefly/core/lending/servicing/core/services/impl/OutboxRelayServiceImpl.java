@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services.impl;
+
+import com.firefly.core.lending.servicing.core.batch.OutboxRelayProperties;
+import com.firefly.core.lending.servicing.core.mappers.ServicingOutboxEventMapper;
+import com.firefly.core.lending.servicing.core.outbox.OutboxPublisher;
+import com.firefly.core.lending.servicing.core.services.OutboxRelayService;
+import com.firefly.core.lending.servicing.models.entities.ServicingOutboxEvent;
+import com.firefly.core.lending.servicing.models.repositories.ServicingOutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Outbox relay.
+ *
+ * <p>Each batch runs in one transaction: it takes a transaction-scoped advisory lock, reads the oldest events,
+ * hands them to the publisher and deletes them. The lock makes a single relay active across all nodes, which
+ * keeps the feed in order; a node that cannot take it skips the poll. If publishing fails or times out, the
+ * transaction rolls back and the batch is published again by the next poll.</p>
+ *
+ * <p>Only events of transactions older than every transaction still running are read, ordered by transaction
+ * and then by id, so no event can appear after a later one was published. Ids are assigned at insert rather than
+ * at commit, so they are ordered within a transaction but not across transactions. A long-running transaction
+ * holds back the feed until it ends.</p>
+ */
+@Slf4j
+@Service
+public class OutboxRelayServiceImpl implements OutboxRelayService {
+
+    @Autowired
+    private ServicingOutboxEventRepository repository;
+
+    @Autowired
+    private ServicingOutboxEventMapper mapper;
+
+    @Autowired
+    private OutboxRelayProperties properties;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private OutboxPublisher publisher;
+
+    private Counter eventsPublished;
+
+    private Timer batchTimer;
+
+    @PostConstruct
+    void init() {
+        if (publisher == null) {
+            log.warn("No outbox publisher is configured; servicing events will accumulate in the outbox");
+        }
+        eventsPublished = Counter.builder("loan.outbox.events.published")
+                .description("Servicing events published from the outbox")
+                .register(meterRegistry);
+        batchTimer = Timer.builder("loan.outbox.relay.batch")
+                .description("Time to read, publish and delete one batch of outbox events")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Long> relay() {
+        if (publisher == null) {
+            return Mono.just(0L);
+        }
+        int batchSize = Math.max(1, properties.getBatchSize());
+        return relayBatch(batchSize)
+                .expand(published -> published < batchSize ? Mono.empty() : relayBatch(batchSize))
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> relayBatch(int batchSize) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return repository.tryLockRelay()
+                    .flatMap(locked -> locked
+                            ? repository.findOldest(batchSize).collectList().flatMap(this::publish)
+                            : Mono.just(0L))
+                    .as(transactionalOperator::transactional)
+                    .doOnNext(published -> {
+                        sample.stop(batchTimer);
+                        eventsPublished.increment(published);
+                    });
+        });
+    }
+
+    private Mono<Long> publish(List<ServicingOutboxEvent> events) {
+        if (events.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return publisher.publish(events.stream().map(mapper::toDTO).toList())
+                .timeout(properties.getPublishTimeout())
+                .then(Mono.defer(() -> repository.deletePublished(
+                        events.stream().map(ServicingOutboxEvent::getOutboxEventId).toList())))
+                .thenReturn((long) events.size());
+    }
+}
@@ -0,0 +1,427 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.firefly.core.lending.servicing.core.config.PaymentFileIngestionProperties;
+import com.firefly.core.lending.servicing.core.ingestion.CsvLineParser;
+import com.firefly.core.lending.servicing.core.mappers.LoanInstallmentRecordMapper;
+import com.firefly.core.lending.servicing.core.outbox.OutboxChange;
+import com.firefly.core.lending.servicing.core.outbox.OutboxWriter;
+import com.firefly.core.lending.servicing.core.services.PaymentFileIngestionService;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanInstallmentRecordDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanInstallmentRecordExternalTransactionDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.PaymentFileIngestionDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.PaymentFileLineErrorDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.OutboxEventTypeEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentFileFormatEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentMethodEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanInstallmentPlan;
+import com.firefly.core.lending.servicing.models.entities.LoanInstallmentRecord;
+import com.firefly.core.lending.servicing.models.entities.LoanInstallmentRecordExternalTransaction;
+import com.firefly.core.lending.servicing.models.repositories.LoanInstallmentPlanRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanInstallmentRecordExternalTransactionRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanInstallmentRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a payment file through line decoding, parsing and validation, then writes it in batches.
+ *
+ * <p>The request body is decoded into lines as buffers arrive, so at most one batch of parsed lines is held
+ * in memory. Each batch costs one SELECT to check the referenced installment plans and two multi-row INSERTs
+ * (records, then external transactions), committed in their own transaction. Lines within a batch are
+ * written grouped by servicing case. A batch that fails to write rejects only its own lines.</p>
+ */
+@Slf4j
+@Service
+public class PaymentFileIngestionServiceImpl implements PaymentFileIngestionService {
+
+    private static final StringDecoder LINE_DECODER = StringDecoder.allMimeTypes(List.of("\n"), true);
+    private static final ResolvableType STRING_TYPE = ResolvableType.forClass(String.class);
+
+    @Autowired
+    private LoanInstallmentPlanRepository installmentPlanRepository;
+
+    @Autowired
+    private LoanInstallmentRecordRepository installmentRecordRepository;
+
+    @Autowired
+    private LoanInstallmentRecordExternalTransactionRepository externalTransactionRepository;
+
+    @Autowired
+    private LoanInstallmentRecordMapper installmentRecordMapper;
+
+    @Autowired
+    private PaymentFileIngestionProperties properties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ObjectReader recordReader;
+    private ObjectReader externalTransactionReader;
+    private Counter linesAccepted;
+    private Counter linesRejected;
+
+    @PostConstruct
+    void init() {
+        // A line carries the fields of both DTOs, so each reader ignores the other's properties
+        recordReader = objectMapper.readerFor(LoanInstallmentRecordDTO.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        externalTransactionReader = objectMapper.readerFor(LoanInstallmentRecordExternalTransactionDTO.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        linesAccepted = Counter.builder("loan.payment.file.lines")
+                .tag("outcome", "accepted")
+                .description("Payment file lines stored as installment records")
+                .register(meterRegistry);
+        linesRejected = Counter.builder("loan.payment.file.lines")
+                .tag("outcome", "rejected")
+                .description("Payment file lines rejected by validation or a failed batch")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<PaymentFileIngestionDTO> ingest(Flux<DataBuffer> content, PaymentFileFormatEnum format) {
+        Flux<NumberedLine> lines = LINE_DECODER.decode(content, STRING_TYPE, null, Map.of())
+                .index((index, line) -> new NumberedLine(index + 1, stripCarriageReturn(line)))
+                .filter(line -> !line.text().isBlank());
+        Flux<ParsedLine> parsed = format == PaymentFileFormatEnum.CSV
+                ? parseCsv(lines)
+                : lines.map(line -> parse(line.number(), readJson(line.text())));
+        int batchSize = Math.max(1, properties.getBatchSize());
+        return Mono.defer(() -> parsed
+                .buffer(batchSize)
+                .concatMap(this::writeBatch)
+                .reduce(new Tally(Math.max(0, properties.getMaxReportedErrors())), Tally::add)
+                .map(Tally::toDTO));
+    }
+
+    private Flux<ParsedLine> parseCsv(Flux<NumberedLine> lines) {
+        return lines.switchOnFirst((first, rest) -> {
+            if (!first.hasValue()) {
+                return rest.thenMany(Flux.<ParsedLine>empty());
+            }
+            List<String> header = CsvLineParser.parse(first.get().text()).stream().map(String::trim).toList();
+            return rest.skip(1).map(line -> parse(line.number(), readCsv(header, line.text())));
+        });
+    }
+
+    private LineContent readCsv(List<String> header, String text) {
+        try {
+            List<String> values = CsvLineParser.parse(text);
+            if (values.size() != header.size()) {
+                return LineContent.invalid("Expected " + header.size() + " fields but found " + values.size());
+            }
+            ObjectNode node = objectMapper.createObjectNode();
+            for (int i = 0; i < values.size(); i++) {
+                if (!values.get(i).isEmpty()) {
+                    node.put(header.get(i), values.get(i));
+                }
+            }
+            return LineContent.of(node);
+        } catch (IllegalArgumentException e) {
+            return LineContent.invalid(e.getMessage());
+        }
+    }
+
+    private LineContent readJson(String text) {
+        try {
+            JsonNode node = objectMapper.readTree(text);
+            return node.isObject() ? LineContent.of(node) : LineContent.invalid("Line is not a JSON object");
+        } catch (JsonProcessingException e) {
+            return LineContent.invalid(e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Binds and validates a line. EXTERNAL payments also get an external transaction, whose amount, date and
+     * provider default to those of the payment.
+     */
+    private ParsedLine parse(long lineNumber, LineContent content) {
+        if (content.error() != null) {
+            return ParsedLine.rejected(lineNumber, null, content.error());
+        }
+        LoanInstallmentRecordDTO dto;
+        try {
+            dto = recordReader.readValue(content.node());
+        } catch (Exception e) {
+            return ParsedLine.rejected(lineNumber, null, bindingError(e));
+        }
+        List<String> errors = violations(validator.validate(dto));
+        if (dto.getLoanInstallmentPlanId() == null) {
+            errors.add("Loan installment plan ID is required");
+        }
+        if (!errors.isEmpty()) {
+            return ParsedLine.rejected(lineNumber, dto.getLoanServicingCaseId(), String.join("; ", errors));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LoanInstallmentRecord record = installmentRecordMapper.toEntity(dto);
+        record.setLoanInstallmentRecordId(UUID.randomUUID());
+        record.setCreatedAt(now);
+        record.setUpdatedAt(now);
+        if (dto.getPaymentMethod() != PaymentMethodEnum.EXTERNAL) {
+            return ParsedLine.accepted(lineNumber, record, null);
+        }
+
+        LoanInstallmentRecordExternalTransactionDTO externalDto;
+        try {
+            externalDto = externalTransactionReader.readValue(content.node());
+        } catch (Exception e) {
+            return ParsedLine.rejected(lineNumber, dto.getLoanServicingCaseId(), bindingError(e));
+        }
+        externalDto.setLoanInstallmentRecordId(record.getLoanInstallmentRecordId());
+        if (externalDto.getPaymentProviderId() == null) {
+            externalDto.setPaymentProviderId(dto.getPaymentProviderId());
+        }
+        if (externalDto.getTransactionAmount() == null) {
+            externalDto.setTransactionAmount(dto.getPaymentAmount());
+        }
+        if (externalDto.getTransactionDate() == null) {
+            externalDto.setTransactionDate(dto.getPaymentDate().atStartOfDay());
+        }
+        errors = violations(validator.validate(externalDto));
+        if (externalDto.getPspTransactionId() == null || externalDto.getPspTransactionId().isBlank()) {
+            errors.add("PSP transaction ID is required for EXTERNAL payments");
+        }
+        if (!errors.isEmpty()) {
+            return ParsedLine.rejected(lineNumber, dto.getLoanServicingCaseId(), String.join("; ", errors));
+        }
+        return ParsedLine.accepted(lineNumber, record, LoanInstallmentRecordExternalTransaction.builder()
+                .loanInstallmentRecordExternalTransactionId(UUID.randomUUID())
+                .loanInstallmentRecordId(record.getLoanInstallmentRecordId())
+                .paymentProviderId(externalDto.getPaymentProviderId())
+                .pspTransactionId(externalDto.getPspTransactionId())
+                .pspTransactionReference(externalDto.getPspTransactionReference())
+                .transactionAmount(externalDto.getTransactionAmount())
+                .transactionCurrency(externalDto.getTransactionCurrency())
+                .pspStatus(externalDto.getPspStatus())
+                .pspStatusMessage(externalDto.getPspStatusMessage())
+                .payerAccountNumber(externalDto.getPayerAccountNumber())
+                .payerName(externalDto.getPayerName())
+                .transactionDate(externalDto.getTransactionDate())
+                .pspResponsePayload(externalDto.getPspResponsePayload())
+                .note(externalDto.getNote())
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+    }
+
+    /**
+     * Writes the valid lines of a batch whose installment plan belongs to the line's case.
+     */
+    private Mono<BatchResult> writeBatch(List<ParsedLine> batch) {
+        Set<UUID> planIds = batch.stream()
+                .filter(line -> line.record() != null)
+                .map(line -> line.record().getLoanInstallmentPlanId())
+                .collect(Collectors.toSet());
+        Mono<Map<UUID, UUID>> planCases = planIds.isEmpty()
+                ? Mono.just(Map.of())
+                : installmentPlanRepository.findAllById(planIds)
+                        .collectMap(LoanInstallmentPlan::getLoanInstallmentPlanId, LoanInstallmentPlan::getLoanServicingCaseId);
+
+        return planCases.flatMap(cases -> {
+            List<PaymentFileLineErrorDTO> errors = new ArrayList<>();
+            List<ParsedLine> accepted = new ArrayList<>(batch.size());
+            for (ParsedLine line : batch) {
+                if (line.error() != null) {
+                    errors.add(line.error());
+                } else if (!Objects.equals(cases.get(line.record().getLoanInstallmentPlanId()),
+                        line.record().getLoanServicingCaseId())) {
+                    errors.add(lineError(line.lineNumber(), line.record().getLoanServicingCaseId(),
+                            "Loan installment plan " + line.record().getLoanInstallmentPlanId()
+                                    + " does not exist for this loan servicing case"));
+                } else {
+                    accepted.add(line);
+                }
+            }
+            if (accepted.isEmpty()) {
+                return Mono.just(countLines(new BatchResult(batch.size(), 0, 0, errors)));
+            }
+            accepted.sort(Comparator.comparing((ParsedLine line) -> line.record().getLoanServicingCaseId())
+                    .thenComparingLong(ParsedLine::lineNumber));
+            List<LoanInstallmentRecord> records = accepted.stream().map(ParsedLine::record).toList();
+            List<LoanInstallmentRecordExternalTransaction> externalTransactions = accepted.stream()
+                    .map(ParsedLine::externalTransaction)
+                    .filter(Objects::nonNull)
+                    .toList();
+            List<OutboxChange> changes = records.stream()
+                    .map(record -> new OutboxChange(OutboxEventTypeEnum.INSTALLMENT_RECORD_CREATED,
+                            record.getLoanServicingCaseId(), record.getLoanInstallmentRecordId(),
+                            installmentRecordMapper.toDTO(record)))
+                    .toList();
+
+            return installmentRecordRepository.insertAll(records)
+                    .flatMap(recordCount -> externalTransactionRepository.insertAll(externalTransactions)
+                            .flatMap(transactionCount -> outboxWriter.append(changes)
+                                    .thenReturn(new BatchResult(batch.size(), recordCount, transactionCount, errors))))
+                    .as(transactionalOperator::transactional)
+                    .onErrorResume(failure -> {
+                        log.warn("Payment file batch of {} lines starting at line {} failed", accepted.size(),
+                                accepted.get(0).lineNumber(), failure);
+                        accepted.forEach(line -> errors.add(lineError(line.lineNumber(), line.record().getLoanServicingCaseId(),
+                                "Batch could not be written: " + failure.getMessage())));
+                        errors.sort(Comparator.comparing(PaymentFileLineErrorDTO::getLineNumber));
+                        return Mono.just(new BatchResult(batch.size(), 0, 0, errors));
+                    })
+                    .map(this::countLines);
+        });
+    }
+
+    private BatchResult countLines(BatchResult result) {
+        linesAccepted.increment(result.records());
+        linesRejected.increment(result.errors().size());
+        return result;
+    }
+
+    private static List<String> violations(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static String bindingError(Exception e) {
+        return e instanceof JsonProcessingException jsonError ? jsonError.getOriginalMessage() : e.getMessage();
+    }
+
+    private static PaymentFileLineErrorDTO lineError(long lineNumber, UUID loanServicingCaseId, String message) {
+        return PaymentFileLineErrorDTO.builder()
+                .lineNumber(lineNumber)
+                .loanServicingCaseId(loanServicingCaseId)
+                .message(message)
+                .build();
+    }
+
+    private static String stripCarriageReturn(String line) {
+        return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+    }
+
+    private record NumberedLine(long number, String text) {
+    }
+
+    private record LineContent(JsonNode node, String error) {
+
+        static LineContent of(JsonNode node) {
+            return new LineContent(node, null);
+        }
+
+        static LineContent invalid(String error) {
+            return new LineContent(null, error);
+        }
+    }
+
+    private record ParsedLine(long lineNumber,
+                              LoanInstallmentRecord record,
+                              LoanInstallmentRecordExternalTransaction externalTransaction,
+                              PaymentFileLineErrorDTO error) {
+
+        static ParsedLine accepted(long lineNumber, LoanInstallmentRecord record,
+                                   LoanInstallmentRecordExternalTransaction externalTransaction) {
+            return new ParsedLine(lineNumber, record, externalTransaction, null);
+        }
+
+        static ParsedLine rejected(long lineNumber, UUID loanServicingCaseId, String message) {
+            return new ParsedLine(lineNumber, null, null, lineError(lineNumber, loanServicingCaseId, message));
+        }
+    }
+
+    private record BatchResult(int lines, long records, long externalTransactions, List<PaymentFileLineErrorDTO> errors) {
+    }
+
+    /**
+     * Running totals of an ingestion. Only the first {@code maxReportedErrors} rejections are kept.
+     */
+    private static final class Tally {
+
+        private final int maxReportedErrors;
+        private final List<PaymentFileLineErrorDTO> errors = new ArrayList<>();
+        private long linesRead;
+        private long recordsCreated;
+        private long externalTransactionsCreated;
+        private long linesRejected;
+
+        Tally(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        Tally add(BatchResult result) {
+            linesRead += result.lines();
+            recordsCreated += result.records();
+            externalTransactionsCreated += result.externalTransactions();
+            linesRejected += result.errors().size();
+            for (PaymentFileLineErrorDTO error : result.errors()) {
+                if (errors.size() >= maxReportedErrors) {
+                    break;
+                }
+                errors.add(error);
+            }
+            return this;
+        }
+
+        PaymentFileIngestionDTO toDTO() {
+            return PaymentFileIngestionDTO.builder()
+                    .linesRead(linesRead)
+                    .recordsCreated(recordsCreated)
+                    .externalTransactionsCreated(externalTransactionsCreated)
+                    .linesRejected(linesRejected)
+                    .errors(List.copyOf(errors))
+                    .errorsTruncated(linesRejected > errors.size())
+                    .build();
+        }
+    }
+}
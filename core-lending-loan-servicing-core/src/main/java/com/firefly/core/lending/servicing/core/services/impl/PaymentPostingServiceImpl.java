@@ -0,0 +1,274 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services.impl;
+
+import com.firefly.core.lending.servicing.core.cache.LoanCurrentBalanceCache;
+import com.firefly.core.lending.servicing.core.calculators.InstallmentAllocation;
+import com.firefly.core.lending.servicing.core.idempotency.IdempotencyStore;
+import com.firefly.core.lending.servicing.core.outbox.OutboxChange;
+import com.firefly.core.lending.servicing.core.outbox.OutboxWriter;
+import com.firefly.core.lending.servicing.core.calculators.PaymentAllocation;
+import com.firefly.core.lending.servicing.core.calculators.PaymentAllocationCalculator;
+import com.firefly.core.lending.servicing.core.config.PaymentAllocationProperties;
+import com.firefly.core.lending.servicing.core.mappers.LoanBalanceMapper;
+import com.firefly.core.lending.servicing.core.mappers.LoanInstallmentRecordMapper;
+import com.firefly.core.lending.servicing.core.services.PaymentPostingService;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanInstallmentRecordDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.PaymentAllocationDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.OutboxEventTypeEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentAllocationComponentEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentStatusEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanBalance;
+import com.firefly.core.lending.servicing.models.entities.LoanCurrentBalance;
+import com.firefly.core.lending.servicing.models.entities.LoanInstallmentPlan;
+import com.firefly.core.lending.servicing.models.entities.LoanInstallmentRecord;
+import com.firefly.core.lending.servicing.models.repositories.LoanBalanceRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanCurrentBalanceRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanInstallmentPlanRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanInstallmentRecordRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Posts a payment with a fixed number of statements regardless of how many installments it settles: lock
+ * the current balance, lock the unpaid installments, one UPDATE for all touched installments, one INSERT
+ * for the record, one for the balance snapshot, one upsert of the current balance and one INSERT of both into
+ * the outbox.
+ *
+ * <p>Locks are always taken in the same order (current balance, then installments), so concurrent postings
+ * against a case queue up instead of deadlocking.</p>
+ */
+@Service
+@Transactional
+public class PaymentPostingServiceImpl implements PaymentPostingService {
+
+    private static final String IDEMPOTENCY_SCOPE = "payment-postings";
+
+    @Autowired
+    private LoanInstallmentPlanRepository installmentPlanRepository;
+
+    @Autowired
+    private LoanInstallmentRecordRepository installmentRecordRepository;
+
+    @Autowired
+    private LoanBalanceRepository balanceRepository;
+
+    @Autowired
+    private LoanCurrentBalanceRepository currentBalanceRepository;
+
+    @Autowired
+    private LoanCurrentBalanceCache currentBalanceCache;
+
+    @Autowired
+    private LoanInstallmentRecordMapper installmentRecordMapper;
+
+    @Autowired
+    private LoanBalanceMapper balanceMapper;
+
+    @Autowired
+    private PaymentAllocationCalculator calculator;
+
+    @Autowired
+    private PaymentAllocationProperties properties;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @Override
+    public Mono<PaymentAllocationDTO> post(UUID loanServicingCaseId, LoanInstallmentRecordDTO dto,
+                                           String idempotencyKey) {
+        dto.setLoanServicingCaseId(loanServicingCaseId);
+        return idempotencyStore.execute(IDEMPOTENCY_SCOPE, idempotencyKey, dto, PaymentAllocationDTO.class,
+                () -> post(loanServicingCaseId, dto));
+    }
+
+    @Override
+    public Mono<PaymentAllocationDTO> post(UUID loanServicingCaseId, LoanInstallmentRecordDTO dto) {
+        if (dto.getPaymentStatus() != PaymentStatusEnum.COMPLETED) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Only COMPLETED payments can be posted, got " + dto.getPaymentStatus()));
+        }
+        List<PaymentAllocationComponentEnum> waterfall = properties.getWaterfall();
+
+        return currentBalanceRepository.findForUpdateByLoanServicingCaseId(loanServicingCaseId)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(current -> installmentPlanRepository
+                        .findForUpdateByLoanServicingCaseIdAndIsPaidFalseOrderByDueDateAscInstallmentNumberAsc(loanServicingCaseId)
+                        .collectList()
+                        .flatMap(unpaid -> {
+                            PaymentAllocation allocation = calculator.allocate(dto.getPaymentAmount(), unpaid, waterfall);
+                            if (allocation.installments().isEmpty()) {
+                                return Mono.error(new ResponseStatusException(HttpStatus.CONFLICT,
+                                        "Loan servicing case " + loanServicingCaseId + " has no unpaid installments"));
+                            }
+                            LocalDateTime now = LocalDateTime.now();
+                            LoanBalance balance = newBalance(loanServicingCaseId, current, unpaid, waterfall, allocation, dto.getPaymentDate(), now);
+
+                            return installmentPlanRepository.updatePaymentState(applyPayment(unpaid, allocation, dto, now))
+                                    .then(installmentRecordRepository.save(toRecord(loanServicingCaseId, dto, allocation, now)))
+                                    .flatMap(record -> balanceRepository.save(balance)
+                                            .flatMap(saved -> currentBalanceRepository
+                                                    .upsertAll(List.of(balanceMapper.toCurrentBalance(saved)))
+                                                    .then(currentBalanceCache.evictAfterCompletion(loanServicingCaseId))
+                                                    .thenReturn(toDTO(allocation, record, saved))
+                                                    .flatMap(posted -> appendToOutbox(loanServicingCaseId, posted))));
+                        }));
+    }
+
+    /**
+     * Appends the new installment record and balance snapshot to the outbox with one statement.
+     */
+    private Mono<PaymentAllocationDTO> appendToOutbox(UUID loanServicingCaseId, PaymentAllocationDTO posted) {
+        return outboxWriter.append(List.of(
+                        new OutboxChange(OutboxEventTypeEnum.INSTALLMENT_RECORD_CREATED, loanServicingCaseId,
+                                posted.getInstallmentRecord().getLoanInstallmentRecordId(), posted.getInstallmentRecord()),
+                        new OutboxChange(OutboxEventTypeEnum.BALANCE_CREATED, loanServicingCaseId,
+                                posted.getBalance().getLoanBalanceId(), posted.getBalance())))
+                .thenReturn(posted);
+    }
+
+    /**
+     * Returns copies of the installments the payment reached, carrying their new payment state. An installment
+     * keeps an empty {@code paid_date} until it is settled.
+     */
+    private List<LoanInstallmentPlan> applyPayment(List<LoanInstallmentPlan> unpaid, PaymentAllocation allocation,
+                                                   LoanInstallmentRecordDTO dto, LocalDateTime now) {
+        Map<UUID, LoanInstallmentPlan> byId = unpaid.stream()
+                .collect(Collectors.toMap(LoanInstallmentPlan::getLoanInstallmentPlanId, Function.identity()));
+        List<LoanInstallmentPlan> touched = new ArrayList<>(allocation.installments().size());
+        for (InstallmentAllocation installment : allocation.installments()) {
+            LoanInstallmentPlan plan = byId.get(installment.installmentPlanId());
+            plan.setPaidAmount(installment.paidAmount());
+            plan.setIsPaid(installment.fullyPaid());
+            plan.setPaidDate(installment.fullyPaid() ? dto.getPaymentDate() : plan.getPaidDate());
+            plan.setPaymentMethod(dto.getPaymentMethod() == null ? plan.getPaymentMethod() : dto.getPaymentMethod());
+            plan.setUpdatedAt(now);
+            touched.add(plan);
+        }
+        return touched;
+    }
+
+    /**
+     * Builds the stored record. It is linked to the oldest installment the payment reached, and is partial when
+     * that installment is not settled by it.
+     */
+    private LoanInstallmentRecord toRecord(UUID loanServicingCaseId, LoanInstallmentRecordDTO dto,
+                                           PaymentAllocation allocation, LocalDateTime now) {
+        InstallmentAllocation first = allocation.installments().get(0);
+        LoanInstallmentRecord entity = installmentRecordMapper.toEntity(dto);
+        entity.setLoanInstallmentRecordId(null);
+        entity.setLoanServicingCaseId(loanServicingCaseId);
+        entity.setLoanInstallmentPlanId(first.installmentPlanId());
+        entity.setIsPartialPayment(!first.fullyPaid());
+        entity.setCreatedAt(now);
+        entity.setUpdatedAt(now);
+        return entity;
+    }
+
+    /**
+     * Computes the balance after the payment as the locked current balance minus what the payment covered, so
+     * the stored snapshot always agrees with the returned allocation. Without a current balance, the outstanding
+     * amounts of the unpaid installments serve as the starting point. Amounts never go below zero. Differences
+     * from the case ledger are left to the balance rebuild to report.
+     */
+    private LoanBalance newBalance(UUID loanServicingCaseId, Optional<LoanCurrentBalance> current,
+                                   List<LoanInstallmentPlan> unpaid, List<PaymentAllocationComponentEnum> waterfall,
+                                   PaymentAllocation allocation, LocalDate paymentDate, LocalDateTime now) {
+        BigDecimal principal;
+        BigDecimal interest;
+        BigDecimal fees;
+        LocalDate balanceDate = paymentDate;
+        if (current.isPresent()) {
+            principal = nonNull(current.get().getPrincipalOutstanding());
+            interest = nonNull(current.get().getInterestOutstanding());
+            fees = nonNull(current.get().getFeesOutstanding());
+            if (current.get().getBalanceDate() != null && current.get().getBalanceDate().isAfter(paymentDate)) {
+                balanceDate = current.get().getBalanceDate();
+            }
+        } else {
+            principal = BigDecimal.ZERO;
+            interest = BigDecimal.ZERO;
+            fees = BigDecimal.ZERO;
+            for (LoanInstallmentPlan plan : unpaid) {
+                Map<PaymentAllocationComponentEnum, BigDecimal> outstanding =
+                        PaymentAllocationCalculator.outstanding(plan, waterfall);
+                principal = principal.add(outstanding.get(PaymentAllocationComponentEnum.PRINCIPAL));
+                interest = interest.add(outstanding.get(PaymentAllocationComponentEnum.INTEREST));
+                fees = fees.add(outstanding.get(PaymentAllocationComponentEnum.FEE));
+            }
+        }
+        principal = principal.subtract(allocation.principalPaid()).max(BigDecimal.ZERO);
+        interest = interest.subtract(allocation.interestPaid()).max(BigDecimal.ZERO);
+        fees = fees.subtract(allocation.feesPaid()).max(BigDecimal.ZERO);
+
+        return LoanBalance.builder()
+                .loanServicingCaseId(loanServicingCaseId)
+                .principalOutstanding(principal)
+                .interestOutstanding(interest)
+                .feesOutstanding(fees)
+                .totalOutstanding(principal.add(interest).add(fees))
+                .balanceDate(balanceDate)
+                .isCurrent(false)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private PaymentAllocationDTO toDTO(PaymentAllocation allocation, LoanInstallmentRecord record, LoanBalance balance) {
+        return PaymentAllocationDTO.builder()
+                .installmentRecord(installmentRecordMapper.toDTO(record))
+                .feesPaid(allocation.feesPaid())
+                .interestPaid(allocation.interestPaid())
+                .principalPaid(allocation.principalPaid())
+                .unappliedAmount(allocation.unapplied())
+                .paidInstallmentPlanIds(allocation.installments().stream()
+                        .filter(InstallmentAllocation::fullyPaid)
+                        .map(InstallmentAllocation::installmentPlanId)
+                        .toList())
+                .partiallyPaidInstallmentPlanId(allocation.installments().stream()
+                        .filter(installment -> !installment.fullyPaid())
+                        .map(InstallmentAllocation::installmentPlanId)
+                        .findFirst()
+                        .orElse(null))
+                .balance(balanceMapper.toDTO(balance))
+                .build();
+    }
+
+    private static BigDecimal nonNull(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+}
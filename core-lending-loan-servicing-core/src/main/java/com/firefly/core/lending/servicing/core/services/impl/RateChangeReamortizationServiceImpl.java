@@ -0,0 +1,323 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services.impl;
+
+import com.firefly.core.lending.servicing.core.batch.CaseIdRange;
+import com.firefly.core.lending.servicing.core.batch.RateChangeRepricingProperties;
+import com.firefly.core.lending.servicing.core.cache.LoanServicingCaseCache;
+import com.firefly.core.lending.servicing.core.calculators.AmortizationScheduleCalculator;
+import com.firefly.core.lending.servicing.core.calculators.ScheduleTerms;
+import com.firefly.core.lending.servicing.core.calculators.ScheduledInstallment;
+import com.firefly.core.lending.servicing.core.services.RateChangeReamortizationService;
+import com.firefly.core.lending.servicing.interfaces.dtos.RateChangeRepricingResultDTO;
+import com.firefly.core.lending.servicing.models.entities.LoanInstallmentPlan;
+import com.firefly.core.lending.servicing.models.entities.LoanRateChange;
+import com.firefly.core.lending.servicing.models.entities.LoanRepaymentSchedule;
+import com.firefly.core.lending.servicing.models.entities.LoanServicingCase;
+import com.firefly.core.lending.servicing.models.repositories.LoanInstallmentPlanRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanRateChangeRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanRepaymentScheduleRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanServicingCaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Rate change re-amortization, for a single case and portfolio-wide.
+ *
+ * <p>A case is re-amortized in one transaction: the case row and its installment plan are locked, every pending
+ * change is applied in memory, and the plan and schedule are written back with one UPDATE statement each.
+ * The portfolio pass splits the case id space into {@code partitions} ranges walked concurrently in keyset pages
+ * of cases with pending changes; the cases of a page are re-amortized {@code concurrency} at a time. Like the
+ * other portfolio jobs the pass itself is not transactional, and a repeated pass only finds the cases that are
+ * still pending.</p>
+ */
+@Slf4j
+@Service
+public class RateChangeReamortizationServiceImpl implements RateChangeReamortizationService {
+
+    private static final Outcome EMPTY = new Outcome(null, 0, 0, 0, 0, 0);
+    private static final Outcome FAILED = new Outcome(null, 0, 0, 0, 0, 1);
+
+    @Autowired
+    private LoanServicingCaseRepository loanServicingCaseRepository;
+
+    @Autowired
+    private LoanServicingCaseCache caseCache;
+
+    @Autowired
+    private LoanRateChangeRepository loanRateChangeRepository;
+
+    @Autowired
+    private LoanInstallmentPlanRepository loanInstallmentPlanRepository;
+
+    @Autowired
+    private LoanRepaymentScheduleRepository loanRepaymentScheduleRepository;
+
+    @Autowired
+    private AmortizationScheduleCalculator calculator;
+
+    @Autowired
+    private RateChangeRepricingProperties properties;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter casesRepriced;
+    private Counter installmentsReamortized;
+    private Counter failures;
+
+    @PostConstruct
+    void registerMetrics() {
+        casesRepriced = Counter.builder("loan.rate.change.cases.repriced")
+                .description("Cases re-amortized after a rate change")
+                .register(meterRegistry);
+        installmentsReamortized = Counter.builder("loan.rate.change.installments.reamortized")
+                .description("Installment plan and repayment schedule rows re-amortized after a rate change")
+                .register(meterRegistry);
+        failures = Counter.builder("loan.rate.change.failures")
+                .description("Cases whose pending rate changes could not be applied by the repricing job")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Long> reamortize(UUID loanServicingCaseId, LocalDate asOfDate) {
+        return reamortizeCase(loanServicingCaseId, asOfDate)
+                .map(Outcome::rateChanges);
+    }
+
+    @Override
+    public Mono<RateChangeRepricingResultDTO> reprice(LocalDate asOfDate) {
+        return Mono.defer(() -> {
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<CaseIdRange> ranges = CaseIdRange.partition(Math.max(1, properties.getPartitions()));
+            return Flux.fromIterable(ranges)
+                    .flatMap(range -> repricePartition(asOfDate, range), ranges.size())
+                    .reduce(EMPTY, Outcome::add)
+                    .map(total -> {
+                        log.info("Rate change repricing for {} applied {} rate changes to {} cases ({} rows), {} cases failed",
+                                asOfDate, total.rateChanges(), total.repriced(), total.installments(), total.failed());
+                        return RateChangeRepricingResultDTO.builder()
+                                .asOfDate(asOfDate)
+                                .casesRepriced(total.repriced())
+                                .rateChangesApplied(total.rateChanges())
+                                .installmentsReamortized(total.installments())
+                                .casesFailed(total.failed())
+                                .startedAt(startedAt)
+                                .completedAt(LocalDateTime.now())
+                                .build();
+                    });
+        });
+    }
+
+    private Mono<Outcome> repricePartition(LocalDate asOfDate, CaseIdRange range) {
+        int pageSize = Math.max(1, properties.getPageSize());
+        return repricePage(asOfDate, range.afterCaseId(), range.upToCaseId(), pageSize)
+                .expand(page -> page.read() < pageSize
+                        ? Mono.empty()
+                        : repricePage(asOfDate, page.lastCaseId(), range.upToCaseId(), pageSize))
+                .reduce(EMPTY, Outcome::add);
+    }
+
+    private Mono<Outcome> repricePage(LocalDate asOfDate, UUID afterCaseId, UUID upToCaseId, int pageSize) {
+        // The page is read to the end before any case is locked, so the keyset query does not hold a connection
+        // while the cases run in their own transactions
+        return loanRateChangeRepository.findCasesWithPendingChanges(asOfDate, afterCaseId, upToCaseId, pageSize)
+                .collectList()
+                .flatMap(caseIds -> caseIds.isEmpty()
+                        ? Mono.just(EMPTY)
+                        : Flux.fromIterable(caseIds)
+                                .flatMap(caseId -> reamortizeCase(caseId, asOfDate)
+                                        .onErrorResume(e -> {
+                                            log.warn("Rate change re-amortization of case {} failed: {}", caseId, e.getMessage());
+                                            failures.increment();
+                                            return Mono.just(FAILED);
+                                        }), Math.max(1, properties.getConcurrency()))
+                                .reduce(EMPTY, Outcome::add)
+                                .map(total -> total.page(caseIds.get(caseIds.size() - 1), caseIds.size())));
+    }
+
+    private Mono<Outcome> reamortizeCase(UUID loanServicingCaseId, LocalDate asOfDate) {
+        return loanServicingCaseRepository.findForUpdateByLoanServicingCaseId(loanServicingCaseId)
+                .flatMap(servicingCase -> loanRateChangeRepository
+                        .findByLoanServicingCaseIdAndAppliedAtIsNullAndEffectiveDateLessThanEqualOrderByEffectiveDateAscCreatedAtAsc(
+                                loanServicingCaseId, asOfDate)
+                        .collectList()
+                        .flatMap(changes -> changes.isEmpty() ? Mono.just(EMPTY) : apply(servicingCase, changes)))
+                .defaultIfEmpty(EMPTY)
+                .as(transactionalOperator::transactional)
+                .doOnNext(outcome -> {
+                    casesRepriced.increment(outcome.repriced());
+                    installmentsReamortized.increment(outcome.installments());
+                });
+    }
+
+    private Mono<Outcome> apply(LoanServicingCase servicingCase, List<LoanRateChange> changes) {
+        UUID caseId = servicingCase.getLoanServicingCaseId();
+        return loanInstallmentPlanRepository.findForUpdateByLoanServicingCaseIdOrderByDueDateAscInstallmentNumberAsc(caseId)
+                .collectList()
+                .flatMap(plans -> loanRepaymentScheduleRepository
+                        .findByLoanServicingCaseIdOrderByDueDateAscInstallmentNumberAsc(caseId)
+                        .collectList()
+                        .flatMap(schedules -> {
+                            LocalDateTime now = LocalDateTime.now();
+                            List<LoanInstallmentPlan> repricedPlans = write(plans,
+                                    reamortize(servicingCase, changes, plans.stream()
+                                            .map(plan -> new Row(plan.getDueDate(), Boolean.TRUE.equals(plan.getIsPaid()),
+                                                    plan.getPrincipalDue(), plan.getFeeDue()))
+                                            .toList()),
+                                    (plan, installment) -> {
+                                        plan.setPrincipalDue(installment.principalDue());
+                                        plan.setInterestDue(installment.interestDue());
+                                        plan.setTotalDue(installment.totalDue());
+                                        plan.setUpdatedAt(now);
+                                    });
+                            List<LoanRepaymentSchedule> repricedSchedules = write(schedules,
+                                    reamortize(servicingCase, changes, schedules.stream()
+                                            .map(schedule -> new Row(schedule.getDueDate(), Boolean.TRUE.equals(schedule.getIsPaid()),
+                                                    schedule.getPrincipalDue(), schedule.getFeeDue()))
+                                            .toList()),
+                                    (schedule, installment) -> {
+                                        schedule.setPrincipalDue(installment.principalDue());
+                                        schedule.setInterestDue(installment.interestDue());
+                                        schedule.setTotalDue(installment.totalDue());
+                                        schedule.setUpdatedAt(now);
+                                    });
+
+                            servicingCase.setInterestRate(changes.get(changes.size() - 1).getNewInterestRate());
+                            servicingCase.setUpdatedAt(now);
+                            changes.forEach(change -> {
+                                change.setAppliedAt(now);
+                                change.setUpdatedAt(now);
+                            });
+
+                            return loanInstallmentPlanRepository.updateAmountsDue(repricedPlans)
+                                    .then(loanRepaymentScheduleRepository.updateAmountsDue(repricedSchedules))
+                                    .then(loanServicingCaseRepository.save(servicingCase))
+                                    .then(caseCache.evictAfterCompletion(caseId))
+                                    .thenMany(loanRateChangeRepository.saveAll(changes))
+                                    .then(Mono.fromSupplier(() -> new Outcome(null, 0, 1, changes.size(),
+                                            repricedPlans.size() + repricedSchedules.size(), 0)));
+                        }));
+    }
+
+    /**
+     * Applies each change in turn to the rows of one table, which are in due date order. A change re-amortizes
+     * the unpaid rows due after its effective date; the remaining principal is the sum of their principal due,
+     * and interest starts accruing from the due date of the row before the first of them (or from origination).
+     *
+     * @return the recomputed installments by row index; rows that were not recomputed are absent
+     */
+    private Map<Integer, ScheduledInstallment> reamortize(LoanServicingCase servicingCase, List<LoanRateChange> changes,
+                                                          List<Row> rows) {
+        Map<Integer, ScheduledInstallment> repriced = new HashMap<>();
+        for (LoanRateChange change : changes) {
+            List<Integer> open = new ArrayList<>();
+            List<LocalDate> dueDates = new ArrayList<>();
+            BigDecimal principal = BigDecimal.ZERO;
+            for (int i = 0; i < rows.size(); i++) {
+                Row row = rows.get(i);
+                if (row.paid() || !row.dueDate().isAfter(change.getEffectiveDate())) {
+                    continue;
+                }
+                open.add(i);
+                dueDates.add(row.dueDate());
+                ScheduledInstallment current = repriced.get(i);
+                principal = principal.add(current != null ? current.principalDue() : nullToZero(row.principalDue()));
+            }
+            if (open.isEmpty()) {
+                continue;
+            }
+
+            int first = open.get(0);
+            ScheduleTerms terms = new ScheduleTerms(principal, change.getNewInterestRate(), open.size(),
+                    servicingCase.getAmortizationMethod(), servicingCase.getPaymentFrequency(),
+                    servicingCase.getDayCountConvention(), servicingCase.getInterestCalculationMethod(),
+                    first == 0 ? servicingCase.getOriginationDate() : rows.get(first - 1).dueDate(),
+                    first + 1);
+            List<ScheduledInstallment> installments = calculator.reamortize(terms, dueDates,
+                    change.getOldInterestRate(), change.getEffectiveDate());
+            for (int i = 0; i < open.size(); i++) {
+                ScheduledInstallment installment = installments.get(i);
+                BigDecimal fee = nullToZero(rows.get(open.get(i)).feeDue());
+                repriced.put(open.get(i), new ScheduledInstallment(installment.installmentNumber(),
+                        installment.dueDate(), installment.principalDue(), installment.interestDue(), fee,
+                        installment.totalDue().add(fee), installment.remainingPrincipal()));
+            }
+        }
+        return repriced;
+    }
+
+    private static <T> List<T> write(List<T> entities, Map<Integer, ScheduledInstallment> repriced,
+                                     BiConsumer<T, ScheduledInstallment> writer) {
+        List<T> written = new ArrayList<>(repriced.size());
+        for (int i = 0; i < entities.size(); i++) {
+            ScheduledInstallment installment = repriced.get(i);
+            if (installment != null) {
+                writer.accept(entities.get(i), installment);
+                written.add(entities.get(i));
+            }
+        }
+        return written;
+    }
+
+    private static BigDecimal nullToZero(BigDecimal amount) {
+        return amount == null ? BigDecimal.ZERO : amount;
+    }
+
+    /**
+     * The columns of an installment plan or repayment schedule row that re-amortization reads.
+     */
+    private record Row(LocalDate dueDate, boolean paid, BigDecimal principalDue, BigDecimal feeDue) {
+    }
+
+    /**
+     * Outcome of one or more cases: the keyset cursor and size of the last page, and the cases repriced, rate
+     * changes applied, rows re-amortized and cases failed.
+     */
+    record Outcome(UUID lastCaseId, long read, long repriced, long rateChanges, long installments, long failed) {
+
+        Outcome page(UUID lastCaseId, long read) {
+            return new Outcome(lastCaseId, read, repriced, rateChanges, installments, failed);
+        }
+
+        Outcome add(Outcome other) {
+            return new Outcome(other.lastCaseId, read + other.read, repriced + other.repriced,
+                    rateChanges + other.rateChanges, installments + other.installments, failed + other.failed);
+        }
+    }
+}
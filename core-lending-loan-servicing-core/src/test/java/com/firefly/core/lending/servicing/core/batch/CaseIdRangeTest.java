@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class to verify that case id ranges cover the id space without gaps or overlaps
+ */
+public class CaseIdRangeTest {
+
+    @Test
+    void testPartition_ContiguousAndUnbounded() {
+        List<CaseIdRange> ranges = CaseIdRange.partition(4);
+
+        assertEquals(4, ranges.size());
+        assertNull(ranges.get(0).afterCaseId());
+        assertNull(ranges.get(3).upToCaseId());
+        for (int i = 1; i < ranges.size(); i++) {
+            assertEquals(ranges.get(i - 1).upToCaseId(), ranges.get(i).afterCaseId());
+        }
+    }
+
+    @Test
+    void testNodeSlices_CoverSamePartitioningAsSingleNode() {
+        List<CaseIdRange> slices = new ArrayList<>();
+        for (int node = 0; node < 3; node++) {
+            slices.addAll(CaseIdRange.partition(2, node, 3));
+        }
+
+        assertEquals(CaseIdRange.partition(6), slices);
+    }
+
+    @Test
+    void testInvalidNodeIndex_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> CaseIdRange.partition(4, 2, 2));
+        assertThrows(IllegalArgumentException.class, () -> CaseIdRange.partition(0, 0, 1));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.cache;
+
+import com.firefly.core.lending.servicing.core.config.CacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class to verify the encoding of cache invalidations and their delivery between nodes
+ */
+public class CacheInvalidationTest {
+
+    @Test
+    void testFormatAndParse_RoundTripsKeysRegionsAndEverything() {
+        CacheInvalidation key = new CacheInvalidation(CacheRegion.LOAN_CURRENT_BALANCE, UUID.randomUUID());
+        CacheInvalidation region = new CacheInvalidation(CacheRegion.LOAN_SERVICING_CASE, null);
+
+        assertEquals(key, CacheInvalidation.parse(key.format()));
+        assertEquals(region, CacheInvalidation.parse(region.format()));
+        assertEquals("LOAN_SERVICING_CASE:*", region.format());
+        assertEquals(CacheInvalidation.EVERYTHING, CacheInvalidation.parse("*:*"));
+    }
+
+    @Test
+    void testAppliesTo_MatchesOwnRegionOrEverything() {
+        CacheInvalidation region = new CacheInvalidation(CacheRegion.LOAN_SERVICING_CASE, null);
+
+        assertTrue(region.appliesTo(CacheRegion.LOAN_SERVICING_CASE));
+        assertFalse(region.appliesTo(CacheRegion.LOAN_CURRENT_BALANCE));
+        for (CacheRegion cacheRegion : CacheRegion.values()) {
+            assertTrue(CacheInvalidation.EVERYTHING.appliesTo(cacheRegion));
+        }
+    }
+
+    @Test
+    void testParse_RejectsInvalidText() {
+        assertThrows(IllegalArgumentException.class, () -> CacheInvalidation.parse("LOAN_SERVICING_CASE"));
+        assertThrows(IllegalArgumentException.class, () -> CacheInvalidation.parse("UNKNOWN:*"));
+        assertThrows(IllegalArgumentException.class, () -> CacheInvalidation.parse("LOAN_SERVICING_CASE:not-a-uuid"));
+        assertThrows(IllegalArgumentException.class, () -> CacheInvalidation.parse("*:" + UUID.randomUUID()));
+    }
+
+    @Test
+    void testSharedBus_CommitOnOneNodeEvictsTheOther() {
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        CountingCache writer = new CountingCache(bus);
+        CountingCache reader = new CountingCache(bus);
+        UUID key = UUID.randomUUID();
+        StepVerifier.create(reader.get(key)).expectNext("load-1").verifyComplete();
+
+        StepVerifier.create(TransactionalOperator.create(new NoOpTransactionManager())
+                        .transactional(writer.evictAfterCompletion(key)))
+                .verifyComplete();
+
+        StepVerifier.create(reader.get(key)).expectNext("load-2").verifyComplete();
+        writer.close();
+        reader.close();
+    }
+
+    @Test
+    void testSharedBus_RollbackOnOneNodeKeepsTheOther() {
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        CountingCache writer = new CountingCache(bus);
+        CountingCache reader = new CountingCache(bus);
+        UUID key = UUID.randomUUID();
+        StepVerifier.create(reader.get(key)).expectNext("load-1").verifyComplete();
+
+        StepVerifier.create(TransactionalOperator.create(new NoOpTransactionManager())
+                        .execute(status -> {
+                            status.setRollbackOnly();
+                            return writer.evictAfterCompletion(key);
+                        }))
+                .verifyComplete();
+
+        StepVerifier.create(reader.get(key)).expectNext("load-1").verifyComplete();
+        writer.close();
+        reader.close();
+    }
+
+    /**
+     * A cache standing in for one node, loading a new value on every miss.
+     */
+    private static final class CountingCache extends ReadThroughCache<String> {
+
+        private final AtomicInteger loads = new AtomicInteger();
+
+        private CountingCache(CacheInvalidationBus bus) {
+            super(CacheRegion.LOAN_SERVICING_CASE);
+            ReflectionTestUtils.setField(this, ReadThroughCache.class, "properties", new CacheProperties(), null);
+            ReflectionTestUtils.setField(this, ReadThroughCache.class, "invalidationBus", bus, null);
+            ReflectionTestUtils.setField(this, ReadThroughCache.class, "meterRegistry", new SimpleMeterRegistry(), null);
+            init();
+        }
+
+        @Override
+        protected Mono<String> load(UUID key) {
+            return Mono.fromSupplier(() -> "load-" + loads.incrementAndGet());
+        }
+    }
+
+    /**
+     * A transaction manager without a resource, so tests get real transaction synchronization.
+     */
+    private static final class NoOpTransactionManager extends AbstractReactiveTransactionManager {
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                     TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                      GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                        GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.cache;
+
+import com.firefly.core.lending.servicing.core.config.CacheProperties;
+import com.firefly.core.lending.servicing.core.mappers.LoanServicingCaseMapper;
+import com.firefly.core.lending.servicing.core.services.impl.LoanServicingCaseServiceImpl;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanServicingCaseDTO;
+import com.firefly.core.lending.servicing.models.entities.LoanServicingCase;
+import com.firefly.core.lending.servicing.models.repositories.LoanServicingCaseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class to verify the case cache serves hits, reloads after writes and publishes its meters
+ */
+public class LoanServicingCaseCacheTest {
+
+    private static final UUID CASE_ID = UUID.randomUUID();
+
+    private LoanServicingCaseRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private LoanServicingCaseCache cache;
+    private LoanServicingCaseServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(LoanServicingCaseRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new LoanServicingCaseCache();
+        ReflectionTestUtils.setField(cache, "repository", repository);
+        ReflectionTestUtils.setField(cache, "properties", new CacheProperties());
+        ReflectionTestUtils.setField(cache, "invalidationBus", new InMemoryCacheInvalidationBus());
+        ReflectionTestUtils.setField(cache, "meterRegistry", meterRegistry);
+        cache.init();
+
+        LoanServicingCaseMapper mapper = Mockito.mock(LoanServicingCaseMapper.class);
+        when(mapper.toEntity(any(LoanServicingCaseDTO.class))).thenAnswer(invocation -> LoanServicingCase.builder()
+                .remarks(invocation.<LoanServicingCaseDTO>getArgument(0).getRemarks())
+                .build());
+        when(mapper.toDTO(any(LoanServicingCase.class))).thenAnswer(invocation -> LoanServicingCaseDTO.builder()
+                .loanServicingCaseId(invocation.<LoanServicingCase>getArgument(0).getLoanServicingCaseId())
+                .remarks(invocation.<LoanServicingCase>getArgument(0).getRemarks())
+                .build());
+        service = new LoanServicingCaseServiceImpl();
+        ReflectionTestUtils.setField(service, "repository", repository);
+        ReflectionTestUtils.setField(service, "mapper", mapper);
+        ReflectionTestUtils.setField(service, "caseCache", cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+    }
+
+    @Test
+    void testGet_MissLoadsOnceThenHits() {
+        when(repository.findById(CASE_ID)).thenReturn(Mono.just(servicingCase("original")));
+
+        StepVerifier.create(cache.get(CASE_ID)).expectNextMatches(c -> c.getRemarks().equals("original")).verifyComplete();
+        StepVerifier.create(cache.get(CASE_ID)).expectNextMatches(c -> c.getRemarks().equals("original")).verifyComplete();
+
+        verify(repository, times(1)).findById(CASE_ID);
+        assertEquals(1.0, gets("hit"));
+        assertEquals(1.0, gets("miss"));
+    }
+
+    @Test
+    void testGet_MissingCaseIsNotCached() {
+        when(repository.findById(CASE_ID)).thenReturn(Mono.empty());
+
+        StepVerifier.create(cache.get(CASE_ID)).verifyComplete();
+        StepVerifier.create(cache.get(CASE_ID)).verifyComplete();
+
+        verify(repository, times(2)).findById(CASE_ID);
+    }
+
+    @Test
+    void testUpdate_EvictsCachedCase() {
+        when(repository.findById(CASE_ID)).thenReturn(
+                Mono.just(servicingCase("original")),
+                Mono.just(servicingCase("original")),
+                Mono.just(servicingCase("updated")));
+        when(repository.save(any(LoanServicingCase.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(cache.get(CASE_ID)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(service.update(CASE_ID, LoanServicingCaseDTO.builder().remarks("updated").build()))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(cache.get(CASE_ID)).expectNextMatches(c -> c.getRemarks().equals("updated")).verifyComplete();
+        verify(repository, times(3)).findById(CASE_ID);
+    }
+
+    @Test
+    void testDelete_EvictsCachedCase() {
+        when(repository.findById(CASE_ID)).thenReturn(Mono.just(servicingCase("original")), Mono.empty());
+        when(repository.deleteById(CASE_ID)).thenReturn(Mono.empty());
+
+        StepVerifier.create(cache.get(CASE_ID)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(service.delete(CASE_ID)).verifyComplete();
+
+        StepVerifier.create(cache.get(CASE_ID)).verifyComplete();
+        verify(repository, times(2)).findById(CASE_ID);
+    }
+
+    @Test
+    void testInit_RegistersMetersUnderCacheName() {
+        String cacheName = CacheRegion.LOAN_SERVICING_CASE.cacheName();
+
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", cacheName).tag("result", "hit").functionCounter());
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", cacheName).tag("result", "miss").functionCounter());
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", cacheName).functionCounter());
+        assertNotNull(meterRegistry.find("cache.size").tag("cache", cacheName).gauge());
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CacheRegion.LOAN_SERVICING_CASE.cacheName())
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private static LoanServicingCase servicingCase(String remarks) {
+        return LoanServicingCase.builder()
+                .loanServicingCaseId(CASE_ID)
+                .remarks(remarks)
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import com.firefly.core.lending.servicing.interfaces.enums.AmortizationMethodEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.DayCountConventionEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.InterestCalculationMethodEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentFrequencyEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class to verify schedule generation for every amortization method and payment frequency
+ */
+public class AmortizationScheduleCalculatorTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 15);
+
+    private AmortizationScheduleCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        calculator = new AmortizationScheduleCalculator();
+    }
+
+    @Test
+    void testEqualInstallment_ThirtyYearMortgage_MatchesAnnuityPayment() {
+        List<ScheduledInstallment> schedule = calculator.calculate(terms(new BigDecimal("200000"), new BigDecimal("6"), 360,
+                AmortizationMethodEnum.EQUAL_INSTALLMENT, PaymentFrequencyEnum.MONTHLY, DayCountConventionEnum.THIRTY_360));
+
+        assertEquals(360, schedule.size());
+        assertEquals(new BigDecimal("1000.00"), schedule.get(0).interestDue());
+        assertEquals(new BigDecimal("199.10"), schedule.get(0).principalDue());
+        assertEquals(new BigDecimal("1199.10"), schedule.get(0).totalDue());
+        assertEquals(LocalDate.of(2055, 1, 15), schedule.get(359).dueDate());
+        assertEquals(0, schedule.get(359).remainingPrincipal().signum());
+    }
+
+    @Test
+    void testEqualPrincipal_PrincipalSplitEvenly() {
+        List<ScheduledInstallment> schedule = calculator.calculate(terms(new BigDecimal("12000"), new BigDecimal("5"), 12,
+                AmortizationMethodEnum.EQUAL_PRINCIPAL, PaymentFrequencyEnum.MONTHLY, DayCountConventionEnum.ACTUAL_365));
+
+        schedule.forEach(installment -> assertEquals(new BigDecimal("1000.00"), installment.principalDue()));
+        assertTrue(schedule.get(0).interestDue().compareTo(schedule.get(11).interestDue()) > 0);
+    }
+
+    @Test
+    void testInterestOnly_PrincipalDueAtMaturity() {
+        List<ScheduledInstallment> schedule = calculator.calculate(terms(new BigDecimal("50000"), new BigDecimal("8"), 4,
+                AmortizationMethodEnum.INTEREST_ONLY, PaymentFrequencyEnum.QUARTERLY, DayCountConventionEnum.THIRTY_360));
+
+        assertEquals(0, schedule.get(0).principalDue().signum());
+        assertEquals(new BigDecimal("1000.00"), schedule.get(0).interestDue());
+        assertEquals(new BigDecimal("50000.00"), schedule.get(3).principalDue());
+    }
+
+    @Test
+    void testBullet_SingleInstallmentAtMaturity() {
+        List<ScheduledInstallment> schedule = calculator.calculate(terms(new BigDecimal("10000"), new BigDecimal("10"), 12,
+                AmortizationMethodEnum.BULLET, PaymentFrequencyEnum.MONTHLY, DayCountConventionEnum.THIRTY_360));
+
+        assertEquals(1, schedule.size());
+        assertEquals(LocalDate.of(2026, 1, 15), schedule.get(0).dueDate());
+        assertEquals(new BigDecimal("11000.00"), schedule.get(0).totalDue());
+    }
+
+    @Test
+    void testAllMethodsAndFrequencies_RepayFullPrincipal() {
+        BigDecimal principal = new BigDecimal("10000.00");
+        for (AmortizationMethodEnum method : AmortizationMethodEnum.values()) {
+            for (PaymentFrequencyEnum frequency : PaymentFrequencyEnum.values()) {
+                for (DayCountConventionEnum convention : DayCountConventionEnum.values()) {
+                    List<ScheduledInstallment> schedule = calculator.calculate(
+                            terms(principal, new BigDecimal("7.5"), 24, method, frequency, convention));
+
+                    BigDecimal repaid = schedule.stream()
+                            .map(ScheduledInstallment::principalDue)
+                            .reduce(BigDecimal.ZERO, BigDecimal::add);
+                    assertEquals(0, principal.compareTo(repaid), method + "/" + frequency + "/" + convention);
+                    for (int i = 1; i < schedule.size(); i++) {
+                        assertTrue(schedule.get(i).dueDate().isAfter(schedule.get(i - 1).dueDate()));
+                        assertTrue(schedule.get(i).principalDue().signum() >= 0);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testActualActual_SplitsLeapYear() {
+        BigDecimal fraction = DayCountCalculator.yearFraction(DayCountConventionEnum.ACTUAL_ACTUAL,
+                LocalDate.of(2023, 7, 1), LocalDate.of(2024, 7, 1));
+
+        BigDecimal expected = new BigDecimal("184").divide(new BigDecimal("365"), DayCountCalculator.MC)
+                .add(new BigDecimal("182").divide(new BigDecimal("366"), DayCountCalculator.MC));
+        assertTrue(expected.subtract(fraction).abs().compareTo(new BigDecimal("1E-12")) < 0);
+    }
+
+    @Test
+    void testReamortize_RepaysRemainingPrincipalOnExistingDueDates() {
+        List<ScheduledInstallment> original = calculator.calculate(terms(new BigDecimal("12000"), new BigDecimal("6"), 12,
+                AmortizationMethodEnum.EQUAL_INSTALLMENT, PaymentFrequencyEnum.MONTHLY, DayCountConventionEnum.THIRTY_360));
+        List<ScheduledInstallment> remaining = original.subList(4, 12);
+        BigDecimal outstanding = original.get(3).remainingPrincipal();
+
+        List<ScheduledInstallment> schedule = calculator.reamortize(
+                new ScheduleTerms(outstanding, new BigDecimal("9"), remaining.size(),
+                        AmortizationMethodEnum.EQUAL_INSTALLMENT, PaymentFrequencyEnum.MONTHLY,
+                        DayCountConventionEnum.THIRTY_360, InterestCalculationMethodEnum.REDUCING_BALANCE,
+                        original.get(3).dueDate(), 5),
+                remaining.stream().map(ScheduledInstallment::dueDate).toList(),
+                new BigDecimal("6"), original.get(3).dueDate());
+
+        assertEquals(8, schedule.size());
+        for (int i = 0; i < schedule.size(); i++) {
+            assertEquals(remaining.get(i).installmentNumber(), schedule.get(i).installmentNumber());
+            assertEquals(remaining.get(i).dueDate(), schedule.get(i).dueDate());
+        }
+        BigDecimal repaid = schedule.stream()
+                .map(ScheduledInstallment::principalDue)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(0, outstanding.compareTo(repaid));
+        assertTrue(schedule.get(0).totalDue().compareTo(remaining.get(0).totalDue()) > 0);
+    }
+
+    @Test
+    void testReamortize_SplitsFirstPeriodInterestAtEffectiveDate() {
+        List<ScheduledInstallment> schedule = calculator.reamortize(
+                terms(new BigDecimal("12000"), new BigDecimal("12"), 2,
+                        AmortizationMethodEnum.EQUAL_PRINCIPAL, PaymentFrequencyEnum.MONTHLY, DayCountConventionEnum.THIRTY_360),
+                List.of(LocalDate.of(2025, 2, 15), LocalDate.of(2025, 3, 15)),
+                new BigDecimal("6"), LocalDate.of(2025, 1, 30));
+
+        assertEquals(new BigDecimal("90.00"), schedule.get(0).interestDue());
+        assertEquals(new BigDecimal("60.00"), schedule.get(1).interestDue());
+    }
+
+    private ScheduleTerms terms(BigDecimal principal, BigDecimal rate, int installments,
+                                AmortizationMethodEnum method, PaymentFrequencyEnum frequency,
+                                DayCountConventionEnum convention) {
+        return new ScheduleTerms(principal, rate, installments, method, frequency, convention,
+                InterestCalculationMethodEnum.REDUCING_BALANCE, START, 1);
+    }
+}
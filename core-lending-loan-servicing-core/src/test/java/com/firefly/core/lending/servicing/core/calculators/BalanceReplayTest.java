@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import com.firefly.core.lending.servicing.interfaces.enums.AccrualTypeEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentAllocationComponentEnum;
+import com.firefly.core.lending.servicing.models.projections.BalanceDrift;
+import com.firefly.core.lending.servicing.models.projections.BalanceLedgerEntry;
+import com.firefly.core.lending.servicing.models.projections.BalanceLedgerEntry.EntryType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Test class to verify balance replay from the ledgers and drift detection on snapshots
+ */
+public class BalanceReplayTest {
+
+    private static final List<PaymentAllocationComponentEnum> WATERFALL = List.of(
+            PaymentAllocationComponentEnum.FEE,
+            PaymentAllocationComponentEnum.INTEREST,
+            PaymentAllocationComponentEnum.PRINCIPAL);
+
+    private static final UUID CASE_A = new UUID(0L, 1L);
+    private static final UUID CASE_B = new UUID(0L, 2L);
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 31);
+
+    @Test
+    void testPaymentsAndRebatesFollowTheWaterfall() {
+        BalanceReplay replay = new BalanceReplay(WATERFALL);
+        replay.apply(movement(CASE_A, EntryType.DISBURSEMENT, "10000.00", null));
+        replay.apply(movement(CASE_A, EntryType.ACCRUAL, "50.00", AccrualTypeEnum.INTEREST));
+        replay.apply(movement(CASE_A, EntryType.ACCRUAL, "25.00", AccrualTypeEnum.LATE_FEE));
+        replay.apply(movement(CASE_A, EntryType.PAYMENT, "60.00", null));
+        replay.apply(movement(CASE_A, EntryType.REBATE, "115.00", null));
+
+        assertNull(replay.apply(snapshot(CASE_A, "9900.00", "0.00", "0.00", "9900.00")));
+        assertEquals(1, replay.snapshots());
+    }
+
+    @Test
+    void testDriftedSnapshot_ReportsRecordedAndReplayedAmounts() {
+        BalanceReplay replay = new BalanceReplay(WATERFALL);
+        replay.apply(movement(CASE_A, EntryType.DISBURSEMENT, "1000.00", null));
+        replay.apply(movement(CASE_A, EntryType.ACCRUAL, "10.00", AccrualTypeEnum.INTEREST));
+
+        BalanceDrift drift = replay.apply(snapshot(CASE_A, "1000.00", "0.00", "0.00", "1000.00"));
+
+        assertEquals(new BigDecimal("1000.00"), drift.recordedTotalOutstanding());
+        assertEquals(new BigDecimal("10.00"), drift.expectedInterestOutstanding());
+        assertEquals(new BigDecimal("1010.00"), drift.expectedTotalOutstanding());
+        assertEquals(CASE_A, drift.loanServicingCaseId());
+    }
+
+    @Test
+    void testOverpayment_NeverGoesBelowZero() {
+        BalanceReplay replay = new BalanceReplay(WATERFALL);
+        replay.apply(movement(CASE_A, EntryType.DISBURSEMENT, "100.00", null));
+        replay.apply(movement(CASE_A, EntryType.PAYMENT, "150.00", null));
+
+        assertNull(replay.apply(snapshot(CASE_A, "0.00", "0.00", "0.00", "0.00")));
+    }
+
+    @Test
+    void testNewCase_StartsFromZero() {
+        BalanceReplay replay = new BalanceReplay(WATERFALL);
+        replay.apply(movement(CASE_A, EntryType.CASE, null, null));
+        replay.apply(movement(CASE_A, EntryType.DISBURSEMENT, "500.00", null));
+        replay.apply(movement(CASE_B, EntryType.CASE, null, null));
+
+        assertNull(replay.apply(snapshot(CASE_B, "0.00", "0.00", "0.00", "0.00")));
+        assertEquals(2, replay.cases());
+        assertEquals(CASE_B, replay.lastCaseId());
+    }
+
+    @Test
+    void testCaseWithoutDisbursements_OpensWithCasePrincipal() {
+        BalanceReplay replay = new BalanceReplay(WATERFALL);
+        replay.apply(movement(CASE_A, EntryType.CASE, "2000.00", null));
+        replay.apply(movement(CASE_A, EntryType.ACCRUAL, "8.00", AccrualTypeEnum.INTEREST));
+        replay.apply(movement(CASE_A, EntryType.PAYMENT, "108.00", null));
+
+        assertNull(replay.apply(snapshot(CASE_A, "1900.00", "0.00", "0.00", "1900.00")));
+        BalanceDrift drift = replay.apply(snapshot(CASE_A, "0.00", "0.00", "0.00", "0.00"));
+        assertEquals(new BigDecimal("1900.00"), drift.expectedPrincipalOutstanding());
+    }
+
+    @Test
+    void testRunningBalance_TracksEachMovement() {
+        BalanceReplay replay = new BalanceReplay(WATERFALL);
+        replay.disburse(new BigDecimal("1000.00"));
+        replay.accrue(AccrualTypeEnum.INTEREST, new BigDecimal("10.00"));
+        replay.accrue(AccrualTypeEnum.LATE_FEE, new BigDecimal("5.00"));
+        replay.credit(new BigDecimal("12.00"));
+
+        assertEquals(new BigDecimal("1000.00"), replay.principalOutstanding());
+        assertEquals(new BigDecimal("3.00"), replay.interestOutstanding());
+        assertEquals(0, replay.feesOutstanding().signum());
+    }
+
+    private static BalanceLedgerEntry movement(UUID caseId, EntryType type, String amount, AccrualTypeEnum accrualType) {
+        return new BalanceLedgerEntry(caseId, type, UUID.randomUUID(), type == EntryType.CASE ? null : DAY,
+                amount == null ? null : new BigDecimal(amount), accrualType, Objects.toString(accrualType, null),
+                null, null, null, null);
+    }
+
+    private static BalanceLedgerEntry snapshot(UUID caseId, String principal, String interest, String fees, String total) {
+        return new BalanceLedgerEntry(caseId, EntryType.SNAPSHOT, UUID.randomUUID(), DAY, null, null, null,
+                new BigDecimal(principal), new BigDecimal(interest), new BigDecimal(fees), new BigDecimal(total));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class to verify escrow projections, shortages, surpluses and the resulting monthly payment
+ */
+public class EscrowAnalysisCalculatorTest {
+
+    private static final LocalDate ANALYSIS_DATE = LocalDate.of(2025, 1, 1);
+
+    private EscrowAnalysisCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        calculator = new EscrowAnalysisCalculator();
+    }
+
+    @Test
+    void testShortage_SpreadOverTwelvePayments() {
+        EscrowProjection projection = calculator.project(BigDecimal.ZERO, new BigDecimal("200"),
+                new BigDecimal("1200"), LocalDate.of(2025, 6, 15), ANALYSIS_DATE);
+
+        assertEquals(new BigDecimal("-600.00"), projection.projectedLowBalance());
+        assertEquals(new BigDecimal("0.00"), projection.projectedEndingBalance());
+        assertEquals(new BigDecimal("800.00"), projection.shortage());
+        assertEquals(new BigDecimal("0.00"), projection.surplus());
+        assertEquals(new BigDecimal("166.67"), projection.monthlyPaymentAmount());
+    }
+
+    @Test
+    void testSurplus_KeepsBasePayment() {
+        EscrowProjection projection = calculator.project(new BigDecimal("2000"), new BigDecimal("200"),
+                new BigDecimal("1200"), LocalDate.of(2025, 6, 15), ANALYSIS_DATE);
+
+        assertEquals(new BigDecimal("1400.00"), projection.projectedLowBalance());
+        assertEquals(new BigDecimal("1200.00"), projection.surplus());
+        assertEquals(new BigDecimal("0.00"), projection.shortage());
+        assertEquals(new BigDecimal("100.00"), projection.monthlyPaymentAmount());
+    }
+
+    @Test
+    void testPassedDisbursementDate_RolledForward() {
+        assertEquals(LocalDate.of(2025, 3, 1),
+                EscrowAnalysisCalculator.disbursementDate(LocalDate.of(2023, 3, 1), ANALYSIS_DATE));
+        assertEquals(LocalDate.of(2025, 12, 31), EscrowAnalysisCalculator.disbursementDate(null, ANALYSIS_DATE));
+    }
+
+    @Test
+    void testBasePayment_RoundedUp() {
+        EscrowProjection projection = calculator.project(new BigDecimal("5000"), BigDecimal.ZERO,
+                new BigDecimal("1000"), LocalDate.of(2025, 9, 1), ANALYSIS_DATE);
+
+        assertEquals(new BigDecimal("83.34"), projection.monthlyPaymentAmount());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import com.firefly.core.lending.servicing.interfaces.enums.DayCountConventionEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.InterestCalculationMethodEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class to verify daily interest accrual at the nominal rate for each day count convention
+ */
+public class InterestAccrualCalculatorTest {
+
+    private static final BigDecimal RATE = new BigDecimal("12");
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    private InterestAccrualCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        calculator = new InterestAccrualCalculator();
+    }
+
+    @Test
+    void testActual360_UsesNominalDailyRate() {
+        BigDecimal interest = calculator.dailyInterest(new BigDecimal("100000.00"), RATE,
+                DayCountConventionEnum.ACTUAL_360, START);
+
+        assertEquals(new BigDecimal("33.33"), interest);
+    }
+
+    @Test
+    void testActual365_UsesNominalDailyRate() {
+        BigDecimal interest = calculator.dailyInterest(new BigDecimal("100000.00"), RATE,
+                DayCountConventionEnum.ACTUAL_365, START);
+
+        assertEquals(new BigDecimal("32.88"), interest);
+    }
+
+    @Test
+    void testOneYearOnUnchangedBase_NotBelowSimpleInterest() {
+        // The run accrues on the current balance, which its own accruals do not change
+        BigDecimal balance = new BigDecimal("100000.00");
+        BigDecimal accrued = BigDecimal.ZERO;
+        for (LocalDate day = START; day.getYear() == START.getYear(); day = day.plusDays(1)) {
+            accrued = accrued.add(calculator.dailyInterest(balance, RATE, DayCountConventionEnum.ACTUAL_365, day));
+        }
+
+        assertEquals(new BigDecimal("12001.20"), accrued);
+    }
+
+    @Test
+    void testCompoundingBase_IncludesUnpaidInterest() {
+        assertEquals(new BigDecimal("1050.00"), InterestAccrualCalculator.interestBase(
+                InterestCalculationMethodEnum.COMPOUND, new BigDecimal("2000.00"), new BigDecimal("1000.00"),
+                new BigDecimal("50.00")));
+        assertEquals(new BigDecimal("1000.00"), InterestAccrualCalculator.interestBase(
+                InterestCalculationMethodEnum.SIMPLE, new BigDecimal("2000.00"), new BigDecimal("1000.00"),
+                new BigDecimal("50.00")));
+    }
+
+    @Test
+    void testZeroBalance_ReturnsZero() {
+        BigDecimal interest = calculator.dailyInterest(BigDecimal.ZERO, RATE,
+                DayCountConventionEnum.ACTUAL_365, START);
+
+        assertEquals(new BigDecimal("0.00"), interest);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentAllocationComponentEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanInstallmentPlan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static com.firefly.core.lending.servicing.interfaces.enums.PaymentAllocationComponentEnum.FEE;
+import static com.firefly.core.lending.servicing.interfaces.enums.PaymentAllocationComponentEnum.INTEREST;
+import static com.firefly.core.lending.servicing.interfaces.enums.PaymentAllocationComponentEnum.PRINCIPAL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class to verify how payments are split across installments and components
+ */
+public class PaymentAllocationCalculatorTest {
+
+    private static final List<PaymentAllocationComponentEnum> DEFAULT_WATERFALL = List.of(FEE, INTEREST, PRINCIPAL);
+
+    private PaymentAllocationCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        calculator = new PaymentAllocationCalculator();
+    }
+
+    @Test
+    void testExactPayment_SettlesOldestInstallment() {
+        LoanInstallmentPlan first = installment("10.00", "50.00", "200.00", null);
+        LoanInstallmentPlan second = installment("10.00", "45.00", "205.00", null);
+
+        PaymentAllocation allocation = calculator.allocate(new BigDecimal("260.00"), List.of(first, second), DEFAULT_WATERFALL);
+
+        assertEquals(1, allocation.installments().size());
+        InstallmentAllocation paid = allocation.installments().get(0);
+        assertEquals(first.getLoanInstallmentPlanId(), paid.installmentPlanId());
+        assertTrue(paid.fullyPaid());
+        assertEquals(new BigDecimal("260.00"), paid.paidAmount());
+        assertEquals(0, allocation.unapplied().signum());
+    }
+
+    @Test
+    void testPartialPayment_FollowsWaterfallWithinInstallment() {
+        LoanInstallmentPlan installment = installment("10.00", "50.00", "200.00", null);
+
+        PaymentAllocation allocation = calculator.allocate(new BigDecimal("40.00"), List.of(installment), DEFAULT_WATERFALL);
+
+        InstallmentAllocation paid = allocation.installments().get(0);
+        assertFalse(paid.fullyPaid());
+        assertEquals(new BigDecimal("10.00"), paid.feePaid());
+        assertEquals(new BigDecimal("30.00"), paid.interestPaid());
+        assertEquals(0, paid.principalPaid().signum());
+    }
+
+    @Test
+    void testPreviouslyPartiallyPaid_ResumesWhereEarlierPaymentStopped() {
+        LoanInstallmentPlan installment = installment("10.00", "50.00", "200.00", "40.00");
+
+        PaymentAllocation allocation = calculator.allocate(new BigDecimal("30.00"), List.of(installment), DEFAULT_WATERFALL);
+
+        InstallmentAllocation paid = allocation.installments().get(0);
+        assertEquals(0, paid.feePaid().signum());
+        assertEquals(new BigDecimal("20.00"), paid.interestPaid());
+        assertEquals(new BigDecimal("10.00"), paid.principalPaid());
+        assertEquals(new BigDecimal("70.00"), paid.paidAmount());
+    }
+
+    @Test
+    void testCustomWaterfall_PrincipalFirst() {
+        LoanInstallmentPlan installment = installment("10.00", "50.00", "200.00", null);
+
+        PaymentAllocation allocation = calculator.allocate(new BigDecimal("220.00"), List.of(installment),
+                List.of(PRINCIPAL, INTEREST, FEE));
+
+        assertEquals(new BigDecimal("200.00"), allocation.principalPaid());
+        assertEquals(new BigDecimal("20.00"), allocation.interestPaid());
+        assertEquals(0, allocation.feesPaid().signum());
+    }
+
+    @Test
+    void testOverpayment_ReportsUnappliedAmount() {
+        LoanInstallmentPlan first = installment("0.00", "5.00", "95.00", null);
+        LoanInstallmentPlan second = installment("0.00", "4.00", "96.00", null);
+
+        PaymentAllocation allocation = calculator.allocate(new BigDecimal("250.00"), List.of(first, second), DEFAULT_WATERFALL);
+
+        assertEquals(2, allocation.installments().size());
+        allocation.installments().forEach(paid -> assertTrue(paid.fullyPaid()));
+        assertEquals(new BigDecimal("50.00"), allocation.unapplied());
+    }
+
+    @Test
+    void testInvalidWaterfall_Rejected() {
+        List<LoanInstallmentPlan> installments = List.of(installment("0.00", "5.00", "95.00", null));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> calculator.allocate(BigDecimal.TEN, installments, List.of(FEE, INTEREST)));
+        assertThrows(IllegalArgumentException.class,
+                () -> calculator.allocate(BigDecimal.TEN, installments, List.of(FEE, FEE, PRINCIPAL)));
+        assertThrows(IllegalArgumentException.class,
+                () -> calculator.allocate(BigDecimal.ZERO, installments, DEFAULT_WATERFALL));
+    }
+
+    private LoanInstallmentPlan installment(String fee, String interest, String principal, String paidAmount) {
+        return LoanInstallmentPlan.builder()
+                .loanInstallmentPlanId(UUID.randomUUID())
+                .feeDue(new BigDecimal(fee))
+                .interestDue(new BigDecimal(interest))
+                .principalDue(new BigDecimal(principal))
+                .paidAmount(paidAmount == null ? null : new BigDecimal(paidAmount))
+                .isPaid(false)
+                .build();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.calculators;
+
+import com.firefly.core.lending.servicing.interfaces.enums.CompoundingFrequencyEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.DayCountConventionEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.InterestCalculationMethodEnum;
+import com.firefly.core.lending.servicing.models.projections.PayoffQuoteBasis;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class to verify payoff quotes project interest exactly as the daily accrual run would post it
+ */
+public class PayoffQuoteCalculatorTest {
+
+    private static final LocalDate BALANCE_DATE = LocalDate.of(2025, 1, 1);
+
+    private PayoffQuoteCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        calculator = new PayoffQuoteCalculator();
+    }
+
+    @Test
+    void testSimpleInterest_AddsProjectedInterestAndFeesLessRebates() {
+        PayoffQuote quote = calculator.quote(basis(InterestCalculationMethodEnum.SIMPLE,
+                DayCountConventionEnum.ACTUAL_365, new BigDecimal("100.00")), LocalDate.of(2025, 1, 31));
+
+        assertEquals(new BigDecimal("36500.00"), quote.principalOutstanding());
+        assertEquals(new BigDecimal("300.00"), quote.projectedInterest());
+        assertEquals(new BigDecimal("10.00"), quote.perDiem());
+        assertEquals(new BigDecimal("100.00"), quote.rebateCredit());
+        assertEquals(new BigDecimal("36775.00"), quote.payoffAmount());
+    }
+
+    @Test
+    void testCompounding_MatchesRunAccrualsAcrossLeapYearEnd() {
+        PayoffQuoteBasis basis = new PayoffQuoteBasis(UUID.randomUUID(), new BigDecimal("50000.00"),
+                LocalDate.of(2023, 6, 1), LocalDate.of(2028, 6, 1), new BigDecimal("48000.00"), new BigDecimal("120.00"), BigDecimal.ZERO,
+                LocalDate.of(2024, 11, 15), new BigDecimal("7.25"), InterestCalculationMethodEnum.COMPOUND,
+                CompoundingFrequencyEnum.DAILY, DayCountConventionEnum.ACTUAL_ACTUAL, BigDecimal.ZERO);
+        LocalDate payoffDate = LocalDate.of(2025, 3, 10);
+
+        InterestAccrualCalculator accrualCalculator = new InterestAccrualCalculator();
+        // The run accrues every day on the unchanged base of the current balance
+        BigDecimal base = new BigDecimal("48120.00");
+        BigDecimal accrued = BigDecimal.ZERO;
+        for (LocalDate day = basis.balanceDate(); day.isBefore(payoffDate); day = day.plusDays(1)) {
+            accrued = accrued.add(accrualCalculator.dailyInterest(base, basis.interestRate(),
+                    basis.dayCountConvention(), day));
+        }
+
+        PayoffQuote quote = calculator.quote(basis, payoffDate);
+
+        assertEquals(accrued, quote.projectedInterest());
+        assertEquals(new BigDecimal("48120.00").add(accrued), quote.payoffAmount());
+    }
+
+    @Test
+    void testThirty360_SeveralDatesInOneWalk_MatchSingleQuotes() {
+        PayoffQuoteBasis basis = basis(InterestCalculationMethodEnum.REDUCING_BALANCE,
+                DayCountConventionEnum.THIRTY_360, BigDecimal.ZERO);
+        List<LocalDate> dates = List.of(LocalDate.of(2025, 4, 30), LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 1));
+
+        List<PayoffQuote> quotes = calculator.quote(basis, dates);
+
+        assertEquals(4, quotes.size());
+        for (int i = 0; i < dates.size(); i++) {
+            assertEquals(calculator.quote(basis, dates.get(i)), quotes.get(i));
+        }
+        assertEquals(new BigDecimal("0.00"), quotes.get(1).projectedInterest());
+    }
+
+    @Test
+    void testThirty360_RunsOfDays_MatchDailyAccrualsOverTwoYears() {
+        PayoffQuoteBasis basis = basis(InterestCalculationMethodEnum.REDUCING_BALANCE,
+                DayCountConventionEnum.THIRTY_360, BigDecimal.ZERO);
+        LocalDate payoffDate = LocalDate.of(2027, 2, 28);
+
+        InterestAccrualCalculator accrualCalculator = new InterestAccrualCalculator();
+        // Reducing balance loans earn interest on the principal and the unpaid interest of the snapshot
+        BigDecimal base = new BigDecimal("36550.00");
+        BigDecimal accrued = BigDecimal.ZERO;
+        for (LocalDate day = BALANCE_DATE; day.isBefore(payoffDate); day = day.plusDays(1)) {
+            accrued = accrued.add(accrualCalculator.dailyInterest(base, basis.interestRate(),
+                    basis.dayCountConvention(), day));
+        }
+
+        assertEquals(accrued, calculator.quote(basis, payoffDate).projectedInterest());
+    }
+
+    @Test
+    void testNoBalanceSnapshot_ProjectsFromOrigination() {
+        PayoffQuoteBasis basis = new PayoffQuoteBasis(UUID.randomUUID(), new BigDecimal("36500.00"),
+                BALANCE_DATE, BALANCE_DATE.plusYears(5), null, null, null, null, new BigDecimal("10"), InterestCalculationMethodEnum.SIMPLE,
+                CompoundingFrequencyEnum.MONTHLY, DayCountConventionEnum.ACTUAL_365, BigDecimal.ZERO);
+
+        PayoffQuote quote = calculator.quote(basis, LocalDate.of(2025, 1, 11));
+
+        assertEquals(new BigDecimal("100.00"), quote.projectedInterest());
+        assertEquals(new BigDecimal("36600.00"), quote.payoffAmount());
+    }
+
+    @Test
+    void testPayoffDateBeforeBalanceDate_Throws() {
+        PayoffQuoteBasis basis = basis(InterestCalculationMethodEnum.SIMPLE, DayCountConventionEnum.ACTUAL_365,
+                BigDecimal.ZERO);
+
+        assertThrows(IllegalArgumentException.class, () -> calculator.quote(basis, LocalDate.of(2024, 12, 31)));
+    }
+
+    private PayoffQuoteBasis basis(InterestCalculationMethodEnum method, DayCountConventionEnum convention,
+                                   BigDecimal rebates) {
+        return new PayoffQuoteBasis(UUID.randomUUID(), new BigDecimal("40000.00"), LocalDate.of(2024, 1, 1),
+                LocalDate.of(2029, 1, 1), new BigDecimal("36500.00"), new BigDecimal("50.00"), new BigDecimal("25.00"), BALANCE_DATE,
+                new BigDecimal("10"), method, CompoundingFrequencyEnum.MONTHLY, convention, rebates);
+    }
+}
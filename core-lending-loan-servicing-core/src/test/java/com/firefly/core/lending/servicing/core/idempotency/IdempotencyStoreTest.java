@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.lending.servicing.core.config.IdempotencyProperties;
+import com.firefly.core.lending.servicing.models.entities.IdempotencyRecord;
+import com.firefly.core.lending.servicing.models.repositories.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class to verify idempotency keys run a request once, replay its response and reject misuse
+ */
+public class IdempotencyStoreTest {
+
+    private static final String SCOPE = "installment-records";
+    private static final String KEY = "key-1";
+    private static final Map<String, Object> REQUEST = Map.of("amount", 100);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private IdempotencyRecordRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyStore store;
+    private AtomicInteger runs;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(IdempotencyRecordRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        store = new IdempotencyStore();
+        ReflectionTestUtils.setField(store, "repository", repository);
+        ReflectionTestUtils.setField(store, "properties", new IdempotencyProperties());
+        ReflectionTestUtils.setField(store, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(store, "meterRegistry", meterRegistry);
+        store.init();
+        runs = new AtomicInteger();
+    }
+
+    @Test
+    void testExecute_ClaimedKey_RunsActionAndStoresResponse() {
+        when(repository.claim(eq(SCOPE), eq(KEY), any(byte[].class), any(), any())).thenReturn(Mono.just(true));
+        when(repository.complete(eq(SCOPE), eq(KEY), anyString())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(execute())
+                .expectNext(new Created("created-1"))
+                .verifyComplete();
+
+        assertEquals(1, runs.get());
+        verify(repository).complete(SCOPE, KEY, "{\"id\":\"created-1\"}");
+    }
+
+    @Test
+    void testExecute_CompletedKey_ReplaysStoredResponse() throws Exception {
+        when(repository.claim(eq(SCOPE), eq(KEY), any(byte[].class), any(), any())).thenReturn(Mono.just(false));
+        when(repository.findByIdempotencyScopeAndIdempotencyKey(SCOPE, KEY))
+                .thenReturn(Mono.just(record(hash(REQUEST), "{\"id\":\"created-0\"}")));
+
+        StepVerifier.create(execute())
+                .expectNext(new Created("created-0"))
+                .verifyComplete();
+
+        assertEquals(0, runs.get());
+        assertEquals(1.0, meterRegistry.get("loan.idempotency.replays").tag("scope", SCOPE).counter().count());
+    }
+
+    @Test
+    void testExecute_KeyReusedForDifferentRequest_Unprocessable() throws Exception {
+        when(repository.claim(eq(SCOPE), eq(KEY), any(byte[].class), any(), any())).thenReturn(Mono.just(false));
+        when(repository.findByIdempotencyScopeAndIdempotencyKey(SCOPE, KEY))
+                .thenReturn(Mono.just(record(hash(Map.of("amount", 200)), "{\"id\":\"created-0\"}")));
+
+        StepVerifier.create(execute())
+                .expectErrorSatisfies(error -> assertStatus(HttpStatus.UNPROCESSABLE_ENTITY, error))
+                .verify();
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void testExecute_ClaimWithoutResponse_Conflict() throws Exception {
+        when(repository.claim(eq(SCOPE), eq(KEY), any(byte[].class), any(), any())).thenReturn(Mono.just(false));
+        when(repository.findByIdempotencyScopeAndIdempotencyKey(SCOPE, KEY))
+                .thenReturn(Mono.just(record(hash(REQUEST), null)));
+
+        StepVerifier.create(execute())
+                .expectErrorSatisfies(error -> assertStatus(HttpStatus.CONFLICT, error))
+                .verify();
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void testExecute_BlankKey_BadRequest() {
+        StepVerifier.create(store.execute(SCOPE, " ", REQUEST, Created.class, this::create))
+                .expectErrorSatisfies(error -> assertStatus(HttpStatus.BAD_REQUEST, error))
+                .verify();
+        verify(repository, never()).claim(anyString(), anyString(), any(byte[].class), any(), any());
+    }
+
+    @Test
+    void testExecute_NoKey_RunsActionWithoutClaim() {
+        StepVerifier.create(store.execute(SCOPE, null, REQUEST, Created.class, this::create))
+                .expectNext(new Created("created-1"))
+                .verifyComplete();
+        verify(repository, never()).claim(anyString(), anyString(), any(byte[].class), any(), any());
+    }
+
+    private Mono<Created> execute() {
+        return store.execute(SCOPE, KEY, REQUEST, Created.class, this::create);
+    }
+
+    private Mono<Created> create() {
+        return Mono.fromSupplier(() -> new Created("created-" + runs.incrementAndGet()));
+    }
+
+    private byte[] hash(Object request) throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+    }
+
+    private static IdempotencyRecord record(byte[] requestHash, String responseBody) {
+        return IdempotencyRecord.builder()
+                .idempotencyScope(SCOPE)
+                .idempotencyKey(KEY)
+                .requestHash(requestHash)
+                .responseBody(responseBody)
+                .build();
+    }
+
+    private static void assertStatus(HttpStatus expected, Throwable error) {
+        assertEquals(expected, ((ResponseStatusException) error).getStatusCode());
+    }
+
+    record Created(String id) {
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.ingestion;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class to verify CSV line splitting used by payment file ingestion
+ */
+public class CsvLineParserTest {
+
+    @Test
+    void testPlainFields_SplitOnComma() {
+        assertEquals(List.of("a", "b", "c"), CsvLineParser.parse("a,b,c"));
+    }
+
+    @Test
+    void testEmptyFields_Preserved() {
+        assertEquals(List.of("", "b", ""), CsvLineParser.parse(",b,"));
+        assertEquals(List.of(""), CsvLineParser.parse(""));
+    }
+
+    @Test
+    void testQuotedFields_MayContainSeparatorsAndQuotes() {
+        assertEquals(List.of("ACME, Inc.", "say \"hi\"", "x"), CsvLineParser.parse("\"ACME, Inc.\",\"say \"\"hi\"\"\",x"));
+    }
+
+    @Test
+    void testMalformedQuotes_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> CsvLineParser.parse("\"open,b"));
+        assertThrows(IllegalArgumentException.class, () -> CsvLineParser.parse("\"a\"b,c"));
+    }
+}
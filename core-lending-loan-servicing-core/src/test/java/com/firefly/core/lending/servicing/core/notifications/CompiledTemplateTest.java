@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.notifications;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class to verify compilation and rendering of notification templates
+ */
+public class CompiledTemplateTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testRender_ResolvesNestedPlaceholders() throws Exception {
+        CompiledTemplate template = CompiledTemplate.compile(
+                "Dear {{ name }}, your installment of {{installment.amount}} {{installment.currency}} is due on {{installment.dueDate}}.");
+        JsonNode metadata = objectMapper.readTree(
+                "{\"name\":\"Ana\",\"installment\":{\"amount\":250.5,\"currency\":\"EUR\",\"dueDate\":\"2025-03-01\"}}");
+
+        assertEquals("Dear Ana, your installment of 250.5 EUR is due on 2025-03-01.", template.render(metadata));
+    }
+
+    @Test
+    void testRender_WithoutPlaceholders_NeedsNoMetadata() {
+        CompiledTemplate template = CompiledTemplate.compile("Your statement is available.");
+
+        assertFalse(template.hasPlaceholders());
+        assertEquals("Your statement is available.", template.render(null));
+    }
+
+    @Test
+    void testRender_ObjectValueRendersAsJson() throws Exception {
+        CompiledTemplate template = CompiledTemplate.compile("{{a}}|{{b}}");
+
+        assertEquals("{\"x\":1}|[1,2]", template.render(objectMapper.readTree("{\"a\":{\"x\":1},\"b\":[1,2]}")));
+    }
+
+    @Test
+    void testRender_MissingValue_Rejected() throws Exception {
+        CompiledTemplate template = CompiledTemplate.compile("Due {{installment.dueDate}}");
+
+        assertThrows(IllegalArgumentException.class, () -> template.render(objectMapper.readTree("{\"installment\":{}}")));
+        assertThrows(IllegalArgumentException.class, () -> template.render(null));
+    }
+
+    @Test
+    void testCompile_MalformedPlaceholder_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("Hello {{name"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("Hello {{ }}"));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.notifications;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class to verify the exponential backoff between notification delivery attempts
+ */
+public class RetryBackoffTest {
+
+    private final RetryBackoff backoff = new RetryBackoff(Duration.ofMinutes(1), Duration.ofHours(1), 2.0);
+
+    @Test
+    void testDelay_DoublesAfterEachFailure() {
+        assertEquals(Duration.ofMinutes(1), backoff.delay(1));
+        assertEquals(Duration.ofMinutes(2), backoff.delay(2));
+        assertEquals(Duration.ofMinutes(4), backoff.delay(3));
+        assertEquals(Duration.ofMinutes(32), backoff.delay(6));
+    }
+
+    @Test
+    void testDelay_CappedAtMaximum() {
+        assertEquals(Duration.ofHours(1), backoff.delay(7));
+        assertEquals(Duration.ofHours(1), backoff.delay(1000));
+    }
+
+    @Test
+    void testInvalidConfiguration_Rejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RetryBackoff(Duration.ZERO, Duration.ofHours(1), 2.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RetryBackoff(Duration.ofHours(2), Duration.ofHours(1), 2.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RetryBackoff(Duration.ofMinutes(1), Duration.ofHours(1), 0.5));
+    }
+}
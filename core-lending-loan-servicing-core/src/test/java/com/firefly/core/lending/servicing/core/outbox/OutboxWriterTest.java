@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.lending.servicing.interfaces.enums.OutboxEventTypeEnum;
+import com.firefly.core.lending.servicing.models.entities.ServicingOutboxEvent;
+import com.firefly.core.lending.servicing.models.repositories.ServicingOutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class to verify outbox events are stored in the transaction of the change, and only if it commits
+ */
+public class OutboxWriterTest {
+
+    private static final UUID CASE_ID = UUID.randomUUID();
+
+    private ServicingOutboxEventRepository repository;
+    private OutboxWriter writer;
+    private TransactionalOperator transactionalOperator;
+
+    /**
+     * Rows visible once their transaction has committed.
+     */
+    private List<ServicingOutboxEvent> committed;
+
+    @BeforeEach
+    void setUp() {
+        committed = new ArrayList<>();
+        repository = Mockito.mock(ServicingOutboxEventRepository.class);
+        // Fails when called outside a transaction, so the writer must run in the caller's
+        when(repository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<ServicingOutboxEvent> events = invocation.getArgument(0);
+            return TransactionSynchronizationManager.forCurrentTransaction()
+                    .doOnNext(synchronizationManager -> synchronizationManager.registerSynchronization(
+                            new TransactionSynchronization() {
+                                @Override
+                                public Mono<Void> afterCompletion(int status) {
+                                    return status == STATUS_COMMITTED
+                                            ? Mono.fromRunnable(() -> committed.addAll(events))
+                                            : Mono.empty();
+                                }
+                            }))
+                    .thenReturn((long) events.size());
+        });
+        writer = new OutboxWriter();
+        ReflectionTestUtils.setField(writer, "repository", repository);
+        ReflectionTestUtils.setField(writer, "objectMapper", new ObjectMapper());
+        transactionalOperator = TransactionalOperator.create(new NoOpTransactionManager());
+    }
+
+    @Test
+    void testAppend_ChangeCommits_EventStored() {
+        UUID aggregateId = UUID.randomUUID();
+
+        StepVerifier.create(writer.append(OutboxEventTypeEnum.DISBURSEMENT_CREATED, CASE_ID, aggregateId,
+                                Map.of("amount", 100))
+                        .as(transactionalOperator::transactional))
+                .expectNext(Map.of("amount", 100))
+                .verifyComplete();
+
+        assertEquals(1, committed.size());
+        ServicingOutboxEvent event = committed.get(0);
+        assertEquals(OutboxEventTypeEnum.DISBURSEMENT_CREATED, event.getEventType());
+        assertEquals(CASE_ID, event.getLoanServicingCaseId());
+        assertEquals(aggregateId, event.getAggregateId());
+        assertEquals("{\"amount\":100}", event.getPayload());
+    }
+
+    @Test
+    void testAppend_ChangeRollsBack_NothingStored() {
+        Mono<Object> change = writer.append(OutboxEventTypeEnum.DISBURSEMENT_CREATED, CASE_ID, UUID.randomUUID(),
+                        Map.of("amount", 100))
+                .then(Mono.error(new IllegalStateException("change failed")));
+
+        StepVerifier.create(change.as(transactionalOperator::transactional))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertTrue(committed.isEmpty());
+    }
+
+    @Test
+    void testAppendAll_KeepsListOrderInOneStatement() {
+        List<OutboxChange> changes = List.of(
+                new OutboxChange(OutboxEventTypeEnum.INSTALLMENT_RECORD_CREATED, CASE_ID, UUID.randomUUID(), "first"),
+                new OutboxChange(OutboxEventTypeEnum.INSTALLMENT_RECORD_UPDATED, CASE_ID, UUID.randomUUID(), "second"));
+
+        StepVerifier.create(writer.append(changes).as(transactionalOperator::transactional))
+                .expectNext(2L)
+                .verifyComplete();
+
+        verify(repository).insertAll(anyList());
+        assertEquals(List.of("\"first\"", "\"second\""),
+                committed.stream().map(ServicingOutboxEvent::getPayload).toList());
+    }
+
+    @Test
+    void testAppendAll_NoChanges_NoStatement() {
+        StepVerifier.create(writer.append(List.of())).expectNext(0L).verifyComplete();
+
+        verify(repository, never()).insertAll(anyList());
+    }
+
+    /**
+     * A transaction manager without a resource, so tests get real transaction synchronization.
+     */
+    private static final class NoOpTransactionManager extends AbstractReactiveTransactionManager {
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                     TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                      GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                        GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class to verify continuation token encoding for keyset pagination
+ */
+public class KeysetCursorTest {
+
+    @Test
+    void testEncodeDecode_RoundTripsMicrosecondTimestamp() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 3, 1, 10, 15, 30, 123_456_000), UUID.randomUUID());
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void testDecode_BlankTokenStartsFromFirstPage() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(""));
+    }
+
+    @Test
+    void testDecode_MalformedTokenRejected() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("djF8eHx5"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("%%%"));
+    }
+
+    @Test
+    void testPage_MalformedCursor_BadRequest() {
+        // v1|2025-03-01T10:15:30|not-a-uuid
+        String badId = "djF8MjAyNS0wMy0wMVQxMDoxNTozMHxub3QtYS11dWlk";
+
+        for (String cursor : List.of("%%%", "not-a-cursor", badId)) {
+            StepVerifier.create(new KeysetPaginator().page(Object.class, Criteria.empty(), cursor, null,
+                            Function.identity()))
+                    .expectErrorSatisfies(error -> assertEquals(HttpStatus.BAD_REQUEST,
+                            ((ResponseStatusException) error).getStatusCode()))
+                    .verify();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services.impl;
+
+import com.firefly.core.lending.servicing.core.mappers.LoanInstallmentPlanMapper;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanInstallmentPlanDTO;
+import com.firefly.core.lending.servicing.models.entities.LoanInstallmentPlan;
+import com.firefly.core.lending.servicing.models.repositories.LoanInstallmentPlanRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanServicingCaseRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class to verify bulk creation of installment plans only writes to an existing case
+ */
+@ExtendWith(MockitoExtension.class)
+public class LoanInstallmentPlanServiceImplTest {
+
+    private static final UUID CASE_ID = UUID.randomUUID();
+
+    @Mock
+    private LoanInstallmentPlanRepository repository;
+
+    @Mock
+    private LoanInstallmentPlanMapper mapper;
+
+    @Mock
+    private LoanServicingCaseRepository loanServicingCaseRepository;
+
+    @InjectMocks
+    private LoanInstallmentPlanServiceImpl service;
+
+    @Test
+    void testCreateAll_ExistingCase_InsertsEveryEntry() {
+        when(mapper.toEntity(any(LoanInstallmentPlanDTO.class))).thenAnswer(invocation -> new LoanInstallmentPlan());
+        when(mapper.toDTO(any(LoanInstallmentPlan.class))).thenAnswer(invocation -> {
+            LoanInstallmentPlan entity = invocation.getArgument(0);
+            return LoanInstallmentPlanDTO.builder()
+                    .loanInstallmentPlanId(entity.getLoanInstallmentPlanId())
+                    .loanServicingCaseId(entity.getLoanServicingCaseId())
+                    .build();
+        });
+        when(loanServicingCaseRepository.existsById(CASE_ID)).thenReturn(Mono.just(true));
+        when(repository.insertAll(anyList())).thenReturn(Mono.just(2L));
+
+        StepVerifier.create(service.createAll(CASE_ID,
+                        List.of(new LoanInstallmentPlanDTO(), new LoanInstallmentPlanDTO())))
+                .assertNext(created -> {
+                    assertEquals(2, created.size());
+                    created.forEach(dto -> assertEquals(CASE_ID, dto.getLoanServicingCaseId()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testCreateAll_UnknownCase_NotFoundAndNothingInserted() {
+        when(mapper.toEntity(any(LoanInstallmentPlanDTO.class))).thenAnswer(invocation -> new LoanInstallmentPlan());
+        when(loanServicingCaseRepository.existsById(CASE_ID)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(service.createAll(CASE_ID, List.of(new LoanInstallmentPlanDTO())))
+                .expectErrorSatisfies(error -> assertEquals(HttpStatus.NOT_FOUND,
+                        ((ResponseStatusException) error).getStatusCode()))
+                .verify();
+        verify(repository, never()).insertAll(anyList());
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services.impl;
+
+import com.firefly.core.lending.servicing.core.config.LoanLedgerProperties;
+import com.firefly.core.lending.servicing.core.config.PaymentAllocationProperties;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanLedgerEntryDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.AccrualTypeEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.LedgerEntryTypeEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.ReasonCodeEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanRateChange;
+import com.firefly.core.lending.servicing.models.projections.BalanceLedgerEntry;
+import com.firefly.core.lending.servicing.models.projections.BalanceLedgerEntry.EntryType;
+import com.firefly.core.lending.servicing.models.repositories.LoanBalanceRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanRateChangeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class to verify the ledger order, its running balance and the cap on concurrent streams
+ */
+public class LoanLedgerServiceImplTest {
+
+    private static final UUID CASE_ID = UUID.randomUUID();
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 1);
+
+    private LoanBalanceRepository balanceRepository;
+    private LoanRateChangeRepository rateChangeRepository;
+    private LoanLedgerProperties properties;
+    private LoanLedgerServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        balanceRepository = Mockito.mock(LoanBalanceRepository.class);
+        rateChangeRepository = Mockito.mock(LoanRateChangeRepository.class);
+        properties = new LoanLedgerProperties();
+
+        service = new LoanLedgerServiceImpl();
+        ReflectionTestUtils.setField(service, "balanceRepository", balanceRepository);
+        ReflectionTestUtils.setField(service, "rateChangeRepository", rateChangeRepository);
+        ReflectionTestUtils.setField(service, "paymentAllocationProperties", new PaymentAllocationProperties());
+        ReflectionTestUtils.setField(service, "properties", properties);
+        service.init();
+    }
+
+    @Test
+    void testStreamLedger_MergesRateChangesAndAppliesRunningBalance() {
+        when(balanceRepository.streamCaseLedger(CASE_ID)).thenReturn(Flux.just(
+                entry(EntryType.CASE, null, null, null),
+                entry(EntryType.DISBURSEMENT, DAY, "1000.00", null),
+                entry(EntryType.ACCRUAL, DAY.plusDays(1), "10.00", AccrualTypeEnum.INTEREST),
+                entry(EntryType.ACCRUAL, DAY.plusDays(1), "5.00", AccrualTypeEnum.LATE_FEE),
+                snapshot(DAY.plusDays(1)),
+                entry(EntryType.REBATE, DAY.plusDays(2), "20.00", null),
+                entry(EntryType.PAYMENT, DAY.plusDays(2), "100.00", null)));
+        when(rateChangeRepository.findByLoanServicingCaseIdOrderByEffectiveDateAscCreatedAtAsc(CASE_ID))
+                .thenReturn(Flux.just(LoanRateChange.builder()
+                        .loanRateChangeId(UUID.randomUUID())
+                        .loanServicingCaseId(CASE_ID)
+                        .newInterestRate(new BigDecimal("4.5"))
+                        .effectiveDate(DAY.plusDays(1))
+                        .reasonCode(ReasonCodeEnum.INDEX_ADJUSTMENT)
+                        .build()));
+
+        List<LoanLedgerEntryDTO> entries = service.streamLedger(CASE_ID).collectList().block();
+
+        assertEquals(List.of(LedgerEntryTypeEnum.DISBURSEMENT, LedgerEntryTypeEnum.RATE_CHANGE,
+                        LedgerEntryTypeEnum.ACCRUAL, LedgerEntryTypeEnum.ACCRUAL, LedgerEntryTypeEnum.REBATE,
+                        LedgerEntryTypeEnum.PAYMENT),
+                entries.stream().map(LoanLedgerEntryDTO::getEntryType).toList());
+        assertEquals("INDEX_ADJUSTMENT", entries.get(1).getDetail());
+        assertEquals("LATE_FEE", entries.get(3).getDetail());
+        assertBalance(entries.get(0), "1000.00", "0.00", "0.00");
+        assertBalance(entries.get(1), "1000.00", "0.00", "0.00");
+        assertBalance(entries.get(2), "1000.00", "10.00", "0.00");
+        assertBalance(entries.get(3), "1000.00", "10.00", "5.00");
+        assertBalance(entries.get(4), "995.00", "0.00", "0.00");
+        assertBalance(entries.get(5), "895.00", "0.00", "0.00");
+    }
+
+    @Test
+    void testStreamLedger_CaseWithoutDisbursements_OpensWithCasePrincipal() {
+        when(balanceRepository.streamCaseLedger(CASE_ID)).thenReturn(Flux.just(
+                entry(EntryType.CASE, null, "2000.00", null),
+                entry(EntryType.PAYMENT, DAY, "150.00", null)));
+        when(rateChangeRepository.findByLoanServicingCaseIdOrderByEffectiveDateAscCreatedAtAsc(CASE_ID))
+                .thenReturn(Flux.empty());
+
+        List<LoanLedgerEntryDTO> entries = service.streamLedger(CASE_ID).collectList().block();
+
+        assertEquals(1, entries.size());
+        assertBalance(entries.get(0), "1850.00", "0.00", "0.00");
+    }
+
+    @Test
+    void testStreamLedger_OverConcurrencyCap_RejectedUntilStreamEnds() {
+        properties.setMaxConcurrentStreams(1);
+        service.init();
+        when(balanceRepository.streamCaseLedger(CASE_ID)).thenReturn(Flux.never());
+        when(rateChangeRepository.findByLoanServicingCaseIdOrderByEffectiveDateAscCreatedAtAsc(CASE_ID))
+                .thenReturn(Flux.empty());
+
+        Disposable running = service.streamLedger(CASE_ID).subscribe();
+
+        StepVerifier.create(service.streamLedger(CASE_ID))
+                .expectErrorSatisfies(error -> assertEquals(HttpStatus.TOO_MANY_REQUESTS,
+                        ((ResponseStatusException) error).getStatusCode()))
+                .verify();
+
+        running.dispose();
+
+        StepVerifier.create(service.streamLedger(CASE_ID))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(50))
+                .thenCancel()
+                .verify();
+    }
+
+    private static BalanceLedgerEntry entry(EntryType type, LocalDate date, String amount, AccrualTypeEnum accrualType) {
+        return new BalanceLedgerEntry(CASE_ID, type, type == EntryType.CASE ? null : UUID.randomUUID(), date,
+                amount == null ? null : new BigDecimal(amount), accrualType,
+                accrualType == null ? null : accrualType.name(), null, null, null, null);
+    }
+
+    private static BalanceLedgerEntry snapshot(LocalDate date) {
+        return new BalanceLedgerEntry(CASE_ID, EntryType.SNAPSHOT, UUID.randomUUID(), date, null, null, null,
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    private static void assertBalance(LoanLedgerEntryDTO entry, String principal, String interest, String fees) {
+        assertEquals(0, new BigDecimal(principal).compareTo(entry.getPrincipalOutstanding()));
+        assertEquals(0, new BigDecimal(interest).compareTo(entry.getInterestOutstanding()));
+        assertEquals(0, new BigDecimal(fees).compareTo(entry.getFeesOutstanding()));
+        assertEquals(0, new BigDecimal(principal).add(new BigDecimal(interest)).add(new BigDecimal(fees))
+                .compareTo(entry.getTotalOutstanding()));
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services.impl;
+
+import com.firefly.core.lending.servicing.core.batch.OutboxRelayProperties;
+import com.firefly.core.lending.servicing.core.mappers.ServicingOutboxEventMapper;
+import com.firefly.core.lending.servicing.core.outbox.OutboxPublisher;
+import com.firefly.core.lending.servicing.interfaces.dtos.OutboxEventDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.OutboxEventTypeEnum;
+import com.firefly.core.lending.servicing.models.entities.ServicingOutboxEvent;
+import com.firefly.core.lending.servicing.models.repositories.ServicingOutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class to verify the outbox relay publishes in order, deletes what it published and rolls back on failure
+ */
+public class OutboxRelayServiceImplTest {
+
+    private ServicingOutboxEventRepository repository;
+    private RecordingTransactionManager transactionManager;
+    private OutboxRelayProperties properties;
+    private List<List<Long>> published;
+    private OutboxRelayServiceImpl relay;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(ServicingOutboxEventRepository.class);
+        when(repository.tryLockRelay()).thenReturn(Mono.just(true));
+        when(repository.deletePublished(anyList()))
+                .thenAnswer(invocation -> Mono.just((long) invocation.<Collection<Long>>getArgument(0).size()));
+        transactionManager = new RecordingTransactionManager();
+        properties = new OutboxRelayProperties();
+        published = new ArrayList<>();
+        relay = relay(events -> Mono.fromRunnable(
+                () -> published.add(events.stream().map(OutboxEventDTO::getOutboxEventId).toList())));
+    }
+
+    @Test
+    void testRelay_PublishesInIdOrderAndDeletesEachBatch() {
+        properties.setBatchSize(2);
+        when(repository.findOldest(2)).thenReturn(events(1, 2), events(3, 4), events(5));
+
+        StepVerifier.create(relay.relay()).expectNext(5L).verifyComplete();
+
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L)), published);
+        verify(repository).deletePublished(List.of(1L, 2L));
+        verify(repository).deletePublished(List.of(3L, 4L));
+        verify(repository).deletePublished(List.of(5L));
+        assertEquals(3, transactionManager.commits.get());
+    }
+
+    @Test
+    void testRelay_PublisherFails_BatchKeptAndRolledBack() {
+        relay = relay(events -> Mono.error(new IllegalStateException("broker unavailable")));
+        when(repository.findOldest(anyInt())).thenReturn(events(1, 2));
+
+        StepVerifier.create(relay.relay()).expectError(IllegalStateException.class).verify();
+
+        verify(repository, never()).deletePublished(anyList());
+        assertEquals(1, transactionManager.rollbacks.get());
+        assertEquals(0, transactionManager.commits.get());
+    }
+
+    @Test
+    void testRelay_LockHeldElsewhere_SkipsPoll() {
+        when(repository.tryLockRelay()).thenReturn(Mono.just(false));
+
+        StepVerifier.create(relay.relay()).expectNext(0L).verifyComplete();
+
+        verify(repository, never()).findOldest(anyInt());
+        assertEquals(List.of(), published);
+    }
+
+    private OutboxRelayServiceImpl relay(OutboxPublisher publisher) {
+        OutboxRelayServiceImpl relayService = new OutboxRelayServiceImpl();
+        ReflectionTestUtils.setField(relayService, "repository", repository);
+        ReflectionTestUtils.setField(relayService, "mapper", Mappers.getMapper(ServicingOutboxEventMapper.class));
+        ReflectionTestUtils.setField(relayService, "properties", properties);
+        ReflectionTestUtils.setField(relayService, "transactionalOperator",
+                TransactionalOperator.create(transactionManager));
+        ReflectionTestUtils.setField(relayService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relayService, "publisher", publisher);
+        relayService.init();
+        return relayService;
+    }
+
+    private static Flux<ServicingOutboxEvent> events(long... ids) {
+        return Flux.fromStream(LongStream.of(ids).mapToObj(id -> ServicingOutboxEvent.builder()
+                .outboxEventId(id)
+                .eventType(OutboxEventTypeEnum.DISBURSEMENT_CREATED)
+                .loanServicingCaseId(UUID.randomUUID())
+                .aggregateId(UUID.randomUUID())
+                .payload("{}")
+                .build()));
+    }
+
+    /**
+     * A transaction manager without a resource that counts commits and rollbacks.
+     */
+    private static final class RecordingTransactionManager extends AbstractReactiveTransactionManager {
+
+        private final AtomicInteger commits = new AtomicInteger();
+        private final AtomicInteger rollbacks = new AtomicInteger();
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                     TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                      GenericReactiveTransaction status) {
+            return Mono.fromRunnable(commits::incrementAndGet);
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                        GenericReactiveTransaction status) {
+            return Mono.fromRunnable(rollbacks::incrementAndGet);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.core.services.impl;
+
+import com.firefly.core.lending.servicing.core.cache.LoanCurrentBalanceCache;
+import com.firefly.core.lending.servicing.core.calculators.PaymentAllocationCalculator;
+import com.firefly.core.lending.servicing.core.config.PaymentAllocationProperties;
+import com.firefly.core.lending.servicing.core.mappers.LoanBalanceMapper;
+import com.firefly.core.lending.servicing.core.mappers.LoanInstallmentRecordMapper;
+import com.firefly.core.lending.servicing.core.outbox.OutboxWriter;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanBalanceDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanInstallmentRecordDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.PaymentAllocationDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentStatusEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanBalance;
+import com.firefly.core.lending.servicing.models.entities.LoanCurrentBalance;
+import com.firefly.core.lending.servicing.models.entities.LoanInstallmentPlan;
+import com.firefly.core.lending.servicing.models.entities.LoanInstallmentRecord;
+import com.firefly.core.lending.servicing.models.repositories.LoanBalanceRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanCurrentBalanceRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanInstallmentPlanRepository;
+import com.firefly.core.lending.servicing.models.repositories.LoanInstallmentRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class to verify posted balance snapshots are the current balance minus the returned allocation
+ */
+public class PaymentPostingServiceImplTest {
+
+    private static final UUID CASE_ID = UUID.randomUUID();
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 1);
+
+    private LoanInstallmentPlan installment;
+    private LoanInstallmentPlanRepository installmentPlanRepository;
+    private LoanCurrentBalanceRepository currentBalanceRepository;
+    private LoanBalanceRepository balanceRepository;
+    private PaymentPostingServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        installment = LoanInstallmentPlan.builder()
+                .loanInstallmentPlanId(UUID.randomUUID())
+                .loanServicingCaseId(CASE_ID)
+                .installmentNumber(1)
+                .dueDate(DAY.plusDays(30))
+                .principalDue(new BigDecimal("900.00"))
+                .interestDue(new BigDecimal("30.00"))
+                .feeDue(new BigDecimal("10.00"))
+                .totalDue(new BigDecimal("940.00"))
+                .paidAmount(BigDecimal.ZERO)
+                .isPaid(false)
+                .build();
+
+        installmentPlanRepository = Mockito.mock(LoanInstallmentPlanRepository.class);
+        when(installmentPlanRepository
+                .findForUpdateByLoanServicingCaseIdAndIsPaidFalseOrderByDueDateAscInstallmentNumberAsc(CASE_ID))
+                .thenAnswer(invocation -> Flux.just(installment).filter(plan -> !plan.getIsPaid()));
+        when(installmentPlanRepository.updatePaymentState(anyList())).thenReturn(Mono.just(1L));
+
+        LoanInstallmentRecordRepository installmentRecordRepository = Mockito.mock(LoanInstallmentRecordRepository.class);
+        when(installmentRecordRepository.save(any(LoanInstallmentRecord.class))).thenAnswer(invocation -> {
+            LoanInstallmentRecord record = invocation.getArgument(0);
+            record.setLoanInstallmentRecordId(UUID.randomUUID());
+            return Mono.just(record);
+        });
+
+        balanceRepository = Mockito.mock(LoanBalanceRepository.class);
+        when(balanceRepository.save(any(LoanBalance.class))).thenAnswer(invocation -> {
+            LoanBalance balance = invocation.getArgument(0);
+            balance.setLoanBalanceId(UUID.randomUUID());
+            return Mono.just(balance);
+        });
+
+        currentBalanceRepository = Mockito.mock(LoanCurrentBalanceRepository.class);
+        when(currentBalanceRepository.findForUpdateByLoanServicingCaseId(CASE_ID)).thenReturn(Mono.empty());
+        when(currentBalanceRepository.upsertAll(anyList())).thenReturn(Mono.just(1L));
+
+        LoanCurrentBalanceCache currentBalanceCache = Mockito.mock(LoanCurrentBalanceCache.class);
+        when(currentBalanceCache.evictAfterCompletion(CASE_ID)).thenReturn(Mono.empty());
+
+        OutboxWriter outboxWriter = Mockito.mock(OutboxWriter.class);
+        when(outboxWriter.append(anyList())).thenReturn(Mono.just(2L));
+
+        service = new PaymentPostingServiceImpl();
+        ReflectionTestUtils.setField(service, "installmentPlanRepository", installmentPlanRepository);
+        ReflectionTestUtils.setField(service, "installmentRecordRepository", installmentRecordRepository);
+        ReflectionTestUtils.setField(service, "balanceRepository", balanceRepository);
+        ReflectionTestUtils.setField(service, "currentBalanceRepository", currentBalanceRepository);
+        ReflectionTestUtils.setField(service, "currentBalanceCache", currentBalanceCache);
+        ReflectionTestUtils.setField(service, "installmentRecordMapper", Mappers.getMapper(LoanInstallmentRecordMapper.class));
+        ReflectionTestUtils.setField(service, "balanceMapper", Mappers.getMapper(LoanBalanceMapper.class));
+        ReflectionTestUtils.setField(service, "calculator", new PaymentAllocationCalculator());
+        ReflectionTestUtils.setField(service, "properties", new PaymentAllocationProperties());
+        ReflectionTestUtils.setField(service, "outboxWriter", outboxWriter);
+    }
+
+    @Test
+    void testPost_CurrentBalance_MinusAllocation() {
+        when(currentBalanceRepository.findForUpdateByLoanServicingCaseId(CASE_ID)).thenReturn(Mono.just(
+                LoanCurrentBalance.builder()
+                        .loanServicingCaseId(CASE_ID)
+                        .principalOutstanding(new BigDecimal("5000.00"))
+                        .interestOutstanding(new BigDecimal("45.00"))
+                        .feesOutstanding(new BigDecimal("15.00"))
+                        .totalOutstanding(new BigDecimal("5060.00"))
+                        .balanceDate(DAY)
+                        .build()));
+
+        PaymentAllocationDTO posted = post("100.00", DAY.plusDays(2));
+
+        // FEE,INTEREST,PRINCIPAL on the installment: 10.00 fees, 30.00 interest, 60.00 principal
+        assertAllocation(posted, "60.00", "30.00", "10.00");
+        assertAmounts(posted.getBalance(), "4940.00", "15.00", "5.00");
+        assertEquals(DAY.plusDays(2), posted.getBalance().getBalanceDate());
+    }
+
+    @Test
+    void testPost_LaterCurrentBalance_KeepsItsDate() {
+        when(currentBalanceRepository.findForUpdateByLoanServicingCaseId(CASE_ID)).thenReturn(Mono.just(
+                LoanCurrentBalance.builder()
+                        .loanServicingCaseId(CASE_ID)
+                        .principalOutstanding(new BigDecimal("900.00"))
+                        .interestOutstanding(new BigDecimal("30.00"))
+                        .feesOutstanding(new BigDecimal("10.00"))
+                        .totalOutstanding(new BigDecimal("940.00"))
+                        .balanceDate(DAY.plusDays(10))
+                        .build()));
+
+        PaymentAllocationDTO posted = post("100.00", DAY.plusDays(2));
+
+        assertAmounts(posted.getBalance(), "840.00", "0.00", "0.00");
+        assertEquals(DAY.plusDays(10), posted.getBalance().getBalanceDate());
+    }
+
+    @Test
+    void testPost_NoCurrentBalance_StartsFromInstallments() {
+        PaymentAllocationDTO posted = post("100.00", DAY.plusDays(2));
+
+        assertAllocation(posted, "60.00", "30.00", "10.00");
+        assertAmounts(posted.getBalance(), "840.00", "0.00", "0.00");
+    }
+
+    @Test
+    void testPost_NotCompleted_BadRequest() {
+        LoanInstallmentRecordDTO dto = record("100.00", DAY);
+        dto.setPaymentStatus(PaymentStatusEnum.PENDING);
+
+        StepVerifier.create(service.post(CASE_ID, dto))
+                .expectErrorSatisfies(error -> assertEquals(HttpStatus.BAD_REQUEST,
+                        ((ResponseStatusException) error).getStatusCode()))
+                .verify();
+        verify(currentBalanceRepository, never()).findForUpdateByLoanServicingCaseId(CASE_ID);
+    }
+
+    @Test
+    void testPost_NoUnpaidInstallments_Conflict() {
+        installment.setIsPaid(true);
+
+        StepVerifier.create(service.post(CASE_ID, record("100.00", DAY)))
+                .expectErrorSatisfies(error -> assertEquals(HttpStatus.CONFLICT,
+                        ((ResponseStatusException) error).getStatusCode()))
+                .verify();
+        verify(balanceRepository, never()).save(any(LoanBalance.class));
+    }
+
+    private PaymentAllocationDTO post(String amount, LocalDate paymentDate) {
+        return service.post(CASE_ID, record(amount, paymentDate)).block();
+    }
+
+    private static LoanInstallmentRecordDTO record(String amount, LocalDate paymentDate) {
+        return LoanInstallmentRecordDTO.builder()
+                .paymentAmount(new BigDecimal(amount))
+                .paymentDate(paymentDate)
+                .paymentStatus(PaymentStatusEnum.COMPLETED)
+                .build();
+    }
+
+    private static void assertAllocation(PaymentAllocationDTO posted, String principal, String interest, String fees) {
+        assertEquals(0, new BigDecimal(principal).compareTo(posted.getPrincipalPaid()));
+        assertEquals(0, new BigDecimal(interest).compareTo(posted.getInterestPaid()));
+        assertEquals(0, new BigDecimal(fees).compareTo(posted.getFeesPaid()));
+    }
+
+    private static void assertAmounts(LoanBalanceDTO balance, String principal, String interest, String fees) {
+        assertEquals(0, new BigDecimal(principal).compareTo(balance.getPrincipalOutstanding()));
+        assertEquals(0, new BigDecimal(interest).compareTo(balance.getInterestOutstanding()));
+        assertEquals(0, new BigDecimal(fees).compareTo(balance.getFeesOutstanding()));
+        assertEquals(0, new BigDecimal(principal).add(new BigDecimal(interest)).add(new BigDecimal(fees))
+                .compareTo(balance.getTotalOutstanding()));
+    }
+}
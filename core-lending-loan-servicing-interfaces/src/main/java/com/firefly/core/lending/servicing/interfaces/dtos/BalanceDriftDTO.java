@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.interfaces.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A balance snapshot found by the balance rebuild whose recorded amounts differ from the amounts replayed from
+ * the disbursement, accrual, payment and rebate ledgers.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceDriftDTO {
+
+    private UUID loanServicingCaseId;
+
+    private UUID loanBalanceId;
+
+    private LocalDate balanceDate;
+
+    private BigDecimal recordedPrincipalOutstanding;
+
+    private BigDecimal recordedInterestOutstanding;
+
+    private BigDecimal recordedFeesOutstanding;
+
+    private BigDecimal recordedTotalOutstanding;
+
+    private BigDecimal expectedPrincipalOutstanding;
+
+    private BigDecimal expectedInterestOutstanding;
+
+    private BigDecimal expectedFeesOutstanding;
+
+    private BigDecimal expectedTotalOutstanding;
+
+    /**
+     * Whether the snapshot now holds the expected amounts. Always false when drift is only reported, and false
+     * for a snapshot that changed after it was replayed.
+     */
+    private Boolean repaired;
+}
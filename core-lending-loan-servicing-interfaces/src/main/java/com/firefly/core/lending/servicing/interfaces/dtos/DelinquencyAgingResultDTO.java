@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.interfaces.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of a portfolio-wide delinquency aging pass, with the number of aged cases in each
+ * days-past-due (DPD) bucket.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DelinquencyAgingResultDTO {
+
+    private LocalDate asOfDate;
+
+    private Long casesAged;
+
+    private Long statusTransitions;
+
+    private Long casesCurrent;
+
+    private Long casesDpd1To30;
+
+    private Long casesDpd31To60;
+
+    private Long casesDpd61To90;
+
+    private Long casesDpdOver90;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+}
@@ -57,6 +57,9 @@ public class LoanAccrualDTO {
 
     @Size(max = 500, message = "Note cannot exceed 500 characters")
     private String note;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID loanAccrualRunId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.interfaces.dtos;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.firefly.core.lending.servicing.interfaces.enums.AccrualRunStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progress of a portfolio-wide interest accrual run. All fields are maintained by the service.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanAccrualRunDTO {
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID loanAccrualRunId;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDate accrualDate;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private AccrualRunStatusEnum runStatus;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID lastProcessedCaseId;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long casesProcessed;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long accrualsWritten;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime startedAt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime completedAt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String errorMessage;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime createdAt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime updatedAt;
+}
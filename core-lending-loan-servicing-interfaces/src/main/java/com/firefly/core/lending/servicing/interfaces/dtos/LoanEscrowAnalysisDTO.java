@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.interfaces.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One escrow analysis, as recorded by the escrow analysis job.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanEscrowAnalysisDTO {
+
+    private UUID loanEscrowAnalysisId;
+
+    private UUID loanEscrowId;
+
+    private UUID loanServicingCaseId;
+
+    private LocalDate analysisDate;
+
+    private BigDecimal currentBalance;
+
+    private BigDecimal targetBalance;
+
+    private BigDecimal annualDisbursementAmount;
+
+    private BigDecimal previousMonthlyPaymentAmount;
+
+    private BigDecimal monthlyPaymentAmount;
+
+    private BigDecimal projectedLowBalance;
+
+    private BigDecimal projectedEndingBalance;
+
+    private BigDecimal shortageAmount;
+
+    private BigDecimal surplusAmount;
+
+    private LocalDate nextAnalysisDate;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.interfaces.dtos;
+
+import com.firefly.core.lending.servicing.interfaces.enums.LedgerEntryTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One entry of the chronological ledger of a servicing case, with the running balance after it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanLedgerEntryDTO {
+
+    private UUID loanServicingCaseId;
+
+    private LedgerEntryTypeEnum entryType;
+
+    /**
+     * Id of the disbursement, rate change, accrual, installment record or rebate.
+     */
+    private UUID entryId;
+
+    private LocalDate entryDate;
+
+    /**
+     * Amount disbursed, accrued, paid or rebated; the new annual interest rate for rate changes.
+     */
+    private BigDecimal amount;
+
+    /**
+     * Accrual type, payment method, disbursement method, rebate type or rate change reason code.
+     */
+    private String detail;
+
+    private BigDecimal principalOutstanding;
+
+    private BigDecimal interestOutstanding;
+
+    private BigDecimal feesOutstanding;
+
+    private BigDecimal totalOutstanding;
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.interfaces.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Read-only snapshot of everything needed to render one loan: the case, its current balance and the
+ * open items around it. Single-valued parts are null when the case has no such record.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanPositionDTO {
+
+    private LoanServicingCaseDTO servicingCase;
+
+    private LoanBalanceDTO currentBalance;
+
+    private LoanInstallmentPlanDTO nextUnpaidInstallment;
+
+    private List<LoanEscrowDTO> activeEscrows;
+
+    private List<LoanDisbursementPlanDTO> pendingDisbursementPlans;
+
+    private List<LoanRebateDTO> unprocessedRebates;
+
+    private LoanRateChangeDTO latestRateChange;
+
+    /**
+     * The ten most recent servicing events, newest first.
+     */
+    private List<LoanServicingEventDTO> recentEvents;
+}
@@ -64,6 +64,10 @@ public class LoanRateChangeDTO {
 
     @Size(max = 500, message = "Note cannot exceed 500 characters")
     private String note;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime appliedAt;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
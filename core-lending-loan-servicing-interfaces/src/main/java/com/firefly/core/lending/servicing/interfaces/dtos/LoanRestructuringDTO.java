@@ -21,6 +21,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.firefly.core.lending.servicing.interfaces.enums.*;
 import org.fireflyframework.utils.annotations.FilterableId;
 import jakarta.validation.constraints.*;
+import jakarta.validation.groups.Default;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -37,6 +38,13 @@ import java.util.UUID;
 @AllArgsConstructor
 public class LoanRestructuringDTO {
 
+    /**
+     * Validation group of the new terms a restructuring simulation needs. Members also belong to
+     * {@link Default}, so a full restructuring still validates them.
+     */
+    public interface Simulation {
+    }
+
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private UUID loanRestructuringId;
 
@@ -88,35 +96,35 @@ public class LoanRestructuringDTO {
     private LocalDate oldMaturityDate;
 
     // New loan terms (after restructuring)
-    @NotNull(message = "New principal amount is required")
-    @DecimalMin(value = "0.01", message = "New principal amount must be greater than zero")
-    @Digits(integer = 15, fraction = 2, message = "New principal amount must have at most 15 integer digits and 2 decimal places")
+    @NotNull(message = "New principal amount is required", groups = {Default.class, Simulation.class})
+    @DecimalMin(value = "0.01", message = "New principal amount must be greater than zero", groups = {Default.class, Simulation.class})
+    @Digits(integer = 15, fraction = 2, message = "New principal amount must have at most 15 integer digits and 2 decimal places", groups = {Default.class, Simulation.class})
     private BigDecimal newPrincipalAmount;
 
-    @NotNull(message = "New interest rate is required")
-    @DecimalMin(value = "0.0", message = "New interest rate cannot be negative")
-    @DecimalMax(value = "100.0", message = "New interest rate cannot exceed 100%")
-    @Digits(integer = 3, fraction = 4, message = "New interest rate must have at most 3 integer digits and 4 decimal places")
+    @NotNull(message = "New interest rate is required", groups = {Default.class, Simulation.class})
+    @DecimalMin(value = "0.0", message = "New interest rate cannot be negative", groups = {Default.class, Simulation.class})
+    @DecimalMax(value = "100.0", message = "New interest rate cannot exceed 100%", groups = {Default.class, Simulation.class})
+    @Digits(integer = 3, fraction = 4, message = "New interest rate must have at most 3 integer digits and 4 decimal places", groups = {Default.class, Simulation.class})
     private BigDecimal newInterestRate;
 
-    @NotNull(message = "New loan term is required")
-    @Min(value = 1, message = "New loan term must be at least 1")
-    @Max(value = 600, message = "New loan term cannot exceed 600 periods")
+    @NotNull(message = "New loan term is required", groups = {Default.class, Simulation.class})
+    @Min(value = 1, message = "New loan term must be at least 1", groups = {Default.class, Simulation.class})
+    @Max(value = 600, message = "New loan term cannot exceed 600 periods", groups = {Default.class, Simulation.class})
     private Integer newLoanTerm;
 
-    @NotNull(message = "New interest calculation method is required")
+    @NotNull(message = "New interest calculation method is required", groups = {Default.class, Simulation.class})
     private InterestCalculationMethodEnum newInterestCalculationMethod;
 
-    @NotNull(message = "New amortization method is required")
+    @NotNull(message = "New amortization method is required", groups = {Default.class, Simulation.class})
     private AmortizationMethodEnum newAmortizationMethod;
 
-    @NotNull(message = "New payment frequency is required")
+    @NotNull(message = "New payment frequency is required", groups = {Default.class, Simulation.class})
     private PaymentFrequencyEnum newPaymentFrequency;
 
     @NotNull(message = "New compounding frequency is required")
     private CompoundingFrequencyEnum newCompoundingFrequency;
 
-    @NotNull(message = "New day count convention is required")
+    @NotNull(message = "New day count convention is required", groups = {Default.class, Simulation.class})
     private DayCountConventionEnum newDayCountConvention;
 
     @NotNull(message = "New maturity date is required")
@@ -129,6 +137,9 @@ public class LoanRestructuringDTO {
     @Size(max = 1000, message = "Remarks cannot exceed 1000 characters")
     private String remarks;
 
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime committedAt;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
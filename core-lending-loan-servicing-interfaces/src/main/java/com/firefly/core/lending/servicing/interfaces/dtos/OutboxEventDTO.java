@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.interfaces.dtos;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.firefly.core.lending.servicing.interfaces.enums.OutboxEventTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A servicing domain event relayed from the transactional outbox to downstream systems.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventDTO {
+
+    /**
+     * Position of the event in the change feed; increases with every event written.
+     */
+    private Long outboxEventId;
+
+    private OutboxEventTypeEnum eventType;
+
+    private UUID loanServicingCaseId;
+
+    /**
+     * Id of the installment record, disbursement or balance the event is about, or of the case for status changes.
+     */
+    private UUID aggregateId;
+
+    /**
+     * The JSON state of the aggregate after the change, or before it for deletions.
+     */
+    @JsonRawValue
+    private String payload;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.interfaces.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of posting a payment: the recorded installment payment, how it was split across the
+ * oldest unpaid installments, and the resulting balance.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentAllocationDTO {
+
+    private LoanInstallmentRecordDTO installmentRecord;
+
+    private BigDecimal feesPaid;
+
+    private BigDecimal interestPaid;
+
+    private BigDecimal principalPaid;
+
+    /**
+     * Part of the payment left over after every unpaid installment was settled.
+     */
+    private BigDecimal unappliedAmount;
+
+    private List<UUID> paidInstallmentPlanIds;
+
+    /**
+     * The installment that received part of the payment without being settled, if any.
+     */
+    private UUID partiallyPaidInstallmentPlanId;
+
+    private LoanBalanceDTO balance;
+}
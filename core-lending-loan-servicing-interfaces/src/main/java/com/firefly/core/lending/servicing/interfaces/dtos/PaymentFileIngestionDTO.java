@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.interfaces.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of ingesting a payment file. Accepted lines are committed batch by batch, so a file is never
+ * rejected as a whole.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentFileIngestionDTO {
+
+    private Long linesRead;
+
+    private Long recordsCreated;
+
+    private Long externalTransactionsCreated;
+
+    private Long linesRejected;
+
+    /**
+     * The rejected lines in file order, up to the configured maximum.
+     */
+    private List<PaymentFileLineErrorDTO> errors;
+
+    /**
+     * Whether more lines were rejected than are listed in {@link #errors}.
+     */
+    private Boolean errorsTruncated;
+}
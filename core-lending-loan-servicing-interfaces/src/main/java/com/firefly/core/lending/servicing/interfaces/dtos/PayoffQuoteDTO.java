@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.interfaces.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * The amount that settles a loan servicing case in full on a given date.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayoffQuoteDTO {
+
+    private UUID loanServicingCaseId;
+
+    private LocalDate payoffDate;
+
+    /**
+     * The date of the balance interest is projected from; the origination date if the case has no balance yet.
+     */
+    private LocalDate balanceDate;
+
+    private BigDecimal principalOutstanding;
+
+    private BigDecimal interestOutstanding;
+
+    /**
+     * Interest accruing from the balance date up to, but excluding, the payoff date.
+     */
+    private BigDecimal projectedInterest;
+
+    private BigDecimal feesOutstanding;
+
+    /**
+     * Unprocessed rebates credited against the payoff.
+     */
+    private BigDecimal rebateCredit;
+
+    private BigDecimal payoffAmount;
+
+    /**
+     * Interest owed for each day the payoff is made after the payoff date.
+     */
+    private BigDecimal perDiem;
+}
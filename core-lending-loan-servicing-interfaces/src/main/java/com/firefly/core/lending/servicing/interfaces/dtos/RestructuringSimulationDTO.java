@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.interfaces.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Schedule that proposed restructuring terms would produce, computed without touching the case.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestructuringSimulationDTO {
+
+    private LocalDate restructuringDate;
+
+    private Integer numberOfInstallments;
+
+    private LocalDate firstDueDate;
+
+    private LocalDate maturityDate;
+
+    /**
+     * Total due of the first installment; every installment of a level payment schedule but the last.
+     */
+    private BigDecimal firstInstallmentAmount;
+
+    private BigDecimal totalPrincipal;
+
+    private BigDecimal totalInterest;
+
+    private BigDecimal totalDue;
+
+    /**
+     * The installments, unless the simulation was requested without them.
+     */
+    private List<ScheduledInstallmentDTO> installments;
+}
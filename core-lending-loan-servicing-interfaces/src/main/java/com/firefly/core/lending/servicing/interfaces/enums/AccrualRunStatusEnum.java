@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.interfaces.enums;
+
+/**
+ * Enumeration of interest accrual run statuses.
+ * A run is created once per accrual date and can be resumed from its checkpoint until it completes.
+ */
+public enum AccrualRunStatusEnum {
+    /**
+     * Run has been created but no instance has started processing it yet
+     */
+    PENDING,
+
+    /**
+     * Run is being processed; the checkpoint advances after every page of cases
+     */
+    RUNNING,
+
+    /**
+     * All eligible cases have been accrued for the run date
+     */
+    COMPLETED,
+
+    /**
+     * Run stopped on an error; starting it again resumes from the last checkpoint
+     */
+    FAILED
+}
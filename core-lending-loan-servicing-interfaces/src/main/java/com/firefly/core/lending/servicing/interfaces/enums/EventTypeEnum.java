@@ -22,5 +22,6 @@ public enum EventTypeEnum {
     EXTENSION,
     DEFERMENT,
     COLLECTION_CALL,
-    NOTICE
+    NOTICE,
+    STATUS_CHANGE
 }
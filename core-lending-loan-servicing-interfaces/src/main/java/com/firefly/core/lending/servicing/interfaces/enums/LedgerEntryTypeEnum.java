@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.interfaces.enums;
+
+/**
+ * Kinds of entries in the ledger of a servicing case, in the order entries of the same date are listed. Payments
+ * and rebates of the same date are listed in the order they were recorded.
+ */
+public enum LedgerEntryTypeEnum {
+    /**
+     * Completed disbursement, adding principal
+     */
+    DISBURSEMENT,
+
+    /**
+     * Interest rate change; does not move the balance
+     */
+    RATE_CHANGE,
+
+    /**
+     * Interest, penalty or fee accrual
+     */
+    ACCRUAL,
+
+    /**
+     * Completed payment, applied in payment allocation waterfall order
+     */
+    PAYMENT,
+
+    /**
+     * Processed borrower rebate, applied like a payment
+     */
+    REBATE
+}
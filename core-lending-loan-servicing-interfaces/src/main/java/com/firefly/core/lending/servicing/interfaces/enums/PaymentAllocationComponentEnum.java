@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.interfaces.enums;
+
+/**
+ * Enumeration of the amounts due on an installment that a payment can be allocated to.
+ * The configured order of these components forms the payment allocation waterfall.
+ */
+public enum PaymentAllocationComponentEnum {
+    /**
+     * Fees due on the installment
+     */
+    FEE,
+
+    /**
+     * Interest due on the installment
+     */
+    INTEREST,
+
+    /**
+     * Principal due on the installment
+     */
+    PRINCIPAL
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.interfaces.enums;
+
+/**
+ * Enumeration of the payment file formats accepted for bulk ingestion.
+ * Both formats carry one payment per line, using the property names of the installment record
+ * and its external transaction.
+ */
+public enum PaymentFileFormatEnum {
+    /**
+     * Comma-separated values with a header line naming the properties
+     */
+    CSV,
+
+    /**
+     * Newline-delimited JSON, one object per line
+     */
+    NDJSON
+}
@@ -162,4 +162,44 @@ public class ValidationTest {
         assertEquals(1, violations.size());
         assertTrue(violations.iterator().next().getMessage().contains("Installment number must be at least 1"));
     }
+
+    @Test
+    void testLoanRestructuringDTO_SimulationWithNewTermsOnly_NoViolations() {
+        Set<ConstraintViolation<LoanRestructuringDTO>> violations =
+                validator.validate(simulationProposal().build(), LoanRestructuringDTO.Simulation.class);
+        assertTrue(violations.isEmpty());
+    }
+
+    @Test
+    void testLoanRestructuringDTO_SimulationWithoutNewLoanTerm_HasViolation() {
+        LoanRestructuringDTO dto = simulationProposal()
+                .newLoanTerm(null)
+                .build();
+
+        Set<ConstraintViolation<LoanRestructuringDTO>> violations =
+                validator.validate(dto, LoanRestructuringDTO.Simulation.class);
+        assertEquals(1, violations.size());
+        assertTrue(violations.iterator().next().getMessage().contains("New loan term is required"));
+    }
+
+    @Test
+    void testLoanRestructuringDTO_SimulationTermsAlsoValidatedByDefault() {
+        LoanRestructuringDTO dto = simulationProposal()
+                .newInterestRate(new BigDecimal("-1.0"))
+                .build();
+
+        Set<ConstraintViolation<LoanRestructuringDTO>> violations = validator.validate(dto);
+        assertTrue(violations.stream().anyMatch(v -> v.getMessage().contains("New interest rate cannot be negative")));
+    }
+
+    private LoanRestructuringDTO.LoanRestructuringDTOBuilder simulationProposal() {
+        return LoanRestructuringDTO.builder()
+                .newPrincipalAmount(new BigDecimal("10000.00"))
+                .newInterestRate(new BigDecimal("5.5"))
+                .newLoanTerm(24)
+                .newInterestCalculationMethod(InterestCalculationMethodEnum.SIMPLE)
+                .newAmortizationMethod(AmortizationMethodEnum.EQUAL_INSTALLMENT)
+                .newPaymentFrequency(PaymentFrequencyEnum.MONTHLY)
+                .newDayCountConvention(DayCountConventionEnum.ACTUAL_365);
+    }
 }
@@ -0,0 +1,88 @@
+#!/usr/bin/env bash
+# ========================================================================
+# END-TO-END LOAD TEST
+# ========================================================================
+# Runs the whole load test on one Linux box against a local PostgreSQL:
+#   1. recreates the scratch database
+#   2. starts the service, which migrates the schema with Flyway
+#   3. seeds the synthetic portfolio and exports its case ids
+#   4. runs the Gatling simulation and stops the service
+#
+# Needs java, mvn, psql, createdb/dropdb and curl on the PATH. Never point
+# it at a shared database: the database is dropped on every run.
+#
+# Usage (from the repository root):
+#   core-lending-loan-servicing-load-tests/run-load-test.sh
+#   CASES=100000 USERS_PER_SECOND=400 DURATION_SECONDS=600 core-lending-loan-servicing-load-tests/run-load-test.sh
+# ========================================================================
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "${BASH_SOURCE[0]}")/.." && pwd)"
+MODULE="$ROOT/core-lending-loan-servicing-load-tests"
+TARGET="$MODULE/target"
+
+export DB_HOST="${DB_HOST:-localhost}"
+export DB_PORT="${DB_PORT:-5432}"
+export DB_NAME="${DB_NAME:-loan_servicing_load}"
+export DB_USERNAME="${DB_USERNAME:-postgres}"
+export DB_PASSWORD="${DB_PASSWORD:-postgres}"
+export DB_SSL_MODE="${DB_SSL_MODE:-disable}"
+export SERVER_PORT="${SERVER_PORT:-8080}"
+export PGPASSWORD="$DB_PASSWORD"
+
+CASES="${CASES:-10000}"
+INSTALLMENTS="${INSTALLMENTS:-36}"
+BALANCES="${BALANCES:-12}"
+ACCRUAL_DAYS="${ACCRUAL_DAYS:-90}"
+USERS_PER_SECOND="${USERS_PER_SECOND:-100}"
+RAMP_SECONDS="${RAMP_SECONDS:-30}"
+DURATION_SECONDS="${DURATION_SECONDS:-300}"
+P99_MILLIS="${P99_MILLIS:-500}"
+
+PG=(-h "$DB_HOST" -p "$DB_PORT" -U "$DB_USERNAME")
+BASE_URL="http://localhost:$SERVER_PORT"
+
+mkdir -p "$TARGET"
+
+if [[ "${SKIP_BUILD:-false}" != "true" ]]; then
+    mvn -B -q -f "$ROOT/pom.xml" -pl core-lending-loan-servicing-web -am -DskipTests package
+fi
+
+echo "Recreating database $DB_NAME"
+dropdb "${PG[@]}" --if-exists "$DB_NAME"
+createdb "${PG[@]}" "$DB_NAME"
+
+echo "Starting the service (log: $TARGET/service.log)"
+java ${SERVICE_JAVA_OPTS:-} -jar "$ROOT/core-lending-loan-servicing-web/target/core-lending-loan-servicing.jar" \
+    > "$TARGET/service.log" 2>&1 &
+SERVICE_PID=$!
+trap 'kill "$SERVICE_PID" 2>/dev/null || true; wait "$SERVICE_PID" 2>/dev/null || true' EXIT
+
+for _ in $(seq 1 120); do
+    if curl -fs "$BASE_URL/actuator/health" > /dev/null; then
+        break
+    fi
+    if ! kill -0 "$SERVICE_PID" 2>/dev/null; then
+        echo "The service exited during startup, see $TARGET/service.log" >&2
+        exit 1
+    fi
+    sleep 1
+done
+curl -fs "$BASE_URL/actuator/health" > /dev/null
+
+echo "Seeding $CASES cases"
+psql "${PG[@]}" -d "$DB_NAME" -q \
+    -v cases="$CASES" -v installments="$INSTALLMENTS" -v balances="$BALANCES" -v accrual_days="$ACCRUAL_DAYS" \
+    -f "$MODULE/sql/seed_portfolio.sql"
+psql "${PG[@]}" -d "$DB_NAME" -q \
+    -c "COPY (SELECT loan_servicing_case_id AS \"caseId\" FROM loan_servicing_case) TO STDOUT WITH (FORMAT csv, HEADER)" \
+    > "$TARGET/cases.csv"
+
+echo "Running the simulation at $USERS_PER_SECOND users/s for ${DURATION_SECONDS}s"
+mvn -B -f "$MODULE/pom.xml" gatling:test \
+    -DbaseUrl="$BASE_URL" \
+    -DcasesFile="$TARGET/cases.csv" \
+    -DusersPerSecond="$USERS_PER_SECOND" \
+    -DrampSeconds="$RAMP_SECONDS" \
+    -DdurationSeconds="$DURATION_SECONDS" \
+    -Dp99Millis="$P99_MILLIS"
@@ -0,0 +1,179 @@
+-- ========================================================================
+-- LOAD TEST PORTFOLIO SEED
+-- ========================================================================
+-- Seeds a synthetic portfolio into a scratch database that the service has
+-- already migrated with Flyway (start it once against the empty database).
+-- Every case is a monthly EQUAL_INSTALLMENT loan somewhere between its
+-- first and last installment, with due dates spread over the month, and:
+--   * one COMPLETED disbursement of its principal on the origination date
+--   * one installment plan and one repayment schedule row per installment,
+--     paid up to today except for every 20th case, which is two behind
+--   * per paid installment, an INTEREST accrual of its interest and a
+--     COMPLETED installment record of its total, both on its due date
+--   * a balance snapshot per paid installment (the latest :balances kept)
+--     and the current balance projection pointing at the newest one
+--   * one INTEREST accrual per day since the last paid due date, over at
+--     most the last :accrual_days days
+--
+-- The ledger therefore replays to exactly the seeded snapshots, so the
+-- balance rebuild finds no drift in a freshly seeded portfolio.
+--
+-- Usage (never against a shared database):
+--   psql -d loan_servicing_load -v cases=10000 -f seed_portfolio.sql
+--
+-- Optional variables: installments (36), balances (12), accrual_days (90).
+-- With the defaults the seed produces roughly 360K installment plans,
+-- 360K repayment schedule rows, 170K installment records, 100K balances
+-- and 340K accruals.
+-- ========================================================================
+
+\set ON_ERROR_STOP on
+\timing on
+
+\if :{?cases}
+\else
+\set cases 10000
+\endif
+\if :{?installments}
+\else
+\set installments 36
+\endif
+\if :{?balances}
+\else
+\set balances 12
+\endif
+\if :{?accrual_days}
+\else
+\set accrual_days 90
+\endif
+
+-- Fails fast when Flyway has not migrated the database yet
+SELECT version AS schema_version FROM flyway_schema_history WHERE success ORDER BY installed_rank DESC LIMIT 1;
+
+BEGIN;
+
+-- ========================================================================
+-- CASES
+-- ========================================================================
+-- elapsed: installments already due; paid: installments actually paid;
+-- last_paid_date: due date of the last paid installment, or origination
+CREATE TEMP TABLE seed_case AS
+SELECT n, id, principal, rate, elapsed, origination_date,
+       (origination_date + make_interval(months => GREATEST(elapsed - CASE WHEN n % 20 = 0 THEN 2 ELSE 0 END, 0)))::date
+           AS last_paid_date,
+       GREATEST(elapsed - CASE WHEN n % 20 = 0 THEN 2 ELSE 0 END, 0) AS paid,
+       round(principal / :installments, 2) AS principal_due,
+       round(principal * rate / 1200, 2) AS interest_due
+FROM (
+    SELECT n, uuid_generate_v4() AS id,
+           (10000 + (n % 90) * 1000)::numeric(18,2) AS principal,
+           (3 + (n % 9))::numeric(10,6) AS rate,
+           n % :installments AS elapsed,
+           (CURRENT_DATE - make_interval(months => n % :installments, days => n % 28))::date AS origination_date
+    FROM generate_series(1, :cases) AS n
+) AS c;
+
+INSERT INTO loan_servicing_case (
+    loan_servicing_case_id, contract_id, product_id, application_id, servicing_status,
+    principal_amount, interest_rate, loan_term, interest_calculation_method, amortization_method,
+    payment_frequency, compounding_frequency, day_count_convention, origination_date, maturity_date)
+SELECT id, uuid_generate_v4(), uuid_generate_v4(), uuid_generate_v4(),
+       (CASE WHEN paid < elapsed THEN 'DELINQUENT' ELSE 'ACTIVE' END)::servicing_status,
+       principal, rate, :installments, 'REDUCING_BALANCE', 'EQUAL_INSTALLMENT',
+       'MONTHLY', 'MONTHLY', 'ACTUAL_365',
+       origination_date, (origination_date + make_interval(months => :installments))::date
+FROM seed_case;
+
+INSERT INTO loan_disbursement (
+    loan_servicing_case_id, transaction_id, disbursement_amount, disbursement_date, is_final_disbursement,
+    disbursement_method, disbursement_status, note)
+SELECT id, uuid_generate_v4(), principal, origination_date, TRUE, 'EXTERNAL', 'COMPLETED',
+       'Seeded disbursement'
+FROM seed_case;
+
+-- ========================================================================
+-- SCHEDULES AND PLANS
+-- ========================================================================
+INSERT INTO loan_installment_plan (
+    loan_servicing_case_id, installment_number, due_date, principal_due, interest_due, total_due,
+    is_paid, paid_date, paid_amount, payment_method)
+SELECT c.id, i, (c.origination_date + make_interval(months => i))::date,
+       c.principal_due, c.interest_due, c.principal_due + c.interest_due,
+       i <= c.paid,
+       CASE WHEN i <= c.paid THEN (c.origination_date + make_interval(months => i))::date END,
+       CASE WHEN i <= c.paid THEN c.principal_due + c.interest_due END,
+       CASE WHEN i <= c.paid THEN 'EXTERNAL'::payment_method END
+FROM seed_case c, generate_series(1, :installments) AS i;
+
+INSERT INTO loan_repayment_schedule (
+    loan_servicing_case_id, installment_number, due_date, principal_due, interest_due, fee_due, total_due,
+    is_paid, paid_date, paid_amount)
+SELECT c.id, i, (c.origination_date + make_interval(months => i))::date,
+       c.principal_due, c.interest_due, 0, c.principal_due + c.interest_due,
+       i <= c.paid,
+       CASE WHEN i <= c.paid THEN (c.origination_date + make_interval(months => i))::date END,
+       CASE WHEN i <= c.paid THEN c.principal_due + c.interest_due END
+FROM seed_case c, generate_series(1, :installments) AS i;
+
+-- ========================================================================
+-- PAYMENTS
+-- ========================================================================
+-- The interest of each paid installment accrues on its due date, so the
+-- payment covers that interest first and the principal due with the rest
+INSERT INTO loan_accrual (loan_servicing_case_id, accrual_amount, accrual_type, accrual_date, note)
+SELECT p.loan_servicing_case_id, p.interest_due, 'INTEREST', p.due_date, 'Seeded installment interest'
+FROM loan_installment_plan p
+WHERE p.loan_servicing_case_id IN (SELECT id FROM seed_case)
+  AND p.is_paid;
+
+INSERT INTO loan_installment_record (
+    loan_servicing_case_id, loan_installment_plan_id, transaction_id, payment_amount, payment_date,
+    payment_method, payment_status, note)
+SELECT p.loan_servicing_case_id, p.loan_installment_plan_id, uuid_generate_v4(), p.paid_amount, p.paid_date,
+       'EXTERNAL', 'COMPLETED', 'Seeded installment payment'
+FROM loan_installment_plan p
+WHERE p.loan_servicing_case_id IN (SELECT id FROM seed_case)
+  AND p.is_paid;
+
+-- ========================================================================
+-- BALANCES
+-- ========================================================================
+-- Snapshot 0 is the origination balance, snapshot j the balance after the
+-- j-th paid installment
+INSERT INTO loan_balance (
+    loan_servicing_case_id, principal_outstanding, interest_outstanding, fees_outstanding,
+    total_outstanding, balance_date, is_current)
+SELECT c.id, c.principal - j * c.principal_due, 0, 0, c.principal - j * c.principal_due,
+       (c.origination_date + make_interval(months => j))::date, FALSE
+FROM seed_case c, generate_series(0, :installments) AS j
+WHERE j <= c.paid AND j > c.paid - :balances;
+
+INSERT INTO loan_current_balance (loan_servicing_case_id, loan_balance_id, principal_outstanding,
+                                  interest_outstanding, fees_outstanding, total_outstanding,
+                                  balance_date, created_at, updated_at)
+SELECT DISTINCT ON (loan_servicing_case_id)
+       loan_servicing_case_id, loan_balance_id, principal_outstanding,
+       interest_outstanding, fees_outstanding, total_outstanding,
+       balance_date, created_at, updated_at
+  FROM loan_balance
+ WHERE loan_servicing_case_id IN (SELECT id FROM seed_case)
+ ORDER BY loan_servicing_case_id, balance_date DESC, created_at DESC;
+
+-- ========================================================================
+-- ACCRUALS
+-- ========================================================================
+-- Daily interest not yet billed: only after the newest snapshot, which
+-- stays the current balance
+INSERT INTO loan_accrual (loan_servicing_case_id, accrual_amount, accrual_type, accrual_date, note)
+SELECT c.id, round((c.principal - c.paid * c.principal_due) * c.rate / 36500, 2), 'INTEREST',
+       CURRENT_DATE - d, 'Seeded daily interest accrual'
+FROM seed_case c, generate_series(1, :accrual_days) AS d
+WHERE CURRENT_DATE - d > c.last_paid_date;
+
+COMMIT;
+
+ANALYZE;
+
+SELECT count(*) AS cases,
+       count(*) FILTER (WHERE paid < elapsed) AS delinquent_cases
+FROM seed_case;
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.loadtests;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.FeederBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * Drives a running service with the request mix of a servicing portal and its back office: mostly position and
+ * balance reads, list pages for the installment and accrual views, and a steady trickle of payment posts.
+ *
+ * <p>The load is an open model: {@code usersPerSecond} new users arrive every second and each sends one request,
+ * so the arrival rate does not drop when the service slows down. Case ids come from the CSV written after the
+ * portfolio seed. All settings are system properties:</p>
+ * <ul>
+ *     <li>{@code baseUrl} (http://localhost:8080)</li>
+ *     <li>{@code casesFile} (target/cases.csv), one {@code caseId} column</li>
+ *     <li>{@code usersPerSecond} (100), {@code rampSeconds} (30), {@code durationSeconds} (300)</li>
+ *     <li>{@code p99Millis} (500), the 99th percentile response time the run must stay under</li>
+ * </ul>
+ */
+public class ServicingLoadSimulation extends Simulation {
+
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080");
+    private static final String CASES_FILE = System.getProperty("casesFile", "target/cases.csv");
+    private static final double USERS_PER_SECOND = Double.parseDouble(System.getProperty("usersPerSecond", "100"));
+    private static final Duration RAMP = Duration.ofSeconds(Long.getLong("rampSeconds", 30));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("durationSeconds", 300));
+    private static final int P99_MILLIS = Integer.getInteger("p99Millis", 500);
+
+    private static final String CASE_PATH = "/api/v1/loan-servicing-cases/#{caseId}";
+
+    private static final String PAYMENT_BODY = """
+            {
+              "loanServicingCaseId": "#{caseId}",
+              "transactionId": "#{transactionId}",
+              "paymentAmount": 250.00,
+              "paymentDate": "#{paymentDate}",
+              "isPartialPayment": false,
+              "paymentMethod": "EXTERNAL",
+              "paymentStatus": "COMPLETED",
+              "note": "Load test payment"
+            }
+            """;
+
+    private final FeederBuilder<String> cases = csv(Path.of(CASES_FILE).toAbsolutePath().toString()).random();
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(BASE_URL)
+            .acceptHeader("application/json")
+            .contentTypeHeader("application/json")
+            .shareConnections();
+
+    private final ChainBuilder readPosition = exec(http("position")
+            .get(CASE_PATH + "/position")
+            .check(status().is(200)));
+
+    private final ChainBuilder readCurrentBalance = exec(http("current balance")
+            .get(CASE_PATH + "/balances/current")
+            .check(status().is(200)));
+
+    private final ChainBuilder listInstallmentPlans = exec(http("installment plans page")
+            .get(CASE_PATH + "/installment-plans")
+            .queryParam("cursor", "")
+            .queryParam("size", "50")
+            .check(status().is(200)));
+
+    private final ChainBuilder listAccruals = exec(http("accruals page")
+            .get(CASE_PATH + "/accruals")
+            .queryParam("cursor", "")
+            .queryParam("size", "100")
+            .check(status().is(200)));
+
+    private final ChainBuilder postPayment = exec(session -> session
+            .set("transactionId", UUID.randomUUID().toString())
+            .set("paymentDate", LocalDate.now().toString()))
+            .exec(http("post payment")
+                    .post(CASE_PATH + "/installment-records/post")
+                    .header("Idempotency-Key", "#{transactionId}")
+                    .body(StringBody(PAYMENT_BODY))
+                    .check(status().is(200)));
+
+    private final ScenarioBuilder servicingTraffic = scenario("Servicing traffic")
+            .feed(cases)
+            .randomSwitch().on(
+                    percent(50.0).then(readPosition),
+                    percent(20.0).then(readCurrentBalance),
+                    percent(15.0).then(listInstallmentPlans),
+                    percent(5.0).then(listAccruals),
+                    percent(10.0).then(postPayment));
+
+    {
+        setUp(servicingTraffic.injectOpen(
+                rampUsersPerSec(1).to(USERS_PER_SECOND).during(RAMP),
+                constantUsersPerSec(USERS_PER_SECOND).during(DURATION)))
+                .protocols(httpProtocol)
+                .assertions(
+                        global().responseTime().percentile(99.0).lt(P99_MILLIS),
+                        global().failedRequests().percent().lt(1.0));
+    }
+}
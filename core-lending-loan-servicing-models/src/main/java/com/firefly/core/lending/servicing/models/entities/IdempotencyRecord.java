@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing a client-supplied idempotency key of a create request and the response it produced.
+ * Rows are written with the repository's claim and complete statements, never with {@code save()}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("idempotency_record")
+public class IdempotencyRecord {
+
+    @Id
+    @Column("idempotency_record_id")
+    private UUID idempotencyRecordId;
+
+    @Column("idempotency_scope")
+    private String idempotencyScope; // The endpoint the key was used on
+
+    @Column("idempotency_key")
+    private String idempotencyKey;
+
+    @Column("request_hash")
+    private byte[] requestHash; // SHA-256 of the request body
+
+    @Column("response_body")
+    private String responseBody; // JSON of the original response; null until the request completes
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("expires_at")
+    private LocalDateTime expiresAt;
+}
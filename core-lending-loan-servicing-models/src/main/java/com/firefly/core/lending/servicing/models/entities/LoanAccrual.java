@@ -57,6 +57,9 @@ public class LoanAccrual {
     @Column("note")
     private String note;
 
+    @Column("loan_accrual_run_id")
+    private UUID loanAccrualRunId;
+
     @Column("created_at")
     private LocalDateTime createdAt;
 
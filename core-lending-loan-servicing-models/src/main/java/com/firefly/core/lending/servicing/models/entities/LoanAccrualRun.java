@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.entities;
+
+import com.firefly.core.lending.servicing.interfaces.enums.AccrualRunStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity tracking a portfolio-wide interest accrual run for a single accrual date.
+ * The last processed case id is the keyset checkpoint a restarted run resumes from.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("loan_accrual_run")
+public class LoanAccrualRun {
+
+    @Id
+    @Column("loan_accrual_run_id")
+    private UUID loanAccrualRunId;
+
+    @Column("accrual_date")
+    private LocalDate accrualDate;
+
+    @Column("run_status")
+    private AccrualRunStatusEnum runStatus;
+
+    @Column("last_processed_case_id")
+    private UUID lastProcessedCaseId;
+
+    @Column("cases_processed")
+    private Long casesProcessed;
+
+    @Column("accruals_written")
+    private Long accrualsWritten;
+
+    @Column("started_at")
+    private LocalDateTime startedAt;
+
+    @Column("completed_at")
+    private LocalDateTime completedAt;
+
+    @Column("error_message")
+    private String errorMessage;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity recording one escrow analysis: the projected balances of the following year, the resulting
+ * shortage or surplus and the monthly payment that replaced the previous one.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("loan_escrow_analysis")
+public class LoanEscrowAnalysis {
+
+    @Id
+    @Column("loan_escrow_analysis_id")
+    private UUID loanEscrowAnalysisId;
+
+    @Column("loan_escrow_id")
+    private UUID loanEscrowId;
+
+    @Column("loan_servicing_case_id")
+    private UUID loanServicingCaseId;
+
+    @Column("analysis_date")
+    private LocalDate analysisDate;
+
+    @Column("current_balance")
+    private BigDecimal currentBalance; // Escrow balance the projection starts from
+
+    @Column("target_balance")
+    private BigDecimal targetBalance; // Cushion the projected low point is compared to
+
+    @Column("annual_disbursement_amount")
+    private BigDecimal annualDisbursementAmount;
+
+    @Column("previous_monthly_payment_amount")
+    private BigDecimal previousMonthlyPaymentAmount;
+
+    @Column("monthly_payment_amount")
+    private BigDecimal monthlyPaymentAmount; // New monthly escrow payment
+
+    @Column("projected_low_balance")
+    private BigDecimal projectedLowBalance; // Lowest projected month-end balance
+
+    @Column("projected_ending_balance")
+    private BigDecimal projectedEndingBalance; // Projected balance after twelve months
+
+    @Column("shortage_amount")
+    private BigDecimal shortageAmount; // Amount the low point falls short of the target
+
+    @Column("surplus_amount")
+    private BigDecimal surplusAmount; // Amount the low point exceeds the target
+
+    @Column("next_analysis_date")
+    private LocalDate nextAnalysisDate;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+}
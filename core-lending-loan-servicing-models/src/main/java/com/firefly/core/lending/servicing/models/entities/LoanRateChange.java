@@ -60,6 +60,9 @@ public class LoanRateChange {
     @Column("note")
     private String note;
 
+    @Column("applied_at")
+    private LocalDateTime appliedAt;
+
     @Column("created_at")
     private LocalDateTime createdAt;
 
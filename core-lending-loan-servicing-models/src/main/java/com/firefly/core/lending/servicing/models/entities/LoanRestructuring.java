@@ -118,6 +118,9 @@ public class LoanRestructuring {
     @Column("remarks")
     private String remarks;
 
+    @Column("committed_at")
+    private LocalDateTime committedAt;
+
     @Column("created_at")
     private LocalDateTime createdAt;
 
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.entities;
+
+import com.firefly.core.lending.servicing.interfaces.enums.OutboxEventTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing a servicing domain event waiting in the transactional outbox to be published.
+ * Rows are appended with a multi-row insert in the transaction of the change they describe, never with
+ * {@code save()}, and deleted once the relay has published them.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("servicing_outbox")
+public class ServicingOutboxEvent {
+
+    @Id
+    @Column("outbox_event_id")
+    private Long outboxEventId; // Assigned by the database when inserted, not when committed
+
+    @Column("event_type")
+    private OutboxEventTypeEnum eventType;
+
+    @Column("loan_servicing_case_id")
+    private UUID loanServicingCaseId;
+
+    @Column("aggregate_id")
+    private UUID aggregateId;
+
+    @Column("payload")
+    private String payload; // JSON of the changed aggregate
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.projections;
+
+import com.firefly.core.lending.servicing.interfaces.enums.CompoundingFrequencyEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.DayCountConventionEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.InterestCalculationMethodEnum;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a servicing case joined with its current balance, carrying only the
+ * columns needed to compute a daily interest accrual.
+ *
+ * @param loanServicingCaseId the servicing case identifier (also the keyset cursor)
+ * @param principalAmount the originally contracted principal
+ * @param principalOutstanding the current outstanding principal, or null if no balance snapshot exists yet
+ * @param interestOutstanding the current unpaid interest, or null if no balance snapshot exists yet
+ * @param interestRate the annual interest rate as a percentage
+ * @param interestCalculationMethod the interest calculation method of the case
+ * @param compoundingFrequency the compounding frequency of the case
+ * @param dayCountConvention the day count convention of the case
+ */
+public record AccrualCandidate(UUID loanServicingCaseId,
+                               BigDecimal principalAmount,
+                               BigDecimal principalOutstanding,
+                               BigDecimal interestOutstanding,
+                               BigDecimal interestRate,
+                               InterestCalculationMethodEnum interestCalculationMethod,
+                               CompoundingFrequencyEnum compoundingFrequency,
+                               DayCountConventionEnum dayCountConvention) {
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.projections;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A balance snapshot whose recorded amounts differ from the amounts replayed from the ledgers.
+ *
+ * @param loanServicingCaseId the servicing case of the snapshot
+ * @param loanBalanceId the drifted snapshot
+ * @param balanceDate the date of the snapshot
+ * @param recordedPrincipalOutstanding the principal stored on the snapshot
+ * @param recordedInterestOutstanding the interest stored on the snapshot
+ * @param recordedFeesOutstanding the fees stored on the snapshot
+ * @param recordedTotalOutstanding the total stored on the snapshot
+ * @param expectedPrincipalOutstanding the replayed principal
+ * @param expectedInterestOutstanding the replayed interest
+ * @param expectedFeesOutstanding the replayed fees
+ * @param expectedTotalOutstanding the sum of the replayed amounts
+ */
+public record BalanceDrift(UUID loanServicingCaseId,
+                           UUID loanBalanceId,
+                           LocalDate balanceDate,
+                           BigDecimal recordedPrincipalOutstanding,
+                           BigDecimal recordedInterestOutstanding,
+                           BigDecimal recordedFeesOutstanding,
+                           BigDecimal recordedTotalOutstanding,
+                           BigDecimal expectedPrincipalOutstanding,
+                           BigDecimal expectedInterestOutstanding,
+                           BigDecimal expectedFeesOutstanding,
+                           BigDecimal expectedTotalOutstanding) {
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.projections;
+
+import com.firefly.core.lending.servicing.interfaces.enums.AccrualTypeEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One row of the merged balance ledger of a servicing case, as streamed by the balance rebuild: the movements
+ * that change the outstanding amounts and the recorded balance snapshots, in replay order.
+ *
+ * @param loanServicingCaseId the servicing case the entry belongs to
+ * @param entryType what the entry records
+ * @param entryId the id of the disbursement, accrual, installment record, rebate or balance snapshot; null for
+ *                {@link EntryType#CASE}
+ * @param entryDate the business date of the entry; null for {@link EntryType#CASE}
+ * @param amount the amount moved; for {@link EntryType#CASE}, the principal of a case without completed
+ *               disbursements, otherwise null; null for {@link EntryType#SNAPSHOT}
+ * @param accrualType the type of an {@link EntryType#ACCRUAL}, otherwise null
+ * @param detail the disbursement method, accrual type, payment method or rebate type of a movement, otherwise null
+ * @param principalOutstanding the recorded principal of a {@link EntryType#SNAPSHOT}, otherwise null
+ * @param interestOutstanding the recorded interest of a {@link EntryType#SNAPSHOT}, otherwise null
+ * @param feesOutstanding the recorded fees of a {@link EntryType#SNAPSHOT}, otherwise null
+ * @param totalOutstanding the recorded total of a {@link EntryType#SNAPSHOT}, otherwise null
+ */
+public record BalanceLedgerEntry(UUID loanServicingCaseId,
+                                 EntryType entryType,
+                                 UUID entryId,
+                                 LocalDate entryDate,
+                                 BigDecimal amount,
+                                 AccrualTypeEnum accrualType,
+                                 String detail,
+                                 BigDecimal principalOutstanding,
+                                 BigDecimal interestOutstanding,
+                                 BigDecimal feesOutstanding,
+                                 BigDecimal totalOutstanding) {
+
+    /**
+     * Entry types. Within a business date, disbursements are replayed before accruals, and both before the
+     * payments, rebates and snapshots, which are replayed in the order they were recorded.
+     */
+    public enum EntryType {
+        /**
+         * Opens the ledger of a case, emitted once per case even when it has no other entries. Adds the case
+         * principal when the case has no completed disbursements
+         */
+        CASE,
+
+        /**
+         * A completed disbursement, adding principal
+         */
+        DISBURSEMENT,
+
+        /**
+         * An accrual, adding interest (INTEREST) or fees (every other accrual type)
+         */
+        ACCRUAL,
+
+        /**
+         * A completed payment, applied in payment allocation waterfall order
+         */
+        PAYMENT,
+
+        /**
+         * A processed borrower rebate, applied like a payment
+         */
+        REBATE,
+
+        /**
+         * A recorded balance snapshot, compared with the replayed balance at the time it was recorded
+         */
+        SNAPSHOT
+    }
+}
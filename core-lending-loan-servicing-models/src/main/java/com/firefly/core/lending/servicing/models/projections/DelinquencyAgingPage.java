@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.projections;
+
+import java.util.UUID;
+
+/**
+ * Outcome of aging one keyset page of servicing cases.
+ *
+ * @param lastCaseId the highest case id of the page (the next keyset cursor), or null if the page was empty
+ * @param casesAged the number of cases in the page
+ * @param statusTransitions the number of cases whose servicing status changed
+ * @param current the number of cases with no installment past due
+ * @param dpd1To30 the number of cases 1 to 30 days past due
+ * @param dpd31To60 the number of cases 31 to 60 days past due
+ * @param dpd61To90 the number of cases 61 to 90 days past due
+ * @param dpdOver90 the number of cases more than 90 days past due
+ */
+public record DelinquencyAgingPage(UUID lastCaseId,
+                                   long casesAged,
+                                   long statusTransitions,
+                                   long current,
+                                   long dpd1To30,
+                                   long dpd31To60,
+                                   long dpd61To90,
+                                   long dpdOver90) {
+}
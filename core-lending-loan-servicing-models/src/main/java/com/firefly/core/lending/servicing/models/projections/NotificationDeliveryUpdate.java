@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.projections;
+
+import com.firefly.core.lending.servicing.interfaces.enums.NotificationStatusEnum;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outcome of one dispatch attempt, written back to its notification in bulk.
+ *
+ * @param loanNotificationId the notification the attempt was made for
+ * @param notificationStatus the resulting status: SENT or DELIVERED on success, PENDING to retry, FAILED when exhausted
+ * @param sentTime the time the notification was handed to its channel, or null if it was not
+ * @param deliveredTime the time the channel confirmed delivery, or null if it did not
+ * @param failureReason the reason the attempt failed, or null on success
+ * @param retryCount the number of failed attempts so far
+ * @param nextAttemptAt the earliest time the notification is claimed again, or null once it is no longer pending
+ */
+public record NotificationDeliveryUpdate(UUID loanNotificationId,
+                                         NotificationStatusEnum notificationStatus,
+                                         LocalDateTime sentTime,
+                                         LocalDateTime deliveredTime,
+                                         String failureReason,
+                                         int retryCount,
+                                         LocalDateTime nextAttemptAt) {
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.projections;
+
+import com.firefly.core.lending.servicing.interfaces.enums.CompoundingFrequencyEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.DayCountConventionEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.InterestCalculationMethodEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a servicing case joined with its current balance and the total of its unprocessed
+ * rebates, carrying only the columns needed to quote a payoff amount.
+ *
+ * @param loanServicingCaseId the servicing case identifier
+ * @param principalAmount the originally contracted principal
+ * @param originationDate the date interest started accruing on the case
+ * @param maturityDate the contractual maturity date of the case
+ * @param principalOutstanding the current outstanding principal, or null if no balance snapshot exists yet
+ * @param interestOutstanding the current unpaid interest, or null if no balance snapshot exists yet
+ * @param feesOutstanding the current unpaid fees, or null if no balance snapshot exists yet
+ * @param balanceDate the date of the current balance, or null if no balance snapshot exists yet
+ * @param interestRate the annual interest rate as a percentage
+ * @param interestCalculationMethod the interest calculation method of the case
+ * @param compoundingFrequency the compounding frequency of the case
+ * @param dayCountConvention the day count convention of the case
+ * @param unprocessedRebates the sum of the case's rebates not yet processed, zero if there are none
+ */
+public record PayoffQuoteBasis(UUID loanServicingCaseId,
+                               BigDecimal principalAmount,
+                               LocalDate originationDate,
+                               LocalDate maturityDate,
+                               BigDecimal principalOutstanding,
+                               BigDecimal interestOutstanding,
+                               BigDecimal feesOutstanding,
+                               LocalDate balanceDate,
+                               BigDecimal interestRate,
+                               InterestCalculationMethodEnum interestCalculationMethod,
+                               CompoundingFrequencyEnum compoundingFrequency,
+                               DayCountConventionEnum dayCountConvention,
+                               BigDecimal unprocessedRebates) {
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.models.entities.IdempotencyRecord;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Atomic write operations for {@link IdempotencyRecord}.
+ */
+public interface IdempotencyRecordRepositoryCustom {
+
+    /**
+     * Claims a key for a new request with a single {@code INSERT ... ON CONFLICT DO UPDATE}. An existing row is
+     * only taken over once it has expired. If another transaction holds an uncommitted claim on the key, the
+     * statement waits until that transaction ends.
+     *
+     * @param scope the endpoint the key is used on
+     * @param key the client-supplied idempotency key
+     * @param requestHash the SHA-256 of the request body
+     * @param now the current time; rows expiring at or before it may be taken over
+     * @param expiresAt when the claim expires
+     * @return a Mono emitting true if the key was claimed, or false if a live claim already exists
+     */
+    Mono<Boolean> claim(String scope, String key, byte[] requestHash, LocalDateTime now, LocalDateTime expiresAt);
+
+    /**
+     * Stores the response of a claimed key.
+     *
+     * @param scope the endpoint the key is used on
+     * @param key the client-supplied idempotency key
+     * @param responseBody the JSON of the response
+     * @return a Mono emitting the number of rows updated
+     */
+    Mono<Long> complete(String scope, String key, String responseBody);
+
+    /**
+     * Deletes up to {@code limit} rows that expired at or before {@code now}.
+     *
+     * @return a Mono emitting the number of rows deleted
+     */
+    Mono<Long> deleteExpired(LocalDateTime now, int limit);
+}
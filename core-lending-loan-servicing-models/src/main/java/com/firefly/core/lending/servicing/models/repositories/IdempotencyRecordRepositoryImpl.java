@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public class IdempotencyRecordRepositoryImpl implements IdempotencyRecordRepositoryCustom {
+
+    private static final String CLAIM_SQL = """
+            INSERT INTO idempotency_record (idempotency_scope, idempotency_key, request_hash, created_at, expires_at)
+            VALUES ($1, $2, $3, $4, $5)
+            ON CONFLICT (idempotency_scope, idempotency_key) DO UPDATE SET
+                request_hash = EXCLUDED.request_hash,
+                response_body = NULL,
+                created_at = EXCLUDED.created_at,
+                expires_at = EXCLUDED.expires_at
+            WHERE idempotency_record.expires_at <= EXCLUDED.created_at
+            """;
+
+    private static final String COMPLETE_SQL = """
+            UPDATE idempotency_record
+               SET response_body = $3
+             WHERE idempotency_scope = $1
+               AND idempotency_key = $2
+            """;
+
+    /**
+     * Bounded by idx_idempotency_record_expires_at (V13) so each batch is an index range scan.
+     */
+    private static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM idempotency_record
+             WHERE idempotency_record_id IN (
+                    SELECT idempotency_record_id
+                      FROM idempotency_record
+                     WHERE expires_at <= $1
+                     LIMIT $2)
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public IdempotencyRecordRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Boolean> claim(String scope, String key, byte[] requestHash, LocalDateTime now,
+                               LocalDateTime expiresAt) {
+        return databaseClient.sql(CLAIM_SQL)
+                .bind(0, scope)
+                .bind(1, key)
+                .bind(2, requestHash)
+                .bind(3, now)
+                .bind(4, expiresAt)
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows > 0);
+    }
+
+    @Override
+    public Mono<Long> complete(String scope, String key, String responseBody) {
+        return databaseClient.sql(COMPLETE_SQL)
+                .bind(0, scope)
+                .bind(1, key)
+                .bind(2, responseBody)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    @Override
+    public Mono<Long> deleteExpired(LocalDateTime now, int limit) {
+        return databaseClient.sql(DELETE_EXPIRED_SQL)
+                .bind(0, now)
+                .bind(1, limit)
+                .fetch()
+                .rowsUpdated();
+    }
+}
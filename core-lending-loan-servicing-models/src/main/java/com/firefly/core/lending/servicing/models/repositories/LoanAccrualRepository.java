@@ -18,8 +18,15 @@
 package com.firefly.core.lending.servicing.models.repositories;
 
 import com.firefly.core.lending.servicing.models.entities.LoanAccrual;
+import reactor.core.publisher.Flux;
 
 import java.util.UUID;
 
-public interface LoanAccrualRepository extends BaseRepository<LoanAccrual, UUID> {
+public interface LoanAccrualRepository extends BaseRepository<LoanAccrual, UUID>, LoanAccrualRepositoryCustom {
+
+    /**
+     * Streams all accruals of a loan servicing case in accrual date order. Rows are emitted as the subscriber
+     * requests them, so the result set is never materialized in memory.
+     */
+    Flux<LoanAccrual> findByLoanServicingCaseIdOrderByAccrualDateAscCreatedAtAsc(UUID loanServicingCaseId);
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.interfaces.enums.AccrualTypeEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanAccrual;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class LoanAccrualRepositoryImpl implements LoanAccrualRepositoryCustom {
+
+    private static final MultiRowInsert<LoanAccrual> INSERT = MultiRowInsert.<LoanAccrual>into("loan_accrual")
+            .column("loan_accrual_id", UUID.class, LoanAccrual::getLoanAccrualId)
+            .column("loan_servicing_case_id", UUID.class, LoanAccrual::getLoanServicingCaseId)
+            .column("accrual_amount", BigDecimal.class, LoanAccrual::getAccrualAmount)
+            .column("accrual_type", AccrualTypeEnum.class, LoanAccrual::getAccrualType)
+            .column("accrual_date", LocalDate.class, LoanAccrual::getAccrualDate)
+            .column("note", String.class, LoanAccrual::getNote)
+            .column("loan_accrual_run_id", UUID.class, LoanAccrual::getLoanAccrualRunId)
+            .column("created_at", LocalDateTime.class, LoanAccrual::getCreatedAt)
+            .column("updated_at", LocalDateTime.class, LoanAccrual::getUpdatedAt)
+            .onConflict("ON CONFLICT (loan_accrual_run_id, loan_servicing_case_id) WHERE loan_accrual_run_id IS NOT NULL DO NOTHING")
+            .build();
+
+    private final DatabaseClient databaseClient;
+
+    public LoanAccrualRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Long> insertAll(List<LoanAccrual> accruals) {
+        return INSERT.execute(databaseClient, accruals);
+    }
+}
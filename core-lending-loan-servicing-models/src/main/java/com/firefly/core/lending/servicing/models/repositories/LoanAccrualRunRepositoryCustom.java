@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.models.entities.LoanAccrualRun;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Run ownership operations for {@link LoanAccrualRun} that must be atomic across service instances.
+ */
+public interface LoanAccrualRunRepositoryCustom {
+
+    /**
+     * Creates a PENDING run for the date unless one already exists. Concurrent callers for the same date do not
+     * fail: all but one insert nothing.
+     *
+     * @param accrualDate the business date of the run
+     * @param now the creation timestamp
+     * @return a Mono emitting true if this caller created the run
+     */
+    Mono<Boolean> createIfAbsent(LocalDate accrualDate, LocalDateTime now);
+
+    /**
+     * Marks the run as RUNNING if it is not completed and no other instance is actively processing it.
+     * A RUNNING run whose last heartbeat ({@code updated_at}) is older than {@code staleBefore} is
+     * considered abandoned and may be claimed.
+     *
+     * @param loanAccrualRunId the run to claim
+     * @param now the claim timestamp
+     * @param staleBefore heartbeats older than this are treated as abandoned
+     * @return a Mono emitting true if this caller now owns the run
+     */
+    Mono<Boolean> claim(UUID loanAccrualRunId, LocalDateTime now, LocalDateTime staleBefore);
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class LoanAccrualRunRepositoryImpl implements LoanAccrualRunRepositoryCustom {
+
+    private static final String CREATE_SQL = """
+            INSERT INTO loan_accrual_run (accrual_date, run_status, cases_processed, accruals_written, created_at, updated_at)
+            VALUES ($1, 'PENDING', 0, 0, $2, $2)
+            ON CONFLICT (accrual_date) DO NOTHING
+            """;
+
+    private static final String CLAIM_SQL = """
+            UPDATE loan_accrual_run
+               SET run_status = 'RUNNING', started_at = COALESCE(started_at, $1), error_message = NULL, updated_at = $1
+             WHERE loan_accrual_run_id = $2
+               AND (run_status IN ('PENDING', 'FAILED') OR (run_status = 'RUNNING' AND updated_at < $3))
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public LoanAccrualRunRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Boolean> createIfAbsent(LocalDate accrualDate, LocalDateTime now) {
+        return databaseClient.sql(CREATE_SQL)
+                .bind(0, accrualDate)
+                .bind(1, now)
+                .fetch()
+                .rowsUpdated()
+                .map(inserted -> inserted > 0);
+    }
+
+    @Override
+    public Mono<Boolean> claim(UUID loanAccrualRunId, LocalDateTime now, LocalDateTime staleBefore) {
+        return databaseClient.sql(CLAIM_SQL)
+                .bind(0, now)
+                .bind(1, loanAccrualRunId)
+                .bind(2, staleBefore)
+                .fetch()
+                .rowsUpdated()
+                .map(updated -> updated > 0);
+    }
+}
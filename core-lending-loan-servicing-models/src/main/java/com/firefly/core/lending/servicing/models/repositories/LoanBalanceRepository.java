@@ -23,12 +23,12 @@ import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
-public interface LoanBalanceRepository extends BaseRepository<LoanBalance, UUID> {
+public interface LoanBalanceRepository extends BaseRepository<LoanBalance, UUID>, LoanBalanceRepositoryCustom {
     
     /**
-     * Find the current balance for a loan servicing case
+     * Find the most recent balance snapshot for a loan servicing case
      */
-    Mono<LoanBalance> findByLoanServicingCaseIdAndIsCurrentTrue(UUID loanServicingCaseId);
+    Mono<LoanBalance> findFirstByLoanServicingCaseIdOrderByBalanceDateDescCreatedAtDesc(UUID loanServicingCaseId);
     
     /**
      * Find all balance history for a loan servicing case
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.models.entities.LoanBalance;
+import com.firefly.core.lending.servicing.models.projections.BalanceDrift;
+import com.firefly.core.lending.servicing.models.projections.BalanceLedgerEntry;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Portfolio-wide operations on balance snapshots used by the balance rebuild.
+ */
+public interface LoanBalanceRepositoryCustom {
+
+    /**
+     * Streams the merged ledger of one keyset page of servicing cases: completed disbursements, accruals,
+     * completed payments, processed borrower rebates and balance snapshots. Every case of the page opens with a
+     * {@link BalanceLedgerEntry.EntryType#CASE} entry, followed by its entries ordered by date. Within a date,
+     * disbursements come before accruals, and both before payments, rebates and snapshots, which are ordered by
+     * creation time. Rows are emitted as the subscriber requests them.
+     *
+     * @param afterCaseId the last case id of the previous page, or the exclusive lower bound of the range being
+     *                    rebuilt, or null to start from the beginning
+     * @param upToCaseId the last case id of the range being rebuilt (inclusive), or null for no upper bound
+     * @param caseLimit the maximum number of cases in the page
+     * @return a Flux of ledger entries grouped by case in ascending case id order
+     */
+    Flux<BalanceLedgerEntry> streamLedger(UUID afterCaseId, UUID upToCaseId, int caseLimit);
+
+    /**
+     * Streams the merged ledger of one servicing case, in the same order as {@link #streamLedger}.
+     *
+     * @param loanServicingCaseId the servicing case
+     * @return a Flux of ledger entries, opening with a {@link BalanceLedgerEntry.EntryType#CASE} entry
+     */
+    Flux<BalanceLedgerEntry> streamCaseLedger(UUID loanServicingCaseId);
+
+    /**
+     * Replaces the amounts of drifted snapshots with the replayed ones in a single statement, together with the
+     * current balance of every case whose projection was taken from a repaired snapshot. A snapshot that no
+     * longer holds its recorded amounts, because it was changed after it was replayed, is left untouched.
+     *
+     * @param drifts the drifted snapshots to repair
+     * @param now the timestamp written to updated rows
+     * @return a Flux of the repaired snapshots
+     */
+    Flux<LoanBalance> repairAll(List<BalanceDrift> drifts, LocalDateTime now);
+}
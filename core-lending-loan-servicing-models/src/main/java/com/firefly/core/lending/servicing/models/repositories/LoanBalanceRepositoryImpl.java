@@ -0,0 +1,233 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.interfaces.enums.AccrualTypeEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanBalance;
+import com.firefly.core.lending.servicing.models.projections.BalanceDrift;
+import com.firefly.core.lending.servicing.models.projections.BalanceLedgerEntry;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+public class LoanBalanceRepositoryImpl implements LoanBalanceRepositoryCustom {
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private static final BalanceLedgerEntry.EntryType[] ENTRY_TYPES = BalanceLedgerEntry.EntryType.values();
+
+    /**
+     * Reads the ledgers of the cases in {@code page} through their case id indexes. The entry_type values are the
+     * ordinals of {@link BalanceLedgerEntry.EntryType}. The CASE row carries the case principal when the case has
+     * no completed disbursement, so loans booked without disbursement rows still open with their principal.
+     * Within a date, disbursements and accruals come first; the credits and snapshots follow in the order they
+     * were recorded, so a snapshot only reflects the payments made before it.
+     */
+    private static final String LEDGER_SQL = """
+            SELECT l.*
+              FROM (SELECT p.loan_servicing_case_id, 0 AS entry_type, NULL::uuid AS entry_id,
+                           NULL::date AS entry_date, NULL::timestamp AS created_at,
+                           CASE WHEN NOT EXISTS (SELECT 1
+                                                   FROM loan_disbursement d
+                                                  WHERE d.loan_servicing_case_id = p.loan_servicing_case_id
+                                                    AND d.disbursement_status = 'COMPLETED')
+                                THEN c.principal_amount END::numeric AS amount,
+                           NULL::text AS accrual_type, NULL::text AS detail, NULL::numeric AS principal_outstanding,
+                           NULL::numeric AS interest_outstanding, NULL::numeric AS fees_outstanding,
+                           NULL::numeric AS total_outstanding
+                      FROM page p
+                      LEFT JOIN loan_servicing_case c ON c.loan_servicing_case_id = p.loan_servicing_case_id
+                    UNION ALL
+                    SELECT d.loan_servicing_case_id, 1, d.loan_disbursement_id, d.disbursement_date, d.created_at,
+                           d.disbursement_amount, NULL, d.disbursement_method::text, NULL, NULL, NULL, NULL
+                      FROM loan_disbursement d
+                     WHERE d.loan_servicing_case_id IN (SELECT loan_servicing_case_id FROM page)
+                       AND d.disbursement_status = 'COMPLETED'
+                    UNION ALL
+                    SELECT a.loan_servicing_case_id, 2, a.loan_accrual_id, a.accrual_date, a.created_at,
+                           a.accrual_amount, a.accrual_type::text, a.accrual_type::text, NULL, NULL, NULL, NULL
+                      FROM loan_accrual a
+                     WHERE a.loan_servicing_case_id IN (SELECT loan_servicing_case_id FROM page)
+                    UNION ALL
+                    SELECT r.loan_servicing_case_id, 3, r.loan_installment_record_id, r.payment_date, r.created_at,
+                           r.payment_amount, NULL, r.payment_method::text, NULL, NULL, NULL, NULL
+                      FROM loan_installment_record r
+                     WHERE r.loan_servicing_case_id IN (SELECT loan_servicing_case_id FROM page)
+                       AND r.payment_status = 'COMPLETED'
+                    UNION ALL
+                    SELECT rb.loan_servicing_case_id, 4, rb.loan_rebate_id, COALESCE(rb.processed_date, rb.rebate_date),
+                           rb.created_at, rb.rebate_amount, NULL, rb.rebate_type::text, NULL, NULL, NULL, NULL
+                      FROM loan_rebate rb
+                     WHERE rb.loan_servicing_case_id IN (SELECT loan_servicing_case_id FROM page)
+                       AND rb.is_processed = TRUE
+                       AND rb.rebate_type <> 'DISTRIBUTOR_REBATE'
+                    UNION ALL
+                    SELECT b.loan_servicing_case_id, 5, b.loan_balance_id, b.balance_date, b.created_at, NULL, NULL,
+                           NULL, b.principal_outstanding, b.interest_outstanding, b.fees_outstanding, b.total_outstanding
+                      FROM loan_balance b
+                     WHERE b.loan_servicing_case_id IN (SELECT loan_servicing_case_id FROM page)) l
+             ORDER BY l.loan_servicing_case_id, l.entry_date NULLS FIRST, LEAST(l.entry_type, 3), l.created_at,
+                      l.entry_type, l.entry_id
+            """;
+
+    /**
+     * Reads the next page of case ids from the primary key, then their ledgers.
+     */
+    private static final String LEDGER_PAGE_SQL = """
+            WITH page AS (
+                SELECT c.loan_servicing_case_id
+                  FROM loan_servicing_case c
+                 WHERE c.loan_servicing_case_id > $1
+                   AND ($2::uuid IS NULL OR c.loan_servicing_case_id <= $2)
+                 ORDER BY c.loan_servicing_case_id
+                 LIMIT $3
+            )
+            """ + LEDGER_SQL;
+
+    private static final String CASE_LEDGER_SQL = """
+            WITH page AS (
+                SELECT $1::uuid AS loan_servicing_case_id
+            )
+            """ + LEDGER_SQL;
+
+    /**
+     * Repairs the snapshots that still hold their recorded amounts, then the current balances taken from them.
+     */
+    private static final String REPAIR_SQL = """
+            WITH v AS (
+                SELECT *
+                  FROM unnest($1::uuid[], $2::numeric[], $3::numeric[], $4::numeric[], $5::numeric[],
+                              $6::numeric[], $7::numeric[], $8::numeric[], $9::numeric[])
+                       AS v(loan_balance_id, recorded_principal, recorded_interest, recorded_fees, recorded_total,
+                            principal_outstanding, interest_outstanding, fees_outstanding, total_outstanding)
+            ),
+            repaired AS (
+                UPDATE loan_balance b
+                   SET principal_outstanding = v.principal_outstanding,
+                       interest_outstanding = v.interest_outstanding,
+                       fees_outstanding = v.fees_outstanding,
+                       total_outstanding = v.total_outstanding,
+                       updated_at = $10
+                  FROM v
+                 WHERE b.loan_balance_id = v.loan_balance_id
+                   AND b.principal_outstanding IS NOT DISTINCT FROM v.recorded_principal
+                   AND b.interest_outstanding IS NOT DISTINCT FROM v.recorded_interest
+                   AND b.fees_outstanding IS NOT DISTINCT FROM v.recorded_fees
+                   AND b.total_outstanding IS NOT DISTINCT FROM v.recorded_total
+                RETURNING b.*
+            ),
+            projected AS (
+                UPDATE loan_current_balance c
+                   SET principal_outstanding = r.principal_outstanding,
+                       interest_outstanding = r.interest_outstanding,
+                       fees_outstanding = r.fees_outstanding,
+                       total_outstanding = r.total_outstanding,
+                       updated_at = $10
+                  FROM repaired r
+                 WHERE c.loan_balance_id = r.loan_balance_id
+            )
+            SELECT * FROM repaired
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public LoanBalanceRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<BalanceLedgerEntry> streamLedger(UUID afterCaseId, UUID upToCaseId, int caseLimit) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(LEDGER_PAGE_SQL)
+                .bind(0, afterCaseId == null ? MIN_UUID : afterCaseId);
+        spec = upToCaseId == null ? spec.bindNull(1, UUID.class) : spec.bind(1, upToCaseId);
+        return spec.bind(2, caseLimit)
+                .map(LoanBalanceRepositoryImpl::toLedgerEntry)
+                .all();
+    }
+
+    @Override
+    public Flux<BalanceLedgerEntry> streamCaseLedger(UUID loanServicingCaseId) {
+        return databaseClient.sql(CASE_LEDGER_SQL)
+                .bind(0, loanServicingCaseId)
+                .map(LoanBalanceRepositoryImpl::toLedgerEntry)
+                .all();
+    }
+
+    @Override
+    public Flux<LoanBalance> repairAll(List<BalanceDrift> drifts, LocalDateTime now) {
+        if (drifts.isEmpty()) {
+            return Flux.empty();
+        }
+        // One array per column keeps the statement text constant regardless of the number of rows
+        return databaseClient.sql(REPAIR_SQL)
+                .bind(0, drifts.stream().map(BalanceDrift::loanBalanceId).toArray(UUID[]::new))
+                .bind(1, amounts(drifts, BalanceDrift::recordedPrincipalOutstanding))
+                .bind(2, amounts(drifts, BalanceDrift::recordedInterestOutstanding))
+                .bind(3, amounts(drifts, BalanceDrift::recordedFeesOutstanding))
+                .bind(4, amounts(drifts, BalanceDrift::recordedTotalOutstanding))
+                .bind(5, amounts(drifts, BalanceDrift::expectedPrincipalOutstanding))
+                .bind(6, amounts(drifts, BalanceDrift::expectedInterestOutstanding))
+                .bind(7, amounts(drifts, BalanceDrift::expectedFeesOutstanding))
+                .bind(8, amounts(drifts, BalanceDrift::expectedTotalOutstanding))
+                .bind(9, now)
+                .map(LoanBalanceRepositoryImpl::toBalance)
+                .all();
+    }
+
+    private static BigDecimal[] amounts(List<BalanceDrift> drifts, Function<BalanceDrift, BigDecimal> getter) {
+        return drifts.stream().map(getter).toArray(BigDecimal[]::new);
+    }
+
+    private static BalanceLedgerEntry toLedgerEntry(Readable row) {
+        String accrualType = row.get("accrual_type", String.class);
+        return new BalanceLedgerEntry(
+                row.get("loan_servicing_case_id", UUID.class),
+                ENTRY_TYPES[row.get("entry_type", Integer.class)],
+                row.get("entry_id", UUID.class),
+                row.get("entry_date", LocalDate.class),
+                row.get("amount", BigDecimal.class),
+                accrualType == null ? null : AccrualTypeEnum.valueOf(accrualType),
+                row.get("detail", String.class),
+                row.get("principal_outstanding", BigDecimal.class),
+                row.get("interest_outstanding", BigDecimal.class),
+                row.get("fees_outstanding", BigDecimal.class),
+                row.get("total_outstanding", BigDecimal.class));
+    }
+
+    private static LoanBalance toBalance(Readable row) {
+        return LoanBalance.builder()
+                .loanBalanceId(row.get("loan_balance_id", UUID.class))
+                .loanServicingCaseId(row.get("loan_servicing_case_id", UUID.class))
+                .principalOutstanding(row.get("principal_outstanding", BigDecimal.class))
+                .interestOutstanding(row.get("interest_outstanding", BigDecimal.class))
+                .feesOutstanding(row.get("fees_outstanding", BigDecimal.class))
+                .totalOutstanding(row.get("total_outstanding", BigDecimal.class))
+                .balanceDate(row.get("balance_date", LocalDate.class))
+                .isCurrent(row.get("is_current", Boolean.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.models.entities.LoanCurrentBalance;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.repository.Lock;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface LoanCurrentBalanceRepository extends BaseRepository<LoanCurrentBalance, UUID>, LoanCurrentBalanceRepositoryCustom {
+
+    /**
+     * Finds the current balance of a case and locks it ({@code FOR UPDATE}) until the surrounding transaction
+     * ends, serializing concurrent postings against the same case.
+     */
+    @Lock(LockMode.PESSIMISTIC_WRITE)
+    Mono<LoanCurrentBalance> findForUpdateByLoanServicingCaseId(UUID loanServicingCaseId);
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.models.entities.LoanCurrentBalance;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Atomic write operations for the {@link LoanCurrentBalance} projection.
+ */
+public interface LoanCurrentBalanceRepositoryCustom {
+
+    /**
+     * Inserts or replaces the current balance of each case with a single {@code INSERT ... ON CONFLICT DO UPDATE}.
+     * An existing row is only replaced when the new balance date is not older than the stored one, so a
+     * back-dated snapshot never overwrites a newer current balance. Each case may appear at most once per call.
+     *
+     * @param balances the current balances to store
+     * @return a Mono emitting the number of rows inserted or replaced
+     */
+    Mono<Long> upsertAll(List<LoanCurrentBalance> balances);
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.models.entities.LoanCurrentBalance;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class LoanCurrentBalanceRepositoryImpl implements LoanCurrentBalanceRepositoryCustom {
+
+    private static final MultiRowInsert<LoanCurrentBalance> UPSERT = MultiRowInsert.<LoanCurrentBalance>into("loan_current_balance")
+            .column("loan_servicing_case_id", UUID.class, LoanCurrentBalance::getLoanServicingCaseId)
+            .column("loan_balance_id", UUID.class, LoanCurrentBalance::getLoanBalanceId)
+            .column("principal_outstanding", BigDecimal.class, LoanCurrentBalance::getPrincipalOutstanding)
+            .column("interest_outstanding", BigDecimal.class, LoanCurrentBalance::getInterestOutstanding)
+            .column("fees_outstanding", BigDecimal.class, LoanCurrentBalance::getFeesOutstanding)
+            .column("total_outstanding", BigDecimal.class, LoanCurrentBalance::getTotalOutstanding)
+            .column("balance_date", LocalDate.class, LoanCurrentBalance::getBalanceDate)
+            .column("created_at", LocalDateTime.class, LoanCurrentBalance::getCreatedAt)
+            .column("updated_at", LocalDateTime.class, LoanCurrentBalance::getUpdatedAt)
+            .onConflict("""
+                    ON CONFLICT (loan_servicing_case_id) DO UPDATE SET
+                        loan_balance_id = EXCLUDED.loan_balance_id,
+                        principal_outstanding = EXCLUDED.principal_outstanding,
+                        interest_outstanding = EXCLUDED.interest_outstanding,
+                        fees_outstanding = EXCLUDED.fees_outstanding,
+                        total_outstanding = EXCLUDED.total_outstanding,
+                        balance_date = EXCLUDED.balance_date,
+                        updated_at = EXCLUDED.updated_at
+                    WHERE loan_current_balance.balance_date <= EXCLUDED.balance_date""")
+            .build();
+
+    private final DatabaseClient databaseClient;
+
+    public LoanCurrentBalanceRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Long> upsertAll(List<LoanCurrentBalance> balances) {
+        return UPSERT.execute(databaseClient, balances);
+    }
+}
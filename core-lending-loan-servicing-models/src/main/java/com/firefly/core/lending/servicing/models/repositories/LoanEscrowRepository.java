@@ -22,7 +22,7 @@ import reactor.core.publisher.Flux;
 
 import java.util.UUID;
 
-public interface LoanEscrowRepository extends BaseRepository<LoanEscrow, UUID> {
+public interface LoanEscrowRepository extends BaseRepository<LoanEscrow, UUID>, LoanEscrowRepositoryCustom {
     
     Flux<LoanEscrow> findByLoanServicingCaseIdOrderByCreatedAtDesc(UUID loanServicingCaseId);
     
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.models.entities.LoanEscrow;
+import com.firefly.core.lending.servicing.models.entities.LoanEscrowAnalysis;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Portfolio-wide operations on escrows used by the escrow analysis job.
+ */
+public interface LoanEscrowRepositoryCustom {
+
+    /**
+     * Streams one keyset page of active escrows whose next analysis date is on or before {@code asOfDate},
+     * ordered by case id and escrow id.
+     *
+     * @param asOfDate the analysis date
+     * @param afterCaseId the case id of the last escrow of the previous page, or the exclusive lower bound of the
+     *                    range being analyzed, or null to start from the beginning
+     * @param afterEscrowId the escrow id of the last escrow of the previous page, or null to skip every escrow of
+     *                      {@code afterCaseId}
+     * @param upToCaseId the last case id of the range being analyzed (inclusive), or null for no upper bound
+     * @param limit the maximum number of escrows to return
+     * @return a Flux of escrows in ascending (case id, escrow id) order
+     */
+    Flux<LoanEscrow> findDueForAnalysis(LocalDate asOfDate, UUID afterCaseId, UUID afterEscrowId, UUID upToCaseId,
+                                        int limit);
+
+    /**
+     * Applies a batch of analyses with a single statement: each escrow gets the new monthly payment and analysis
+     * dates, and each analysis is recorded. Escrows that are no longer due on {@code analysisDate}, because a
+     * concurrent run analyzed them first, are left untouched and their analysis is not recorded.
+     *
+     * @param analyses the analyses to apply
+     * @param analysisDate the analysis date
+     * @param now the timestamp written to updated and created rows
+     * @return a Mono emitting the number of analyses recorded
+     */
+    Mono<Long> applyAnalyses(List<LoanEscrowAnalysis> analyses, LocalDate analysisDate, LocalDateTime now);
+}
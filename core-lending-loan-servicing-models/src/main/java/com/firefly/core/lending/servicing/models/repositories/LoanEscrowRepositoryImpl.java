@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.interfaces.enums.EscrowTypeEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanEscrow;
+import com.firefly.core.lending.servicing.models.entities.LoanEscrowAnalysis;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+public class LoanEscrowRepositoryImpl implements LoanEscrowRepositoryCustom {
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+    private static final UUID MAX_UUID = new UUID(-1L, -1L);
+
+    /**
+     * Walks idx_loan_escrow_active_case_escrow (V10) from the (case id, escrow id) cursor.
+     */
+    private static final String DUE_FOR_ANALYSIS_SQL = """
+            SELECT e.loan_escrow_id,
+                   e.loan_servicing_case_id,
+                   e.escrow_type::text AS escrow_type,
+                   e.monthly_payment_amount,
+                   e.current_balance,
+                   e.target_balance,
+                   e.annual_disbursement_amount,
+                   e.next_disbursement_date,
+                   e.last_analysis_date,
+                   e.next_analysis_date,
+                   e.is_active,
+                   e.payee_name,
+                   e.payee_account_number,
+                   e.remarks,
+                   e.created_at,
+                   e.updated_at
+              FROM loan_escrow e
+             WHERE e.is_active = TRUE
+               AND (e.loan_servicing_case_id, e.loan_escrow_id) > ($2, $3)
+               AND ($4::uuid IS NULL OR e.loan_servicing_case_id <= $4)
+               AND e.next_analysis_date <= $1
+             ORDER BY e.loan_servicing_case_id, e.loan_escrow_id
+             LIMIT $5
+            """;
+
+    /**
+     * Updates the escrows that are still due and records an analysis for exactly those, in one statement.
+     */
+    private static final String APPLY_ANALYSES_SQL = """
+            WITH v AS (
+                SELECT *
+                  FROM unnest($1::uuid[], $2::uuid[], $3::numeric[], $4::numeric[], $5::numeric[], $6::numeric[],
+                              $7::numeric[], $8::numeric[], $9::numeric[], $10::numeric[], $11::numeric[], $12::date[])
+                       AS v(loan_escrow_id, loan_servicing_case_id, current_balance, target_balance,
+                            annual_disbursement_amount, previous_monthly_payment_amount, monthly_payment_amount,
+                            projected_low_balance, projected_ending_balance, shortage_amount, surplus_amount,
+                            next_analysis_date)
+            ),
+            analyzed AS (
+                UPDATE loan_escrow e
+                   SET monthly_payment_amount = v.monthly_payment_amount,
+                       last_analysis_date = $13,
+                       next_analysis_date = v.next_analysis_date,
+                       updated_at = $14
+                  FROM v
+                 WHERE e.loan_escrow_id = v.loan_escrow_id
+                   AND e.is_active = TRUE
+                   AND e.next_analysis_date <= $13
+                RETURNING e.loan_escrow_id
+            )
+            INSERT INTO loan_escrow_analysis (loan_escrow_id, loan_servicing_case_id, analysis_date, current_balance,
+                                              target_balance, annual_disbursement_amount,
+                                              previous_monthly_payment_amount, monthly_payment_amount,
+                                              projected_low_balance, projected_ending_balance, shortage_amount,
+                                              surplus_amount, next_analysis_date, created_at, updated_at)
+            SELECT v.loan_escrow_id, v.loan_servicing_case_id, $13, v.current_balance, v.target_balance,
+                   v.annual_disbursement_amount, v.previous_monthly_payment_amount, v.monthly_payment_amount,
+                   v.projected_low_balance, v.projected_ending_balance, v.shortage_amount, v.surplus_amount,
+                   v.next_analysis_date, $14, $14
+              FROM v
+              JOIN analyzed a ON a.loan_escrow_id = v.loan_escrow_id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public LoanEscrowRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<LoanEscrow> findDueForAnalysis(LocalDate asOfDate, UUID afterCaseId, UUID afterEscrowId,
+                                               UUID upToCaseId, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(DUE_FOR_ANALYSIS_SQL)
+                .bind(0, asOfDate)
+                .bind(1, afterCaseId == null ? MIN_UUID : afterCaseId)
+                .bind(2, afterEscrowId == null ? MAX_UUID : afterEscrowId);
+        spec = upToCaseId == null ? spec.bindNull(3, UUID.class) : spec.bind(3, upToCaseId);
+        return spec.bind(4, limit)
+                .map(LoanEscrowRepositoryImpl::toEscrow)
+                .all();
+    }
+
+    @Override
+    public Mono<Long> applyAnalyses(List<LoanEscrowAnalysis> analyses, LocalDate analysisDate, LocalDateTime now) {
+        if (analyses.isEmpty()) {
+            return Mono.just(0L);
+        }
+        // One array per column keeps the statement text constant regardless of the number of rows
+        return databaseClient.sql(APPLY_ANALYSES_SQL)
+                .bind(0, analyses.stream().map(LoanEscrowAnalysis::getLoanEscrowId).toArray(UUID[]::new))
+                .bind(1, analyses.stream().map(LoanEscrowAnalysis::getLoanServicingCaseId).toArray(UUID[]::new))
+                .bind(2, amounts(analyses, LoanEscrowAnalysis::getCurrentBalance))
+                .bind(3, amounts(analyses, LoanEscrowAnalysis::getTargetBalance))
+                .bind(4, amounts(analyses, LoanEscrowAnalysis::getAnnualDisbursementAmount))
+                .bind(5, amounts(analyses, LoanEscrowAnalysis::getPreviousMonthlyPaymentAmount))
+                .bind(6, amounts(analyses, LoanEscrowAnalysis::getMonthlyPaymentAmount))
+                .bind(7, amounts(analyses, LoanEscrowAnalysis::getProjectedLowBalance))
+                .bind(8, amounts(analyses, LoanEscrowAnalysis::getProjectedEndingBalance))
+                .bind(9, amounts(analyses, LoanEscrowAnalysis::getShortageAmount))
+                .bind(10, amounts(analyses, LoanEscrowAnalysis::getSurplusAmount))
+                .bind(11, analyses.stream().map(LoanEscrowAnalysis::getNextAnalysisDate).toArray(LocalDate[]::new))
+                .bind(12, analysisDate)
+                .bind(13, now)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static BigDecimal[] amounts(List<LoanEscrowAnalysis> analyses, Function<LoanEscrowAnalysis, BigDecimal> getter) {
+        return analyses.stream().map(getter).toArray(BigDecimal[]::new);
+    }
+
+    private static LoanEscrow toEscrow(Readable row) {
+        return LoanEscrow.builder()
+                .loanEscrowId(row.get("loan_escrow_id", UUID.class))
+                .loanServicingCaseId(row.get("loan_servicing_case_id", UUID.class))
+                .escrowType(EscrowTypeEnum.valueOf(row.get("escrow_type", String.class)))
+                .monthlyPaymentAmount(row.get("monthly_payment_amount", BigDecimal.class))
+                .currentBalance(row.get("current_balance", BigDecimal.class))
+                .targetBalance(row.get("target_balance", BigDecimal.class))
+                .annualDisbursementAmount(row.get("annual_disbursement_amount", BigDecimal.class))
+                .nextDisbursementDate(row.get("next_disbursement_date", LocalDate.class))
+                .lastAnalysisDate(row.get("last_analysis_date", LocalDate.class))
+                .nextAnalysisDate(row.get("next_analysis_date", LocalDate.class))
+                .isActive(row.get("is_active", Boolean.class))
+                .payeeName(row.get("payee_name", String.class))
+                .payeeAccountNumber(row.get("payee_account_number", String.class))
+                .remarks(row.get("remarks", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -18,9 +18,34 @@
 package com.firefly.core.lending.servicing.models.repositories;
 
 import com.firefly.core.lending.servicing.models.entities.LoanInstallmentPlan;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.repository.Lock;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
-public interface LoanInstallmentPlanRepository extends BaseRepository<LoanInstallmentPlan, UUID> {
+public interface LoanInstallmentPlanRepository extends BaseRepository<LoanInstallmentPlan, UUID>, LoanInstallmentPlanRepositoryCustom {
+
+    /**
+     * Finds the earliest unpaid installment of a case.
+     */
+    Mono<LoanInstallmentPlan> findFirstByLoanServicingCaseIdAndIsPaidFalseOrderByDueDateAsc(UUID loanServicingCaseId);
+
+    /**
+     * Finds the unpaid installments of a case, oldest first, and locks them ({@code FOR UPDATE}) until the
+     * surrounding transaction ends.
+     */
+    @Lock(LockMode.PESSIMISTIC_WRITE)
+    Flux<LoanInstallmentPlan> findForUpdateByLoanServicingCaseIdAndIsPaidFalseOrderByDueDateAscInstallmentNumberAsc(
+            UUID loanServicingCaseId);
+
+    /**
+     * Finds every installment of a case in due date order and locks them ({@code FOR UPDATE}) until the
+     * surrounding transaction ends.
+     */
+    @Lock(LockMode.PESSIMISTIC_WRITE)
+    Flux<LoanInstallmentPlan> findForUpdateByLoanServicingCaseIdOrderByDueDateAscInstallmentNumberAsc(
+            UUID loanServicingCaseId);
 }
 
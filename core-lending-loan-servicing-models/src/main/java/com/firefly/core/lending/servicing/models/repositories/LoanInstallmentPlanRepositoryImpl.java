@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentMethodEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanInstallmentPlan;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class LoanInstallmentPlanRepositoryImpl implements LoanInstallmentPlanRepositoryCustom {
+
+    private static final MultiRowInsert<LoanInstallmentPlan> INSERT = MultiRowInsert.<LoanInstallmentPlan>into("loan_installment_plan")
+            .column("loan_installment_plan_id", UUID.class, LoanInstallmentPlan::getLoanInstallmentPlanId)
+            .column("loan_servicing_case_id", UUID.class, LoanInstallmentPlan::getLoanServicingCaseId)
+            .column("installment_number", Integer.class, LoanInstallmentPlan::getInstallmentNumber)
+            .column("due_date", LocalDate.class, LoanInstallmentPlan::getDueDate)
+            .column("principal_due", BigDecimal.class, LoanInstallmentPlan::getPrincipalDue)
+            .column("interest_due", BigDecimal.class, LoanInstallmentPlan::getInterestDue)
+            .column("fee_due", BigDecimal.class, LoanInstallmentPlan::getFeeDue)
+            .column("total_due", BigDecimal.class, LoanInstallmentPlan::getTotalDue)
+            .column("is_paid", Boolean.class, LoanInstallmentPlan::getIsPaid)
+            .column("paid_date", LocalDate.class, LoanInstallmentPlan::getPaidDate)
+            .column("paid_amount", BigDecimal.class, LoanInstallmentPlan::getPaidAmount)
+            .column("payment_method", PaymentMethodEnum.class, LoanInstallmentPlan::getPaymentMethod)
+            .column("payment_account_id", UUID.class, LoanInstallmentPlan::getPaymentAccountId)
+            .column("payment_provider_id", UUID.class, LoanInstallmentPlan::getPaymentProviderId)
+            .column("external_account_reference", String.class, LoanInstallmentPlan::getExternalAccountReference)
+            .column("is_automatic_payment", Boolean.class, LoanInstallmentPlan::getIsAutomaticPayment)
+            .column("created_at", LocalDateTime.class, LoanInstallmentPlan::getCreatedAt)
+            .column("updated_at", LocalDateTime.class, LoanInstallmentPlan::getUpdatedAt)
+            .build();
+
+    private static final String UPDATE_PAYMENT_STATE_SQL = """
+            UPDATE loan_installment_plan p
+               SET paid_amount = v.paid_amount,
+                   is_paid = v.is_paid,
+                   paid_date = v.paid_date,
+                   payment_method = v.payment_method,
+                   updated_at = v.updated_at
+              FROM unnest($1::uuid[], $2::numeric[], $3::boolean[], $4::date[], $5::varchar[], $6::timestamp[])
+                   AS v(loan_installment_plan_id, paid_amount, is_paid, paid_date, payment_method, updated_at)
+             WHERE p.loan_installment_plan_id = v.loan_installment_plan_id
+            """;
+
+    private static final String UPDATE_AMOUNTS_DUE_SQL = """
+            UPDATE loan_installment_plan p
+               SET principal_due = v.principal_due,
+                   interest_due = v.interest_due,
+                   total_due = v.total_due,
+                   updated_at = v.updated_at
+              FROM unnest($1::uuid[], $2::numeric[], $3::numeric[], $4::numeric[], $5::timestamp[])
+                   AS v(loan_installment_plan_id, principal_due, interest_due, total_due, updated_at)
+             WHERE p.loan_installment_plan_id = v.loan_installment_plan_id
+            """;
+
+    /**
+     * Closes the referenced unpaid rows and deletes the others. Both parts see the rows as they were before the
+     * statement, so the DELETE skips closed rows by id; the final SELECT reads the same snapshot for paid rows.
+     */
+    private static final String SUPERSEDE_UNPAID_SQL = """
+            WITH closed AS (
+                UPDATE loan_installment_plan t
+                   SET fee_due = LEAST(t.fee_due, COALESCE(t.paid_amount, 0)),
+                       interest_due = LEAST(t.interest_due,
+                                            COALESCE(t.paid_amount, 0) - LEAST(t.fee_due, COALESCE(t.paid_amount, 0))),
+                       principal_due = COALESCE(t.paid_amount, 0) - LEAST(t.fee_due, COALESCE(t.paid_amount, 0))
+                                       - LEAST(t.interest_due,
+                                               COALESCE(t.paid_amount, 0) - LEAST(t.fee_due, COALESCE(t.paid_amount, 0))),
+                       total_due = COALESCE(t.paid_amount, 0),
+                       paid_amount = COALESCE(t.paid_amount, 0),
+                       is_paid = TRUE,
+                       paid_date = COALESCE(t.paid_date, $2),
+                       updated_at = $3
+                 WHERE t.loan_servicing_case_id = $1
+                   AND t.is_paid = FALSE
+                   AND EXISTS (SELECT 1 FROM loan_installment_record r WHERE r.loan_installment_plan_id = t.loan_installment_plan_id)
+                RETURNING t.loan_installment_plan_id, t.installment_number
+            ),
+            removed AS (
+                DELETE FROM loan_installment_plan t
+                 WHERE t.loan_servicing_case_id = $1
+                   AND t.is_paid = FALSE
+                   AND t.loan_installment_plan_id NOT IN (SELECT loan_installment_plan_id FROM closed)
+            )
+            SELECT GREATEST(COALESCE((SELECT MAX(installment_number) FROM closed), 0),
+                            COALESCE((SELECT MAX(t.installment_number)
+                                        FROM loan_installment_plan t
+                                       WHERE t.loan_servicing_case_id = $1
+                                         AND t.is_paid = TRUE), 0)) AS last_installment_number
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public LoanInstallmentPlanRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Long> insertAll(List<LoanInstallmentPlan> installmentPlans) {
+        return INSERT.execute(databaseClient, installmentPlans);
+    }
+
+    @Override
+    public Mono<Long> updatePaymentState(List<LoanInstallmentPlan> installmentPlans) {
+        if (installmentPlans.isEmpty()) {
+            return Mono.just(0L);
+        }
+        // One array per column keeps the statement text constant regardless of the number of rows
+        return databaseClient.sql(UPDATE_PAYMENT_STATE_SQL)
+                .bind(0, installmentPlans.stream().map(LoanInstallmentPlan::getLoanInstallmentPlanId).toArray(UUID[]::new))
+                .bind(1, installmentPlans.stream().map(LoanInstallmentPlan::getPaidAmount).toArray(BigDecimal[]::new))
+                .bind(2, installmentPlans.stream().map(LoanInstallmentPlan::getIsPaid).toArray(Boolean[]::new))
+                .bind(3, installmentPlans.stream().map(LoanInstallmentPlan::getPaidDate).toArray(LocalDate[]::new))
+                .bind(4, installmentPlans.stream()
+                        .map(plan -> plan.getPaymentMethod() == null ? null : plan.getPaymentMethod().name())
+                        .toArray(String[]::new))
+                .bind(5, installmentPlans.stream().map(LoanInstallmentPlan::getUpdatedAt).toArray(LocalDateTime[]::new))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    @Override
+    public Mono<Long> updateAmountsDue(List<LoanInstallmentPlan> installmentPlans) {
+        if (installmentPlans.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return databaseClient.sql(UPDATE_AMOUNTS_DUE_SQL)
+                .bind(0, installmentPlans.stream().map(LoanInstallmentPlan::getLoanInstallmentPlanId).toArray(UUID[]::new))
+                .bind(1, installmentPlans.stream().map(LoanInstallmentPlan::getPrincipalDue).toArray(BigDecimal[]::new))
+                .bind(2, installmentPlans.stream().map(LoanInstallmentPlan::getInterestDue).toArray(BigDecimal[]::new))
+                .bind(3, installmentPlans.stream().map(LoanInstallmentPlan::getTotalDue).toArray(BigDecimal[]::new))
+                .bind(4, installmentPlans.stream().map(LoanInstallmentPlan::getUpdatedAt).toArray(LocalDateTime[]::new))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    @Override
+    public Mono<Integer> supersedeUnpaid(UUID loanServicingCaseId, LocalDate closingDate, LocalDateTime now) {
+        return databaseClient.sql(SUPERSEDE_UNPAID_SQL)
+                .bind(0, loanServicingCaseId)
+                .bind(1, closingDate)
+                .bind(2, now)
+                .map(row -> row.get("last_installment_number", Integer.class))
+                .one();
+    }
+}
@@ -21,6 +21,7 @@ import com.firefly.core.lending.servicing.models.entities.LoanInstallmentRecordE
 
 import java.util.UUID;
 
-public interface LoanInstallmentRecordExternalTransactionRepository extends BaseRepository<LoanInstallmentRecordExternalTransaction, UUID> {
+public interface LoanInstallmentRecordExternalTransactionRepository extends BaseRepository<LoanInstallmentRecordExternalTransaction, UUID>,
+        LoanInstallmentRecordExternalTransactionRepositoryCustom {
 }
 
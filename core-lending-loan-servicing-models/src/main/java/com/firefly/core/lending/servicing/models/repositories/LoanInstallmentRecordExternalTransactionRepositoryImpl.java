@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.models.entities.LoanInstallmentRecordExternalTransaction;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class LoanInstallmentRecordExternalTransactionRepositoryImpl implements LoanInstallmentRecordExternalTransactionRepositoryCustom {
+
+    private static final MultiRowInsert<LoanInstallmentRecordExternalTransaction> INSERT =
+            MultiRowInsert.<LoanInstallmentRecordExternalTransaction>into("loan_installment_record_external_transaction")
+                    .column("loan_installment_record_external_transaction_id", UUID.class,
+                            LoanInstallmentRecordExternalTransaction::getLoanInstallmentRecordExternalTransactionId)
+                    .column("loan_installment_record_id", UUID.class, LoanInstallmentRecordExternalTransaction::getLoanInstallmentRecordId)
+                    .column("payment_provider_id", UUID.class, LoanInstallmentRecordExternalTransaction::getPaymentProviderId)
+                    .column("psp_transaction_id", String.class, LoanInstallmentRecordExternalTransaction::getPspTransactionId)
+                    .column("psp_transaction_reference", String.class, LoanInstallmentRecordExternalTransaction::getPspTransactionReference)
+                    .column("transaction_amount", BigDecimal.class, LoanInstallmentRecordExternalTransaction::getTransactionAmount)
+                    .column("transaction_currency", String.class, LoanInstallmentRecordExternalTransaction::getTransactionCurrency)
+                    .column("psp_status", String.class, LoanInstallmentRecordExternalTransaction::getPspStatus)
+                    .column("psp_status_message", String.class, LoanInstallmentRecordExternalTransaction::getPspStatusMessage)
+                    .column("payer_account_number", String.class, LoanInstallmentRecordExternalTransaction::getPayerAccountNumber)
+                    .column("payer_name", String.class, LoanInstallmentRecordExternalTransaction::getPayerName)
+                    .column("transaction_date", LocalDateTime.class, LoanInstallmentRecordExternalTransaction::getTransactionDate)
+                    .column("psp_response_payload", String.class, LoanInstallmentRecordExternalTransaction::getPspResponsePayload)
+                    .column("note", String.class, LoanInstallmentRecordExternalTransaction::getNote)
+                    .column("created_at", LocalDateTime.class, LoanInstallmentRecordExternalTransaction::getCreatedAt)
+                    .column("updated_at", LocalDateTime.class, LoanInstallmentRecordExternalTransaction::getUpdatedAt)
+                    .build();
+
+    private final DatabaseClient databaseClient;
+
+    public LoanInstallmentRecordExternalTransactionRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Long> insertAll(List<LoanInstallmentRecordExternalTransaction> externalTransactions) {
+        return INSERT.execute(databaseClient, externalTransactions);
+    }
+}
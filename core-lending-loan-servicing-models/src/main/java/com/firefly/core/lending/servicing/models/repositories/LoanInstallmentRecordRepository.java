@@ -18,9 +18,16 @@
 package com.firefly.core.lending.servicing.models.repositories;
 
 import com.firefly.core.lending.servicing.models.entities.LoanInstallmentRecord;
+import reactor.core.publisher.Flux;
 
 import java.util.UUID;
 
-public interface LoanInstallmentRecordRepository extends BaseRepository<LoanInstallmentRecord, UUID> {
+public interface LoanInstallmentRecordRepository extends BaseRepository<LoanInstallmentRecord, UUID>, LoanInstallmentRecordRepositoryCustom {
+
+    /**
+     * Streams all installment records of a loan servicing case in payment date order. Rows are emitted as the
+     * subscriber requests them, so the result set is never materialized in memory.
+     */
+    Flux<LoanInstallmentRecord> findByLoanServicingCaseIdOrderByPaymentDateAscCreatedAtAsc(UUID loanServicingCaseId);
 }
 
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentMethodEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentStatusEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanInstallmentRecord;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class LoanInstallmentRecordRepositoryImpl implements LoanInstallmentRecordRepositoryCustom {
+
+    private static final MultiRowInsert<LoanInstallmentRecord> INSERT = MultiRowInsert.<LoanInstallmentRecord>into("loan_installment_record")
+            .column("loan_installment_record_id", UUID.class, LoanInstallmentRecord::getLoanInstallmentRecordId)
+            .column("loan_servicing_case_id", UUID.class, LoanInstallmentRecord::getLoanServicingCaseId)
+            .column("loan_installment_plan_id", UUID.class, LoanInstallmentRecord::getLoanInstallmentPlanId)
+            .column("transaction_id", UUID.class, LoanInstallmentRecord::getTransactionId)
+            .column("payment_amount", BigDecimal.class, LoanInstallmentRecord::getPaymentAmount)
+            .column("payment_date", LocalDate.class, LoanInstallmentRecord::getPaymentDate)
+            .column("is_partial_payment", Boolean.class, LoanInstallmentRecord::getIsPartialPayment)
+            .column("payment_method", PaymentMethodEnum.class, LoanInstallmentRecord::getPaymentMethod)
+            .column("payment_status", PaymentStatusEnum.class, LoanInstallmentRecord::getPaymentStatus)
+            .column("payment_provider_id", UUID.class, LoanInstallmentRecord::getPaymentProviderId)
+            .column("external_transaction_reference", String.class, LoanInstallmentRecord::getExternalTransactionReference)
+            .column("note", String.class, LoanInstallmentRecord::getNote)
+            .column("created_at", LocalDateTime.class, LoanInstallmentRecord::getCreatedAt)
+            .column("updated_at", LocalDateTime.class, LoanInstallmentRecord::getUpdatedAt)
+            .build();
+
+    private final DatabaseClient databaseClient;
+
+    public LoanInstallmentRecordRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Long> insertAll(List<LoanInstallmentRecord> installmentRecords) {
+        return INSERT.execute(databaseClient, installmentRecords);
+    }
+}
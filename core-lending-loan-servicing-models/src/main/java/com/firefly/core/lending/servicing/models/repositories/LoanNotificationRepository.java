@@ -23,7 +23,7 @@ import reactor.core.publisher.Flux;
 
 import java.util.UUID;
 
-public interface LoanNotificationRepository extends BaseRepository<LoanNotification, UUID> {
+public interface LoanNotificationRepository extends BaseRepository<LoanNotification, UUID>, LoanNotificationRepositoryCustom {
     
     Flux<LoanNotification> findByLoanServicingCaseIdOrderByCreatedAtDesc(UUID loanServicingCaseId);
     
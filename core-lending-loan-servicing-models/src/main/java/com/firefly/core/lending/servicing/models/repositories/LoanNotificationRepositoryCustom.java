@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.interfaces.enums.NotificationChannelEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanNotification;
+import com.firefly.core.lending.servicing.models.projections.NotificationDeliveryUpdate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Queue operations on loan notifications used by the dispatch worker.
+ */
+public interface LoanNotificationRepositoryCustom {
+
+    /**
+     * Claims up to {@code limit} PENDING notifications that are due at {@code now}, oldest first, with a single
+     * statement. Rows locked by another claimer are skipped rather than waited for, so concurrent workers
+     * receive disjoint batches. Claimed rows stay PENDING but are not due again until {@code leaseUntil},
+     * which lets another worker pick them up if this one dies before recording the outcome.
+     *
+     * @param channels the channels the caller can send on
+     * @param now the current time
+     * @param leaseUntil the time until which the claimed rows are reserved for the caller
+     * @param limit the maximum number of notifications to claim
+     * @return a Flux of the claimed notifications
+     */
+    Flux<LoanNotification> claimDue(Collection<NotificationChannelEnum> channels, LocalDateTime now,
+                                    LocalDateTime leaseUntil, int limit);
+
+    /**
+     * Records the outcome of a batch of dispatch attempts with a single statement.
+     *
+     * @param updates the outcome of each attempt
+     * @param now the timestamp written to updated_at
+     * @return a Mono emitting the number of rows updated
+     */
+    Mono<Long> updateDeliveryState(List<NotificationDeliveryUpdate> updates, LocalDateTime now);
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.interfaces.enums.NotificationChannelEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.NotificationStatusEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.NotificationTypeEnum;
+import com.firefly.core.lending.servicing.models.entities.LoanNotification;
+import com.firefly.core.lending.servicing.models.projections.NotificationDeliveryUpdate;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public class LoanNotificationRepositoryImpl implements LoanNotificationRepositoryCustom {
+
+    /**
+     * The due expression must match idx_loan_notification_pending_due (V9) for the claim to be an index scan.
+     */
+    private static final String CLAIM_DUE_SQL = """
+            UPDATE loan_notification n
+               SET next_attempt_at = $3,
+                   updated_at = $2
+             WHERE n.loan_notification_id IN (
+                    SELECT q.loan_notification_id
+                      FROM loan_notification q
+                     WHERE q.notification_status = 'PENDING'
+                       AND COALESCE(q.next_attempt_at, q.scheduled_send_time, q.created_at) <= $2
+                       AND q.notification_channel::text = ANY($1)
+                     ORDER BY COALESCE(q.next_attempt_at, q.scheduled_send_time, q.created_at)
+                     LIMIT $4
+                       FOR UPDATE SKIP LOCKED)
+            RETURNING n.loan_notification_id,
+                      n.loan_servicing_case_id,
+                      n.notification_type::text AS notification_type,
+                      n.notification_channel::text AS notification_channel,
+                      n.notification_status::text AS notification_status,
+                      n.recipient_party_id,
+                      n.recipient_name,
+                      n.recipient_contact,
+                      n.subject,
+                      n.message_body,
+                      n.scheduled_send_time,
+                      n.sent_time,
+                      n.delivered_time,
+                      n.read_time,
+                      n.failure_reason,
+                      n.retry_count,
+                      n.template_id,
+                      n.metadata,
+                      n.created_at,
+                      n.updated_at
+            """;
+
+    private static final String UPDATE_DELIVERY_STATE_SQL = """
+            UPDATE loan_notification n
+               SET notification_status = v.notification_status::notification_status,
+                   sent_time = COALESCE(v.sent_time, n.sent_time),
+                   delivered_time = COALESCE(v.delivered_time, n.delivered_time),
+                   failure_reason = v.failure_reason,
+                   retry_count = v.retry_count,
+                   next_attempt_at = v.next_attempt_at,
+                   updated_at = $8
+              FROM unnest($1::uuid[], $2::varchar[], $3::timestamp[], $4::timestamp[], $5::text[], $6::integer[],
+                          $7::timestamp[])
+                   AS v(loan_notification_id, notification_status, sent_time, delivered_time, failure_reason,
+                        retry_count, next_attempt_at)
+             WHERE n.loan_notification_id = v.loan_notification_id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public LoanNotificationRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<LoanNotification> claimDue(Collection<NotificationChannelEnum> channels, LocalDateTime now,
+                                           LocalDateTime leaseUntil, int limit) {
+        if (channels.isEmpty()) {
+            return Flux.empty();
+        }
+        String[] channelNames = channels.stream().map(Enum::name).toArray(String[]::new);
+        return databaseClient.sql(CLAIM_DUE_SQL)
+                .bind(0, channelNames)
+                .bind(1, now)
+                .bind(2, leaseUntil)
+                .bind(3, limit)
+                .map(LoanNotificationRepositoryImpl::toNotification)
+                .all();
+    }
+
+    @Override
+    public Mono<Long> updateDeliveryState(List<NotificationDeliveryUpdate> updates, LocalDateTime now) {
+        if (updates.isEmpty()) {
+            return Mono.just(0L);
+        }
+        // One array per column keeps the statement text constant regardless of the number of rows
+        return databaseClient.sql(UPDATE_DELIVERY_STATE_SQL)
+                .bind(0, updates.stream().map(NotificationDeliveryUpdate::loanNotificationId).toArray(UUID[]::new))
+                .bind(1, updates.stream().map(update -> update.notificationStatus().name()).toArray(String[]::new))
+                .bind(2, updates.stream().map(NotificationDeliveryUpdate::sentTime).toArray(LocalDateTime[]::new))
+                .bind(3, updates.stream().map(NotificationDeliveryUpdate::deliveredTime).toArray(LocalDateTime[]::new))
+                .bind(4, updates.stream().map(NotificationDeliveryUpdate::failureReason).toArray(String[]::new))
+                .bind(5, updates.stream().map(NotificationDeliveryUpdate::retryCount).toArray(Integer[]::new))
+                .bind(6, updates.stream().map(NotificationDeliveryUpdate::nextAttemptAt).toArray(LocalDateTime[]::new))
+                .bind(7, now)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static LoanNotification toNotification(Readable row) {
+        return LoanNotification.builder()
+                .loanNotificationId(row.get("loan_notification_id", UUID.class))
+                .loanServicingCaseId(row.get("loan_servicing_case_id", UUID.class))
+                .notificationType(NotificationTypeEnum.valueOf(row.get("notification_type", String.class)))
+                .notificationChannel(NotificationChannelEnum.valueOf(row.get("notification_channel", String.class)))
+                .notificationStatus(NotificationStatusEnum.valueOf(row.get("notification_status", String.class)))
+                .recipientPartyId(row.get("recipient_party_id", UUID.class))
+                .recipientName(row.get("recipient_name", String.class))
+                .recipientContact(row.get("recipient_contact", String.class))
+                .subject(row.get("subject", String.class))
+                .messageBody(row.get("message_body", String.class))
+                .scheduledSendTime(row.get("scheduled_send_time", LocalDateTime.class))
+                .sentTime(row.get("sent_time", LocalDateTime.class))
+                .deliveredTime(row.get("delivered_time", LocalDateTime.class))
+                .readTime(row.get("read_time", LocalDateTime.class))
+                .failureReason(row.get("failure_reason", String.class))
+                .retryCount(row.get("retry_count", Integer.class))
+                .templateId(row.get("template_id", String.class))
+                .metadata(row.get("metadata", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
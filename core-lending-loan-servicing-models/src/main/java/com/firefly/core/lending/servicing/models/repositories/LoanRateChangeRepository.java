@@ -18,8 +18,28 @@
 package com.firefly.core.lending.servicing.models.repositories;
 
 import com.firefly.core.lending.servicing.models.entities.LoanRateChange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
 import java.util.UUID;
 
-public interface LoanRateChangeRepository extends BaseRepository<LoanRateChange, UUID> {
+public interface LoanRateChangeRepository extends BaseRepository<LoanRateChange, UUID>, LoanRateChangeRepositoryCustom {
+
+    /**
+     * Finds the rate change with the latest effective date for a case.
+     */
+    Mono<LoanRateChange> findFirstByLoanServicingCaseIdOrderByEffectiveDateDescCreatedAtDesc(UUID loanServicingCaseId);
+
+    /**
+     * Streams all rate changes of a case in the order they take effect.
+     */
+    Flux<LoanRateChange> findByLoanServicingCaseIdOrderByEffectiveDateAscCreatedAtAsc(UUID loanServicingCaseId);
+
+    /**
+     * Finds the rate changes of a case that have not been applied to its schedule and take effect on or before
+     * the given date, in the order they take effect.
+     */
+    Flux<LoanRateChange> findByLoanServicingCaseIdAndAppliedAtIsNullAndEffectiveDateLessThanEqualOrderByEffectiveDateAscCreatedAtAsc(
+            UUID loanServicingCaseId, LocalDate effectiveDate);
 }
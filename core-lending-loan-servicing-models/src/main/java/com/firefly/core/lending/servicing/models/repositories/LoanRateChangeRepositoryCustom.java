@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Portfolio-wide queries on rate changes used by the repricing job.
+ */
+public interface LoanRateChangeRepositoryCustom {
+
+    /**
+     * Streams one keyset page of the cases with rate changes that have not been applied to their schedules and
+     * take effect on or before the given date, ordered by case id.
+     *
+     * @param asOfDate the latest effective date to include
+     * @param afterCaseId the last case id of the previous page (exclusive), or null to start from the beginning
+     * @param upToCaseId the last case id of the range being walked (inclusive), or null for no upper bound
+     * @param limit the maximum number of cases to return
+     * @return a Flux of case ids in ascending order
+     */
+    Flux<UUID> findCasesWithPendingChanges(LocalDate asOfDate, UUID afterCaseId, UUID upToCaseId, int limit);
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class LoanRateChangeRepositoryImpl implements LoanRateChangeRepositoryCustom {
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    /**
+     * Walks idx_loan_rate_change_pending (V11) from the case id cursor.
+     */
+    private static final String CASES_WITH_PENDING_CHANGES_SQL = """
+            SELECT DISTINCT r.loan_servicing_case_id
+              FROM loan_rate_change r
+             WHERE r.applied_at IS NULL
+               AND r.loan_servicing_case_id > $2
+               AND ($3::uuid IS NULL OR r.loan_servicing_case_id <= $3)
+               AND r.effective_date <= $1
+             ORDER BY r.loan_servicing_case_id
+             LIMIT $4
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public LoanRateChangeRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<UUID> findCasesWithPendingChanges(LocalDate asOfDate, UUID afterCaseId, UUID upToCaseId, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(CASES_WITH_PENDING_CHANGES_SQL)
+                .bind(0, asOfDate)
+                .bind(1, afterCaseId == null ? MIN_UUID : afterCaseId);
+        spec = upToCaseId == null ? spec.bindNull(2, UUID.class) : spec.bind(2, upToCaseId);
+        return spec.bind(3, limit)
+                .map(row -> row.get("loan_servicing_case_id", UUID.class))
+                .all();
+    }
+}
@@ -18,8 +18,18 @@
 package com.firefly.core.lending.servicing.models.repositories;
 
 import com.firefly.core.lending.servicing.models.entities.LoanRepaymentSchedule;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
-public interface LoanRepaymentScheduleRepository extends BaseRepository<LoanRepaymentSchedule, UUID> {
+public interface LoanRepaymentScheduleRepository extends BaseRepository<LoanRepaymentSchedule, UUID>,
+        LoanRepaymentScheduleRepositoryCustom {
+
+    Mono<Boolean> existsByLoanServicingCaseId(UUID loanServicingCaseId);
+
+    /**
+     * Finds every schedule row of a case in due date order.
+     */
+    Flux<LoanRepaymentSchedule> findByLoanServicingCaseIdOrderByDueDateAscInstallmentNumberAsc(UUID loanServicingCaseId);
 }
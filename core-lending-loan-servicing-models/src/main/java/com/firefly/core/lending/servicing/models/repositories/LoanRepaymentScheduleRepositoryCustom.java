@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.models.entities.LoanRepaymentSchedule;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk write operations for {@link LoanRepaymentSchedule} that are not expressible as derived queries.
+ */
+public interface LoanRepaymentScheduleRepositoryCustom {
+
+    /**
+     * Inserts all schedule rows with a single multi-row INSERT statement.
+     * Identifiers and audit timestamps must already be populated on each entity.
+     *
+     * @param schedules the schedule rows to insert
+     * @return a Mono emitting the number of rows inserted
+     */
+    Mono<Long> insertAll(List<LoanRepaymentSchedule> schedules);
+
+    /**
+     * Writes the amounts due ({@code principal_due}, {@code interest_due}, {@code total_due} and
+     * {@code updated_at}) of all given schedule rows with a single UPDATE statement.
+     *
+     * @param schedules the schedule rows carrying their new amounts due
+     * @return a Mono emitting the number of rows updated
+     */
+    Mono<Long> updateAmountsDue(List<LoanRepaymentSchedule> schedules);
+
+    /**
+     * Removes the unpaid schedule rows of a case with a single statement, ahead of a replacement schedule.
+     * Rows referenced by repayment records cannot be deleted; they are closed instead at the amount already
+     * paid on them (fees first, then interest, then principal) and marked paid on {@code closingDate} unless
+     * they carry a paid date.
+     *
+     * @param loanServicingCaseId the case whose unpaid schedule rows are superseded
+     * @param closingDate the paid date given to closed rows without one
+     * @param now the timestamp written to closed rows
+     * @return a Mono emitting the highest installment number left on the case, or zero if none is left
+     */
+    Mono<Integer> supersedeUnpaid(UUID loanServicingCaseId, LocalDate closingDate, LocalDateTime now);
+}
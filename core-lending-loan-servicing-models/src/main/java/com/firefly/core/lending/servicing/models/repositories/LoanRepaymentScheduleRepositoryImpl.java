@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.models.entities.LoanRepaymentSchedule;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class LoanRepaymentScheduleRepositoryImpl implements LoanRepaymentScheduleRepositoryCustom {
+
+    private static final MultiRowInsert<LoanRepaymentSchedule> INSERT = MultiRowInsert.<LoanRepaymentSchedule>into("loan_repayment_schedule")
+            .column("loan_repayment_schedule_id", UUID.class, LoanRepaymentSchedule::getLoanRepaymentScheduleId)
+            .column("loan_servicing_case_id", UUID.class, LoanRepaymentSchedule::getLoanServicingCaseId)
+            .column("installment_number", Integer.class, LoanRepaymentSchedule::getInstallmentNumber)
+            .column("due_date", LocalDate.class, LoanRepaymentSchedule::getDueDate)
+            .column("principal_due", BigDecimal.class, LoanRepaymentSchedule::getPrincipalDue)
+            .column("interest_due", BigDecimal.class, LoanRepaymentSchedule::getInterestDue)
+            .column("fee_due", BigDecimal.class, LoanRepaymentSchedule::getFeeDue)
+            .column("total_due", BigDecimal.class, LoanRepaymentSchedule::getTotalDue)
+            .column("is_paid", Boolean.class, LoanRepaymentSchedule::getIsPaid)
+            .column("paid_date", LocalDate.class, LoanRepaymentSchedule::getPaidDate)
+            .column("paid_amount", BigDecimal.class, LoanRepaymentSchedule::getPaidAmount)
+            .column("created_at", LocalDateTime.class, LoanRepaymentSchedule::getCreatedAt)
+            .column("updated_at", LocalDateTime.class, LoanRepaymentSchedule::getUpdatedAt)
+            .build();
+
+    private static final String UPDATE_AMOUNTS_DUE_SQL = """
+            UPDATE loan_repayment_schedule s
+               SET principal_due = v.principal_due,
+                   interest_due = v.interest_due,
+                   total_due = v.total_due,
+                   updated_at = v.updated_at
+              FROM unnest($1::uuid[], $2::numeric[], $3::numeric[], $4::numeric[], $5::timestamp[])
+                   AS v(loan_repayment_schedule_id, principal_due, interest_due, total_due, updated_at)
+             WHERE s.loan_repayment_schedule_id = v.loan_repayment_schedule_id
+            """;
+
+    /**
+     * Closes the referenced unpaid rows and deletes the others. Both parts see the rows as they were before the
+     * statement, so the DELETE skips closed rows by id; the final SELECT reads the same snapshot for paid rows.
+     */
+    private static final String SUPERSEDE_UNPAID_SQL = """
+            WITH closed AS (
+                UPDATE loan_repayment_schedule t
+                   SET fee_due = LEAST(t.fee_due, COALESCE(t.paid_amount, 0)),
+                       interest_due = LEAST(t.interest_due,
+                                            COALESCE(t.paid_amount, 0) - LEAST(t.fee_due, COALESCE(t.paid_amount, 0))),
+                       principal_due = COALESCE(t.paid_amount, 0) - LEAST(t.fee_due, COALESCE(t.paid_amount, 0))
+                                       - LEAST(t.interest_due,
+                                               COALESCE(t.paid_amount, 0) - LEAST(t.fee_due, COALESCE(t.paid_amount, 0))),
+                       total_due = COALESCE(t.paid_amount, 0),
+                       paid_amount = COALESCE(t.paid_amount, 0),
+                       is_paid = TRUE,
+                       paid_date = COALESCE(t.paid_date, $2),
+                       updated_at = $3
+                 WHERE t.loan_servicing_case_id = $1
+                   AND t.is_paid = FALSE
+                   AND EXISTS (SELECT 1 FROM loan_repayment_record r WHERE r.loan_repayment_schedule_id = t.loan_repayment_schedule_id)
+                RETURNING t.loan_repayment_schedule_id, t.installment_number
+            ),
+            removed AS (
+                DELETE FROM loan_repayment_schedule t
+                 WHERE t.loan_servicing_case_id = $1
+                   AND t.is_paid = FALSE
+                   AND t.loan_repayment_schedule_id NOT IN (SELECT loan_repayment_schedule_id FROM closed)
+            )
+            SELECT GREATEST(COALESCE((SELECT MAX(installment_number) FROM closed), 0),
+                            COALESCE((SELECT MAX(t.installment_number)
+                                        FROM loan_repayment_schedule t
+                                       WHERE t.loan_servicing_case_id = $1
+                                         AND t.is_paid = TRUE), 0)) AS last_installment_number
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public LoanRepaymentScheduleRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Long> insertAll(List<LoanRepaymentSchedule> schedules) {
+        return INSERT.execute(databaseClient, schedules);
+    }
+
+    @Override
+    public Mono<Long> updateAmountsDue(List<LoanRepaymentSchedule> schedules) {
+        if (schedules.isEmpty()) {
+            return Mono.just(0L);
+        }
+        // One array per column keeps the statement text constant regardless of the number of rows
+        return databaseClient.sql(UPDATE_AMOUNTS_DUE_SQL)
+                .bind(0, schedules.stream().map(LoanRepaymentSchedule::getLoanRepaymentScheduleId).toArray(UUID[]::new))
+                .bind(1, schedules.stream().map(LoanRepaymentSchedule::getPrincipalDue).toArray(BigDecimal[]::new))
+                .bind(2, schedules.stream().map(LoanRepaymentSchedule::getInterestDue).toArray(BigDecimal[]::new))
+                .bind(3, schedules.stream().map(LoanRepaymentSchedule::getTotalDue).toArray(BigDecimal[]::new))
+                .bind(4, schedules.stream().map(LoanRepaymentSchedule::getUpdatedAt).toArray(LocalDateTime[]::new))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    @Override
+    public Mono<Integer> supersedeUnpaid(UUID loanServicingCaseId, LocalDate closingDate, LocalDateTime now) {
+        return databaseClient.sql(SUPERSEDE_UNPAID_SQL)
+                .bind(0, loanServicingCaseId)
+                .bind(1, closingDate)
+                .bind(2, now)
+                .map(row -> row.get("last_installment_number", Integer.class))
+                .one();
+    }
+}
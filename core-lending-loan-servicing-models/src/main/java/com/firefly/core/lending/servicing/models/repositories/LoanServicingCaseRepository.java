@@ -18,8 +18,24 @@
 package com.firefly.core.lending.servicing.models.repositories;
 
 import com.firefly.core.lending.servicing.models.entities.LoanServicingCase;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.repository.Lock;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
-public interface LoanServicingCaseRepository extends BaseRepository<LoanServicingCase, UUID> {
+public interface LoanServicingCaseRepository extends BaseRepository<LoanServicingCase, UUID>, LoanServicingCaseRepositoryCustom {
+
+    /**
+     * Streams all loan servicing cases. Rows are emitted as the subscriber requests them, so the result set is
+     * never materialized in memory.
+     */
+    Flux<LoanServicingCase> findAllByOrderByCreatedAtAscLoanServicingCaseIdAsc();
+
+    /**
+     * Finds a case and locks it ({@code FOR UPDATE}) until the surrounding transaction ends.
+     */
+    @Lock(LockMode.PESSIMISTIC_WRITE)
+    Mono<LoanServicingCase> findForUpdateByLoanServicingCaseId(UUID loanServicingCaseId);
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.interfaces.enums.ServicingStatusEnum;
+import com.firefly.core.lending.servicing.models.projections.AccrualCandidate;
+import com.firefly.core.lending.servicing.models.projections.DelinquencyAgingPage;
+import com.firefly.core.lending.servicing.models.projections.PayoffQuoteBasis;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Portfolio-wide operations on loan servicing cases used by batch processing, and reads spanning many cases.
+ */
+public interface LoanServicingCaseRepositoryCustom {
+
+    /**
+     * Streams one keyset page of cases eligible for interest accrual on the given date, ordered by case id.
+     * A case is eligible when its status is one of {@code statuses} and the accrual date falls within
+     * its origination and maturity dates.
+     *
+     * @param statuses the servicing statuses that accrue interest
+     * @param accrualDate the date being accrued
+     * @param afterCaseId the last case id of the previous page, or null to start from the beginning
+     * @param limit the maximum number of cases to return
+     * @return a Flux of accrual candidates in ascending case id order
+     */
+    Flux<AccrualCandidate> findAccrualCandidates(Collection<ServicingStatusEnum> statuses, LocalDate accrualDate,
+                                                 UUID afterCaseId, int limit);
+
+    /**
+     * Ages one keyset page of cases with a single statement. For each case whose status is one of
+     * {@code statuses}, days past due are counted from the oldest unpaid installment due before
+     * {@code asOfDate}. The case then becomes ACTIVE (not past due), GRACE_PERIOD (up to
+     * {@code gracePeriodDays}), DELINQUENT, or DEFAULT (from {@code defaultAfterDays}). Every case whose status
+     * changes gets a STATUS_CHANGE servicing event dated {@code asOfDate} and a SERVICING_STATUS_CHANGED outbox
+     * entry.
+     *
+     * @param statuses the servicing statuses subject to aging
+     * @param asOfDate the business date cases are aged to
+     * @param gracePeriodDays the last day past due that is still within the grace period
+     * @param defaultAfterDays the number of days past due at which a case defaults
+     * @param afterCaseId the last case id of the previous page (exclusive), or null to start from the beginning
+     * @param upToCaseId the last case id of the range being aged (inclusive), or null for no upper bound
+     * @param limit the maximum number of cases in the page
+     * @param now the timestamp written to updated and created rows
+     * @return a Mono emitting the page's cursor, transition count and DPD bucket counts
+     */
+    Mono<DelinquencyAgingPage> ageDelinquencyPage(Collection<ServicingStatusEnum> statuses, LocalDate asOfDate,
+                                                  int gracePeriodDays, int defaultAfterDays, UUID afterCaseId,
+                                                  UUID upToCaseId, int limit, LocalDateTime now);
+
+    /**
+     * Reads what is needed to quote the payoff of each of the given cases with a single statement: the case
+     * terms, its current balance and the sum of its unprocessed rebates. Unknown case ids are skipped.
+     *
+     * @param caseIds the cases to read
+     * @return a Flux of payoff quote bases, in no particular order
+     */
+    Flux<PayoffQuoteBasis> findPayoffQuoteBases(Collection<UUID> caseIds);
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.interfaces.enums.CompoundingFrequencyEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.DayCountConventionEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.InterestCalculationMethodEnum;
+import com.firefly.core.lending.servicing.interfaces.enums.ServicingStatusEnum;
+import com.firefly.core.lending.servicing.models.projections.AccrualCandidate;
+import com.firefly.core.lending.servicing.models.projections.DelinquencyAgingPage;
+import com.firefly.core.lending.servicing.models.projections.PayoffQuoteBasis;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+public class LoanServicingCaseRepositoryImpl implements LoanServicingCaseRepositoryCustom {
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private static final String ACCRUAL_CANDIDATES_SQL = """
+            SELECT c.loan_servicing_case_id,
+                   c.principal_amount,
+                   b.principal_outstanding,
+                   b.interest_outstanding,
+                   c.interest_rate,
+                   c.interest_calculation_method::text AS interest_calculation_method,
+                   c.compounding_frequency::text AS compounding_frequency,
+                   c.day_count_convention::text AS day_count_convention
+              FROM loan_servicing_case c
+              LEFT JOIN loan_current_balance b ON b.loan_servicing_case_id = c.loan_servicing_case_id
+             WHERE c.loan_servicing_case_id > $1
+               AND c.servicing_status::text = ANY($2)
+               AND c.origination_date <= $3
+               AND c.maturity_date > $3
+             ORDER BY c.loan_servicing_case_id
+             LIMIT $4
+            """;
+
+    /**
+     * Reads the oldest unpaid installment of each case through idx_loan_installment_plan_case_unpaid, updates
+     * the cases whose status changes and records their events and outbox entries, all in one statement.
+     */
+    private static final String AGE_DELINQUENCY_PAGE_SQL = """
+            WITH page AS (
+                SELECT c.loan_servicing_case_id,
+                       c.servicing_status::text AS old_status,
+                       COALESCE($2 - o.due_date, 0) AS days_past_due
+                  FROM loan_servicing_case c
+                  LEFT JOIN LATERAL (
+                        SELECT p.due_date
+                          FROM loan_installment_plan p
+                         WHERE p.loan_servicing_case_id = c.loan_servicing_case_id
+                           AND p.is_paid = FALSE
+                           AND p.due_date < $2
+                         ORDER BY p.due_date
+                         LIMIT 1
+                       ) o ON TRUE
+                 WHERE c.loan_servicing_case_id > $5
+                   AND ($6::uuid IS NULL OR c.loan_servicing_case_id <= $6)
+                   AND c.servicing_status::text = ANY($1)
+                 ORDER BY c.loan_servicing_case_id
+                 LIMIT $7
+            ),
+            aged AS (
+                SELECT page.*,
+                       CASE WHEN days_past_due = 0 THEN 'ACTIVE'
+                            WHEN days_past_due <= $3 THEN 'GRACE_PERIOD'
+                            WHEN days_past_due < $4 THEN 'DELINQUENT'
+                            ELSE 'DEFAULT'
+                       END AS new_status
+                  FROM page
+            ),
+            transitioned AS (
+                UPDATE loan_servicing_case c
+                   SET servicing_status = a.new_status::servicing_status,
+                       updated_at = $8
+                  FROM aged a
+                 WHERE c.loan_servicing_case_id = a.loan_servicing_case_id
+                   AND a.new_status <> a.old_status
+                RETURNING c.loan_servicing_case_id, a.old_status, a.new_status, a.days_past_due
+            ),
+            events AS (
+                INSERT INTO loan_servicing_event (loan_servicing_case_id, event_type, event_date, description,
+                                                  created_at, updated_at)
+                SELECT loan_servicing_case_id, 'STATUS_CHANGE'::event_type, $2,
+                       'Servicing status changed from ' || old_status || ' to ' || new_status
+                           || ' at ' || days_past_due || ' days past due',
+                       $8, $8
+                  FROM transitioned
+                RETURNING 1
+            ),
+            outbox AS (
+                INSERT INTO servicing_outbox (event_type, loan_servicing_case_id, aggregate_id, payload, created_at)
+                SELECT 'SERVICING_STATUS_CHANGED', loan_servicing_case_id, loan_servicing_case_id,
+                       json_build_object('loanServicingCaseId', loan_servicing_case_id,
+                                         'previousStatus', old_status,
+                                         'servicingStatus', new_status,
+                                         'daysPastDue', days_past_due)::text,
+                       $8
+                  FROM transitioned
+                 ORDER BY loan_servicing_case_id
+                RETURNING 1
+            )
+            SELECT (SELECT loan_servicing_case_id FROM aged ORDER BY loan_servicing_case_id DESC LIMIT 1) AS last_case_id,
+                   count(*) AS cases_aged,
+                   (SELECT count(*) FROM events) AS status_transitions,
+                   count(*) FILTER (WHERE days_past_due = 0) AS dpd_current,
+                   count(*) FILTER (WHERE days_past_due BETWEEN 1 AND 30) AS dpd_1_30,
+                   count(*) FILTER (WHERE days_past_due BETWEEN 31 AND 60) AS dpd_31_60,
+                   count(*) FILTER (WHERE days_past_due BETWEEN 61 AND 90) AS dpd_61_90,
+                   count(*) FILTER (WHERE days_past_due > 90) AS dpd_over_90
+              FROM aged
+            """;
+
+    /**
+     * Sums unprocessed rebates through idx_loan_rebate_case_unprocessed, one index probe per requested case.
+     */
+    private static final String PAYOFF_QUOTE_BASES_SQL = """
+            SELECT c.loan_servicing_case_id,
+                   c.principal_amount,
+                   c.origination_date,
+                   c.maturity_date,
+                   b.principal_outstanding,
+                   b.interest_outstanding,
+                   b.fees_outstanding,
+                   b.balance_date,
+                   c.interest_rate,
+                   c.interest_calculation_method::text AS interest_calculation_method,
+                   c.compounding_frequency::text AS compounding_frequency,
+                   c.day_count_convention::text AS day_count_convention,
+                   COALESCE(r.unprocessed_rebates, 0) AS unprocessed_rebates
+              FROM loan_servicing_case c
+              LEFT JOIN loan_current_balance b ON b.loan_servicing_case_id = c.loan_servicing_case_id
+              LEFT JOIN LATERAL (
+                    SELECT sum(rb.rebate_amount) AS unprocessed_rebates
+                      FROM loan_rebate rb
+                     WHERE rb.loan_servicing_case_id = c.loan_servicing_case_id
+                       AND rb.is_processed = FALSE
+                   ) r ON TRUE
+             WHERE c.loan_servicing_case_id = ANY($1::uuid[])
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public LoanServicingCaseRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<AccrualCandidate> findAccrualCandidates(Collection<ServicingStatusEnum> statuses, LocalDate accrualDate,
+                                                        UUID afterCaseId, int limit) {
+        String[] statusNames = statuses.stream().map(Enum::name).toArray(String[]::new);
+        return databaseClient.sql(ACCRUAL_CANDIDATES_SQL)
+                .bind(0, afterCaseId == null ? MIN_UUID : afterCaseId)
+                .bind(1, statusNames)
+                .bind(2, accrualDate)
+                .bind(3, limit)
+                .map(LoanServicingCaseRepositoryImpl::toAccrualCandidate)
+                .all();
+    }
+
+    @Override
+    public Mono<DelinquencyAgingPage> ageDelinquencyPage(Collection<ServicingStatusEnum> statuses, LocalDate asOfDate,
+                                                         int gracePeriodDays, int defaultAfterDays, UUID afterCaseId,
+                                                         UUID upToCaseId, int limit, LocalDateTime now) {
+        String[] statusNames = statuses.stream().map(Enum::name).toArray(String[]::new);
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(AGE_DELINQUENCY_PAGE_SQL)
+                .bind(0, statusNames)
+                .bind(1, asOfDate)
+                .bind(2, gracePeriodDays)
+                .bind(3, defaultAfterDays)
+                .bind(4, afterCaseId == null ? MIN_UUID : afterCaseId);
+        spec = upToCaseId == null ? spec.bindNull(5, UUID.class) : spec.bind(5, upToCaseId);
+        return spec.bind(6, limit)
+                .bind(7, now)
+                .map(row -> new DelinquencyAgingPage(
+                        row.get("last_case_id", UUID.class),
+                        row.get("cases_aged", Long.class),
+                        row.get("status_transitions", Long.class),
+                        row.get("dpd_current", Long.class),
+                        row.get("dpd_1_30", Long.class),
+                        row.get("dpd_31_60", Long.class),
+                        row.get("dpd_61_90", Long.class),
+                        row.get("dpd_over_90", Long.class)))
+                .one();
+    }
+
+    @Override
+    public Flux<PayoffQuoteBasis> findPayoffQuoteBases(Collection<UUID> caseIds) {
+        if (caseIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql(PAYOFF_QUOTE_BASES_SQL)
+                .bind(0, caseIds.toArray(UUID[]::new))
+                .map(row -> new PayoffQuoteBasis(
+                        row.get("loan_servicing_case_id", UUID.class),
+                        row.get("principal_amount", BigDecimal.class),
+                        row.get("origination_date", LocalDate.class),
+                        row.get("maturity_date", LocalDate.class),
+                        row.get("principal_outstanding", BigDecimal.class),
+                        row.get("interest_outstanding", BigDecimal.class),
+                        row.get("fees_outstanding", BigDecimal.class),
+                        row.get("balance_date", LocalDate.class),
+                        row.get("interest_rate", BigDecimal.class),
+                        InterestCalculationMethodEnum.valueOf(row.get("interest_calculation_method", String.class)),
+                        CompoundingFrequencyEnum.valueOf(row.get("compounding_frequency", String.class)),
+                        DayCountConventionEnum.valueOf(row.get("day_count_convention", String.class)),
+                        row.get("unprocessed_rebates", BigDecimal.class)))
+                .all();
+    }
+
+    private static AccrualCandidate toAccrualCandidate(Readable row) {
+        return new AccrualCandidate(
+                row.get("loan_servicing_case_id", UUID.class),
+                row.get("principal_amount", BigDecimal.class),
+                row.get("principal_outstanding", BigDecimal.class),
+                row.get("interest_outstanding", BigDecimal.class),
+                row.get("interest_rate", BigDecimal.class),
+                InterestCalculationMethodEnum.valueOf(row.get("interest_calculation_method", String.class)),
+                CompoundingFrequencyEnum.valueOf(row.get("compounding_frequency", String.class)),
+                DayCountConventionEnum.valueOf(row.get("day_count_convention", String.class)));
+    }
+}
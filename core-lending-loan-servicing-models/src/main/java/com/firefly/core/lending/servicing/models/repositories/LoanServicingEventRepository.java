@@ -18,8 +18,20 @@
 package com.firefly.core.lending.servicing.models.repositories;
 
 import com.firefly.core.lending.servicing.models.entities.LoanServicingEvent;
+import reactor.core.publisher.Flux;
 
 import java.util.UUID;
 
 public interface LoanServicingEventRepository extends BaseRepository<LoanServicingEvent, UUID> {
+
+    /**
+     * Streams all servicing events of a loan servicing case in event date order. Rows are emitted as the
+     * subscriber requests them, so the result set is never materialized in memory.
+     */
+    Flux<LoanServicingEvent> findByLoanServicingCaseIdOrderByEventDateAscCreatedAtAsc(UUID loanServicingCaseId);
+
+    /**
+     * Finds the ten most recent servicing events of a case, newest first.
+     */
+    Flux<LoanServicingEvent> findTop10ByLoanServicingCaseIdOrderByEventDateDescCreatedAtDesc(UUID loanServicingCaseId);
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Builds and executes a single multi-row {@code INSERT ... VALUES (...), (...)} statement
+ * for a list of entities, so that a whole schedule or batch costs one round-trip instead of
+ * one {@code save()} per row.
+ *
+ * <p>Rows are split into chunks only when the number of bind parameters would exceed
+ * {@link #MAX_BIND_PARAMETERS}, which keeps well below the PostgreSQL wire protocol limit of
+ * 65535 parameters per statement. Enum values are bound by name and rely on the implicit
+ * VARCHAR casts created in {@code V3__Create_Casts.sql}.</p>
+ *
+ * @param <T> the entity type being inserted
+ */
+public final class MultiRowInsert<T> {
+
+    static final int MAX_BIND_PARAMETERS = 30_000;
+
+    private final String table;
+    private final List<ColumnBinding<T>> columns;
+    private final String onConflictClause;
+
+    private MultiRowInsert(String table, List<ColumnBinding<T>> columns, String onConflictClause) {
+        this.table = table;
+        this.columns = List.copyOf(columns);
+        this.onConflictClause = onConflictClause;
+    }
+
+    public static <T> Builder<T> into(String table) {
+        return new Builder<>(table);
+    }
+
+    /**
+     * Inserts all rows, chunking only when the bind parameter limit would be exceeded.
+     *
+     * @param databaseClient the transaction-aware client used to execute the statement
+     * @param rows the entities to insert
+     * @return a Mono emitting the total number of rows inserted
+     */
+    public Mono<Long> execute(DatabaseClient databaseClient, List<T> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return Mono.just(0L);
+        }
+        int rowsPerStatement = Math.max(1, MAX_BIND_PARAMETERS / columns.size());
+        if (rows.size() <= rowsPerStatement) {
+            return executeChunk(databaseClient, rows);
+        }
+        List<List<T>> chunks = new ArrayList<>((rows.size() + rowsPerStatement - 1) / rowsPerStatement);
+        for (int from = 0; from < rows.size(); from += rowsPerStatement) {
+            chunks.add(rows.subList(from, Math.min(rows.size(), from + rowsPerStatement)));
+        }
+        return Flux.fromIterable(chunks)
+                .concatMap(chunk -> executeChunk(databaseClient, chunk))
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> executeChunk(DatabaseClient databaseClient, List<T> rows) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(buildSql(rows.size()));
+        int index = 0;
+        for (T row : rows) {
+            for (ColumnBinding<T> column : columns) {
+                Object value = column.accessor().apply(row);
+                if (value == null) {
+                    spec = spec.bindNull(index, column.bindType());
+                } else {
+                    spec = spec.bind(index, value instanceof Enum<?> e ? e.name() : value);
+                }
+                index++;
+            }
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    String buildSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(64 + rowCount * columns.size() * 6)
+                .append("INSERT INTO ").append(table).append(" (");
+        for (int c = 0; c < columns.size(); c++) {
+            if (c > 0) {
+                sql.append(", ");
+            }
+            sql.append(columns.get(c).name());
+        }
+        sql.append(") VALUES ");
+        int parameter = 1;
+        for (int r = 0; r < rowCount; r++) {
+            sql.append(r == 0 ? "(" : ", (");
+            for (int c = 0; c < columns.size(); c++) {
+                if (c > 0) {
+                    sql.append(", ");
+                }
+                sql.append('$').append(parameter++);
+            }
+            sql.append(')');
+        }
+        if (onConflictClause != null) {
+            sql.append(' ').append(onConflictClause);
+        }
+        return sql.toString();
+    }
+
+    private record ColumnBinding<T>(String name, Class<?> type, Function<T, ?> accessor) {
+
+        Class<?> bindType() {
+            return type.isEnum() ? String.class : type;
+        }
+    }
+
+    public static final class Builder<T> {
+
+        private final String table;
+        private final List<ColumnBinding<T>> columns = new ArrayList<>();
+        private String onConflictClause;
+
+        private Builder(String table) {
+            this.table = table;
+        }
+
+        /**
+         * Adds a column to the insert.
+         *
+         * @param name the database column name
+         * @param type the Java type of the column, used to bind nulls
+         * @param accessor reads the column value from the entity
+         * @return this builder
+         */
+        public Builder<T> column(String name, Class<?> type, Function<T, ?> accessor) {
+            columns.add(new ColumnBinding<>(name, type, accessor));
+            return this;
+        }
+
+        /**
+         * Appends a PostgreSQL {@code ON CONFLICT} clause to the generated statement.
+         *
+         * @param onConflictClause the full clause, e.g. {@code ON CONFLICT (id) DO NOTHING}
+         * @return this builder
+         */
+        public Builder<T> onConflict(String onConflictClause) {
+            this.onConflictClause = onConflictClause;
+            return this;
+        }
+
+        public MultiRowInsert<T> build() {
+            if (columns.isEmpty()) {
+                throw new IllegalStateException("At least one column is required for table " + table);
+            }
+            return new MultiRowInsert<>(table, columns, onConflictClause);
+        }
+    }
+}
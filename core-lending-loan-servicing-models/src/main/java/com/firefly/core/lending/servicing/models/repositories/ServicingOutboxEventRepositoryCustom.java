@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.models.entities.ServicingOutboxEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Bulk operations on the {@link ServicingOutboxEvent} outbox.
+ */
+public interface ServicingOutboxEventRepositoryCustom {
+
+    /**
+     * Appends events with a single multi-row insert. Ids are assigned in list order.
+     *
+     * @param events the events to append
+     * @return a Mono emitting the number of rows inserted
+     */
+    Mono<Long> insertAll(List<ServicingOutboxEvent> events);
+
+    /**
+     * Takes the transaction-scoped advisory lock that makes this transaction the only relay, without waiting.
+     *
+     * @return a Mono emitting true if the lock was taken, or false if another transaction holds it
+     */
+    Mono<Boolean> tryLockRelay();
+
+    /**
+     * Reads the oldest events whose transactions, and every transaction that started writing before them, have
+     * finished. Events are ordered by the transaction that wrote them, then by id.
+     *
+     * @param limit the maximum number of events to read
+     * @return a Flux emitting the events in feed order
+     */
+    Flux<ServicingOutboxEvent> findOldest(int limit);
+
+    /**
+     * Deletes published events with a single statement.
+     *
+     * @param outboxEventIds the ids of the events to delete
+     * @return a Mono emitting the number of rows deleted
+     */
+    Mono<Long> deletePublished(Collection<Long> outboxEventIds);
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.models.repositories;
+
+import com.firefly.core.lending.servicing.interfaces.enums.OutboxEventTypeEnum;
+import com.firefly.core.lending.servicing.models.entities.ServicingOutboxEvent;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public class ServicingOutboxEventRepositoryImpl implements ServicingOutboxEventRepositoryCustom {
+
+    /**
+     * Arbitrary application-wide key of the relay's advisory lock.
+     */
+    private static final long RELAY_LOCK_KEY = 0x0B7B0C5E_5E41C1A0L;
+
+    private static final MultiRowInsert<ServicingOutboxEvent> INSERT = MultiRowInsert.<ServicingOutboxEvent>into("servicing_outbox")
+            .column("event_type", OutboxEventTypeEnum.class, ServicingOutboxEvent::getEventType)
+            .column("loan_servicing_case_id", UUID.class, ServicingOutboxEvent::getLoanServicingCaseId)
+            .column("aggregate_id", UUID.class, ServicingOutboxEvent::getAggregateId)
+            .column("payload", String.class, ServicingOutboxEvent::getPayload)
+            .column("created_at", LocalDateTime.class, ServicingOutboxEvent::getCreatedAt)
+            .build();
+
+    /**
+     * Reads only rows of transactions below the xmin of the current snapshot, i.e. transactions that have finished
+     * along with every transaction that started writing before them. Any row that becomes visible later belongs to
+     * a higher transaction id, so reading in (xact_id, outbox_event_id) order never skips past a pending row.
+     */
+    private static final String FIND_OLDEST_SQL = """
+            SELECT outbox_event_id, event_type, loan_servicing_case_id, aggregate_id, payload, created_at
+              FROM servicing_outbox
+             WHERE xact_id < pg_snapshot_xmin(pg_current_snapshot())
+             ORDER BY xact_id, outbox_event_id
+             LIMIT $1
+            """;
+
+    private static final String DELETE_PUBLISHED_SQL = """
+            DELETE FROM servicing_outbox
+             WHERE outbox_event_id = ANY($1::bigint[])
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public ServicingOutboxEventRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Long> insertAll(List<ServicingOutboxEvent> events) {
+        return INSERT.execute(databaseClient, events);
+    }
+
+    @Override
+    public Mono<Boolean> tryLockRelay() {
+        return databaseClient.sql("SELECT pg_try_advisory_xact_lock($1) AS locked")
+                .bind(0, RELAY_LOCK_KEY)
+                .map(row -> row.get("locked", Boolean.class))
+                .one();
+    }
+
+    @Override
+    public Flux<ServicingOutboxEvent> findOldest(int limit) {
+        return databaseClient.sql(FIND_OLDEST_SQL)
+                .bind(0, limit)
+                .map(ServicingOutboxEventRepositoryImpl::toEvent)
+                .all();
+    }
+
+    @Override
+    public Mono<Long> deletePublished(Collection<Long> outboxEventIds) {
+        if (outboxEventIds.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return databaseClient.sql(DELETE_PUBLISHED_SQL)
+                .bind(0, outboxEventIds.toArray(Long[]::new))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static ServicingOutboxEvent toEvent(Readable row) {
+        return ServicingOutboxEvent.builder()
+                .outboxEventId(row.get("outbox_event_id", Long.class))
+                .eventType(OutboxEventTypeEnum.valueOf(row.get("event_type", String.class)))
+                .loanServicingCaseId(row.get("loan_servicing_case_id", UUID.class))
+                .aggregateId(row.get("aggregate_id", UUID.class))
+                .payload(row.get("payload", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .build();
+    }
+}
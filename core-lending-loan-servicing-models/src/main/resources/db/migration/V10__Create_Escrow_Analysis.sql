@@ -0,0 +1,52 @@
+-- ========================================================================
+-- V10 - CREATE ESCROW ANALYSIS
+-- ========================================================================
+-- The escrow analysis job recomputes the monthly payment of every active
+-- escrow whose next_analysis_date is due and records each analysis with
+-- its projected shortage or surplus.
+-- ========================================================================
+
+-- ========================================================================
+-- LOAN ESCROW ANALYSIS TABLE
+-- ========================================================================
+-- One row per escrow and analysis; the escrow itself only keeps the new
+-- monthly payment and the analysis dates. Analyses are deleted with their
+-- escrow.
+-- Entity: LoanEscrowAnalysis
+CREATE TABLE loan_escrow_analysis (
+    loan_escrow_analysis_id         UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    loan_escrow_id                  UUID NOT NULL,
+    loan_servicing_case_id          UUID NOT NULL,
+    analysis_date                   DATE NOT NULL,
+    current_balance                 DECIMAL(18,2) NOT NULL,
+    target_balance                  DECIMAL(18,2) NOT NULL,
+    annual_disbursement_amount      DECIMAL(18,2) NOT NULL,
+    previous_monthly_payment_amount DECIMAL(18,2) NOT NULL,
+    monthly_payment_amount          DECIMAL(18,2) NOT NULL,
+    projected_low_balance           DECIMAL(18,2) NOT NULL,
+    projected_ending_balance        DECIMAL(18,2) NOT NULL,
+    shortage_amount                 DECIMAL(18,2) NOT NULL DEFAULT 0,
+    surplus_amount                  DECIMAL(18,2) NOT NULL DEFAULT 0,
+    next_analysis_date              DATE NOT NULL,
+    created_at                      TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at                      TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_escrow_analysis_escrow FOREIGN KEY (loan_escrow_id)
+        REFERENCES loan_escrow (loan_escrow_id) ON DELETE CASCADE,
+    CONSTRAINT fk_escrow_analysis_case FOREIGN KEY (loan_servicing_case_id)
+        REFERENCES loan_servicing_case (loan_servicing_case_id)
+);
+
+-- findByLoanEscrowIdOrderByAnalysisDateDesc
+CREATE INDEX idx_loan_escrow_analysis_escrow_date
+    ON loan_escrow_analysis (loan_escrow_id, analysis_date DESC);
+
+-- ========================================================================
+-- LOAN ESCROW
+-- ========================================================================
+-- The job walks active escrows in (case id, escrow id) keyset order within
+-- case id ranges. The new index also serves
+-- findByLoanServicingCaseIdAndIsActiveTrue, so it replaces the V6 index.
+CREATE INDEX idx_loan_escrow_active_case_escrow
+    ON loan_escrow (loan_servicing_case_id, loan_escrow_id)
+    WHERE is_active = TRUE;
+DROP INDEX IF EXISTS idx_loan_escrow_case_active;
@@ -0,0 +1,22 @@
+-- ========================================================================
+-- V11 - CREATE RATE CHANGE REAMORTIZATION
+-- ========================================================================
+-- Posting a rate change re-amortizes the unpaid installments of the case
+-- due after its effective date. applied_at records when that happened;
+-- changes still pending are picked up by the repricing job.
+-- ========================================================================
+
+-- ========================================================================
+-- LOAN RATE CHANGE
+-- ========================================================================
+-- Rate changes recorded before this migration were never re-amortized and
+-- their schedules may have been adjusted by hand, so they count as applied.
+-- Entity: LoanRateChange
+ALTER TABLE loan_rate_change ADD COLUMN applied_at TIMESTAMP;
+UPDATE loan_rate_change SET applied_at = created_at;
+
+-- findByLoanServicingCaseIdAndAppliedAtIsNullAndEffectiveDateLessThanEqual...
+-- and the repricing job's keyset walk over cases with pending changes
+CREATE INDEX idx_loan_rate_change_pending
+    ON loan_rate_change (loan_servicing_case_id, effective_date)
+    WHERE applied_at IS NULL;
@@ -0,0 +1,24 @@
+-- ========================================================================
+-- V12 - CREATE RESTRUCTURING COMMIT
+-- ========================================================================
+-- Committing a restructuring replaces the unpaid installment plan and
+-- repayment schedule of its case with a schedule generated from the new
+-- terms. committed_at records when that happened; a restructuring is
+-- committed at most once.
+-- ========================================================================
+
+-- ========================================================================
+-- LOAN RESTRUCTURING
+-- ========================================================================
+-- Entity: LoanRestructuring
+ALTER TABLE loan_restructuring ADD COLUMN committed_at TIMESTAMP;
+
+-- ========================================================================
+-- LOAN REPAYMENT RECORD
+-- ========================================================================
+-- Superseded schedule rows are deleted unless a repayment record points at
+-- them; both the NOT EXISTS check and the foreign key check on delete look
+-- records up by schedule row.
+CREATE INDEX idx_loan_repayment_record_schedule_id
+    ON loan_repayment_record (loan_repayment_schedule_id)
+    WHERE loan_repayment_schedule_id IS NOT NULL;
@@ -0,0 +1,32 @@
+-- ========================================================================
+-- V13 - CREATE IDEMPOTENCY KEY STORE
+-- ========================================================================
+-- This migration adds the table that makes retried create requests carrying
+-- an Idempotency-Key header return the original response instead of
+-- creating a second row.
+-- ========================================================================
+
+-- ========================================================================
+-- IDEMPOTENCY RECORD TABLE
+-- ========================================================================
+-- One row per scope (the endpoint) and client-supplied key. The row is
+-- inserted in the same transaction as the row it guards, so a concurrent
+-- retry blocks on the unique index until the first request commits or
+-- rolls back. request_hash is the SHA-256 of the request body; a key reused
+-- with a different body is rejected. Rows past expires_at can be claimed
+-- again and are deleted by the purge job.
+-- Entity: IdempotencyRecord
+CREATE TABLE idempotency_record (
+    idempotency_record_id           UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    idempotency_scope               VARCHAR(50) NOT NULL,
+    idempotency_key                 VARCHAR(255) NOT NULL,
+    request_hash                    BYTEA NOT NULL,
+    response_body                   TEXT,
+    created_at                      TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at                      TIMESTAMP NOT NULL
+);
+
+CREATE UNIQUE INDEX ux_idempotency_record_scope_key ON idempotency_record (idempotency_scope, idempotency_key);
+
+-- Drives the purge job's batched deletes of expired keys.
+CREATE INDEX idx_idempotency_record_expires_at ON idempotency_record (expires_at);
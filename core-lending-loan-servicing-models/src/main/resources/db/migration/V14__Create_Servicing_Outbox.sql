@@ -0,0 +1,24 @@
+-- ========================================================================
+-- V14 - CREATE TRANSACTIONAL OUTBOX
+-- ========================================================================
+-- Services append a row to servicing_outbox in the same transaction as each
+-- change to installment records, disbursements, balances and servicing
+-- statuses. The outbox relay publishes rows in outbox_event_id order and
+-- deletes them once published, so downstream systems consume one change
+-- feed instead of polling the servicing tables.
+-- ========================================================================
+
+-- ========================================================================
+-- SERVICING OUTBOX TABLE
+-- ========================================================================
+-- outbox_event_id orders the feed; the relay reads the lowest ids through
+-- the primary key. Rows only live until they are published.
+-- Entity: ServicingOutboxEvent
+CREATE TABLE servicing_outbox (
+    outbox_event_id                 BIGSERIAL PRIMARY KEY,
+    event_type                      VARCHAR(50) NOT NULL,
+    loan_servicing_case_id          UUID NOT NULL,
+    aggregate_id                    UUID NOT NULL,
+    payload                         TEXT NOT NULL,
+    created_at                      TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,17 @@
+-- ========================================================================
+-- V15 - ORDER THE SERVICING OUTBOX BY TRANSACTION
+-- ========================================================================
+-- outbox_event_id is taken from its sequence when a row is inserted, not
+-- when its transaction commits, so a lower id can become visible after a
+-- higher one has already been published. Each row now records the id of
+-- the transaction that wrote it. The relay only publishes rows written by
+-- transactions older than every transaction still running, in transaction
+-- order, so no event can later appear ahead of one already published.
+-- ========================================================================
+
+-- Rows already in the outbox take the id of this migration's transaction
+ALTER TABLE servicing_outbox
+    ADD COLUMN xact_id XID8 NOT NULL DEFAULT pg_current_xact_id();
+
+-- Serves the relay's scan of the oldest finished transactions
+CREATE INDEX idx_servicing_outbox_xact ON servicing_outbox (xact_id, outbox_event_id);
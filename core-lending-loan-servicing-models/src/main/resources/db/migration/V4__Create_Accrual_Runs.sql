@@ -0,0 +1,43 @@
+-- ========================================================================
+-- V4 - CREATE INTEREST ACCRUAL RUN TRACKING
+-- ========================================================================
+-- This migration adds the checkpoint table used by the nightly interest
+-- accrual run, links the accruals it writes back to it and adds the
+-- constraint that makes replaying a batch idempotent.
+-- ========================================================================
+
+-- ========================================================================
+-- LOAN ACCRUAL RUN TABLE
+-- ========================================================================
+-- One row per accrual date; last_processed_case_id is the keyset checkpoint
+-- a restarted run resumes from.
+-- Entity: LoanAccrualRun
+CREATE TABLE loan_accrual_run (
+    loan_accrual_run_id             UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    accrual_date                    DATE NOT NULL,
+    run_status                      VARCHAR(20) NOT NULL,
+    last_processed_case_id          UUID,
+    cases_processed                 BIGINT NOT NULL DEFAULT 0,
+    accruals_written                BIGINT NOT NULL DEFAULT 0,
+    started_at                      TIMESTAMP,
+    completed_at                    TIMESTAMP,
+    error_message                   TEXT,
+    created_at                      TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at                      TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX ux_loan_accrual_run_date ON loan_accrual_run (accrual_date);
+
+-- ========================================================================
+-- RUN ACCRUAL UNIQUENESS
+-- ========================================================================
+-- Accruals written by a run carry its id. A run writes at most one accrual
+-- per case, and batches re-sent after a restart use ON CONFLICT DO NOTHING
+-- against this index. Accruals posted through the API have no run id and
+-- are not constrained, so existing rows never conflict.
+ALTER TABLE loan_accrual
+    ADD COLUMN loan_accrual_run_id UUID REFERENCES loan_accrual_run (loan_accrual_run_id);
+
+CREATE UNIQUE INDEX ux_loan_accrual_run_case
+    ON loan_accrual (loan_accrual_run_id, loan_servicing_case_id)
+    WHERE loan_accrual_run_id IS NOT NULL;
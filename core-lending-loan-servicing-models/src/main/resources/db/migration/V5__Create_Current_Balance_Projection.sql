@@ -0,0 +1,48 @@
+-- ========================================================================
+-- V5 - CREATE CURRENT BALANCE PROJECTION
+-- ========================================================================
+-- This migration replaces the is_current flag on loan_balance with a
+-- dedicated projection holding exactly one row per servicing case.
+-- loan_balance becomes an append-only history; the projection is kept up to
+-- date with a single INSERT ... ON CONFLICT DO UPDATE per new snapshot.
+-- ========================================================================
+
+-- ========================================================================
+-- LOAN CURRENT BALANCE TABLE
+-- ========================================================================
+-- Latest balance per servicing case, keyed by loan_servicing_case_id
+-- Entity: LoanCurrentBalance
+CREATE TABLE loan_current_balance (
+    loan_servicing_case_id          UUID PRIMARY KEY,
+    loan_balance_id                 UUID NOT NULL,
+    principal_outstanding           DECIMAL(18,2) NOT NULL DEFAULT 0,
+    interest_outstanding            DECIMAL(18,2) NOT NULL DEFAULT 0,
+    fees_outstanding                DECIMAL(18,2) NOT NULL DEFAULT 0,
+    total_outstanding               DECIMAL(18,2) NOT NULL DEFAULT 0,
+    balance_date                    DATE NOT NULL,
+    created_at                      TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at                      TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_current_balance_case FOREIGN KEY (loan_servicing_case_id)
+        REFERENCES loan_servicing_case (loan_servicing_case_id)
+);
+
+-- ========================================================================
+-- BACKFILL FROM BALANCE HISTORY
+-- ========================================================================
+-- Prefer the row flagged as current; if concurrent writers left several
+-- current rows (or none), the most recent snapshot wins.
+INSERT INTO loan_current_balance (loan_servicing_case_id, loan_balance_id, principal_outstanding,
+                                  interest_outstanding, fees_outstanding, total_outstanding,
+                                  balance_date, created_at, updated_at)
+SELECT DISTINCT ON (loan_servicing_case_id)
+       loan_servicing_case_id, loan_balance_id, principal_outstanding,
+       interest_outstanding, fees_outstanding, total_outstanding,
+       balance_date, created_at, updated_at
+  FROM loan_balance
+ ORDER BY loan_servicing_case_id, is_current DESC, balance_date DESC, created_at DESC;
+
+-- History rows are no longer flagged; the projection is authoritative.
+UPDATE loan_balance SET is_current = FALSE WHERE is_current = TRUE;
+ALTER TABLE loan_balance ALTER COLUMN is_current SET DEFAULT FALSE;
+
+DROP INDEX IF EXISTS idx_loan_balance_is_current;
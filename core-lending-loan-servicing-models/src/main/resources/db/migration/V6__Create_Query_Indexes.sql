@@ -0,0 +1,175 @@
+-- ========================================================================
+-- V6 - CREATE COMPOSITE AND PARTIAL INDEXES FOR SERVICING QUERIES
+-- ========================================================================
+-- This migration replaces single-column indexes with indexes shaped after
+-- the derived queries in the repositories package: equality columns first,
+-- then the ORDER BY column, with boolean filters turned into partial index
+-- predicates. Single-column indexes that become a prefix of a composite, or
+-- that index a low-selectivity flag on its own, are dropped to keep write
+-- amplification down.
+-- See benchmarks/sql/query_indexes_benchmark.sql for the plan comparison.
+--
+-- Indexes are built and dropped CONCURRENTLY so writes to the large servicing
+-- tables continue during the build. That cannot run inside a transaction, so
+-- V6__Create_Query_Indexes.sql.conf turns the Flyway transaction off. A build
+-- interrupted halfway leaves an INVALID index: drop it, run flyway repair and
+-- migrate again. IF [NOT] EXISTS makes the other statements safe to repeat.
+-- ========================================================================
+
+-- ========================================================================
+-- LOAN DISBURSEMENT PLAN
+-- ========================================================================
+-- findByLoanServicingCaseIdOrderByDisbursementNumberAsc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_disbursement_plan_case_number
+    ON loan_disbursement_plan (loan_servicing_case_id, disbursement_number);
+-- findByLoanServicingCaseIdAndIsCompletedFalseOrderByPlannedDisbursementDateAsc
+-- countByLoanServicingCaseIdAndIsCompletedFalse
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_disbursement_plan_case_pending
+    ON loan_disbursement_plan (loan_servicing_case_id, planned_disbursement_date)
+    WHERE is_completed = FALSE;
+
+-- ========================================================================
+-- LOAN DISBURSEMENT TRANSACTIONS
+-- ========================================================================
+-- LoanDisbursementInternalTransactionRepository.findByLoanDisbursementId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_disb_int_txn_disbursement_id
+    ON loan_disbursement_internal_transaction (loan_disbursement_id);
+-- LoanDisbursementExternalTransactionRepository.findByLoanDisbursementId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_disb_ext_txn_disbursement_id
+    ON loan_disbursement_external_transaction (loan_disbursement_id);
+-- LoanDisbursementExternalTransactionRepository.findByPspTransactionId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_disb_ext_txn_psp_transaction_id
+    ON loan_disbursement_external_transaction (psp_transaction_id);
+
+-- ========================================================================
+-- LOAN INSTALLMENT PLAN
+-- ========================================================================
+-- Installment plans of a case in installment order
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_installment_plan_case_number
+    ON loan_installment_plan (loan_servicing_case_id, installment_number);
+-- Unpaid installments of a case ordered by due date
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_installment_plan_case_unpaid
+    ON loan_installment_plan (loan_servicing_case_id, due_date)
+    WHERE is_paid = FALSE;
+-- Portfolio-wide scans for unpaid installments past a due date
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_installment_plan_unpaid_due_date
+    ON loan_installment_plan (due_date)
+    WHERE is_paid = FALSE;
+DROP INDEX CONCURRENTLY IF EXISTS idx_loan_installment_plan_case_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_loan_installment_plan_due_date;
+DROP INDEX CONCURRENTLY IF EXISTS idx_loan_installment_plan_is_paid;
+
+-- ========================================================================
+-- LOAN INSTALLMENT RECORD AND TRANSACTIONS
+-- ========================================================================
+-- Payment history of a case, newest first
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_installment_record_case_date
+    ON loan_installment_record (loan_servicing_case_id, payment_date DESC);
+DROP INDEX CONCURRENTLY IF EXISTS idx_loan_installment_record_case_id;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_inst_int_txn_record_id
+    ON loan_installment_record_internal_transaction (loan_installment_record_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_inst_ext_txn_record_id
+    ON loan_installment_record_external_transaction (loan_installment_record_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_inst_ext_txn_psp_transaction_id
+    ON loan_installment_record_external_transaction (psp_transaction_id);
+
+-- ========================================================================
+-- LOAN REPAYMENT SCHEDULE AND RECORD
+-- ========================================================================
+-- LoanRepaymentScheduleRepository.existsByLoanServicingCaseId and schedule listing
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_repayment_schedule_case_number
+    ON loan_repayment_schedule (loan_servicing_case_id, installment_number);
+-- Unpaid schedule rows of a case ordered by due date
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_repayment_schedule_case_unpaid
+    ON loan_repayment_schedule (loan_servicing_case_id, due_date)
+    WHERE is_paid = FALSE;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_repayment_record_case_date
+    ON loan_repayment_record (loan_servicing_case_id, payment_date DESC);
+
+-- ========================================================================
+-- LOAN BALANCE
+-- ========================================================================
+-- findByLoanServicingCaseIdOrderByBalanceDateDesc
+-- findFirstByLoanServicingCaseIdOrderByBalanceDateDescCreatedAtDesc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_balance_case_date
+    ON loan_balance (loan_servicing_case_id, balance_date DESC, created_at DESC);
+DROP INDEX CONCURRENTLY IF EXISTS idx_loan_balance_case_id;
+
+-- ========================================================================
+-- LOAN ACCRUAL
+-- ========================================================================
+-- Accruals of a case by date
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_accrual_case_date
+    ON loan_accrual (loan_servicing_case_id, accrual_date DESC);
+DROP INDEX CONCURRENTLY IF EXISTS idx_loan_accrual_case_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_loan_accrual_type;
+
+-- ========================================================================
+-- LOAN RATE CHANGE
+-- ========================================================================
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_rate_change_case_date
+    ON loan_rate_change (loan_servicing_case_id, effective_date DESC);
+DROP INDEX CONCURRENTLY IF EXISTS idx_loan_rate_change_case_id;
+
+-- ========================================================================
+-- LOAN SERVICING EVENT
+-- ========================================================================
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_servicing_event_case_date
+    ON loan_servicing_event (loan_servicing_case_id, event_date DESC);
+
+-- ========================================================================
+-- LOAN RESTRUCTURING
+-- ========================================================================
+-- findByLoanServicingCaseIdOrderByRestructuringDateDesc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_restructuring_case_date
+    ON loan_restructuring (loan_servicing_case_id, restructuring_date DESC);
+DROP INDEX CONCURRENTLY IF EXISTS idx_loan_restructuring_case_id;
+
+-- ========================================================================
+-- LOAN REBATE
+-- ========================================================================
+-- findByLoanServicingCaseIdOrderByRebateDateDesc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_rebate_case_date
+    ON loan_rebate (loan_servicing_case_id, rebate_date DESC);
+-- findByLoanServicingCaseIdAndIsProcessedFalse
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_rebate_case_unprocessed
+    ON loan_rebate (loan_servicing_case_id)
+    WHERE is_processed = FALSE;
+-- findByDistributorIdOrderByRebateDateDesc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_rebate_distributor_date
+    ON loan_rebate (distributor_id, rebate_date DESC)
+    WHERE distributor_id IS NOT NULL;
+DROP INDEX CONCURRENTLY IF EXISTS idx_loan_rebate_case_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_loan_rebate_is_processed;
+
+-- ========================================================================
+-- LOAN ESCROW
+-- ========================================================================
+-- findByLoanServicingCaseIdOrderByCreatedAtDesc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_escrow_case_created
+    ON loan_escrow (loan_servicing_case_id, created_at DESC);
+-- findByLoanServicingCaseIdAndIsActiveTrue
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_escrow_case_active
+    ON loan_escrow (loan_servicing_case_id)
+    WHERE is_active = TRUE;
+DROP INDEX CONCURRENTLY IF EXISTS idx_loan_escrow_case_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_loan_escrow_is_active;
+
+-- ========================================================================
+-- LOAN NOTIFICATION
+-- ========================================================================
+-- findByLoanServicingCaseIdOrderByCreatedAtDesc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_notification_case_created
+    ON loan_notification (loan_servicing_case_id, created_at DESC);
+-- findByRecipientPartyIdOrderByCreatedAtDesc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_notification_recipient_created
+    ON loan_notification (recipient_party_id, created_at DESC);
+-- findByLoanServicingCaseIdAndRecipientPartyIdOrderByCreatedAtDesc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_notification_case_recipient_created
+    ON loan_notification (loan_servicing_case_id, recipient_party_id, created_at DESC);
+-- findByNotificationStatusOrderByScheduledSendTimeAsc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_notification_status_scheduled
+    ON loan_notification (notification_status, scheduled_send_time);
+DROP INDEX CONCURRENTLY IF EXISTS idx_loan_notification_case_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_loan_notification_recipient;
+DROP INDEX CONCURRENTLY IF EXISTS idx_loan_notification_status;
@@ -0,0 +1,25 @@
+-- ========================================================================
+-- V7 - CREATE INDEXES FOR KEYSET (CURSOR) PAGINATION
+-- ========================================================================
+-- Cursor-mode list endpoints order by (created_at, id) and seek past the
+-- last row of the previous page. These indexes let each page start with an
+-- index range scan at the cursor, for the top-level case listing and for
+-- the per-case tables that grow every day (accruals, balances, events).
+-- Smaller per-case tables are served by their loan_servicing_case_id
+-- indexes plus an in-memory sort of the case's rows.
+--
+-- Like V6, the indexes are built CONCURRENTLY outside a transaction (see
+-- V7__Create_Keyset_Pagination_Indexes.sql.conf) so writes are not blocked.
+-- ========================================================================
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_servicing_case_created_id
+    ON loan_servicing_case (created_at, loan_servicing_case_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_accrual_case_created_id
+    ON loan_accrual (loan_servicing_case_id, created_at, loan_accrual_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_balance_case_created_id
+    ON loan_balance (loan_servicing_case_id, created_at, loan_balance_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_loan_servicing_event_case_created_id
+    ON loan_servicing_event (loan_servicing_case_id, created_at, loan_servicing_event_id);
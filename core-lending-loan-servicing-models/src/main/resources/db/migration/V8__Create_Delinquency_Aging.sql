@@ -0,0 +1,14 @@
+-- ========================================================================
+-- V8 - SUPPORT DELINQUENCY AGING
+-- ========================================================================
+-- The delinquency aging job moves cases between ACTIVE, GRACE_PERIOD,
+-- DELINQUENT and DEFAULT and records every transition as a servicing
+-- event. Days past due are read from idx_loan_installment_plan_case_unpaid
+-- (V6), so no new index is needed.
+-- ========================================================================
+
+-- ========================================================================
+-- EVENT TYPE ENUM
+-- ========================================================================
+-- Java Enum: EventTypeEnum
+ALTER TYPE event_type ADD VALUE IF NOT EXISTS 'STATUS_CHANGE';
@@ -0,0 +1,19 @@
+-- ========================================================================
+-- V9 - SUPPORT THE NOTIFICATION DISPATCH WORKER
+-- ========================================================================
+-- The dispatch worker claims PENDING notifications whose next attempt is
+-- due with SELECT ... FOR UPDATE SKIP LOCKED, so several nodes can drain
+-- the queue concurrently without handing the same row to two senders.
+-- next_attempt_at is owned by the worker: it holds the claim lease while a
+-- notification is being sent and the backoff deadline after a failed
+-- attempt. Until the first attempt it is NULL and the scheduled send time
+-- (or the creation time) applies.
+-- ========================================================================
+
+ALTER TABLE loan_notification ADD COLUMN next_attempt_at TIMESTAMP;
+
+-- Partial expression index matching the claim query exactly; it only holds
+-- PENDING rows, so it stays small however many notifications have been sent.
+CREATE INDEX idx_loan_notification_pending_due
+    ON loan_notification ((COALESCE(next_attempt_at, scheduled_send_time, created_at)))
+    WHERE notification_status = 'PENDING';
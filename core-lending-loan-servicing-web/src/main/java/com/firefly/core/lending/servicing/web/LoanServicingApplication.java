@@ -26,6 +26,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
 import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.reactive.config.EnableWebFlux;
 
 @SpringBootApplication(
@@ -39,6 +40,7 @@ import org.springframework.web.reactive.config.EnableWebFlux;
         basePackages = "com.firefly.core.lending.servicing.models.repositories"
 )
 @EnableR2dbcAuditing
+@EnableScheduling
 @ConfigurationPropertiesScan
 @OpenAPIDefinition(
         info = @Info(
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.web.controllers;
+
+import com.firefly.core.lending.servicing.core.services.BalanceRebuildService;
+import com.firefly.core.lending.servicing.interfaces.dtos.BalanceDriftDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/api/v1/balance-rebuild")
+@Tag(name = "BalanceRebuild", description = "Portfolio-wide replay of the ledgers behind balance snapshots")
+@RequiredArgsConstructor
+public class BalanceRebuildController {
+
+    private final BalanceRebuildService service;
+
+    @PostMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Rebuild balances from the ledgers and report drift",
+            description = "Replays the disbursements, accruals, payments and rebates of every case in date order and "
+                    + "compares each balance snapshot with the replayed balance at its date. Drifted snapshots are "
+                    + "streamed as NDJSON while the pass runs, and repaired when repair is true. Only this node's "
+                    + "slice of the case id space is replayed.")
+    public Flux<BalanceDriftDTO> rebuildBalances(
+            @RequestParam(value = "repair", defaultValue = "false") boolean repair) {
+
+        return service.rebuild(repair);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.web.controllers;
+
+import com.firefly.core.lending.servicing.core.services.DelinquencyAgingService;
+import com.firefly.core.lending.servicing.interfaces.dtos.DelinquencyAgingResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/delinquency-aging")
+@Tag(name = "DelinquencyAging", description = "Portfolio-wide days-past-due aging and servicing status transitions")
+@RequiredArgsConstructor
+public class DelinquencyAgingController {
+
+    private final DelinquencyAgingService service;
+
+    @PostMapping
+    @Operation(summary = "Age all performing and delinquent cases to a date",
+            description = "Moves cases between ACTIVE, GRACE_PERIOD, DELINQUENT and DEFAULT based on days past due "
+                    + "and records a STATUS_CHANGE event for every transition. Responds when the pass completes.")
+    public Mono<ResponseEntity<DelinquencyAgingResultDTO>> ageCases(
+            @RequestParam("asOfDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate) {
+
+        return service.age(asOfDate)
+                .map(ResponseEntity::ok);
+    }
+}
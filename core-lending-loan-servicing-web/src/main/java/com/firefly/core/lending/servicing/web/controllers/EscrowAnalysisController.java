@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.web.controllers;
+
+import com.firefly.core.lending.servicing.core.services.EscrowAnalysisService;
+import com.firefly.core.lending.servicing.interfaces.dtos.EscrowAnalysisResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/escrow-analysis")
+@Tag(name = "EscrowAnalysis", description = "Periodic escrow analysis: projected balances, shortages, surpluses and new monthly payments")
+@RequiredArgsConstructor
+public class EscrowAnalysisController {
+
+    private final EscrowAnalysisService service;
+
+    @PostMapping
+    @Operation(summary = "Analyze the escrows due on a date",
+            description = "Projects every active escrow whose next analysis date is on or before the date, sets its "
+                    + "new monthly payment and records the analysis. Only this node's slice of the case id space is "
+                    + "analyzed. Responds when the pass completes.")
+    public Mono<ResponseEntity<EscrowAnalysisResultDTO>> analyzeEscrows(
+            @RequestParam("asOfDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate) {
+
+        return service.analyze(asOfDate)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -20,13 +20,16 @@ package com.firefly.core.lending.servicing.web.controllers;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.servicing.core.services.LoanAccrualService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanAccrualDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -49,6 +52,28 @@ public class LoanAccrualController {
                 .map(ResponseEntity::ok);
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Page through accruals for a servicing case with a cursor",
+            description = "Keyset pagination ordered by creation time and id. Pass an empty cursor for the "
+                    + "first page and the returned nextCursor for each following page.")
+    public Mono<ResponseEntity<CursorPageDTO<LoanAccrualDTO>>> findAllAccrualsByCursor(
+            @PathVariable("caseId") UUID loanServicingCaseId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        return service.findAllByCursor(loanServicingCaseId, cursor, size)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all accruals for a servicing case as NDJSON",
+            description = "Streams one JSON document per line with backpressure, for bulk extracts.")
+    public Flux<LoanAccrualDTO> exportAccruals(
+            @PathVariable("caseId") UUID loanServicingCaseId) {
+
+        return service.exportAll(loanServicingCaseId);
+    }
+
     @PostMapping
     @Operation(summary = "Create a loan accrual record")
     public Mono<ResponseEntity<LoanAccrualDTO>> createAccrual(
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.web.controllers;
+
+import com.firefly.core.lending.servicing.core.services.LoanAccrualRunService;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanAccrualRunDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/accrual-runs")
+@Tag(name = "LoanAccrualRun", description = "Operations for portfolio-wide interest accrual runs")
+@RequiredArgsConstructor
+public class LoanAccrualRunController {
+
+    private final LoanAccrualRunService service;
+
+    @PostMapping
+    @Operation(summary = "Start or resume the interest accrual run for a date")
+    public Mono<ResponseEntity<LoanAccrualRunDTO>> startAccrualRun(
+            @RequestParam("accrualDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate accrualDate) {
+
+        return service.start(accrualDate)
+                .map(run -> ResponseEntity.status(HttpStatus.ACCEPTED).body(run));
+    }
+
+    @GetMapping
+    @Operation(summary = "Get the interest accrual run for a date")
+    public Mono<ResponseEntity<LoanAccrualRunDTO>> getAccrualRunByDate(
+            @RequestParam("accrualDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate accrualDate) {
+
+        return service.getByAccrualDate(accrualDate)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{runId}")
+    @Operation(summary = "Get the progress of an interest accrual run")
+    public Mono<ResponseEntity<LoanAccrualRunDTO>> getAccrualRunById(
+            @PathVariable("runId") UUID loanAccrualRunId) {
+
+        return service.getById(loanAccrualRunId)
+                .map(ResponseEntity::ok);
+    }
+}
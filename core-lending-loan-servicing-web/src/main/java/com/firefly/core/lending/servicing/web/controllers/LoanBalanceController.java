@@ -20,15 +20,19 @@ package com.firefly.core.lending.servicing.web.controllers;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.servicing.core.services.LoanBalanceService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanBalanceDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.PayoffQuoteDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
 import java.util.UUID;
 
 @RestController
@@ -49,6 +53,19 @@ public class LoanBalanceController {
                 .map(ResponseEntity::ok);
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Page through balance history for a servicing case with a cursor",
+            description = "Keyset pagination ordered by creation time and id. Pass an empty cursor for the "
+                    + "first page and the returned nextCursor for each following page.")
+    public Mono<ResponseEntity<CursorPageDTO<LoanBalanceDTO>>> findAllBalancesByCursor(
+            @PathVariable("caseId") UUID loanServicingCaseId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        return service.findAllByCursor(loanServicingCaseId, cursor, size)
+                .map(ResponseEntity::ok);
+    }
+
     @GetMapping("/current")
     @Operation(summary = "Get the current balance for a servicing case")
     public Mono<ResponseEntity<LoanBalanceDTO>> getCurrentBalance(
@@ -58,6 +75,18 @@ public class LoanBalanceController {
                 .map(ResponseEntity::ok);
     }
 
+    @GetMapping("/payoff-quote")
+    @Operation(summary = "Quote the payoff amount of a servicing case on a date",
+            description = "Adds the interest accruing from the current balance date up to the payoff date, under "
+                    + "the case's day count convention, to the current balance and credits unprocessed rebates.")
+    public Mono<ResponseEntity<PayoffQuoteDTO>> getPayoffQuote(
+            @PathVariable("caseId") UUID loanServicingCaseId,
+            @RequestParam("payoffDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate payoffDate) {
+
+        return service.getPayoffQuote(loanServicingCaseId, payoffDate)
+                .map(ResponseEntity::ok);
+    }
+
     @PostMapping
     @Operation(summary = "Create a new balance snapshot")
     public Mono<ResponseEntity<LoanBalanceDTO>> createBalance(
@@ -20,6 +20,7 @@ package com.firefly.core.lending.servicing.web.controllers;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.servicing.core.services.LoanDisbursementService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanDisbursementDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -49,13 +50,29 @@ public class LoanDisbursementController {
                 .map(ResponseEntity::ok);
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Page through disbursements for a specific servicing case with a cursor",
+            description = "Keyset pagination ordered by creation time and id. Pass an empty cursor for the "
+                    + "first page and the returned nextCursor for each following page.")
+    public Mono<ResponseEntity<CursorPageDTO<LoanDisbursementDTO>>> findAllDisbursementsByCursor(
+            @PathVariable("caseId") UUID loanServicingCaseId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        return service.findAllByCursor(loanServicingCaseId, cursor, size)
+                .map(ResponseEntity::ok);
+    }
+
     @PostMapping
-    @Operation(summary = "Create a new disbursement under a servicing case")
+    @Operation(summary = "Create a new disbursement under a servicing case",
+            description = "With an Idempotency-Key header, a retry with the same key and body returns the "
+                    + "disbursement created by the first request instead of creating another one.")
     public Mono<ResponseEntity<LoanDisbursementDTO>> createDisbursement(
             @PathVariable("caseId") UUID loanServicingCaseId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody LoanDisbursementDTO dto) {
 
-        return service.create(loanServicingCaseId, dto)
+        return service.create(loanServicingCaseId, dto, idempotencyKey)
                 .map(ResponseEntity::ok);
     }
 
@@ -20,6 +20,7 @@ package com.firefly.core.lending.servicing.web.controllers;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.servicing.core.services.LoanDisbursementInternalTransactionService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanDisbursementInternalTransactionDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -50,6 +51,20 @@ public class LoanDisbursementInternalTransactionController {
                 .map(ResponseEntity::ok);
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Page through internal transactions for a disbursement with a cursor",
+            description = "Keyset pagination ordered by creation time and id. Pass an empty cursor for the "
+                    + "first page and the returned nextCursor for each following page.")
+    public Mono<ResponseEntity<CursorPageDTO<LoanDisbursementInternalTransactionDTO>>> findAllInternalTransactionsByCursor(
+            @PathVariable("caseId") UUID loanServicingCaseId,
+            @PathVariable("disbursementId") UUID loanDisbursementId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        return service.findAllByCursor(loanDisbursementId, cursor, size)
+                .map(ResponseEntity::ok);
+    }
+
     @PostMapping
     @Operation(summary = "Create a new internal transaction for a disbursement")
     public Mono<ResponseEntity<LoanDisbursementInternalTransactionDTO>> createInternalTransaction(
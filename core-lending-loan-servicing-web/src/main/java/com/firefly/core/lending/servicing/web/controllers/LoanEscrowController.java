@@ -20,6 +20,8 @@ package com.firefly.core.lending.servicing.web.controllers;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.servicing.core.services.LoanEscrowService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanEscrowAnalysisDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanEscrowDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -34,6 +36,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -65,6 +68,19 @@ public class LoanEscrowController {
                 .map(ResponseEntity::ok);
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Page through escrow accounts with a cursor",
+            description = "Keyset pagination ordered by creation time and id. Pass an empty cursor for the "
+                    + "first page and the returned nextCursor for each following page.")
+    public Mono<ResponseEntity<CursorPageDTO<LoanEscrowDTO>>> findAllEscrowsByCursor(
+            @PathVariable("caseId") UUID loanServicingCaseId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        return service.findAllByCursor(loanServicingCaseId, cursor, size)
+                .map(ResponseEntity::ok);
+    }
+
     @PostMapping
     @Operation(
             summary = "Create escrow account",
@@ -147,5 +163,24 @@ public class LoanEscrowController {
         return service.delete(loanServicingCaseId, loanEscrowId)
                 .then(Mono.just(ResponseEntity.noContent().<Void>build()));
     }
-}
 
+    @GetMapping("/{escrowId}/analyses")
+    @Operation(
+            summary = "List escrow analyses",
+            description = "Retrieve the analyses recorded for an escrow account by the escrow analysis job, most recent first"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved escrow analyses"),
+            @ApiResponse(responseCode = "404", description = "Escrow account not found", content = @Content)
+    })
+    public Mono<ResponseEntity<List<LoanEscrowAnalysisDTO>>> findEscrowAnalyses(
+            @Parameter(description = "Loan servicing case ID", required = true)
+            @PathVariable("caseId") UUID loanServicingCaseId,
+            @Parameter(description = "Escrow account ID", required = true)
+            @PathVariable("escrowId") UUID loanEscrowId) {
+
+        return service.findAnalyses(loanServicingCaseId, loanEscrowId)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+}
@@ -20,21 +20,25 @@ package com.firefly.core.lending.servicing.web.controllers;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.servicing.core.services.LoanInstallmentPlanService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanInstallmentPlanDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/loan-servicing-cases/{caseId}/installment-plans")
 @Tag(name = "LoanInstallmentPlan", description = "Operations for Loan Installment Plans")
 @RequiredArgsConstructor
+@Validated
 public class LoanInstallmentPlanController {
 
     private final LoanInstallmentPlanService service;
@@ -49,6 +53,19 @@ public class LoanInstallmentPlanController {
                 .map(ResponseEntity::ok);
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Page through installment plans for a servicing case with a cursor",
+            description = "Keyset pagination ordered by creation time and id. Pass an empty cursor for the "
+                    + "first page and the returned nextCursor for each following page.")
+    public Mono<ResponseEntity<CursorPageDTO<LoanInstallmentPlanDTO>>> findAllInstallmentPlansByCursor(
+            @PathVariable("caseId") UUID loanServicingCaseId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        return service.findAllByCursor(loanServicingCaseId, cursor, size)
+                .map(ResponseEntity::ok);
+    }
+
     @PostMapping
     @Operation(summary = "Create an installment plan entry")
     public Mono<ResponseEntity<LoanInstallmentPlanDTO>> createInstallmentPlan(
@@ -59,6 +76,16 @@ public class LoanInstallmentPlanController {
                 .map(ResponseEntity::ok);
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Create multiple installment plan entries in a single batched insert")
+    public Mono<ResponseEntity<List<LoanInstallmentPlanDTO>>> createInstallmentPlans(
+            @PathVariable("caseId") UUID loanServicingCaseId,
+            @RequestBody List<@Valid LoanInstallmentPlanDTO> dtos) {
+
+        return service.createAll(loanServicingCaseId, dtos)
+                .map(ResponseEntity::ok);
+    }
+
     @GetMapping("/{planId}")
     @Operation(summary = "Get an installment plan entry by ID")
     public Mono<ResponseEntity<LoanInstallmentPlanDTO>> getInstallmentPlanById(
@@ -20,13 +20,18 @@ package com.firefly.core.lending.servicing.web.controllers;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.servicing.core.services.LoanInstallmentRecordService;
+import com.firefly.core.lending.servicing.core.services.PaymentPostingService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanInstallmentRecordDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.PaymentAllocationDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -38,6 +43,7 @@ import java.util.UUID;
 public class LoanInstallmentRecordController {
 
     private final LoanInstallmentRecordService service;
+    private final PaymentPostingService paymentPostingService;
 
     @GetMapping
     @Operation(summary = "List/Search installment records for a servicing case")
@@ -49,13 +55,54 @@ public class LoanInstallmentRecordController {
                 .map(ResponseEntity::ok);
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Page through installment records for a servicing case with a cursor",
+            description = "Keyset pagination ordered by creation time and id. Pass an empty cursor for the "
+                    + "first page and the returned nextCursor for each following page.")
+    public Mono<ResponseEntity<CursorPageDTO<LoanInstallmentRecordDTO>>> findAllInstallmentRecordsByCursor(
+            @PathVariable("caseId") UUID loanServicingCaseId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        return service.findAllByCursor(loanServicingCaseId, cursor, size)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all installment records for a servicing case as NDJSON",
+            description = "Streams one JSON document per line with backpressure, for bulk extracts.")
+    public Flux<LoanInstallmentRecordDTO> exportInstallmentRecords(
+            @PathVariable("caseId") UUID loanServicingCaseId) {
+
+        return service.exportAll(loanServicingCaseId);
+    }
+
     @PostMapping
-    @Operation(summary = "Create an installment record")
+    @Operation(summary = "Create an installment record",
+            description = "With an Idempotency-Key header, a retry with the same key and body returns the record "
+                    + "created by the first request instead of creating another one.")
     public Mono<ResponseEntity<LoanInstallmentRecordDTO>> createInstallmentRecord(
             @PathVariable("caseId") UUID loanServicingCaseId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody LoanInstallmentRecordDTO dto) {
+
+        return service.create(loanServicingCaseId, dto, idempotencyKey)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/post")
+    @Operation(summary = "Post a payment through the allocation waterfall",
+            description = "Allocates a COMPLETED payment to the oldest unpaid installments (fees, interest and "
+                    + "principal in the configured order), marks settled installments as paid, stores the record "
+                    + "and updates the current balance in one transaction. The plan link and partial payment flag "
+                    + "of the request are derived from the allocation. With an Idempotency-Key header, a retry with "
+                    + "the same key and body returns the first allocation instead of posting the payment again.")
+    public Mono<ResponseEntity<PaymentAllocationDTO>> postPayment(
+            @PathVariable("caseId") UUID loanServicingCaseId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody LoanInstallmentRecordDTO dto) {
 
-        return service.create(loanServicingCaseId, dto)
+        return paymentPostingService.post(loanServicingCaseId, dto, idempotencyKey)
                 .map(ResponseEntity::ok);
     }
 
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.web.controllers;
+
+import com.firefly.core.lending.servicing.core.services.LoanLedgerService;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanLedgerEntryDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/loan-servicing-cases/{caseId}/ledger")
+@Tag(name = "LoanLedger", description = "Date-ordered ledger of a servicing case with running balance")
+@RequiredArgsConstructor
+public class LoanLedgerController {
+
+    private final LoanLedgerService service;
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream the ledger of a servicing case as NDJSON",
+            description = "Merges the disbursements, rate changes, accruals, payments and rebates of the case by "
+                    + "date and streams one entry per line, each carrying the outstanding principal, interest, "
+                    + "fees and total after it is applied. Returns 429 when the node already serves its maximum "
+                    + "number of ledger streams.")
+    public Flux<LoanLedgerEntryDTO> streamLedger(
+            @PathVariable("caseId") UUID loanServicingCaseId) {
+
+        return service.streamLedger(loanServicingCaseId);
+    }
+}
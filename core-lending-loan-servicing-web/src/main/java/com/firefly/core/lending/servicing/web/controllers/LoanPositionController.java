@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.web.controllers;
+
+import com.firefly.core.lending.servicing.core.services.LoanPositionService;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanPositionDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/loan-servicing-cases/{caseId}/position")
+@Tag(name = "LoanPosition", description = "Aggregated read model of a loan servicing case")
+@RequiredArgsConstructor
+public class LoanPositionController {
+
+    private final LoanPositionService service;
+
+    @GetMapping
+    @Operation(summary = "Get the aggregated position of a loan servicing case",
+            description = "Case, current balance, next unpaid installment, active escrows, pending disbursement plans, "
+                    + "unprocessed rebates, latest rate change and recent events in a single response.")
+    public Mono<ResponseEntity<LoanPositionDTO>> getPosition(@PathVariable("caseId") UUID loanServicingCaseId) {
+        return service.getPosition(loanServicingCaseId)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -20,21 +20,25 @@ package com.firefly.core.lending.servicing.web.controllers;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.servicing.core.services.LoanRepaymentScheduleService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanRepaymentScheduleDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/loan-servicing-cases/{caseId}/repayment-schedules")
 @Tag(name = "LoanRepaymentSchedule", description = "Operations for Loan Repayment Schedules")
 @RequiredArgsConstructor
+@Validated
 public class LoanRepaymentScheduleController {
 
     private final LoanRepaymentScheduleService service;
@@ -49,6 +53,19 @@ public class LoanRepaymentScheduleController {
                 .map(ResponseEntity::ok);
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Page through repayment schedules for a servicing case with a cursor",
+            description = "Keyset pagination ordered by creation time and id. Pass an empty cursor for the "
+                    + "first page and the returned nextCursor for each following page.")
+    public Mono<ResponseEntity<CursorPageDTO<LoanRepaymentScheduleDTO>>> findAllRepaymentSchedulesByCursor(
+            @PathVariable("caseId") UUID loanServicingCaseId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        return service.findAllByCursor(loanServicingCaseId, cursor, size)
+                .map(ResponseEntity::ok);
+    }
+
     @PostMapping
     @Operation(summary = "Create a repayment schedule entry")
     public Mono<ResponseEntity<LoanRepaymentScheduleDTO>> createRepaymentSchedule(
@@ -59,6 +76,25 @@ public class LoanRepaymentScheduleController {
                 .map(ResponseEntity::ok);
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Create multiple repayment schedule entries in a single batched insert")
+    public Mono<ResponseEntity<List<LoanRepaymentScheduleDTO>>> createRepaymentSchedules(
+            @PathVariable("caseId") UUID loanServicingCaseId,
+            @RequestBody List<@Valid LoanRepaymentScheduleDTO> dtos) {
+
+        return service.createAll(loanServicingCaseId, dtos)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/generate")
+    @Operation(summary = "Generate the full repayment schedule from the servicing case terms")
+    public Mono<ResponseEntity<List<LoanRepaymentScheduleDTO>>> generateRepaymentSchedule(
+            @PathVariable("caseId") UUID loanServicingCaseId) {
+
+        return service.generate(loanServicingCaseId)
+                .map(ResponseEntity::ok);
+    }
+
     @GetMapping("/{scheduleId}")
     @Operation(summary = "Get a repayment schedule entry by ID")
     public Mono<ResponseEntity<LoanRepaymentScheduleDTO>> getRepaymentScheduleById(
@@ -20,12 +20,15 @@ package com.firefly.core.lending.servicing.web.controllers;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.servicing.core.services.LoanRestructuringService;
+import com.firefly.core.lending.servicing.interfaces.dtos.CursorPageDTO;
 import com.firefly.core.lending.servicing.interfaces.dtos.LoanRestructuringDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.RestructuringSimulationDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
@@ -49,6 +52,19 @@ public class LoanRestructuringController {
                 .map(ResponseEntity::ok);
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Page through restructuring events for a servicing case with a cursor",
+            description = "Keyset pagination ordered by creation time and id. Pass an empty cursor for the "
+                    + "first page and the returned nextCursor for each following page.")
+    public Mono<ResponseEntity<CursorPageDTO<LoanRestructuringDTO>>> findAllRestructuringsByCursor(
+            @PathVariable("caseId") UUID loanServicingCaseId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        return service.findAllByCursor(loanServicingCaseId, cursor, size)
+                .map(ResponseEntity::ok);
+    }
+
     @PostMapping
     @Operation(summary = "Create a loan restructuring record")
     public Mono<ResponseEntity<LoanRestructuringDTO>> createRestructuring(
@@ -59,6 +75,33 @@ public class LoanRestructuringController {
                 .map(ResponseEntity::ok);
     }
 
+    @PostMapping("/simulate")
+    @Operation(summary = "Simulate the schedule of proposed restructuring terms",
+            description = "Computes the schedule the new terms would produce, from the restructuring date (today "
+                    + "when absent), without reading or writing anything. Only the new* fields are used. Pass "
+                    + "includeInstallments=false to get the schedule totals only.")
+    public Mono<ResponseEntity<RestructuringSimulationDTO>> simulateRestructuring(
+            @PathVariable("caseId") UUID loanServicingCaseId,
+            @RequestParam(value = "includeInstallments", defaultValue = "true") boolean includeInstallments,
+            @Validated(LoanRestructuringDTO.Simulation.class) @RequestBody LoanRestructuringDTO dto) {
+
+        return service.simulate(loanServicingCaseId, dto, includeInstallments)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/{restructuringId}/commit")
+    @Operation(summary = "Commit a restructuring",
+            description = "Replaces the unpaid installment plan and repayment schedule of the case with the "
+                    + "schedule generated from the restructuring's new terms, and moves the case to those terms. "
+                    + "A restructuring can be committed once; committing it again returns 409.")
+    public Mono<ResponseEntity<LoanRestructuringDTO>> commitRestructuring(
+            @PathVariable("caseId") UUID loanServicingCaseId,
+            @PathVariable("restructuringId") UUID loanRestructuringId) {
+
+        return service.commit(loanServicingCaseId, loanRestructuringId)
+                .map(ResponseEntity::ok);
+    }
+
     @GetMapping("/{restructuringId}")
     @Operation(summary = "Get a loan restructuring by ID")
     public Mono<ResponseEntity<LoanRestructuringDTO>> getRestructuringById(
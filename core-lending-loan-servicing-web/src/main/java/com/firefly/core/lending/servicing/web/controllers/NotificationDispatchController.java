@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.web.controllers;
+
+import com.firefly.core.lending.servicing.core.services.NotificationDispatchService;
+import com.firefly.core.lending.servicing.interfaces.dtos.NotificationDispatchResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/notification-dispatches")
+@Tag(name = "NotificationDispatch", description = "Delivery of due notifications through the configured channel senders")
+@RequiredArgsConstructor
+public class NotificationDispatchController {
+
+    private final NotificationDispatchService service;
+
+    @PostMapping
+    @Operation(summary = "Send all due notifications now",
+            description = "Drains the PENDING notifications that are due, alongside any scheduled dispatch on this "
+                    + "or other nodes. Responds when no due notification is left.")
+    public Mono<ResponseEntity<NotificationDispatchResultDTO>> dispatchDue() {
+        return service.dispatchDue()
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.web.controllers;
+
+import com.firefly.core.lending.servicing.core.services.PaymentFileIngestionService;
+import com.firefly.core.lending.servicing.interfaces.dtos.PaymentFileIngestionDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentFileFormatEnum;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/payment-files")
+@Tag(name = "PaymentFile", description = "Bulk ingestion of PSP payment files into installment records")
+@RequiredArgsConstructor
+public class PaymentFileController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final PaymentFileIngestionService service;
+
+    @PostMapping(consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Ingest a CSV or NDJSON payment file",
+            description = "Streams the request body line by line. Valid lines are stored as installment records "
+                    + "(plus an external transaction for EXTERNAL payments) in batched transactions; invalid lines "
+                    + "are reported with their line number and skipped.")
+    public Mono<ResponseEntity<PaymentFileIngestionDTO>> ingestPaymentFile(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestBody Flux<DataBuffer> content) {
+
+        PaymentFileFormatEnum format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? PaymentFileFormatEnum.NDJSON
+                : PaymentFileFormatEnum.CSV;
+        return service.ingest(content, format)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.web.controllers;
+
+import com.firefly.core.lending.servicing.core.services.LoanBalanceService;
+import com.firefly.core.lending.servicing.interfaces.dtos.PayoffQuoteDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.PayoffQuoteRequestDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/payoff-quotes")
+@Tag(name = "PayoffQuote", description = "Payoff quotes for many loan servicing cases and dates")
+@RequiredArgsConstructor
+@Validated
+public class PayoffQuoteController {
+
+    private final LoanBalanceService service;
+
+    @PostMapping
+    @Operation(summary = "Quote the payoff amounts of many servicing cases on many dates",
+            description = "Reads every requested case with a single query and projects the dates of each case in "
+                    + "one pass. Cases that do not exist are left out of the response.")
+    public Mono<ResponseEntity<List<PayoffQuoteDTO>>> getPayoffQuotes(
+            @RequestBody @Size(max = 1000, message = "At most 1000 cases can be quoted per request")
+            List<@Valid PayoffQuoteRequestDTO> requests) {
+
+        return service.getPayoffQuotes(requests)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.web.controllers;
+
+import com.firefly.core.lending.servicing.core.services.RateChangeReamortizationService;
+import com.firefly.core.lending.servicing.interfaces.dtos.RateChangeRepricingResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/rate-change-repricing")
+@Tag(name = "RateChangeRepricing", description = "Portfolio-wide re-amortization of pending rate changes")
+@RequiredArgsConstructor
+public class RateChangeRepricingController {
+
+    private final RateChangeReamortizationService service;
+
+    @PostMapping
+    @Operation(summary = "Apply the rate changes pending on a date",
+            description = "Re-amortizes the unpaid installments of every case with rate changes that take effect on "
+                    + "or before the date and have not been applied yet. Each case is applied in its own transaction; "
+                    + "failed cases stay pending. Responds when the pass completes.")
+    public Mono<ResponseEntity<RateChangeRepricingResultDTO>> repriceRateChanges(
+            @RequestParam("asOfDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate) {
+
+        return service.reprice(asOfDate)
+                .map(ResponseEntity::ok);
+    }
+}
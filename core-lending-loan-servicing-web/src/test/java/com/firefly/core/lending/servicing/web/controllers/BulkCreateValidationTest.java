@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.servicing.web.controllers;
+
+import com.firefly.core.lending.servicing.core.services.LoanInstallmentPlanService;
+import com.firefly.core.lending.servicing.core.services.LoanRepaymentScheduleService;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanInstallmentPlanDTO;
+import com.firefly.core.lending.servicing.interfaces.dtos.LoanRepaymentScheduleDTO;
+import com.firefly.core.lending.servicing.interfaces.enums.PaymentMethodEnum;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.executable.ExecutableValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class to verify every element of a bulk create request is validated
+ */
+public class BulkCreateValidationTest {
+
+    private static final UUID CASE_ID = UUID.randomUUID();
+
+    private ExecutableValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator().forExecutables();
+    }
+
+    @Test
+    void testCreateInstallmentPlans_ValidElements_NoViolations() throws NoSuchMethodException {
+        Set<ConstraintViolation<LoanInstallmentPlanController>> violations = validateInstallmentPlans(
+                List.of(installmentPlan(1), installmentPlan(2)));
+
+        assertTrue(violations.isEmpty());
+    }
+
+    @Test
+    void testCreateInstallmentPlans_InvalidElement_HasViolation() throws NoSuchMethodException {
+        LoanInstallmentPlanDTO invalid = installmentPlan(2);
+        invalid.setPrincipalDue(new BigDecimal("-1.00"));
+
+        Set<ConstraintViolation<LoanInstallmentPlanController>> violations = validateInstallmentPlans(
+                List.of(installmentPlan(1), invalid));
+
+        assertEquals(1, violations.size());
+        assertEquals("Principal due cannot be negative", violations.iterator().next().getMessage());
+    }
+
+    @Test
+    void testCreateRepaymentSchedules_ValidElements_NoViolations() throws NoSuchMethodException {
+        Set<ConstraintViolation<LoanRepaymentScheduleController>> violations = validateRepaymentSchedules(
+                List.of(repaymentSchedule(1), repaymentSchedule(2)));
+
+        assertTrue(violations.isEmpty());
+    }
+
+    @Test
+    void testCreateRepaymentSchedules_InvalidElement_HasViolation() throws NoSuchMethodException {
+        LoanRepaymentScheduleDTO invalid = repaymentSchedule(1);
+        invalid.setDueDate(null);
+
+        Set<ConstraintViolation<LoanRepaymentScheduleController>> violations = validateRepaymentSchedules(
+                List.of(invalid, repaymentSchedule(2)));
+
+        assertEquals(1, violations.size());
+        assertEquals("Due date is required", violations.iterator().next().getMessage());
+    }
+
+    private Set<ConstraintViolation<LoanInstallmentPlanController>> validateInstallmentPlans(
+            List<LoanInstallmentPlanDTO> dtos) throws NoSuchMethodException {
+        LoanInstallmentPlanController controller =
+                new LoanInstallmentPlanController(Mockito.mock(LoanInstallmentPlanService.class));
+        Method method = LoanInstallmentPlanController.class
+                .getMethod("createInstallmentPlans", UUID.class, List.class);
+        return validator.validateParameters(controller, method, new Object[]{CASE_ID, dtos});
+    }
+
+    private Set<ConstraintViolation<LoanRepaymentScheduleController>> validateRepaymentSchedules(
+            List<LoanRepaymentScheduleDTO> dtos) throws NoSuchMethodException {
+        LoanRepaymentScheduleController controller =
+                new LoanRepaymentScheduleController(Mockito.mock(LoanRepaymentScheduleService.class));
+        Method method = LoanRepaymentScheduleController.class
+                .getMethod("createRepaymentSchedules", UUID.class, List.class);
+        return validator.validateParameters(controller, method, new Object[]{CASE_ID, dtos});
+    }
+
+    private LoanInstallmentPlanDTO installmentPlan(int installmentNumber) {
+        return LoanInstallmentPlanDTO.builder()
+                .loanServicingCaseId(CASE_ID)
+                .installmentNumber(installmentNumber)
+                .dueDate(LocalDate.now().plusMonths(installmentNumber))
+                .principalDue(new BigDecimal("100.00"))
+                .interestDue(new BigDecimal("10.00"))
+                .feeDue(BigDecimal.ZERO)
+                .totalDue(new BigDecimal("110.00"))
+                .isPaid(false)
+                .paymentMethod(PaymentMethodEnum.INTERNAL)
+                .isAutomaticPayment(false)
+                .build();
+    }
+
+    private LoanRepaymentScheduleDTO repaymentSchedule(int installmentNumber) {
+        return LoanRepaymentScheduleDTO.builder()
+                .loanServicingCaseId(CASE_ID)
+                .installmentNumber(installmentNumber)
+                .dueDate(LocalDate.now().plusMonths(installmentNumber))
+                .principalDue(new BigDecimal("100.00"))
+                .interestDue(new BigDecimal("10.00"))
+                .feeDue(BigDecimal.ZERO)
+                .totalDue(new BigDecimal("110.00"))
+                .isPaid(false)
+                .build();
+    }
+}